@@ -1,26 +1,60 @@
 package duy.personalproject.taskmanagementsystem.app;
 
+import duy.personalproject.taskmanagementsystem.app.aot.NativeImageRuntimeHints;
+import duy.personalproject.taskmanagementsystem.app.config.properties.ConcurrencyLimitConfigProperties;
+import duy.personalproject.taskmanagementsystem.app.config.properties.DataSourceTelemetryConfigProperties;
+import duy.personalproject.taskmanagementsystem.app.config.properties.ReadReplicaConfigProperties;
+import duy.personalproject.taskmanagementsystem.app.config.properties.SecondLevelCacheConfigProperties;
+import duy.personalproject.taskmanagementsystem.app.config.properties.SqlStatementConfigProperties;
+import duy.personalproject.taskmanagementsystem.app.config.properties.VirtualThreadConfigProperties;
+import duy.personalproject.taskmanagementsystem.app.diagnostics.StartupPhaseReporter;
 import duy.personalproject.taskmanagementsystem.auth.config.properties.JwtConfigProperties;
+import duy.personalproject.taskmanagementsystem.auth.config.properties.RateLimitConfigProperties;
 import duy.personalproject.taskmanagementsystem.auth.config.properties.RefreshTokenConfigProperties;
+import duy.personalproject.taskmanagementsystem.core.config.properties.ErrorHandlingConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.config.properties.ActivityLogConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.config.properties.ProjectChangeStreamConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.config.properties.ProjectExportConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.config.properties.ProjectStatsConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.config.properties.ReactiveReadConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.config.properties.RequestCoalescingConfigProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
-@SpringBootApplication
-@EnableConfigurationProperties({JwtConfigProperties.class, RefreshTokenConfigProperties.class})
+// R2DBC is only used by the reactive project reads, whose pool must not replace the JDBC data source and transaction manager
+@SpringBootApplication(scanBasePackages = TaskManagementSystemApplication.BASE_PACKAGE,
+        exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
+@EntityScan(basePackages = TaskManagementSystemApplication.BASE_PACKAGE)
+@EnableJpaRepositories(basePackages = TaskManagementSystemApplication.BASE_PACKAGE)
+@EnableConfigurationProperties({JwtConfigProperties.class, RefreshTokenConfigProperties.class, ProjectStatsConfigProperties.class, ActivityLogConfigProperties.class,
+        ProjectChangeStreamConfigProperties.class, VirtualThreadConfigProperties.class, DataSourceTelemetryConfigProperties.class,
+        ReadReplicaConfigProperties.class, ErrorHandlingConfigProperties.class, RateLimitConfigProperties.class,
+        RequestCoalescingConfigProperties.class, SecondLevelCacheConfigProperties.class, SqlStatementConfigProperties.class,
+        ConcurrencyLimitConfigProperties.class, ReactiveReadConfigProperties.class, ProjectExportConfigProperties.class})
 @EnableScheduling
 @EnableJpaAuditing
 @EnableTransactionManagement
+@ImportRuntimeHints(NativeImageRuntimeHints.class)
 public class TaskManagementSystemApplication {
+    static final String BASE_PACKAGE = "duy.personalproject.taskmanagementsystem";
 
     public static void main(String[] args) {
-        SpringApplication.run(TaskManagementSystemApplication.class, args);
+        SpringApplication application = new SpringApplication(TaskManagementSystemApplication.class);
+        // records the startup steps for the phase report and /actuator/startup
+        application.setApplicationStartup(StartupPhaseReporter.applicationStartup());
+        application.run(args);
     }
 
 }
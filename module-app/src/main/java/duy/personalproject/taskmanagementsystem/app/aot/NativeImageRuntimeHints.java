@@ -0,0 +1,103 @@
+package duy.personalproject.taskmanagementsystem.app.aot;
+
+import duy.personalproject.taskmanagementsystem.auth.model.entity.RefreshTokenEntity;
+import duy.personalproject.taskmanagementsystem.auth.model.entity.UserEntity;
+import duy.personalproject.taskmanagementsystem.core.model.common.ErrorDetails;
+import duy.personalproject.taskmanagementsystem.core.model.entity.BaseEntity;
+import duy.personalproject.taskmanagementsystem.project.model.entity.ProjectEntity;
+import duy.personalproject.taskmanagementsystem.project.model.entity.ProjectMemberEntity;
+import duy.personalproject.taskmanagementsystem.project.model.event.ProjectActivityEvent;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import duy.personalproject.taskmanagementsystem.task.model.entity.TaskEntity;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the native image, for what the AOT processing of the bean definitions does
+ * not see on its own. Picked up by {@code process-aot} through {@code @ImportRuntimeHints} on the application.
+ * Check with {@code NativeImageRuntimeHintsTest} after adding an entity, a mapper or a type that is written with
+ * the ObjectMapper directly.
+ */
+public class NativeImageRuntimeHints implements RuntimeHintsRegistrar {
+    static final List<Class<?>> ENTITIES = List.of(BaseEntity.class, UserEntity.class, RefreshTokenEntity.class,
+            ProjectEntity.class, ProjectMemberEntity.class, TaskEntity.class);
+
+    /**
+     * Generated by MapStruct, so they only exist once the modules are compiled.
+     */
+    static final List<String> MAPPER_IMPLEMENTATIONS = List.of(
+            "duy.personalproject.taskmanagementsystem.auth.mapper.UserMapperImpl",
+            "duy.personalproject.taskmanagementsystem.project.mapper.ProjectMapperImpl",
+            "duy.personalproject.taskmanagementsystem.task.mapper.TaskMapperImpl");
+
+    /**
+     * Written with the ObjectMapper outside of a controller's return type: streamed pages, change events and
+     * the error details of responses written by filters.
+     */
+    static final List<Class<?>> SERIALIZED_TYPES = List.of(ProjectResponse.class, ProjectActivityEvent.class, ErrorDetails.class);
+
+    /**
+     * Loaded by name from jjwt-api, through {@code io.jsonwebtoken.lang.Classes}.
+     */
+    static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder$Supplier",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder$Supplier",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder$Supplier",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder$Supplier",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder$Supplier",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder$Supplier",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder$Supplier",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder$Supplier",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder$Supplier",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder$Supplier",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            // found through META-INF/services
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    /**
+     * JDK proxies of the data source wrappers in {@code app.datasource}.
+     */
+    static final List<Class<?>> JDBC_PROXIES = List.of(Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Hibernate reads and writes the fields and instantiates the entities reflectively
+        ENTITIES.forEach(entity -> hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS));
+
+        MAPPER_IMPLEMENTATIONS.forEach(mapper -> hints.reflection().registerTypeIfPresent(classLoader, mapper,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), SERIALIZED_TYPES.toArray(Class<?>[]::new));
+
+        JJWT_IMPLEMENTATIONS.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        JDBC_PROXIES.forEach(type -> hints.proxies().registerJdkProxy(type));
+
+        // Flyway lists the migrations by scanning the location
+        hints.resources().registerPattern("db/migration/*.sql");
+
+        // the Swagger UI itself; springdoc registers the hints for the API docs
+        hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+    }
+}
@@ -0,0 +1,75 @@
+package duy.personalproject.taskmanagementsystem.app.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import duy.personalproject.taskmanagementsystem.app.config.properties.SecondLevelCacheConfigProperties;
+import duy.personalproject.taskmanagementsystem.core.model.constant.CacheRegionConstants;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import javax.cache.CacheManager;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The caches behind Hibernate's second-level cache regions, one Caffeine cache per region of
+ * {@link CacheRegionConstants}, bounded and expired as configured. Created up front, so that Hibernate can be told
+ * to fail on a region that has no cache instead of creating an unbounded one.
+ *
+ * <p>Exports {@code hibernate.second.level.cache.size{region}}. Hits, misses and puts per region are exported by
+ * Spring Boot from Hibernate's statistics, as {@code hibernate.second.level.cache.requests} and
+ * {@code hibernate.second.level.cache.puts}.
+ */
+public class SecondLevelCacheRegions implements MeterBinder, AutoCloseable {
+    // a provider of its own, so that every application context gets its own caches
+    private final CaffeineCachingProvider cachingProvider = new CaffeineCachingProvider();
+    private final CacheManager cacheManager;
+
+    public SecondLevelCacheRegions(SecondLevelCacheConfigProperties properties) {
+        properties.getRegions().keySet().forEach(name -> {
+            if (!CacheRegionConstants.ALL.contains(name) || CacheRegionConstants.UPDATE_TIMESTAMPS.equals(name)) {
+                throw new IllegalArgumentException("Unknown or unconfigurable second-level cache region: " + name);
+            }
+        });
+        cacheManager = cachingProvider.getCacheManager(cachingProvider.getDefaultURI(), getClass().getClassLoader());
+        for (String name : CacheRegionConstants.ALL) {
+            cacheManager.createCache(name, configuration(name, properties.getRegions().getOrDefault(name, properties.getDefaults())));
+        }
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration(String name, SecondLevelCacheConfigProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate caches immutable disassembled state, so entries need not be copied
+        configuration.setStoreByValue(false);
+        if (CacheRegionConstants.UPDATE_TIMESTAMPS.equals(name)) {
+            return configuration;
+        }
+        configuration.setMaximumSize(OptionalLong.of(region.getMaxEntries()));
+        if (region.getTtlMs() > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(region.getTtlMs())));
+        }
+        return configuration;
+    }
+
+    public CacheManager cacheManager() {
+        return cacheManager;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String name : CacheRegionConstants.ALL) {
+            Cache<?, ?> cache = cacheManager.getCache(name).unwrap(Cache.class);
+            Gauge.builder("hibernate.second.level.cache.size", cache, Cache::estimatedSize)
+                    .description("Entries in a second-level cache region")
+                    .tag("region", name)
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void close() {
+        cachingProvider.close();
+    }
+}
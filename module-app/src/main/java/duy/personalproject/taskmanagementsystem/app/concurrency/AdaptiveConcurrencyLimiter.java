@@ -0,0 +1,103 @@
+package duy.personalproject.taskmanagementsystem.app.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The in-flight limit of one route group. A request either gets a slot at once or is rejected; nothing queues.
+ * The limit moves with the latency of the requests that complete, as computed by the group's {@link LimitAlgorithm},
+ * and stays within {@code [minLimit, maxLimit]}.
+ *
+ * <p>Exports {@code concurrency.limiter.limit}, {@code concurrency.limiter.in.flight} and
+ * {@code concurrency.limiter.rejected}, tagged with the {@code group}.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private final String group;
+    private final LimitAlgorithm algorithm;
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // a lock rather than synchronized, so that a virtual thread waiting here can unmount
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Counter rejected;
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(String group, LimitAlgorithm algorithm, int initialLimit, int minLimit, int maxLimit,
+                                      MeterRegistry meterRegistry) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limit group " + group + " needs 1 <= min-limit <= initial-limit <= max-limit");
+        }
+        this.group = group;
+        this.algorithm = algorithm;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+        this.rejected = Counter.builder("concurrency.limiter.rejected")
+                .description("Requests rejected because their route group was at its concurrency limit")
+                .tag("group", group)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.limiter.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Requests a route group may have in flight")
+                .tag("group", group)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.limiter.in.flight", inFlight, AtomicInteger::get)
+                .description("Requests of a route group in flight")
+                .tag("group", group)
+                .register(meterRegistry);
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Takes a slot if the group is below its limit.
+     *
+     * @return the requests in flight including this one, to be passed to {@link #onSample}, or 0 if rejected
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Releases a slot and adjusts the limit to the request's latency.
+     */
+    public void onSample(long rttNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        lock.lock();
+        try {
+            limit = Math.max(minLimit, Math.min(maxLimit, algorithm.update(limit, rttNanos, inFlightAtStart)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a slot without adjusting the limit, for requests whose latency says nothing about the load: ones that
+     * ended in an exception, and server-sent event streams, which last as long as the client listens.
+     */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+}
@@ -0,0 +1,28 @@
+package duy.personalproject.taskmanagementsystem.app.concurrency;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Additive increase, multiplicative decrease: every request within the latency threshold adds one to the limit,
+ * every slower one multiplies it by the backoff ratio.
+ */
+public class AimdLimit implements LimitAlgorithm {
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    public AimdLimit(long latencyThresholdMs, double backoffRatio) {
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("AIMD backoff ratio must be between 0 and 1, was " + backoffRatio);
+        }
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.backoffRatio = backoffRatio;
+    }
+
+    @Override
+    public double update(double limit, long rttNanos, int inFlight) {
+        if (rttNanos > latencyThresholdNanos) {
+            return limit * backoffRatio;
+        }
+        return LimitAlgorithm.isLimitBound(limit, inFlight) ? limit + 1 : limit;
+    }
+}
@@ -0,0 +1,155 @@
+package duy.personalproject.taskmanagementsystem.app.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duy.personalproject.taskmanagementsystem.core.exception.ErrorCode;
+import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
+import duy.personalproject.taskmanagementsystem.core.model.common.ErrorDetails;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Bulkheads per route group: a request of a group at its concurrency limit is rejected with 503 at once instead of
+ * waiting for a thread, a connection or the database. Each group's limit adapts to its own latency, so a slow
+ * search shrinks the project read limit while login and token refresh keep theirs.
+ *
+ * <p>It runs ahead of the security filter chain, so the latency includes the token check and a rejected request
+ * costs neither. Asynchronous requests, such as the reactive reads and the change stream, hold their slot until the
+ * asynchronous processing completes. A server-sent event stream is open for as long as the client listens, so its
+ * duration is not sampled as latency.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements Ordered {
+    /**
+     * After {@code PoolSaturationFilter}, ahead of {@code SqlStatementFilter} and Spring Security's filter chain.
+     */
+    public static final int ORDER = -108;
+
+    private final List<RouteGroup> groups;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+    private final LongSupplier nanoClock;
+
+    public ConcurrencyLimitFilter(List<RouteGroup> groups, ObjectMapper objectMapper, long retryAfterSeconds, LongSupplier nanoClock) {
+        this.groups = List.copyOf(groups);
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = Long.toString(retryAfterSeconds);
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RouteGroup group = matchingGroup(request);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        AdaptiveConcurrencyLimiter limiter = group.limiter();
+        int inFlight = limiter.tryAcquire();
+        if (inFlight == 0) {
+            reject(group, response);
+            return;
+        }
+
+        long start = nanoClock.getAsLong();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (!completed) {
+                limiter.onIgnore();
+            } else if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncRelease(limiter, response, start, inFlight));
+            } else {
+                // error responses count too: under overload they are the slow ones, like a connection timeout
+                limiter.onSample(nanoClock.getAsLong() - start, inFlight);
+            }
+        }
+    }
+
+    /**
+     * Releases the slot of an asynchronous request once it completes, which the container signals exactly once, also
+     * after a timeout or an error.
+     */
+    private final class AsyncRelease implements AsyncListener {
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final HttpServletResponse response;
+        private final long start;
+        private final int inFlight;
+        private volatile boolean failed;
+
+        private AsyncRelease(AdaptiveConcurrencyLimiter limiter, HttpServletResponse response, long start, int inFlight) {
+            this.limiter = limiter;
+            this.response = response;
+            this.start = start;
+            this.inFlight = inFlight;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            String contentType = response.getContentType();
+            if (failed || (contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE))) {
+                limiter.onIgnore();
+            } else {
+                limiter.onSample(nanoClock.getAsLong() - start, inFlight);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // completion follows; a timeout is the latency the limit should see
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // starting asynchronous processing again drops the listeners
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private RouteGroup matchingGroup(HttpServletRequest request) {
+        for (RouteGroup group : groups) {
+            if (group.matches(request)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void reject(RouteGroup group, HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.SERVICE_UNAVAILABLE;
+        ApiResponse<Void> apiResponse = ApiResponse.<Void>builder()
+                .success(false)
+                .code(errorCode.getHttpStatusCode())
+                .message(errorCode.getMessage())
+                .error(ErrorDetails.of(errorCode, "Too many concurrent " + group.name() + " requests"))
+                .build();
+
+        response.setStatus(errorCode.getHttpStatusCode());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), apiResponse);
+    }
+}
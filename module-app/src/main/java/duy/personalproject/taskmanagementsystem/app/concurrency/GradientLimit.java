@@ -0,0 +1,51 @@
+package duy.personalproject.taskmanagementsystem.app.concurrency;
+
+/**
+ * Follows the ratio of the long-term to the short-term latency, both exponential moving averages. While the
+ * short-term latency stays within {@code tolerance} of the long-term one the limit grows by its square root, the
+ * queue a limit of that size can absorb; beyond that it shrinks in proportion, by at most half per update.
+ * New limits are blended into the current one, so that a single slow request moves it only a little.
+ *
+ * <p>Under sustained overload the long-term average drifts up to the overloaded latency. Once the short-term
+ * latency falls to less than half of it, the long-term average is pulled down quickly, so that the limit can
+ * grow back instead of staying at its minimum.
+ */
+public class GradientLimit implements LimitAlgorithm {
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 600;
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double RECOVERY_DECAY = 0.95;
+
+    private final double tolerance;
+    private double shortRtt;
+    private double longRtt;
+
+    public GradientLimit(double tolerance) {
+        if (tolerance < 1) {
+            throw new IllegalArgumentException("Gradient tolerance must be at least 1, was " + tolerance);
+        }
+        this.tolerance = tolerance;
+    }
+
+    @Override
+    public double update(double limit, long rttNanos, int inFlight) {
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+        } else {
+            shortRtt += (rttNanos - shortRtt) / SHORT_WINDOW;
+            longRtt += (rttNanos - longRtt) / LONG_WINDOW;
+        }
+        if (longRtt > 2 * shortRtt) {
+            longRtt *= RECOVERY_DECAY;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+        if (gradient == 1.0 && !LimitAlgorithm.isLimitBound(limit, inFlight)) {
+            return limit;
+        }
+        double target = limit * gradient + Math.sqrt(limit);
+        return limit * (1 - SMOOTHING) + target * SMOOTHING;
+    }
+}
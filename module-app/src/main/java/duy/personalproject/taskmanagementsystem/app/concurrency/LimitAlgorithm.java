@@ -0,0 +1,24 @@
+package duy.personalproject.taskmanagementsystem.app.concurrency;
+
+/**
+ * Computes a group's next concurrency limit from the latency of a request that just finished. Called by
+ * {@link AdaptiveConcurrencyLimiter} under its lock, so implementations may keep state without synchronization.
+ */
+public interface LimitAlgorithm {
+
+    /**
+     * @param limit    the current limit
+     * @param rttNanos how long the request took
+     * @param inFlight requests in flight when it started, itself included
+     * @return the new limit, before it is clamped to the group's bounds
+     */
+    double update(double limit, long rttNanos, int inFlight);
+
+    /**
+     * Whether the group was using enough of its limit for the latency to say anything about a higher one.
+     * Below half of the limit, the limit is not raised.
+     */
+    static boolean isLimitBound(double limit, int inFlight) {
+        return inFlight * 2 >= limit;
+    }
+}
@@ -0,0 +1,43 @@
+package duy.personalproject.taskmanagementsystem.app.concurrency;
+
+import duy.personalproject.taskmanagementsystem.app.config.properties.ConcurrencyLimitConfigProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A configured route group with its own limiter, so that one overloaded group cannot take the capacity of the others.
+ */
+public record RouteGroup(String name, List<PathPattern> paths, Set<String> methods, AdaptiveConcurrencyLimiter limiter) {
+
+    public static RouteGroup of(ConcurrencyLimitConfigProperties.Group group, MeterRegistry meterRegistry) {
+        if (group.getPaths().isEmpty()) {
+            throw new IllegalArgumentException("Concurrency limit group " + group.getName() + " needs at least one path");
+        }
+        LimitAlgorithm algorithm = switch (group.getAlgorithm()) {
+            case GRADIENT -> new GradientLimit(group.getTolerance());
+            case AIMD -> new AimdLimit(group.getLatencyThresholdMs(), group.getBackoffRatio());
+        };
+        return new RouteGroup(
+                group.getName(),
+                group.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList(),
+                group.getMethods().stream().map(method -> method.toUpperCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet()),
+                new AdaptiveConcurrencyLimiter(group.getName(), algorithm, group.getInitialLimit(), group.getMinLimit(),
+                        group.getMaxLimit(), meterRegistry));
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        if (!methods.isEmpty() && !methods.contains(request.getMethod())) {
+            return false;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        return paths.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+}
@@ -0,0 +1,31 @@
+package duy.personalproject.taskmanagementsystem.app.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duy.personalproject.taskmanagementsystem.app.concurrency.ConcurrencyLimitFilter;
+import duy.personalproject.taskmanagementsystem.app.concurrency.RouteGroup;
+import duy.personalproject.taskmanagementsystem.app.config.properties.ConcurrencyLimitConfigProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Adaptive concurrency limits per route group, see {@link ConcurrencyLimitFilter}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "task.management.system.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j(topic = "CONCURRENCY_LIMIT_CONFIG")
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    ConcurrencyLimitFilter concurrencyLimitFilter(ConcurrencyLimitConfigProperties properties, ObjectMapper objectMapper,
+                                                  MeterRegistry meterRegistry) {
+        List<RouteGroup> groups = properties.getGroups().stream().map(group -> RouteGroup.of(group, meterRegistry)).toList();
+        groups.forEach(group -> log.info("Limiting concurrent {} requests to {}, adapting to their latency",
+                group.name(), group.limiter().getLimit()));
+        return new ConcurrencyLimitFilter(groups, objectMapper, properties.getRetryAfterSeconds(), System::nanoTime);
+    }
+}
@@ -0,0 +1,98 @@
+package duy.personalproject.taskmanagementsystem.app.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import duy.personalproject.taskmanagementsystem.app.config.properties.DataSourceTelemetryConfigProperties;
+import duy.personalproject.taskmanagementsystem.app.datasource.InstrumentedDataSource;
+import duy.personalproject.taskmanagementsystem.app.datasource.PoolSaturationFilter;
+import duy.personalproject.taskmanagementsystem.app.datasource.PoolSaturationMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Connection pool telemetry. Spring Boot already exports Hikari's own {@code hikaricp.connections.*} meters
+ * (active, idle, pending, acquire, usage) per pool; this adds the acquire-wait p99, hold time per holding method
+ * and the saturation policy on top.
+ */
+@Configuration(proxyBeanMethods = false)
+@Slf4j(topic = "DATASOURCE_TELEMETRY_CONFIG")
+public class DataSourceTelemetryConfig {
+
+    /**
+     * Wraps every data source in an {@link InstrumentedDataSource}. It runs after all other data source wrappers,
+     * so the acquire time also covers waiting in the virtual-thread connection limiter.
+     */
+    @Bean
+    static DataSourceTelemetryPostProcessor dataSourceTelemetryPostProcessor(ObjectProvider<DataSourceTelemetryConfigProperties> properties,
+                                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        return new DataSourceTelemetryPostProcessor(properties, meterRegistry);
+    }
+
+    @Bean
+    PoolSaturationMonitor poolSaturationMonitor(DataSourceTelemetryConfigProperties properties, DataSourceTelemetryPostProcessor postProcessor,
+                                                MeterRegistry meterRegistry) {
+        return new PoolSaturationMonitor(properties.getSaturation(), postProcessor::instrumented, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "task.management.system.datasource-telemetry.saturation", name = "policy", havingValue = "SHED")
+    PoolSaturationFilter poolSaturationFilter(PoolSaturationMonitor monitor, ObjectMapper objectMapper,
+                                              DataSourceTelemetryConfigProperties properties, MeterRegistry meterRegistry) {
+        return new PoolSaturationFilter(monitor, objectMapper, properties.getSaturation().getRetryAfterSeconds(), meterRegistry);
+    }
+
+    /**
+     * Instruments every data source backed by a Hikari pool and keeps track of them for the saturation monitor.
+     * Routing data sources in front of the pools are left alone.
+     */
+    static final class DataSourceTelemetryPostProcessor implements BeanPostProcessor, Ordered {
+        private final ObjectProvider<DataSourceTelemetryConfigProperties> properties;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final List<InstrumentedDataSource> instrumented = new CopyOnWriteArrayList<>();
+
+        DataSourceTelemetryPostProcessor(ObjectProvider<DataSourceTelemetryConfigProperties> properties, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.properties = properties;
+            this.meterRegistry = meterRegistry;
+        }
+
+        List<InstrumentedDataSource> instrumented() {
+            return instrumented;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof InstrumentedDataSource) {
+                return bean;
+            }
+            HikariDataSource hikariDataSource = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+            if (hikariDataSource == null) {
+                return bean;
+            }
+            DataSourceTelemetryConfigProperties telemetry = properties.getObject();
+            String pool = hikariDataSource.getPoolName() != null ? hikariDataSource.getPoolName() : beanName;
+            log.info("Recording connection acquire and hold times of pool {}", pool);
+            InstrumentedDataSource instrumentedDataSource = new InstrumentedDataSource(dataSource, pool, telemetry.getAttributionPackage(),
+                    telemetry.getMaxHolders(), telemetry.getHoldWarnThresholdMs(), Duration.ofSeconds(telemetry.getSaturation().getWindowSeconds()),
+                    meterRegistry.getObject());
+            instrumented.add(instrumentedDataSource);
+            return instrumentedDataSource;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package duy.personalproject.taskmanagementsystem.app.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import duy.personalproject.taskmanagementsystem.app.config.properties.ReadReplicaConfigProperties;
+import duy.personalproject.taskmanagementsystem.app.datasource.ReadWriteRoutingDataSource;
+import duy.personalproject.taskmanagementsystem.app.datasource.ReadYourWritesTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas. With {@code task.management.system.read-replicas.enabled=true} the primary pool is defined here
+ * instead of by Spring Boot, and the data source everything else uses routes read-only transactions to the replicas.
+ * Replica pools go through the same bean post-processing as the primary, so they get the same limiter and telemetry.
+ * They are not beans themselves; {@link ReadWriteRoutingDataSource} closes them when it is destroyed.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "task.management.system.read-replicas", name = "enabled", havingValue = "true")
+@Slf4j(topic = "READ_REPLICA_CONFIG")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    ReadWriteRoutingDataSource readWriteRoutingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                          ReadReplicaConfigProperties properties,
+                                                          DataSourceProperties dataSourceProperties,
+                                                          AutowireCapableBeanFactory beanFactory,
+                                                          MeterRegistry meterRegistry) {
+        List<ReadWriteRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReadReplicaConfigProperties.Replica replica = properties.getReplicas().get(i);
+            String name = StringUtils.hasText(replica.getName()) ? replica.getName() : "replica-" + (i + 1);
+
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(StringUtils.hasText(replica.getUsername()) ? replica.getUsername() : dataSourceProperties.determineUsername());
+            pool.setPassword(StringUtils.hasText(replica.getPassword()) ? replica.getPassword() : dataSourceProperties.determinePassword());
+            pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            pool.setReadOnly(true);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            DataSource decorated = (DataSource) beanFactory.initializeBean(pool, name + "DataSource");
+            replicas.add(new ReadWriteRoutingDataSource.Replica(name, decorated));
+        }
+        log.info("Routing read-only transactions to {} replicas with policy {}", replicas.size(), properties.getLoadBalancingPolicy());
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(primaryDataSource, replicas,
+                properties.getLoadBalancingPolicy(), properties.getMaxLagMs(),
+                new ReadYourWritesTracker(properties.getStickyWindowMs(), properties.getMaxStickyClients()),
+                ReadReplicaConfig::currentClient, meterRegistry);
+        routingDataSource.checkReplicas();
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    /**
+     * The authenticated user, otherwise the remote address, so that a client that just registered or logged in
+     * also reads its own writes.
+     */
+    private static String currentClient() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
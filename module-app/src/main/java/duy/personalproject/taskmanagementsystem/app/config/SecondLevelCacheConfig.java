@@ -0,0 +1,53 @@
+package duy.personalproject.taskmanagementsystem.app.config;
+
+import duy.personalproject.taskmanagementsystem.app.cache.SecondLevelCacheRegions;
+import duy.personalproject.taskmanagementsystem.app.config.properties.SecondLevelCacheConfigProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate's second-level cache on Caffeine, through JCache. The entities, natural ids and queries that are cached
+ * say so themselves, with their region from {@code CacheRegionConstants}. The caches are local to each instance.
+ */
+@Configuration(proxyBeanMethods = false)
+@Slf4j(topic = "SECOND_LEVEL_CACHE_CONFIG")
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "task.management.system.second-level-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    SecondLevelCacheRegions secondLevelCacheRegions(SecondLevelCacheConfigProperties properties) {
+        return new SecondLevelCacheRegions(properties);
+    }
+
+    /**
+     * Turned off explicitly when disabled: with hibernate-jcache on the classpath, Hibernate would otherwise pick
+     * it up on its own, with unbounded caches.
+     */
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheHibernateProperties(ObjectProvider<SecondLevelCacheRegions> regions) {
+        return hibernateProperties -> {
+            SecondLevelCacheRegions cacheRegions = regions.getIfAvailable();
+            if (cacheRegions == null) {
+                hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+                log.info("Second-level cache disabled");
+                return;
+            }
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheRegions.cacheManager());
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            // per-region hits, misses and puts for the metrics; without the per-session log line that comes with them
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+}
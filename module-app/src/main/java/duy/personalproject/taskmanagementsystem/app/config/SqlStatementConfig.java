@@ -0,0 +1,65 @@
+package duy.personalproject.taskmanagementsystem.app.config;
+
+import duy.personalproject.taskmanagementsystem.app.config.properties.SqlStatementConfigProperties;
+import duy.personalproject.taskmanagementsystem.app.datasource.SqlStatementFilter;
+import duy.personalproject.taskmanagementsystem.app.datasource.SqlStatementMonitor;
+import duy.personalproject.taskmanagementsystem.app.datasource.StatementCountingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Statement counts per request. Lazy associations and eager joins make it easy to add a query per row of an
+ * earlier result without noticing; this makes every request's statements visible in metrics, in the log once over
+ * the budget, and to tests through {@code @SqlStatementBudget}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "task.management.system.sql-statements", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j(topic = "SQL_STATEMENT_CONFIG")
+public class SqlStatementConfig {
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    /**
+     * Wraps the application's data source, the one Hibernate and the JDBC templates use. With read replicas that is
+     * the routing data source, so statements are counted whichever pool serves them. Ordered just ahead of the
+     * {@code InstrumentedDataSource} wrapper, which stays outermost.
+     */
+    @Bean
+    static BeanPostProcessor statementCountingPostProcessor() {
+        return new OrderedBeanPostProcessor() {
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE - 1;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof StatementCountingDataSource) {
+                    return bean;
+                }
+                log.info("Counting the statements of data source {} per request", beanName);
+                return new StatementCountingDataSource(dataSource);
+            }
+        };
+    }
+
+    @Bean
+    SqlStatementMonitor sqlStatementMonitor(SqlStatementConfigProperties properties, MeterRegistry meterRegistry) {
+        return new SqlStatementMonitor(properties, meterRegistry);
+    }
+
+    @Bean
+    SqlStatementFilter sqlStatementFilter(SqlStatementMonitor monitor, SqlStatementConfigProperties properties) {
+        return new SqlStatementFilter(monitor, properties.isHeadersEnabled());
+    }
+
+    private interface OrderedBeanPostProcessor extends BeanPostProcessor, Ordered {
+    }
+}
@@ -0,0 +1,63 @@
+package duy.personalproject.taskmanagementsystem.app.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import duy.personalproject.taskmanagementsystem.app.config.properties.VirtualThreadConfigProperties;
+import duy.personalproject.taskmanagementsystem.app.datasource.ConcurrencyLimitedDataSource;
+import duy.personalproject.taskmanagementsystem.app.diagnostics.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Virtual-thread mode. Spring Boot switches Tomcat, {@code @Scheduled} jobs and the application task executor to
+ * virtual threads when {@code spring.threads.virtual.enabled=true} and the JVM is 21 or later; on older JVMs the
+ * property is ignored and none of these beans are created.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j(topic = "VIRTUAL_THREAD_CONFIG")
+public class VirtualThreadConfig {
+
+    /**
+     * Wraps the Hikari pool in a {@link ConcurrencyLimitedDataSource} sized to the pool, innermost of all data source wrappers.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "task.management.system.virtual-threads.connection-limiter", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static BeanPostProcessor connectionLimiterPostProcessor(ObjectProvider<VirtualThreadConfigProperties> properties,
+                                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new OrderedBeanPostProcessor() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikariDataSource)) {
+                    return bean;
+                }
+                VirtualThreadConfigProperties.ConnectionLimiter limiter = properties.getObject().getConnectionLimiter();
+                int maxConcurrency = limiter.getMaxConcurrency() > 0 ? limiter.getMaxConcurrency() : hikariDataSource.getMaximumPoolSize();
+                log.info("Limiting data source {} to {} concurrent connections and {} waiting callers", beanName, maxConcurrency, limiter.getMaxWaiting());
+                return new ConcurrencyLimitedDataSource(hikariDataSource, maxConcurrency, limiter.getMaxWaiting(),
+                        limiter.getAcquireTimeoutMs(), meterRegistry.getObject());
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "task.management.system.virtual-threads.pinning-diagnostics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadConfigProperties properties, MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(properties.getPinningDiagnostics(), meterRegistry);
+    }
+
+    private interface OrderedBeanPostProcessor extends BeanPostProcessor, Ordered {
+    }
+}
@@ -0,0 +1,66 @@
+package duy.personalproject.taskmanagementsystem.app.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "task.management.system.concurrency-limit")
+public class ConcurrencyLimitConfigProperties {
+    private boolean enabled = true;
+
+    /**
+     * Retry-After sent with rejected requests.
+     */
+    private long retryAfterSeconds = 1;
+
+    /**
+     * Checked in order, the first matching group applies. Requests matching no group are not limited.
+     */
+    private List<Group> groups = new ArrayList<>();
+
+    @Data
+    public static class Group {
+        private String name;
+        /**
+         * Path patterns, e.g. {@code /api/v1/auth/**}.
+         */
+        private List<String> paths = new ArrayList<>();
+        /**
+         * HTTP methods the group applies to, all if empty.
+         */
+        private List<String> methods = new ArrayList<>();
+        private Algorithm algorithm = Algorithm.GRADIENT;
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 200;
+
+        /**
+         * GRADIENT: how much the short-term latency may exceed the long-term one before the limit shrinks.
+         */
+        private double tolerance = 1.5;
+
+        /**
+         * AIMD: requests slower than this shrink the limit.
+         */
+        private long latencyThresholdMs = 500;
+
+        /**
+         * AIMD: factor the limit is multiplied by on a slow request.
+         */
+        private double backoffRatio = 0.9;
+    }
+
+    public enum Algorithm {
+        /**
+         * Shrinks the limit as the latency grows relative to its long-term average, and grows it while it does not.
+         */
+        GRADIENT,
+        /**
+         * Adds one per request within the latency threshold and cuts the limit by the backoff ratio on slower ones.
+         */
+        AIMD
+    }
+}
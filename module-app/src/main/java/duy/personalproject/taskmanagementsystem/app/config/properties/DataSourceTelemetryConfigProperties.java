@@ -0,0 +1,66 @@
+package duy.personalproject.taskmanagementsystem.app.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "task.management.system.datasource-telemetry")
+public class DataSourceTelemetryConfigProperties {
+    /**
+     * Package whose classes a connection's hold time is attributed to: the innermost caller from this package
+     * when the connection was acquired.
+     */
+    private String attributionPackage = "duy.personalproject.taskmanagementsystem";
+
+    /**
+     * Distinct holders tracked per pool; connections of further holders are attributed to "other".
+     */
+    private int maxHolders = 200;
+
+    /**
+     * Connections held longer than this are logged with their holder; 0 disables the log.
+     */
+    private long holdWarnThresholdMs = 2_000;
+
+    private final Saturation saturation = new Saturation();
+
+    @Data
+    public static class Saturation {
+        private SaturationPolicy policy = SaturationPolicy.WARN;
+
+        /**
+         * Acquire-wait p99 above which a pool counts as saturated.
+         */
+        private long acquireP99ThresholdMs = 200;
+
+        /**
+         * Sliding window over which the acquire-wait p99 is computed.
+         */
+        private long windowSeconds = 30;
+
+        /**
+         * How often the pools are checked.
+         */
+        private long checkIntervalMs = 1_000;
+
+        /**
+         * Retry-After sent with shed requests.
+         */
+        private long retryAfterSeconds = 1;
+    }
+
+    public enum SaturationPolicy {
+        /**
+         * Only export metrics.
+         */
+        NONE,
+        /**
+         * Log a warning with the top connection holders when a pool becomes saturated.
+         */
+        WARN,
+        /**
+         * Warn and reject API requests with 503 while a pool stays saturated.
+         */
+        SHED
+    }
+}
@@ -0,0 +1,64 @@
+package duy.personalproject.taskmanagementsystem.app.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "task.management.system.read-replicas")
+public class ReadReplicaConfigProperties {
+    /**
+     * Routes read-only transactions to the replicas below; everything else keeps using the primary.
+     */
+    private boolean enabled = false;
+
+    private LoadBalancingPolicy loadBalancingPolicy = LoadBalancingPolicy.ROUND_ROBIN;
+
+    /**
+     * Replicas lagging further behind the primary are skipped until they catch up.
+     */
+    private long maxLagMs = 1_000;
+
+    /**
+     * How often the lag of every replica is checked.
+     */
+    private long lagCheckIntervalMs = 1_000;
+
+    /**
+     * After a client's write commits, its reads go to the primary for this long, so it sees its own writes.
+     */
+    private long stickyWindowMs = 5_000;
+
+    /**
+     * Clients tracked for read-your-writes; beyond that all reads go to the primary until the window has passed.
+     */
+    private int maxStickyClients = 100_000;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+        private String name;
+        private String url;
+        /**
+         * Defaults to {@code spring.datasource.username}.
+         */
+        private String username;
+        /**
+         * Defaults to {@code spring.datasource.password}.
+         */
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+
+    public enum LoadBalancingPolicy {
+        ROUND_ROBIN,
+        RANDOM,
+        /**
+         * The replica with the lowest lag at the last check.
+         */
+        LEAST_LAG
+    }
+}
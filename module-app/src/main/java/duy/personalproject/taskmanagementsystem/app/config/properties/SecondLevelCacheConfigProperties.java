@@ -0,0 +1,40 @@
+package duy.personalproject.taskmanagementsystem.app.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "task.management.system.second-level-cache")
+public class SecondLevelCacheConfigProperties {
+    /**
+     * Caches users and projects, their natural-id lookups and the exists checks in Hibernate's second-level cache.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Used for every region without an entry in {@link #regions}.
+     */
+    private Region defaults = new Region();
+
+    /**
+     * Per region, by the names of {@code CacheRegionConstants}. The update-timestamps region is never bounded.
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    public static class Region {
+        /**
+         * Entries kept; the least valuable ones are evicted beyond that.
+         */
+        private long maxEntries = 10_000;
+
+        /**
+         * Entries expire this long after they were written. Bounds how stale a cached row can be after a write
+         * made by another instance or outside of Hibernate; 0 disables expiry.
+         */
+        private long ttlMs = 300_000;
+    }
+}
@@ -0,0 +1,39 @@
+package duy.personalproject.taskmanagementsystem.app.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "task.management.system.sql-statements")
+public class SqlStatementConfigProperties {
+    /**
+     * Counts the statements and database time of every API request.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Sends the counts back as X-Sql-Statements and X-Sql-Time-Ms headers. They reveal how a request is served,
+     * so keep this off where clients are not trusted.
+     */
+    private boolean headersEnabled = false;
+
+    /**
+     * Requests executing more statements than this are logged; 0 disables the log.
+     */
+    private int maxStatementsPerRequest = 30;
+
+    /**
+     * Requests executing the same SQL at least this many times are logged as a likely N+1; 0 disables the log.
+     */
+    private int repeatThreshold = 5;
+
+    /**
+     * Distinct SQL texts counted per request; bounds the memory of requests running many different statements.
+     */
+    private int maxDistinctStatements = 100;
+
+    /**
+     * Over-budget and N+1 requests logged per route and minute; the rest are only counted.
+     */
+    private int logPermitsPerMinute = 5;
+}
@@ -0,0 +1,60 @@
+package duy.personalproject.taskmanagementsystem.app.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Safeguards of the virtual-thread mode ({@code spring.threads.virtual.enabled=true} on JDK 21 or later).
+ */
+@Data
+@ConfigurationProperties(prefix = "task.management.system.virtual-threads")
+public class VirtualThreadConfigProperties {
+    private final ConnectionLimiter connectionLimiter = new ConnectionLimiter();
+    private final PinningDiagnostics pinningDiagnostics = new PinningDiagnostics();
+
+    @Data
+    public static class ConnectionLimiter {
+        /**
+         * Bounds the callers waiting for a database connection; applies in virtual-thread mode only.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Connections that may be checked out at once; 0 uses the Hikari maximum pool size.
+         */
+        private int maxConcurrency = 0;
+
+        /**
+         * Callers allowed to wait for a permit; further callers fail immediately instead of queuing.
+         */
+        private int maxWaiting = 200;
+
+        /**
+         * Maximum time a caller waits for a permit before failing.
+         */
+        private long acquireTimeoutMs = 5_000;
+    }
+
+    @Data
+    public static class PinningDiagnostics {
+        /**
+         * Streams JFR {@code jdk.VirtualThreadPinned} events into metrics and logs; applies in virtual-thread mode only.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Pinned periods shorter than this are not reported.
+         */
+        private long thresholdMs = 20;
+
+        /**
+         * Stack frames included in the log line of a pinning site.
+         */
+        private int logFrames = 12;
+
+        /**
+         * Distinct pinning sites logged; later sites are only counted.
+         */
+        private int maxLoggedSites = 100;
+    }
+}
@@ -0,0 +1,170 @@
+package duy.personalproject.taskmanagementsystem.app.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Times how long callers wait for a connection and how long they hold it, per pool.
+ *
+ * <p>The wait is recorded in {@value #ACQUIRE_TIMER} with a p99 over a sliding window, which
+ * {@link PoolSaturationMonitor} compares against its threshold. The hold time is recorded in {@value #HOLD_TIMER},
+ * tagged with the holder: the innermost application method on the stack when the connection was acquired.
+ * For a {@code @Transactional} method that is the method itself, because the transaction begins inside its proxy
+ * before the target is entered, so the proxy frame is reported under the target's class name.
+ */
+@Slf4j(topic = "DATASOURCE_TELEMETRY")
+public class InstrumentedDataSource extends DelegatingDataSource {
+    static final String ACQUIRE_TIMER = "datasource.connection.acquire";
+    static final String HOLD_TIMER = "datasource.connection.hold";
+    static final String OTHER_HOLDER = "other";
+    private static final String UNKNOWN_HOLDER = "unknown";
+    private static final String OWN_PACKAGE = InstrumentedDataSource.class.getPackageName() + ".";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final String pool;
+    private final String attributionPackage;
+    private final int maxHolders;
+    private final long holdWarnThresholdNanos;
+    private final MeterRegistry meterRegistry;
+    private final Timer acquireTimer;
+    private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+
+    public InstrumentedDataSource(DataSource targetDataSource, String pool, String attributionPackage, int maxHolders,
+                                  long holdWarnThresholdMs, Duration window, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.pool = pool;
+        this.attributionPackage = attributionPackage + ".";
+        this.maxHolders = maxHolders;
+        this.holdWarnThresholdNanos = TimeUnit.MILLISECONDS.toNanos(holdWarnThresholdMs);
+        this.meterRegistry = meterRegistry;
+        this.acquireTimer = Timer.builder(ACQUIRE_TIMER)
+                .description("Time callers waited for a connection")
+                .tag("pool", pool)
+                .publishPercentiles(0.99)
+                .distributionStatisticExpiry(window)
+                .distributionStatisticBufferLength(3)
+                .register(meterRegistry);
+    }
+
+    public String getPool() {
+        return pool;
+    }
+
+    /**
+     * Acquire-wait p99 over the configured window, in milliseconds.
+     */
+    public double acquireP99Millis() {
+        for (ValueAtPercentile percentile : acquireTimer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.99) {
+                return percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Holders ordered by their total hold time, largest first.
+     */
+    public List<String> topHolders(int limit) {
+        return holdTimers.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<String, Timer> entry) -> entry.getValue().totalTime(TimeUnit.NANOSECONDS)).reversed())
+                .limit(limit)
+                .map(entry -> "%s (%d x, max %.0f ms)".formatted(entry.getKey(), entry.getValue().count(), entry.getValue().max(TimeUnit.MILLISECONDS)))
+                .toList();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        return instrument(connection, start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        return instrument(connection, start);
+    }
+
+    private Connection instrument(Connection connection, long start) {
+        long acquired = System.nanoTime();
+        acquireTimer.record(acquired - start, TimeUnit.NANOSECONDS);
+        String holder = resolveHolder();
+
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                InstrumentedDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        if (closed.compareAndSet(false, true)) {
+                            try {
+                                connection.close();
+                            } finally {
+                                recordHold(holder, System.nanoTime() - acquired);
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private void recordHold(String holder, long heldNanos) {
+        holdTimer(holder).record(heldNanos, TimeUnit.NANOSECONDS);
+        if (holdWarnThresholdNanos > 0 && heldNanos > holdWarnThresholdNanos) {
+            log.warn("Connection of pool {} held for {} ms by {}", pool, TimeUnit.NANOSECONDS.toMillis(heldNanos), holder);
+        }
+    }
+
+    private Timer holdTimer(String holder) {
+        Timer timer = holdTimers.get(holder);
+        if (timer != null) {
+            return timer;
+        }
+        String tag = holdTimers.size() < maxHolders ? holder : OTHER_HOLDER;
+        return holdTimers.computeIfAbsent(tag, key -> Timer.builder(HOLD_TIMER)
+                .description("Time a connection was held, by the application method that acquired it")
+                .tag("pool", pool)
+                .tag("holder", key)
+                .register(meterRegistry));
+    }
+
+    private String resolveHolder() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(attributionPackage) && !frame.getClassName().startsWith(OWN_PACKAGE))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse(UNKNOWN_HOLDER));
+    }
+
+    /**
+     * Simple name of a class, with Spring's {@code $$SpringCGLIB$$} proxy suffix removed.
+     */
+    private static String simpleName(String className) {
+        int proxySuffix = className.indexOf("$$");
+        String name = proxySuffix < 0 ? className : className.substring(0, proxySuffix);
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,77 @@
+package duy.personalproject.taskmanagementsystem.app.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duy.personalproject.taskmanagementsystem.core.exception.ErrorCode;
+import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
+import duy.personalproject.taskmanagementsystem.core.model.common.ErrorDetails;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Rejects API requests with 503 while {@link PoolSaturationMonitor} sheds load. It runs ahead of the security
+ * filter chain, so a rejected request costs neither a token check nor a connection.
+ */
+public class PoolSaturationFilter extends OncePerRequestFilter implements Ordered {
+    /**
+     * Ahead of Spring Security's filter chain, which is registered at -100.
+     */
+    public static final int ORDER = -110;
+    private static final String API_PATH = "/api/";
+
+    private final PoolSaturationMonitor monitor;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+    private final Counter shed;
+
+    public PoolSaturationFilter(PoolSaturationMonitor monitor, ObjectMapper objectMapper, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.monitor = monitor;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = Long.toString(retryAfterSeconds);
+        this.shed = Counter.builder("datasource.saturation.shed")
+                .description("API requests rejected because a connection pool was saturated")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!monitor.isShedding()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        shed.increment();
+
+        ErrorCode errorCode = ErrorCode.SERVICE_UNAVAILABLE;
+        ApiResponse<Void> apiResponse = ApiResponse.<Void>builder()
+                .success(false)
+                .code(errorCode.getHttpStatusCode())
+                .message(errorCode.getMessage())
+                .error(ErrorDetails.of(errorCode, "Database connection pool is saturated"))
+                .build();
+
+        response.setStatus(errorCode.getHttpStatusCode());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), apiResponse);
+    }
+}
@@ -0,0 +1,73 @@
+package duy.personalproject.taskmanagementsystem.app.datasource;
+
+import duy.personalproject.taskmanagementsystem.app.config.properties.DataSourceTelemetryConfigProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Applies the saturation policy to the instrumented pools. A pool is saturated while its acquire-wait p99 is above
+ * the threshold; with {@code WARN} the transition is logged together with the pool's top connection holders,
+ * with {@code SHED} {@link PoolSaturationFilter} additionally rejects API requests until every pool recovers.
+ */
+@Slf4j(topic = "POOL_SATURATION")
+public class PoolSaturationMonitor {
+    private static final int LOGGED_HOLDERS = 5;
+
+    private final DataSourceTelemetryConfigProperties.Saturation properties;
+    private final Supplier<List<InstrumentedDataSource>> dataSources;
+    private volatile boolean saturated;
+
+    public PoolSaturationMonitor(DataSourceTelemetryConfigProperties.Saturation properties,
+                                 Supplier<List<InstrumentedDataSource>> dataSources, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.dataSources = dataSources;
+        Gauge.builder("datasource.saturated", this, monitor -> monitor.saturated ? 1 : 0)
+                .description("Whether a connection pool's acquire-wait p99 is above the saturation threshold")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${task.management.system.datasource-telemetry.saturation.check-interval-ms:1000}")
+    public void check() {
+        if (properties.getPolicy() == DataSourceTelemetryConfigProperties.SaturationPolicy.NONE) {
+            return;
+        }
+        InstrumentedDataSource worst = null;
+        double worstP99 = 0;
+        for (InstrumentedDataSource dataSource : dataSources.get()) {
+            double p99 = dataSource.acquireP99Millis();
+            if (worst == null || p99 > worstP99) {
+                worst = dataSource;
+                worstP99 = p99;
+            }
+        }
+
+        boolean nowSaturated = worst != null && worstP99 > properties.getAcquireP99ThresholdMs();
+        if (nowSaturated && !saturated) {
+            log.warn("Pool {} is saturated: acquire p99 {} ms above {} ms{}; top holders: {}", worst.getPool(), Math.round(worstP99),
+                    properties.getAcquireP99ThresholdMs(), isShedding(true) ? ", shedding API requests" : "", worst.topHolders(LOGGED_HOLDERS));
+        } else if (!nowSaturated && saturated) {
+            log.info("Connection pools recovered: acquire p99 {} ms", Math.round(worstP99));
+        }
+        saturated = nowSaturated;
+    }
+
+    public boolean isSaturated() {
+        return saturated;
+    }
+
+    /**
+     * Whether requests should currently be rejected.
+     */
+    public boolean isShedding() {
+        return isShedding(saturated);
+    }
+
+    private boolean isShedding(boolean saturated) {
+        return saturated && properties.getPolicy() == DataSourceTelemetryConfigProperties.SaturationPolicy.SHED;
+    }
+}
@@ -0,0 +1,329 @@
+package duy.personalproject.taskmanagementsystem.app.datasource;
+
+import duy.personalproject.taskmanagementsystem.app.config.properties.ReadReplicaConfigProperties;
+import duy.personalproject.taskmanagementsystem.core.util.ReadYourWrites;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Sends connections of read-only transactions to a replica and everything else to the primary.
+ *
+ * <p>The decision is made when the connection is fetched, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager asks for a
+ * connection before it marks the transaction read-only, the lazy proxy only fetches one at the first statement.
+ *
+ * <p>A replica is skipped while it lags more than {@code maxLagMs} behind, while it is not streaming WAL from the
+ * primary, while its lag cannot be checked, or after it failed to hand out a connection; without a usable replica
+ * reads fall back to the primary. A client whose write committed less than a sticky window ago also reads from the
+ * primary. Only transactions that actually changed rows count as writes: a read-write transaction that only
+ * queries, such as a change poll at REPEATABLE READ, leaves the client on the replicas.
+ *
+ * <p>Owns the replica pools and closes them when the context closes.
+ */
+@Slf4j(topic = "READ_WRITE_ROUTING")
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements ReadYourWrites, DisposableBean {
+    // null while the replica is not streaming from the primary, since having replayed everything it received then
+    // says nothing about how far behind it is; 0 while it has replayed everything, otherwise the age of the last
+    // replayed transaction. Without pg_read_all_stats the status column is null, the row still tells the receiver runs.
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE COALESCE(status, 'streaming') = 'streaming') THEN NULL
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM clock_timestamp() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END""";
+    private static final Pattern FIRST_KEYWORD = Pattern.compile("\\s*(\\w+)");
+    private static final Set<String> DML_KEYWORDS = Set.of("INSERT", "UPDATE", "DELETE", "MERGE");
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadReplicaConfigProperties.LoadBalancingPolicy policy;
+    private final long maxLagMs;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Supplier<String> currentClient;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter stickyRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<Replica> replicas, ReadReplicaConfigProperties.LoadBalancingPolicy policy,
+                                      long maxLagMs, ReadYourWritesTracker readYourWrites, Supplier<String> currentClient,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.policy = policy;
+        this.maxLagMs = maxLagMs;
+        this.readYourWrites = readYourWrites;
+        this.currentClient = currentClient;
+        this.primaryRoutes = routeCounter("primary", meterRegistry);
+        this.replicaRoutes = routeCounter("replica", meterRegistry);
+        this.stickyRoutes = routeCounter("sticky", meterRegistry);
+        this.fallbackRoutes = routeCounter("fallback", meterRegistry);
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagMs)
+                    .description("Replication lag of the replica at the last check, in milliseconds")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", replica, r -> r.isUsable(maxLagMs) ? 1 : 0)
+                    .description("Whether read-only transactions may use the replica")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+    }
+
+    private static Counter routeCounter(String route, MeterRegistry meterRegistry) {
+        return Counter.builder("datasource.routing")
+                .description("Connections handed out, by where they were routed")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A replica and the state of its last health check.
+     */
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagMs;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getLagMs() {
+            return lagMs;
+        }
+
+        boolean isUsable(long maxLagMs) {
+            return healthy && lagMs <= maxLagMs;
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            String client = currentClient.get();
+            if (client == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+                return primary.getConnection();
+            }
+            return recordingWrites(primary.getConnection(), client);
+        }
+        if (readYourWrites.isSticky(currentClient.get())) {
+            stickyRoutes.increment();
+            return primary.getConnection();
+        }
+
+        for (Replica replica : candidates()) {
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaRoutes.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.healthy = false;
+                log.warn("Replica {} failed to provide a connection, skipping it until the next check: {}", replica.name, e.getMessage());
+            }
+        }
+        fallbackRoutes.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public boolean requiresPrimary() {
+        return readYourWrites.isSticky(currentClient.get());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("Routing is only supported for the configured credentials");
+    }
+
+    /**
+     * Usable replicas in the order the load-balancing policy prefers them.
+     */
+    List<Replica> candidates() {
+        List<Replica> usable = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.isUsable(maxLagMs)) {
+                usable.add(replica);
+            }
+        }
+        if (usable.size() <= 1) {
+            return usable;
+        }
+        switch (policy) {
+            case ROUND_ROBIN -> rotate(usable, Math.floorMod(next.getAndIncrement(), usable.size()));
+            case RANDOM -> rotate(usable, ThreadLocalRandom.current().nextInt(usable.size()));
+            case LEAST_LAG -> usable.sort(Comparator.comparingLong(Replica::getLagMs));
+        }
+        return usable;
+    }
+
+    private static void rotate(List<Replica> replicas, int first) {
+        List<Replica> head = new ArrayList<>(replicas.subList(0, first));
+        replicas.subList(0, first).clear();
+        replicas.addAll(head);
+    }
+
+    /**
+     * Wraps the connection so that the first statement changing rows marks the client sticky once the transaction
+     * commits. Updates and batches change rows; {@code execute} does when it returns an update count, and a query
+     * does when it is an {@code INSERT}, {@code UPDATE}, {@code DELETE} or {@code MERGE} with {@code RETURNING}.
+     */
+    private Connection recordingWrites(Connection connection, String client) {
+        AtomicBoolean written = new AtomicBoolean();
+        Runnable onWrite = () -> {
+            if (written.compareAndSet(false, true)) {
+                registerWrite(client);
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(
+                ReadWriteRoutingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    return switch (method.getName()) {
+                        case "createStatement" -> recordingWrites((Statement) result, Statement.class, null, (Connection) proxy, onWrite);
+                        case "prepareStatement" -> recordingWrites((Statement) result, PreparedStatement.class, (String) args[0], (Connection) proxy, onWrite);
+                        case "prepareCall" -> recordingWrites((Statement) result, CallableStatement.class, (String) args[0], (Connection) proxy, onWrite);
+                        default -> result;
+                    };
+                });
+    }
+
+    /**
+     * @param preparedSql the SQL of a prepared statement, or null for a plain statement, whose SQL comes with each execution
+     */
+    private static Statement recordingWrites(Statement statement, Class<? extends Statement> type, String preparedSql,
+                                             Connection connection, Runnable onWrite) {
+        return (Statement) Proxy.newProxyInstance(
+                ReadWriteRoutingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if ("getConnection".equals(method.getName())) {
+                        return connection;
+                    }
+                    Object result = invoke(statement, method, args);
+                    boolean write = switch (method.getName()) {
+                        case "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch" -> true;
+                        case "execute" -> Boolean.FALSE.equals(result);
+                        case "executeQuery" -> isDml(preparedSql != null ? preparedSql : (String) args[0]);
+                        default -> false;
+                    };
+                    if (write) {
+                        onWrite.run();
+                    }
+                    return result;
+                });
+    }
+
+    private static boolean isDml(String sql) {
+        Matcher matcher = FIRST_KEYWORD.matcher(sql);
+        return matcher.lookingAt() && DML_KEYWORDS.contains(matcher.group(1).toUpperCase(Locale.ROOT));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Marks the client sticky once the current transaction commits.
+     */
+    private void registerWrite(String client) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite(client);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${task.management.system.read-replicas.lag-check-interval-ms:1000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasUsable = replica.isUsable(maxLagMs);
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                double lagMs = resultSet.getDouble(1);
+                if (resultSet.wasNull()) {
+                    replica.healthy = false;
+                    log.debug("Replica {} is not streaming WAL from the primary", replica.name);
+                } else {
+                    replica.lagMs = Math.round(lagMs);
+                    replica.healthy = true;
+                }
+            } catch (SQLException e) {
+                replica.healthy = false;
+                log.debug("Lag check of replica {} failed", replica.name, e);
+            }
+
+            boolean usable = replica.isUsable(maxLagMs);
+            if (wasUsable && !usable) {
+                log.warn("Replica {} is unavailable for reads: {}", replica.name, replica.healthy ? "lag " + replica.lagMs + " ms" : "unreachable or not streaming");
+            } else if (!wasUsable && usable) {
+                log.info("Replica {} is available for reads, lag {} ms", replica.name, replica.lagMs);
+            }
+        }
+        readYourWrites.evictExpired();
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            AutoCloseable pool = DataSourceUnwrapper.unwrap(replica.dataSource, AutoCloseable.class);
+            if (pool != null) {
+                pool.close();
+            }
+        }
+    }
+}
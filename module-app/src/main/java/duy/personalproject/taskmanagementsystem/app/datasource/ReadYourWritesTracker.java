@@ -0,0 +1,52 @@
+package duy.personalproject.taskmanagementsystem.app.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers which clients wrote recently, so that their reads can go to the primary until the replicas had
+ * time to replay the write. When more than {@code maxClients} are tracked, every client is treated as
+ * sticky for one window instead of forgetting anyone early.
+ */
+public class ReadYourWritesTracker {
+    private final long windowNanos;
+    private final int maxClients;
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private volatile long everyoneStickyUntil = System.nanoTime();
+
+    public ReadYourWritesTracker(long windowMs, int maxClients) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.maxClients = maxClients;
+    }
+
+    public void recordWrite(String client) {
+        long until = System.nanoTime() + windowNanos;
+        if (stickyUntil.size() >= maxClients && !stickyUntil.containsKey(client)) {
+            evictExpired();
+            if (stickyUntil.size() >= maxClients) {
+                everyoneStickyUntil = until;
+                return;
+            }
+        }
+        stickyUntil.put(client, until);
+    }
+
+    public boolean isSticky(String client) {
+        long now = System.nanoTime();
+        if (now - everyoneStickyUntil < 0) {
+            return true;
+        }
+        Long until = client == null ? null : stickyUntil.get(client);
+        return until != null && now - until < 0;
+    }
+
+    public void evictExpired() {
+        long now = System.nanoTime();
+        stickyUntil.values().removeIf(until -> now - until >= 0);
+    }
+
+    public int size() {
+        return stickyUntil.size();
+    }
+}
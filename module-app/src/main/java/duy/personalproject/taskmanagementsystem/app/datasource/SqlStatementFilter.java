@@ -0,0 +1,88 @@
+package duy.personalproject.taskmanagementsystem.app.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the statements of every API request and hands them to {@link SqlStatementMonitor} once it finishes.
+ * It runs ahead of the security filter chain, so the user lookup of the token check is counted too.
+ *
+ * <p>With headers enabled, the counts are sent as {@value #STATEMENTS_HEADER} and {@value #TIME_HEADER} when the
+ * response is committed. Statements run after that, while a streamed body is written, are only in the metrics.
+ */
+public class SqlStatementFilter extends OncePerRequestFilter implements Ordered {
+    /**
+     * After {@link PoolSaturationFilter}, ahead of Spring Security's filter chain, which is registered at -100.
+     */
+    public static final int ORDER = -105;
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+    private static final String API_PATH = "/api/";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlStatementMonitor monitor;
+    private final boolean headersEnabled;
+
+    public SqlStatementFilter(SqlStatementMonitor monitor, boolean headersEnabled) {
+        this.monitor = monitor;
+        this.headersEnabled = headersEnabled;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.start(monitor.maxDistinctStatements());
+        HttpServletResponse headerWritingResponse = headersEnabled ? new StatsHeaderWriter(response, stats) : response;
+        try {
+            filterChain.doFilter(request, headerWritingResponse);
+            if (headerWritingResponse instanceof StatsHeaderWriter writer && !response.isCommitted()) {
+                writer.onResponseCommitted();
+            }
+        } finally {
+            stats.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            monitor.requestCompleted(request.getMethod(), pattern != null ? pattern.toString() : UNKNOWN_URI, stats);
+        }
+    }
+
+    /**
+     * Writes the counts so far just before the response is committed.
+     */
+    private static final class StatsHeaderWriter extends OnCommittedResponseWrapper {
+        private final SqlStatementStats stats;
+
+        StatsHeaderWriter(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            if (isDisableOnResponseCommitted()) {
+                return;
+            }
+            disableOnResponseCommitted();
+            setHeader(STATEMENTS_HEADER, Integer.toString(stats.statements()));
+            setHeader(TIME_HEADER, Long.toString(TimeUnit.NANOSECONDS.toMillis(stats.nanos())));
+        }
+    }
+}
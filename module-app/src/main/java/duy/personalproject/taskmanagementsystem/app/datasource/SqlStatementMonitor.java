@@ -0,0 +1,111 @@
+package duy.personalproject.taskmanagementsystem.app.datasource;
+
+import duy.personalproject.taskmanagementsystem.app.config.properties.SqlStatementConfigProperties;
+import duy.personalproject.taskmanagementsystem.core.util.LogRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks the statements of every finished request against the budget and exports them per route.
+ *
+ * <p>Records {@code http.server.requests.sql.statements} and {@code http.server.requests.sql.time}, tagged like
+ * {@code http.server.requests} with {@code method} and {@code uri}, and counts requests over the budget in
+ * {@code http.server.requests.sql.over.budget}, with {@code reason} {@code statements} or {@code repeated}.
+ * A request can be over the budget for both reasons.
+ */
+@Slf4j(topic = "SQL_STATEMENTS")
+public class SqlStatementMonitor {
+    private static final int LOGGED_SQL_LENGTH = 300;
+
+    private final SqlStatementConfigProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LogRateLimiter logRateLimiter;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public SqlStatementMonitor(SqlStatementConfigProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.logRateLimiter = new LogRateLimiter(properties.getLogPermitsPerMinute(), 1, TimeUnit.MINUTES);
+    }
+
+    public int maxDistinctStatements() {
+        return properties.getMaxDistinctStatements();
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public void requestCompleted(String method, String uri, SqlStatementStats stats) {
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("Statements executed per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.statements());
+        Timer.builder("http.server.requests.sql.time")
+                .description("Time spent executing statements per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.nanos(), TimeUnit.NANOSECONDS);
+
+        int maxStatements = properties.getMaxStatementsPerRequest();
+        if (maxStatements > 0 && stats.statements() > maxStatements) {
+            overBudget(method, uri, "statements");
+            long suppressed = logRateLimiter.tryAcquire(method + " " + uri);
+            if (suppressed != LogRateLimiter.SUPPRESSED) {
+                log.warn("{} {} executed {} statements, more than {}{}", method, uri, stats.statements(), maxStatements,
+                        LogRateLimiter.suppressedSuffix(suppressed));
+            }
+        }
+        int repeatThreshold = properties.getRepeatThreshold();
+        stats.mostRepeated()
+                .filter(repeat -> repeatThreshold > 0 && repeat.executions() >= repeatThreshold)
+                .ifPresent(repeat -> {
+                    overBudget(method, uri, "repeated");
+                    long suppressed = logRateLimiter.tryAcquire(repeat.sql());
+                    if (suppressed != LogRateLimiter.SUPPRESSED) {
+                        log.warn("Likely N+1 in {} {}: executed {} times: {}{}", method, uri, repeat.executions(), abbreviate(repeat.sql()),
+                                LogRateLimiter.suppressedSuffix(suppressed));
+                    }
+                });
+
+        for (Listener listener : listeners) {
+            listener.requestCompleted(method, uri, stats);
+        }
+    }
+
+    private void overBudget(String method, String uri, String reason) {
+        Counter.builder("http.server.requests.sql.over.budget")
+                .description("Requests over the statement budget")
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= LOGGED_SQL_LENGTH ? sql : sql.substring(0, LOGGED_SQL_LENGTH) + "...";
+    }
+
+    /**
+     * Told about every finished request, on the request's thread.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void requestCompleted(String method, String uri, SqlStatementStats stats);
+    }
+}
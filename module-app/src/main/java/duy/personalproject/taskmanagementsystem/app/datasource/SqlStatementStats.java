@@ -0,0 +1,81 @@
+package duy.personalproject.taskmanagementsystem.app.datasource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The statements one HTTP request executed, as recorded by {@link StatementCountingDataSource} on the request's
+ * thread between {@link #start(int)} and {@link #stop()}. Executions are also counted per SQL text, which for a
+ * prepared statement leaves the parameters out, so the same query run once per row of an earlier result
+ * (an N+1) shows up as one statement with many executions.
+ *
+ * <p>Confined to the thread that started it.
+ */
+public final class SqlStatementStats {
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final int maxDistinctStatements;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int statements;
+    private long nanos;
+
+    private SqlStatementStats(int maxDistinctStatements) {
+        this.maxDistinctStatements = maxDistinctStatements;
+    }
+
+    /**
+     * Starts recording the statements of the current thread.
+     *
+     * @param maxDistinctStatements distinct SQL texts counted per request; further ones only add to the totals
+     */
+    public static SqlStatementStats start(int maxDistinctStatements) {
+        SqlStatementStats stats = new SqlStatementStats(maxDistinctStatements);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stops recording on the current thread.
+     */
+    public void stop() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats == null) {
+            return;
+        }
+        stats.statements++;
+        stats.nanos += elapsedNanos;
+        if (stats.executionsBySql.containsKey(sql) || stats.executionsBySql.size() < stats.maxDistinctStatements) {
+            stats.executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    /**
+     * Time spent executing statements, without reading their results.
+     */
+    public long nanos() {
+        return nanos;
+    }
+
+    /**
+     * The SQL text executed most often, if any statement was executed.
+     */
+    public Optional<Repeat> mostRepeated() {
+        return executionsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(entry -> new Repeat(entry.getKey(), entry.getValue()));
+    }
+
+    public record Repeat(String sql, int executions) {
+    }
+}
@@ -0,0 +1,93 @@
+package duy.personalproject.taskmanagementsystem.app.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Records every statement executed through its connections, with its SQL and execution time, in the
+ * {@link SqlStatementStats} of the calling thread. Nothing is recorded on threads that have not started one.
+ *
+ * <p>A batch counts as one statement, so batched inserts are not mistaken for repeated ones.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate",
+            "executeBatch", "executeLargeBatch");
+    private static final String BATCH = "<batch>";
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(super.getConnection(username, password));
+    }
+
+    private Connection counting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    return switch (method.getName()) {
+                        case "createStatement" -> counting((Statement) result, Statement.class, null, (Connection) proxy);
+                        case "prepareStatement" -> counting((Statement) result, PreparedStatement.class, (String) args[0], (Connection) proxy);
+                        case "prepareCall" -> counting((Statement) result, CallableStatement.class, (String) args[0], (Connection) proxy);
+                        default -> result;
+                    };
+                });
+    }
+
+    /**
+     * @param preparedSql the SQL of a prepared statement, or null for a plain statement, whose SQL comes with each execution
+     */
+    private static Statement counting(Statement statement, Class<? extends Statement> type, String preparedSql, Connection connection) {
+        return (Statement) Proxy.newProxyInstance(
+                StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if ("getConnection".equals(method.getName())) {
+                        return connection;
+                    }
+                    if (!EXECUTE_METHODS.contains(method.getName())) {
+                        return invoke(statement, method, args);
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        SqlStatementStats.record(sql(preparedSql, method, args), System.nanoTime() - start);
+                    }
+                });
+    }
+
+    private static String sql(String preparedSql, Method method, Object[] args) {
+        if (preparedSql != null) {
+            return preparedSql;
+        }
+        return args != null && args.length > 0 && args[0] instanceof String sql ? sql : BATCH;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
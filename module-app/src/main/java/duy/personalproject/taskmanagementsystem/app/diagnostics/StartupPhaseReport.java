@@ -0,0 +1,138 @@
+package duy.personalproject.taskmanagementsystem.app.diagnostics;
+
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Startup time per phase, computed from the steps recorded by a
+ * {@link org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup}.
+ *
+ * <p>Steps nest: instantiating a bean includes instantiating its dependencies, and Flyway's migration runs inside
+ * the instantiation of {@code flywayInitializer}. Every step is therefore counted with its self time, its duration
+ * minus that of its child steps, so that the phases add up to the time the steps cover.
+ */
+public record StartupPhaseReport(Map<Phase, Duration> phases, List<BeanTiming> slowestBeans) {
+    private static final String BEAN_NAME_TAG = "beanName";
+    private static final String BEAN_TYPE_TAG = "beanType";
+
+    public enum Phase {
+        BOOT, CONFIGURATION, FLYWAY, JPA, SECURITY, SPRINGDOC, MAPSTRUCT, WEB_SERVER, OTHER_BEANS, CONTEXT;
+
+        public String label() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    public record BeanTiming(String beanName, Phase phase, Duration selfTime) {}
+
+    public static StartupPhaseReport of(StartupTimeline timeline, int slowestBeanCount) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+        Map<Long, Duration> childTime = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childTime.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+
+        Map<Phase, Duration> phases = new EnumMap<>(Phase.class);
+        List<BeanTiming> beans = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            Duration selfTime = event.getDuration().minus(childTime.getOrDefault(step.getId(), Duration.ZERO));
+            if (selfTime.isNegative()) {
+                selfTime = Duration.ZERO;
+            }
+            String beanName = tag(step, BEAN_NAME_TAG);
+            Phase phase = beanName != null ? classifyBean(beanName, tag(step, BEAN_TYPE_TAG)) : classify(step.getName());
+            phases.merge(phase, selfTime, Duration::plus);
+            if (beanName != null) {
+                beans.add(new BeanTiming(beanName, phase, selfTime));
+            }
+        }
+
+        beans.sort(Comparator.comparing(BeanTiming::selfTime).reversed());
+        return new StartupPhaseReport(phases, List.copyOf(beans.subList(0, Math.min(slowestBeanCount, beans.size()))));
+    }
+
+    public Duration total() {
+        return phases.values().stream().reduce(Duration.ZERO, Duration::plus);
+    }
+
+    public Duration phase(Phase phase) {
+        return phases.getOrDefault(phase, Duration.ZERO);
+    }
+
+    /**
+     * Phases from the slowest, e.g. {@code jpa 1840 ms, flyway 920 ms, ...}, then the slowest beans.
+     */
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        phases.entrySet().stream()
+                .sorted(Map.Entry.<Phase, Duration>comparingByValue().reversed())
+                .forEach(entry -> report.append(report.isEmpty() ? "" : ", ")
+                        .append(entry.getKey().label()).append(' ').append(entry.getValue().toMillis()).append(" ms"));
+        report.append("; slowest beans: ");
+        for (int i = 0; i < slowestBeans.size(); i++) {
+            BeanTiming bean = slowestBeans.get(i);
+            report.append(i == 0 ? "" : ", ").append(bean.beanName()).append(' ').append(bean.selfTime().toMillis()).append(" ms");
+        }
+        return report.toString();
+    }
+
+    static Phase classify(String stepName) {
+        if (stepName.startsWith("spring.boot.application")) {
+            return Phase.BOOT;
+        }
+        if (stepName.startsWith("spring.data.repository")) {
+            return Phase.JPA;
+        }
+        if (stepName.startsWith("spring.context.config-classes") || stepName.startsWith("spring.context.component-classes")
+                || stepName.startsWith("spring.context.base-packages") || stepName.startsWith("spring.context.beanfactory")
+                || stepName.startsWith("spring.context.beans.post-process")) {
+            return Phase.CONFIGURATION;
+        }
+        return Phase.CONTEXT;
+    }
+
+    static Phase classifyBean(String beanName, String beanType) {
+        String bean = (beanName + ' ' + (beanType != null ? beanType : "")).toLowerCase(Locale.ROOT);
+        if (bean.contains("flyway")) {
+            return Phase.FLYWAY;
+        }
+        if (bean.contains("entitymanager") || bean.contains("hibernate") || bean.contains("jpa") || bean.contains("repository")) {
+            return Phase.JPA;
+        }
+        if (bean.contains("springdoc") || bean.contains("openapi") || bean.contains("swagger")) {
+            return Phase.SPRINGDOC;
+        }
+        if (bean.contains("mapperimpl")) {
+            return Phase.MAPSTRUCT;
+        }
+        if (bean.contains("security") || bean.contains("jwt") || bean.contains("authentication") || bean.contains("passwordencoder")) {
+            return Phase.SECURITY;
+        }
+        if (bean.contains("webserver") || bean.contains("tomcat") || bean.contains("dispatcherservlet")) {
+            return Phase.WEB_SERVER;
+        }
+        return Phase.OTHER_BEANS;
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (key.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+}
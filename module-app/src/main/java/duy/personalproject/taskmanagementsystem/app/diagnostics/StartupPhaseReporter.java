@@ -0,0 +1,52 @@
+package duy.personalproject.taskmanagementsystem.app.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs the {@link StartupPhaseReport} once the application is ready and exports it as
+ * {@code application.startup.phase{phase}}. Only has data when the application was started with a
+ * {@link BufferingApplicationStartup}, as {@code TaskManagementSystemApplication.main} does; the same steps can
+ * be read from {@code /actuator/startup}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "STARTUP_REPORT")
+public class StartupPhaseReporter {
+    /**
+     * Steps kept in memory; a startup records a few thousand.
+     */
+    public static final int TIMELINE_CAPACITY = 10_000;
+    private static final int SLOWEST_BEANS = 5;
+
+    private final MeterRegistry meterRegistry;
+
+    public static BufferingApplicationStartup applicationStartup() {
+        return new BufferingApplicationStartup(TIMELINE_CAPACITY);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup applicationStartup)) {
+            return;
+        }
+        StartupPhaseReport report = StartupPhaseReport.of(applicationStartup.getBufferedTimeline(), SLOWEST_BEANS);
+        report.phases().forEach((phase, duration) -> TimeGauge.builder("application.startup.phase", duration, TimeUnit.MILLISECONDS, Duration::toMillis)
+                .description("Time spent in a startup phase")
+                .tag("phase", phase.label())
+                .register(meterRegistry));
+
+        log.info("Ready in {} ms, JVM up for {} ms: {}", event.getTimeTaken().toMillis(),
+                ManagementFactory.getRuntimeMXBean().getUptime(), report.format());
+    }
+}
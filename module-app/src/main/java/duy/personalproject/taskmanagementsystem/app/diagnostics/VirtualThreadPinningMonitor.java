@@ -0,0 +1,120 @@
+package duy.personalproject.taskmanagementsystem.app.diagnostics;
+
+import duy.personalproject.taskmanagementsystem.app.config.properties.VirtualThreadConfigProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reports carrier-thread pinning of virtual threads from the JFR {@code jdk.VirtualThreadPinned} event, which the
+ * JVM emits when a virtual thread blocks while it cannot unmount: inside a {@code synchronized} block or a native frame.
+ *
+ * <p>Every pinned period above the threshold is recorded in the {@value #TIMER_NAME} timer, tagged by the layer that
+ * held the carrier (see {@link PinningSource}). Each distinct pinning site is logged once with its top frames.
+ */
+@Slf4j(topic = "VIRTUAL_THREAD_PINNING")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    static final String TIMER_NAME = "virtual.threads.pinned";
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final VirtualThreadConfigProperties.PinningDiagnostics properties;
+    private final Map<PinningSource, Timer> timers = new EnumMap<>(PinningSource.class);
+    private final Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadConfigProperties.PinningDiagnostics properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (PinningSource source : PinningSource.values()) {
+            timers.put(source, Timer.builder(TIMER_NAME)
+                    .description("Time virtual threads spent blocked while pinned to their carrier thread")
+                    .tag("source", source.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Layer responsible for a pinning, decided by the first library frame on the stack.
+     */
+    public enum PinningSource {
+        JDBC, HIBERNATE, APPLICATION
+    }
+
+    /**
+     * Classifies a pinned stack, given the declaring classes of its frames from the top.
+     */
+    public static PinningSource classify(List<String> frameClasses) {
+        for (String className : frameClasses) {
+            if (className.startsWith("org.postgresql.") || className.startsWith("com.zaxxer.hikari.") || className.startsWith("java.sql.")) {
+                return PinningSource.JDBC;
+            }
+            if (className.startsWith("org.hibernate.")) {
+                return PinningSource.HIBERNATE;
+            }
+        }
+        return PinningSource.APPLICATION;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(properties.getThresholdMs())).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.setReuse(true);
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("Reporting virtual thread pinning longer than {} ms", properties.getThresholdMs());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        recordingStream = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        List<String> frameClasses = frames.stream()
+                .map(frame -> frame.getMethod().getType().getName())
+                .toList();
+
+        PinningSource source = classify(frameClasses);
+        timers.get(source).record(event.getDuration());
+
+        String site = frames.stream()
+                .filter(frame -> !frame.getMethod().getType().getName().startsWith("java."))
+                .findFirst()
+                .map(VirtualThreadPinningMonitor::describe)
+                .orElse("unknown");
+        if (loggedSites.size() < properties.getMaxLoggedSites() && loggedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms by {} at {}:\n\t{}", event.getDuration().toMillis(), source, site,
+                    frames.stream().limit(properties.getLogFrames()).map(VirtualThreadPinningMonitor::describe).collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
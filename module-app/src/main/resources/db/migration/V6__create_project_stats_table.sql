@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS project_stats(
+    project_id UUID NOT NULL,
+    slot SMALLINT NOT NULL,
+    member_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (project_id, slot),
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
+
+-- Backfill --
+INSERT INTO project_stats(project_id, slot, member_count)
+SELECT pm.project_id, 0, COUNT(*)
+FROM project_members pm
+WHERE pm.deleted_at IS NULL
+GROUP BY pm.project_id;
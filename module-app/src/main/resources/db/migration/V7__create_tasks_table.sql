@@ -0,0 +1,35 @@
+-- Tasks are hash-partitioned by project so that every per-project query prunes to a single partition.
+-- The partition key must be part of the primary key, hence (project_id, id).
+CREATE TABLE IF NOT EXISTS tasks(
+    id UUID NOT NULL default uuid_generate_v4(),
+    project_id UUID NOT NULL,
+    title TEXT NOT NULL,
+    description TEXT,
+    status TEXT NOT NULL,
+    position BIGINT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    deleted_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (project_id, id),
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+) PARTITION BY HASH (project_id);
+
+-- Partitions --
+DO
+$$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS tasks_p%s PARTITION OF tasks FOR VALUES WITH (MODULUS 16, REMAINDER %s)', i, i);
+    END LOOP;
+END
+$$;
+
+-- Index --
+-- Keyset pagination key: (project_id, status, position, id)
+CREATE INDEX idx_tasks_by_project_status_position ON tasks(project_id, status, position, id) WHERE deleted_at IS NULL;
+
+-- Trigger --
+CREATE TRIGGER trigger_tasks_updated_at
+    BEFORE UPDATE ON tasks
+    FOR EACH ROW
+    EXECUTE PROCEDURE update_updated_at();
@@ -0,0 +1,12 @@
+-- Append-only activity log. Rows are written in multi-row batches by a background writer and never updated,
+-- so there is no updated_at trigger and no foreign key (history outlives hard-deleted projects).
+CREATE TABLE IF NOT EXISTS project_activities(
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    project_id UUID NOT NULL,
+    actor_id UUID NOT NULL,
+    action TEXT NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Index --
+CREATE INDEX idx_project_activities_by_project_id ON project_activities(project_id, id DESC);
@@ -0,0 +1,23 @@
+-- Transaction id of the last insert/update/soft-delete of each project. Used as the delta-sync watermark:
+-- unlike updated_at (transaction start time) it can be bounded by the oldest in-flight transaction, so a
+-- slow transaction that commits late can never slip behind a watermark that was already handed out.
+ALTER TABLE projects ADD COLUMN change_xid xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+-- Index --
+CREATE INDEX idx_projects_by_change_xid ON projects(change_xid, id);
+
+-- Trigger --
+CREATE OR REPLACE FUNCTION update_change_xid() RETURNS trigger
+  LANGUAGE plpgsql
+AS
+$$
+BEGIN
+  NEW.change_xid = pg_current_xact_id();
+  RETURN NEW;
+END;
+$$;
+
+CREATE TRIGGER trigger_projects_change_xid
+    BEFORE UPDATE ON projects
+    FOR EACH ROW
+    EXECUTE PROCEDURE update_change_xid();
@@ -0,0 +1,40 @@
+package duy.personalproject.taskmanagementsystem.app.datasource;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails a Spring Boot test when an API request it makes executes more statements than {@link #maxStatements()},
+ * or the same SQL more than {@link #maxRepeats()} times. Every request the test makes through MockMvc is checked,
+ * and a test that makes none fails as well. Requests over HTTP are checked too, but one whose response reached the
+ * client just as the test ended may be missed.
+ *
+ * <pre>{@code
+ * @Test
+ * @SqlStatementBudget(maxStatements = 3)
+ * void getProject_ById_WithinBudget() { ... }
+ * }</pre>
+ *
+ * On a test class, it applies to every test method without one of its own.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@ExtendWith(SqlStatementBudgetExtension.class)
+public @interface SqlStatementBudget {
+
+    /**
+     * Statements a single request may execute.
+     */
+    int maxStatements();
+
+    /**
+     * Executions of the same SQL a single request may make; more are most likely an N+1.
+     */
+    int maxRepeats() default 1;
+}
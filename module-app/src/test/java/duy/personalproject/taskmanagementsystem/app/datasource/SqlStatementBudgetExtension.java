@@ -0,0 +1,68 @@
+package duy.personalproject.taskmanagementsystem.app.datasource;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Listens to {@link SqlStatementMonitor} while a {@link SqlStatementBudget} test runs and checks every request
+ * it saw once the test has finished.
+ */
+class SqlStatementBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SqlStatementBudgetExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        SqlStatementMonitor monitor = SpringExtension.getApplicationContext(context).getBean(SqlStatementMonitor.class);
+        Recorder recorder = new Recorder(monitor);
+        monitor.addListener(recorder);
+        context.getStore(NAMESPACE).put(Recorder.class, recorder);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Recorder recorder = context.getStore(NAMESPACE).remove(Recorder.class, Recorder.class);
+        recorder.monitor.removeListener(recorder);
+        SqlStatementBudget budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), SqlStatementBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), SqlStatementBudget.class))
+                .orElseThrow();
+
+        List<Request> requests = List.copyOf(recorder.requests);
+        assertThat(requests).as("API requests made by the test").isNotEmpty();
+        for (Request request : requests) {
+            assertThat(request.statements())
+                    .as("statements executed by %s %s", request.method(), request.uri())
+                    .isLessThanOrEqualTo(budget.maxStatements());
+            if (request.mostRepeated() != null) {
+                assertThat(request.mostRepeated().executions())
+                        .as("executions by %s %s of %s", request.method(), request.uri(), request.mostRepeated().sql())
+                        .isLessThanOrEqualTo(budget.maxRepeats());
+            }
+        }
+    }
+
+    private record Request(String method, String uri, int statements, SqlStatementStats.Repeat mostRepeated) {
+    }
+
+    private static final class Recorder implements SqlStatementMonitor.Listener {
+        private final SqlStatementMonitor monitor;
+        private final List<Request> requests = Collections.synchronizedList(new ArrayList<>());
+
+        private Recorder(SqlStatementMonitor monitor) {
+            this.monitor = monitor;
+        }
+
+        @Override
+        public void requestCompleted(String method, String uri, SqlStatementStats stats) {
+            requests.add(new Request(method, uri, stats.statements(), stats.mostRepeated().orElse(null)));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package duy.personalproject.taskmanagementsystem.integration.cache;
+
+import duy.personalproject.taskmanagementsystem.app.TaskManagementSystemApplication;
+import duy.personalproject.taskmanagementsystem.app.config.TestContainersConfiguration;
+import duy.personalproject.taskmanagementsystem.auth.repository.UserRepository;
+import duy.personalproject.taskmanagementsystem.project.model.entity.ProjectEntity;
+import duy.personalproject.taskmanagementsystem.project.repository.ProjectRepository;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectStatsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests of the second-level cache against Postgres: lookups are served from the cache, and the writes that bypass
+ * the entities, the bulk soft delete and the native member counter, never leave a stale entry behind.
+ */
+@SpringBootTest(classes = TaskManagementSystemApplication.class)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestContainersConfiguration.class)
+@DisplayName("Second-Level Cache Tests")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private UUID userId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+        userId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users(id, username, email, password, full_name, status) VALUES (?, ?, ?, 'x', 'Cached Owner', 'ACTIVE')",
+                userId, "cached_" + userId, userId + "@example.com");
+        jdbcTemplate.update("INSERT INTO projects(id, name, owner_id) VALUES (?, ?, ?)", projectId, "cached-" + projectId, userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM project_stats WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    private ProjectEntity loadProject() {
+        return transactionTemplate.execute(status -> projectRepository.findById(projectId).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated username lookup from the natural-id and entity caches")
+    void findByUsername_Repeated_ServedFromCache() {
+        String username = "cached_" + userId;
+        transactionTemplate.executeWithoutResult(status -> assertThat(userRepository.findByUsername(username)).isPresent());
+        long naturalIdHits = statistics.getNaturalIdCacheHitCount();
+        long entityHits = statistics.getSecondLevelCacheHitCount();
+
+        transactionTemplate.executeWithoutResult(status -> assertThat(userRepository.findByUsername(username)).isPresent());
+
+        assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThan(naturalIdHits);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(entityHits);
+    }
+
+    @Test
+    @DisplayName("Should not return a cached project after its bulk soft delete")
+    void softDeleteById_CachedProject_Evicted() {
+        assertThat(loadProject().getDeletedAt()).isNull();
+
+        transactionTemplate.executeWithoutResult(status -> projectRepository.softDeleteById(projectId));
+
+        assertThat(loadProject().getDeletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should not return a cached member count after the counter changes")
+    void incrementMemberCount_CachedProject_Evicted() {
+        assertThat(loadProject().getMemberCount()).isZero();
+
+        transactionTemplate.executeWithoutResult(status -> projectStatsService.incrementMemberCount(projectId, 3));
+
+        assertThat(loadProject().getMemberCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should answer a repeated exists check from the query cache")
+    void existsByUsername_Repeated_ServedFromQueryCache() {
+        String username = "cached_" + userId;
+        assertThat(userRepository.existsByUsername(username)).isTrue();
+        long queryHits = statistics.getQueryCacheHitCount();
+
+        assertThat(userRepository.existsByUsername(username)).isTrue();
+
+        assertThat(statistics.getQueryCacheHitCount()).isGreaterThan(queryHits);
+    }
+}
@@ -0,0 +1,90 @@
+package duy.personalproject.taskmanagementsystem.integration.datagen;
+
+import duy.personalproject.taskmanagementsystem.app.TaskManagementSystemApplication;
+import duy.personalproject.taskmanagementsystem.app.config.TestContainersConfiguration;
+import duy.personalproject.taskmanagementsystem.datagen.DataGeneratorConfig;
+import duy.personalproject.taskmanagementsystem.datagen.GenerationReport;
+import duy.personalproject.taskmanagementsystem.datagen.SyntheticDataGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads a generated data set into PostgreSQL through COPY.
+ * The default volume is small enough for every build; pass {@code -Ddatagen.rows=10000000} to load about
+ * ten million rows and check the load finishes within {@value #MAX_MINUTES_FOR_TEN_MILLION} minutes.
+ */
+@SpringBootTest(classes = TaskManagementSystemApplication.class)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestContainersConfiguration.class)
+@DisplayName("Synthetic Data Load Tests")
+class SyntheticDataLoadTest {
+    private static final long MAX_MINUTES_FOR_TEN_MILLION = 5;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should load every generated row with consistent members and stats")
+    void generate_PostgresCopy_LoadsConsistentDataSet() throws Exception {
+        long rows = Long.getLong("datagen.rows", 100_000);
+        String prefix = "load_" + UUID.randomUUID().toString().substring(0, 8);
+        DataGeneratorConfig config = DataGeneratorConfig.builder()
+                .seed(42)
+                .prefix(prefix)
+                .users((int) (rows / 10))
+                .projects((int) (rows / 20))
+                .members(rows / 2)
+                .refreshTokens(rows * 3 / 10)
+                .projectSkew(1.1)
+                .tokenSkew(0.8)
+                .passwordHash("$2a$10$7EqJtq98hPqEX7fNZaFWoO5z1b3o8Q3Ik3uC9b6n0Qm3q8p1p9C4e")
+                .build();
+
+        GenerationReport report;
+        try (Connection connection = dataSource.getConnection()) {
+            report = new SyntheticDataGenerator(config).generate(connection);
+        }
+        System.out.println(report);
+
+        assertThat(count("SELECT COUNT(*) FROM users WHERE username LIKE ? || '%'", prefix)).isEqualTo(report.users());
+        assertThat(count("SELECT COUNT(*) FROM projects WHERE name LIKE ? || ' %'", prefix)).isEqualTo(report.projects());
+        assertThat(count("""
+                SELECT COUNT(*) FROM project_members pm JOIN projects p ON p.id = pm.project_id WHERE p.name LIKE ? || ' %'
+                """, prefix)).isEqualTo(report.members());
+        assertThat(count("""
+                SELECT COUNT(*) FROM refresh_tokens t JOIN users u ON u.id = t.user_id WHERE u.username LIKE ? || '%'
+                """, prefix)).isEqualTo(report.refreshTokens());
+        assertThat(count("""
+                SELECT COUNT(*) FROM projects p
+                JOIN project_stats s ON s.project_id = p.id
+                WHERE p.name LIKE ? || ' %'
+                AND s.member_count <> (SELECT COUNT(*) FROM project_members pm WHERE pm.project_id = p.id)
+                """, prefix)).isZero();
+
+        if (rows >= 10_000_000) {
+            assertThat(report.elapsed()).isLessThan(Duration.ofMinutes(MAX_MINUTES_FOR_TEN_MILLION));
+        }
+    }
+
+    private long count(String sql, String prefix) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, prefix);
+        return count == null ? 0 : count;
+    }
+}
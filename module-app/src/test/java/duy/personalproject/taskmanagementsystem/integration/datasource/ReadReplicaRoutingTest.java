@@ -0,0 +1,166 @@
+package duy.personalproject.taskmanagementsystem.integration.datasource;
+
+import duy.personalproject.taskmanagementsystem.app.TaskManagementSystemApplication;
+import duy.personalproject.taskmanagementsystem.app.datasource.ReadWriteRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing tests against a primary and a streaming replica, set up the same way as the {@code db-replica}
+ * service of docker-compose.yml. Which server answered is told apart by {@code pg_is_in_recovery()}.
+ */
+@SpringBootTest(classes = TaskManagementSystemApplication.class)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Read Replica Routing Tests")
+class ReadReplicaRoutingTest {
+    private static final DockerImageName POSTGRES = DockerImageName.parse("postgres:16.11-alpine3.23");
+    private static final Network NETWORK = Network.newNetwork();
+
+    @Container
+    static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>(POSTGRES)
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withDatabaseName("testdb")
+            .withUsername("testuser")
+            .withPassword("testpass")
+            .withCopyFileToContainer(MountableFile.forHostPath(Path.of("..", "docker", "postgres", "init-replication.sh"), 0755),
+                    "/docker-entrypoint-initdb.d/init-replication.sh");
+
+    @Container
+    static final GenericContainer<?> REPLICA = new GenericContainer<>(POSTGRES)
+            .dependsOn(PRIMARY)
+            .withNetwork(NETWORK)
+            .withExposedPorts(5432)
+            .withEnv("PGDATA", "/var/lib/postgresql/data")
+            .withEnv("PGPASSWORD", "replicator_password")
+            .withCreateContainerCmdModifier(cmd -> cmd.withUser("postgres"))
+            .withCommand("sh", "-c", "pg_basebackup -h primary -U replicator -D \"$PGDATA\" -R -X stream && chmod 0700 \"$PGDATA\" && exec postgres")
+            .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1).withStartupTimeout(Duration.ofMinutes(2)));
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PRIMARY::getJdbcUrl);
+        registry.add("spring.datasource.username", PRIMARY::getUsername);
+        registry.add("spring.datasource.password", PRIMARY::getPassword);
+        registry.add("task.management.system.read-replicas.enabled", () -> "true");
+        registry.add("task.management.system.read-replicas.replicas[0].url",
+                () -> "jdbc:postgresql://" + REPLICA.getHost() + ":" + REPLICA.getMappedPort(5432) + "/testdb");
+        registry.add("task.management.system.read-replicas.max-lag-ms", () -> "500");
+        registry.add("task.management.system.read-replicas.lag-check-interval-ms", () -> "100");
+        registry.add("task.management.system.read-replicas.sticky-window-ms", () -> "1000");
+    }
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Direct connection to the replica, bypassing the routing.
+     */
+    private static JdbcTemplate replicaJdbcTemplate() {
+        return new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:postgresql://" + REPLICA.getHost() + ":" + REPLICA.getMappedPort(5432) + "/testdb", "testuser", "testpass"));
+    }
+
+    private boolean readOnlyRunsOnReplica() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Boolean inRecovery = readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class));
+        return Boolean.TRUE.equals(inRecovery);
+    }
+
+    private void write() {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO users(id, username, email, password, full_name, status) VALUES (?, ?, ?, 'x', 'Replica Test', 'ACTIVE')",
+                UUID.randomUUID(), "replica_" + UUID.randomUUID(), UUID.randomUUID() + "@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should run read-only transactions on the replica and writes on the primary")
+    void readOnlyTransaction_RoutesToReplica() {
+        assertThat(readOnlyRunsOnReplica()).isTrue();
+        Boolean inRecovery = transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class));
+        assertThat(inRecovery).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should read from the primary right after the client's own write")
+    void readAfterOwnWrite_StickyToPrimary() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("alice", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        write();
+        assertThat(readOnlyRunsOnReplica()).isFalse();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("bob", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        assertThat(readOnlyRunsOnReplica()).isTrue();
+
+        Thread.sleep(1_200);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("alice", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        assertThat(readOnlyRunsOnReplica()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags behind")
+    void replicaLagging_FallsBackToPrimary() throws Exception {
+        JdbcTemplate replica = replicaJdbcTemplate();
+        replica.execute("SELECT pg_wal_replay_pause()");
+        try {
+            write();
+            Thread.sleep(1_000);
+            write();
+            Thread.sleep(300);
+
+            assertThat(routingDataSource.getReplicas().get(0).getLagMs()).isGreaterThan(500);
+            assertThat(readOnlyRunsOnReplica()).isFalse();
+        } finally {
+            replica.execute("SELECT pg_wal_replay_resume()");
+        }
+
+        Thread.sleep(500);
+        assertThat(readOnlyRunsOnReplica()).isTrue();
+    }
+}
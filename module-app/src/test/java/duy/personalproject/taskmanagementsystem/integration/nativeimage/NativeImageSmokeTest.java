@@ -0,0 +1,276 @@
+package duy.personalproject.taskmanagementsystem.integration.nativeimage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Smoke tests for a build of the application running as its own process: the native image of the {@code native}
+ * profile or, for comparison, the executable jar. Register, login, create, read and search cover the entities,
+ * mappers, JWT and JSON paths that depend on reflection; the API docs and Swagger UI cover springdoc and the
+ * webjar resources, and Flyway runs every migration against the fresh database on startup.
+ *
+ * <p>Prints the time from launching the process until the health check passed and the resident set size after the
+ * requests, and writes them to {@code target/smoke-results-native.json} or {@code -jvm.json}, so the two builds can
+ * be compared on the same machine:
+ * <pre>
+ * mvn -pl module-app -am test -Dtest=NativeImageSmokeTest -Dsurefire.failIfNoSpecifiedTests=false \
+ *     -Dsmoke.executable=target/task-management-system
+ * mvn -pl module-app -am test -Dtest=NativeImageSmokeTest -Dsurefire.failIfNoSpecifiedTests=false \
+ *     -Dsmoke.executable=target/module-app-0.0.1-SNAPSHOT.jar
+ * </pre>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "smoke.executable", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Native Image Smoke Tests")
+class NativeImageSmokeTest {
+    private static final String PASSWORD = "Smoke@1234";
+    private static final String JWT_SECRET_KEY = "dGVzdHNlY3JldGtleWZvcnRlc3RpbmdwdXJwb3Nlc29ubHlkb25vdHVzZWlucHJvZHVjdGlvbm1pbmltdW0yNTZiaXRz";
+
+    private final Path executable = Path.of(System.getProperty("smoke.executable", ""));
+    private final Duration startupTimeout = Duration.ofSeconds(Long.getLong("smoke.startup-timeout-seconds", 120));
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16.11-alpine3.23"))
+            .withDatabaseName("testdb")
+            .withUsername("testuser")
+            .withPassword("testpass");
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7.4-alpine"))
+            .withExposedPorts(6379);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+    private Process process;
+    private int port;
+    private int managementPort;
+    private Duration timeToReady;
+    private String accessToken;
+
+    @BeforeAll
+    void start() throws Exception {
+        assertThat(executable).as("smoke.executable").isRegularFile();
+        try (ServerSocket socket = new ServerSocket(0); ServerSocket managementSocket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+            managementPort = managementSocket.getLocalPort();
+        }
+
+        Path log = Path.of("target", "smoke-" + executable.getFileName() + ".log");
+        Files.createDirectories(log.getParent());
+        long started = System.nanoTime();
+        process = new ProcessBuilder(command())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        awaitHealthy(log);
+        timeToReady = Duration.ofNanos(System.nanoTime() - started);
+
+        String username = "smoke_" + runId;
+        post("/api/v1/auth/register", null, Map.of("username", username, "password", PASSWORD,
+                "email", username + "@example.com", "fullName", "Smoke Test"));
+        accessToken = post("/api/v1/auth/login", null, Map.of("username", username, "password", PASSWORD))
+                .get("accessToken").asText();
+    }
+
+    @AfterAll
+    void stop() throws Exception {
+        if (process == null) {
+            return;
+        }
+        String build = executable.toString().endsWith(".jar") ? "jvm" : "native";
+        long readyMillis = timeToReady == null ? -1 : timeToReady.toMillis();
+        String rss = residentSetSize(process.pid());
+        System.out.printf("%n%s: ready in %d ms, RSS %s after the smoke tests%n", executable.getFileName(), readyMillis, rss);
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("build", build);
+        results.put("executable", executable.getFileName().toString());
+        results.put("readyMillis", readyMillis);
+        results.put("rssAfterSmokeTests", rss);
+        results.put("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        results.put("processors", Runtime.getRuntime().availableProcessors());
+        Files.write(Path.of("target", "smoke-results-" + build + ".json"),
+                objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(results));
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    @Test
+    @DisplayName("Should create a project and read it back")
+    void createProject_ThenFindById_ReturnsProject() throws Exception {
+        String name = "smoke " + runId + " read";
+        JsonNode created = post("/api/v1/projects", accessToken, Map.of("name", name, "description", "Created by the smoke test"));
+
+        JsonNode found = get("/api/v1/projects/" + created.get("id").asText());
+
+        assertThat(found.get("name").asText()).isEqualTo(name);
+        assertThat(found.get("createdAt").asText()).endsWith("Z");
+    }
+
+    @Test
+    @DisplayName("Should find a created project by search")
+    void searchProjects_ByName_ReturnsPage() throws Exception {
+        post("/api/v1/projects", accessToken, Map.of("name", "smoke " + runId + " search", "description", "Created by the smoke test"));
+
+        JsonNode page = get("/api/v1/projects?size=10&search=" + runId);
+
+        assertThat(page.get("items")).isNotEmpty();
+        assertThat(page.get("metadata").get("totalItems").asLong()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should reject a request without a token")
+    void findProject_WithoutToken_Unauthorized() throws Exception {
+        HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(uri("/api/v1/projects")).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("Should serve the API docs and the Swagger UI")
+    void apiDocs_Served() throws Exception {
+        HttpResponse<byte[]> apiDocs = httpClient.send(HttpRequest.newBuilder(uri("/api-docs")).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> swaggerUi = httpClient.send(HttpRequest.newBuilder(uri("/swagger-ui/index.html")).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(apiDocs.statusCode()).isEqualTo(200);
+        assertThat(objectMapper.readTree(apiDocs.body()).get("paths").has("/api/v1/projects")).isTrue();
+        assertThat(swaggerUi.statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should serve metrics on the management port only")
+    void prometheus_ServedOnManagementPortOnly() throws Exception {
+        HttpResponse<String> management = httpClient.send(HttpRequest.newBuilder(managementUri("/actuator/prometheus")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        HttpResponse<byte[]> application = httpClient.send(HttpRequest.newBuilder(uri("/actuator/prometheus")).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(management.statusCode()).isEqualTo(200);
+        assertThat(management.body()).contains("jvm_memory_used_bytes");
+        assertThat(application.statusCode()).isEqualTo(401);
+    }
+
+    private List<String> command() {
+        List<String> command = new ArrayList<>();
+        if (executable.toString().endsWith(".jar")) {
+            command.addAll(List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-jar"));
+        }
+        command.add(executable.toString());
+        command.addAll(List.of(
+                "--server.port=" + port,
+                "--management.server.port=" + managementPort,
+                "--spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                "--spring.datasource.username=" + POSTGRES.getUsername(),
+                "--spring.datasource.password=" + POSTGRES.getPassword(),
+                "--spring.data.redis.host=" + REDIS.getHost(),
+                "--spring.data.redis.port=" + REDIS.getMappedPort(6379),
+                "--jwt.secret-key=" + JWT_SECRET_KEY));
+        return command;
+    }
+
+    private void awaitHealthy(Path log) throws Exception {
+        long deadline = System.nanoTime() + startupTimeout.toNanos();
+        HttpRequest health = HttpRequest.newBuilder(managementUri("/actuator/health")).timeout(Duration.ofSeconds(2)).GET().build();
+        while (System.nanoTime() < deadline) {
+            assertThat(process.isAlive()).as("process exited, see " + log.toAbsolutePath()).isTrue();
+            try {
+                if (httpClient.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                // not listening yet
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Not healthy after " + startupTimeout.toSeconds() + " s, see " + log.toAbsolutePath());
+    }
+
+    private JsonNode get(String path) throws Exception {
+        return send(HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + accessToken).GET());
+    }
+
+    private JsonNode post(String path, String token, Map<String, String> payload) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return send(request);
+    }
+
+    /**
+     * Sends the request and returns the {@code data} node of the ApiResponse; non-2xx responses throw.
+     */
+    private JsonNode send(HttpRequest.Builder request) throws Exception {
+        HttpResponse<byte[]> response = httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + " for " + response.request().uri() + ": "
+                    + new String(response.body()));
+        }
+        return objectMapper.readTree(response.body()).get("data");
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private URI managementUri(String path) {
+        return URI.create("http://localhost:" + managementPort + path);
+    }
+
+    /**
+     * VmRSS of the process, from procfs; only available on Linux.
+     */
+    private static String residentSetSize(long pid) {
+        try {
+            return Files.readAllLines(Path.of("/proc", Long.toString(pid), "status")).stream()
+                    .filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> line.substring("VmRSS:".length()).trim())
+                    .findFirst()
+                    .orElse("unknown");
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+}
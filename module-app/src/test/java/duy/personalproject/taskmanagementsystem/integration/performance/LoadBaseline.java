@@ -0,0 +1,70 @@
+package duy.personalproject.taskmanagementsystem.integration.performance;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checked-in reference results of the load suite together with the settings they were recorded with.
+ * Results are only comparable when the run uses the same concurrency and measured duration.
+ *
+ * @param threading       request threads the results were recorded with
+ * @param concurrency     number of concurrent workers
+ * @param durationSeconds measured period of every scenario
+ * @param results         one result per scenario
+ */
+record LoadBaseline(Threading threading, int concurrency, int durationSeconds, List<LoadResult> results) {
+
+    boolean isComparableWith(int concurrency, int durationSeconds) {
+        return this.concurrency == concurrency && this.durationSeconds == durationSeconds;
+    }
+
+    /**
+     * Lists every way {@code current} is worse than the baseline by more than {@code tolerance}
+     * (e.g. 0.25 allows 25% higher latencies and 25% lower throughput). Scenarios without a baseline are not checked.
+     */
+    List<String> regressions(LoadResult current, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        LoadResult baseline = find(current.scenario());
+        if (baseline == null) {
+            return regressions;
+        }
+
+        if (current.p50Millis() > baseline.p50Millis() * (1 + tolerance)) {
+            regressions.add("%s p50 %.2fms exceeds baseline %.2fms".formatted(current.scenario(), current.p50Millis(), baseline.p50Millis()));
+        }
+        if (current.p99Millis() > baseline.p99Millis() * (1 + tolerance)) {
+            regressions.add("%s p99 %.2fms exceeds baseline %.2fms".formatted(current.scenario(), current.p99Millis(), baseline.p99Millis()));
+        }
+        if (current.throughputPerSecond() < baseline.throughputPerSecond() * (1 - tolerance)) {
+            regressions.add("%s throughput %.1f/s below baseline %.1f/s".formatted(current.scenario(), current.throughputPerSecond(), baseline.throughputPerSecond()));
+        }
+        return regressions;
+    }
+
+    /**
+     * One line with the relative change of every metric of {@code current}.
+     */
+    String comparison(LoadResult current) {
+        LoadResult baseline = find(current.scenario());
+        if (baseline == null) {
+            return "%-10s no baseline".formatted(current.scenario());
+        }
+        return "%-10s p50 %+.0f%%  p99 %+.0f%%  throughput %+.0f%%".formatted(current.scenario(),
+                change(baseline.p50Millis(), current.p50Millis()),
+                change(baseline.p99Millis(), current.p99Millis()),
+                change(baseline.throughputPerSecond(), current.throughputPerSecond()));
+    }
+
+    private LoadResult find(String scenario) {
+        return results.stream()
+                .filter(result -> result.scenario().equals(scenario))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static double change(double baseline, double current) {
+        return baseline == 0 ? 0 : (current - baseline) / baseline * 100;
+    }
+}
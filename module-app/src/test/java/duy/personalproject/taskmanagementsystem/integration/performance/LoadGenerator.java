@@ -0,0 +1,135 @@
+package duy.personalproject.taskmanagementsystem.integration.performance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-loop load generator.
+ * Every worker thread calls the operation back to back, first for the warm-up period without recording and
+ * then for the measured period, timing each call. Latencies are kept per worker and merged at the end,
+ * so recording does not contend between workers.
+ */
+final class LoadGenerator {
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+
+    LoadGenerator(int concurrency, Duration warmup, Duration duration) {
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    /**
+     * One call of a scenario, executed by the worker with the given index.
+     * Any exception counts as a failed request.
+     */
+    @FunctionalInterface
+    interface LoadOperation {
+        void execute(int worker) throws Exception;
+    }
+
+    LoadResult run(String scenario, LoadOperation operation) throws Exception {
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "load-" + scenario + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            CountDownLatch ready = new CountDownLatch(concurrency);
+            CountDownLatch start = new CountDownLatch(1);
+            long[] window = new long[2];
+
+            List<Future<WorkerSamples>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                int worker = i;
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return drive(worker, operation, window[0], window[1]);
+                }));
+            }
+
+            ready.await();
+            long now = System.nanoTime();
+            window[0] = now + warmup.toNanos();
+            window[1] = window[0] + duration.toNanos();
+            start.countDown();
+
+            List<WorkerSamples> samples = new ArrayList<>(concurrency);
+            for (Future<WorkerSamples> future : futures) {
+                samples.add(future.get());
+            }
+            return merge(scenario, samples);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private WorkerSamples drive(int worker, LoadOperation operation, long measureFrom, long measureUntil) {
+        WorkerSamples samples = new WorkerSamples();
+        long now = System.nanoTime();
+        while (now < measureUntil) {
+            boolean failed = false;
+            long begin = now;
+            try {
+                operation.execute(worker);
+            } catch (Exception ex) {
+                failed = true;
+                samples.lastError = ex;
+            }
+            now = System.nanoTime();
+            if (begin >= measureFrom) {
+                samples.record(now - begin, failed);
+            }
+        }
+        return samples;
+    }
+
+    private LoadResult merge(String scenario, List<WorkerSamples> samples) {
+        int total = samples.stream().mapToInt(s -> s.count).sum();
+        long[] latencies = new long[total];
+        long errors = 0;
+        Exception lastError = null;
+
+        int offset = 0;
+        for (WorkerSamples sample : samples) {
+            System.arraycopy(sample.latencies, 0, latencies, offset, sample.count);
+            offset += sample.count;
+            errors += sample.errors;
+            lastError = sample.lastError != null ? sample.lastError : lastError;
+        }
+        Arrays.sort(latencies);
+
+        if (lastError != null) {
+            System.out.printf("[%s] %d failed requests, last error: %s%n", scenario, errors, lastError);
+        }
+        return LoadResult.of(scenario, latencies, errors, duration);
+    }
+
+    private static final class WorkerSamples {
+        private long[] latencies = new long[4096];
+        private int count;
+        private long errors;
+        private Exception lastError;
+
+        void record(long latencyNanos, boolean failed) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (failed) {
+                errors++;
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package duy.personalproject.taskmanagementsystem.integration.performance;
+
+import java.time.Duration;
+
+/**
+ * Latency and throughput of one load scenario, as stored in the baseline file.
+ *
+ * @param scenario            scenario name
+ * @param requests            number of measured requests
+ * @param errors              number of measured requests that failed
+ * @param p50Millis           median latency
+ * @param p99Millis           99th percentile latency
+ * @param throughputPerSecond completed requests per second over the measured period
+ */
+record LoadResult(
+        String scenario,
+        long requests,
+        long errors,
+        double p50Millis,
+        double p99Millis,
+        double throughputPerSecond
+) {
+    /**
+     * Builds the result from the sorted latencies of every measured request.
+     */
+    static LoadResult of(String scenario, long[] sortedLatencyNanos, long errors, Duration measured) {
+        return new LoadResult(
+                scenario,
+                sortedLatencyNanos.length,
+                errors,
+                percentileMillis(sortedLatencyNanos, 0.50),
+                percentileMillis(sortedLatencyNanos, 0.99),
+                sortedLatencyNanos.length / (measured.toNanos() / 1_000_000_000.0));
+    }
+
+    private static double percentileMillis(long[] sortedLatencyNanos, double percentile) {
+        if (sortedLatencyNanos.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencyNanos.length) - 1;
+        return sortedLatencyNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return "%-10s requests=%d errors=%d p50=%.2fms p99=%.2fms throughput=%.1f/s"
+                .formatted(scenario, requests, errors, p50Millis, p99Millis, throughputPerSecond);
+    }
+}
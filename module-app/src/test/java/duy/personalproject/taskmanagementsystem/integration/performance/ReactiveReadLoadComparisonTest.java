@@ -0,0 +1,165 @@
+package duy.personalproject.taskmanagementsystem.integration.performance;
+
+import duy.personalproject.taskmanagementsystem.app.TaskManagementSystemApplication;
+import duy.personalproject.taskmanagementsystem.app.config.TestContainersConfiguration;
+import duy.personalproject.taskmanagementsystem.auth.repository.UserRepository;
+import duy.personalproject.taskmanagementsystem.auth.service.JwtService;
+import duy.personalproject.taskmanagementsystem.datagen.DataGeneratorConfig;
+import duy.personalproject.taskmanagementsystem.datagen.SyntheticDataGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Servlet against reactive project reads at high concurrency on few request threads. Tomcat gets
+ * {@code perf.comparison.server-threads} threads, 8 by default, and {@code perf.comparison.concurrency} workers,
+ * 200 by default, call search and findById on both APIs. The servlet reads hold a thread for the whole query, so
+ * they queue for the threads; the reactive ones only need a thread to start and to write the response.
+ *
+ * <p>Run with: {@code mvn -Pperf -pl module-app -am test -Dtest=ReactiveReadLoadComparisonTest}. Fails when a request
+ * fails, or when the reactive throughput is below the servlet throughput by more than {@code perf.tolerance}.
+ */
+@SpringBootTest(classes = TaskManagementSystemApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=${perf.comparison.server-threads:8}",
+                "server.tomcat.threads.min-spare=${perf.comparison.server-threads:8}",
+                "task.management.system.reactive-read.enabled=true",
+                // both APIs get the same number of connections
+                "spring.datasource.hikari.maximum-pool-size=20",
+                "task.management.system.reactive-read.max-size=20",
+                "task.management.system.reactive-read.initial-size=20"
+        })
+@ActiveProfiles({"test", "perf"})
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestContainersConfiguration.class)
+@EnabledIfSystemProperty(named = "perf.load-test", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Reactive Read Load Comparison Tests")
+class ReactiveReadLoadComparisonTest {
+    private static final String[] SEARCH_TERMS = {"alpha", "beta", "gamma", "delta", "omega"};
+    private static final long SEED = 49;
+
+    private final int concurrency = Integer.getInteger("perf.comparison.concurrency", 200);
+    private final int warmupSeconds = Integer.getInteger("perf.warmup-seconds", 5);
+    private final int durationSeconds = Integer.getInteger("perf.duration-seconds", 20);
+    private final int projects = Integer.getInteger("perf.projects", 50_000);
+    private final double tolerance = Double.parseDouble(System.getProperty("perf.tolerance", "0.25"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private String accessToken;
+    private UUID[] projectIds;
+
+    @BeforeAll
+    void seed() throws Exception {
+        String prefix = "cmp_" + UUID.randomUUID().toString().substring(0, 8);
+        DataGeneratorConfig config = DataGeneratorConfig.builder()
+                .seed(SEED)
+                .prefix(prefix)
+                .users(500)
+                .projects(projects)
+                .members(projects * 3L)
+                .refreshTokens(0)
+                .projectSkew(1.0)
+                .tokenSkew(0.8)
+                .passwordHash("x")
+                .build();
+        try (Connection connection = dataSource.getConnection()) {
+            System.out.println(new SyntheticDataGenerator(config).generate(connection));
+        }
+
+        String username = jdbcTemplate.queryForObject(
+                "SELECT username FROM users WHERE username LIKE ? || '%' AND status = 'ACTIVE' ORDER BY username LIMIT 1", String.class, prefix);
+        // JWTs are stateless, so every worker can share one
+        accessToken = jwtService.generateAccessToken(userRepository.findByUsername(username).orElseThrow()).token();
+        projectIds = jdbcTemplate.queryForList("SELECT id FROM projects WHERE name LIKE ? || ' project %'", UUID.class, prefix)
+                .toArray(UUID[]::new);
+    }
+
+    @Test
+    @DisplayName("Should serve reads without blocking at least as fast as the servlet reads on few threads")
+    void reads_HighConcurrencyFewThreads_ReactiveNotSlower() throws Exception {
+        LoadGenerator generator = new LoadGenerator(concurrency, Duration.ofSeconds(warmupSeconds), Duration.ofSeconds(durationSeconds));
+
+        LoadResult servletSearch = generator.run("search", worker -> search("/api/v1/projects"));
+        LoadResult reactiveSearch = generator.run("r-search", worker -> search("/api/v1/reactive/projects"));
+        LoadResult servletFindById = generator.run("findById", worker -> findById("/api/v1/projects/"));
+        LoadResult reactiveFindById = generator.run("r-findById", worker -> findById("/api/v1/reactive/projects/"));
+
+        System.out.printf("%d workers on %s request threads:%n", concurrency, System.getProperty("perf.comparison.server-threads", "8"));
+        for (LoadResult result : new LoadResult[]{servletSearch, reactiveSearch, servletFindById, reactiveFindById}) {
+            System.out.println(result);
+            assertThat(result.errors()).as(result.scenario() + " errors").isZero();
+        }
+        assertThat(reactiveSearch.throughputPerSecond()).as("reactive search throughput")
+                .isGreaterThanOrEqualTo(servletSearch.throughputPerSecond() * (1 - tolerance));
+        assertThat(reactiveFindById.throughputPerSecond()).as("reactive findById throughput")
+                .isGreaterThanOrEqualTo(servletFindById.throughputPerSecond() * (1 - tolerance));
+    }
+
+    private void search(String path) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String term = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+        send(path + "?size=20&page=" + random.nextInt(5) + "&search=" + term);
+    }
+
+    private void findById(String path) throws Exception {
+        send(path + projectIds[ThreadLocalRandom.current().nextInt(projectIds.length)]);
+    }
+
+    private void send(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + accessToken)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            body.transferTo(OutputStream.nullOutputStream());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("HTTP " + response.statusCode() + " for " + path);
+            }
+        }
+    }
+}
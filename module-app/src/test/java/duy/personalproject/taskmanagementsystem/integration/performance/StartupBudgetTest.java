@@ -0,0 +1,72 @@
+package duy.personalproject.taskmanagementsystem.integration.performance;
+
+import duy.personalproject.taskmanagementsystem.app.TaskManagementSystemApplication;
+import duy.personalproject.taskmanagementsystem.app.diagnostics.StartupPhaseReport;
+import duy.personalproject.taskmanagementsystem.app.diagnostics.StartupPhaseReporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Startup-time budget. Starts the application the way {@code main} does, against a fresh database so that every
+ * Flyway migration runs, and fails when it takes longer than {@code perf.startup-budget-ms} to become ready.
+ * The phase report is printed either way.
+ *
+ * <p>Run with: {@code mvn -Pperf -pl module-app -am test -Dtest=StartupBudgetTest}. After a
+ * {@code -Pfast-startup} build, add {@code -Dspring.aot.enabled=true} to check the AOT-processed startup.
+ * The JVM running the test has already loaded part of the classes, so this is the application's share of a cold start.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "perf.load-test", matches = "true")
+@DisplayName("Startup Budget Tests")
+class StartupBudgetTest {
+    private final long budgetMs = Long.getLong("perf.startup-budget-ms", 20_000);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16.11-alpine3.23"))
+            .withDatabaseName("testdb")
+            .withUsername("testuser")
+            .withPassword("testpass");
+
+    @Test
+    @DisplayName("Should become ready within the startup budget")
+    void start_BecomesReadyWithinBudget() {
+        BufferingApplicationStartup applicationStartup = StartupPhaseReporter.applicationStartup();
+        AtomicReference<Duration> timeTaken = new AtomicReference<>();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagementSystemApplication.class)
+                .applicationStartup(applicationStartup)
+                .profiles("test")
+                .listeners((ApplicationListener<ApplicationReadyEvent>) event -> timeTaken.set(event.getTimeTaken()))
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                        "spring.datasource.username=" + POSTGRES.getUsername(),
+                        "spring.datasource.password=" + POSTGRES.getPassword())
+                .run()) {
+            StartupPhaseReport report = StartupPhaseReport.of(applicationStartup.getBufferedTimeline(), 10);
+            System.out.printf("%nStartup: ready in %d ms (budget %d ms)%n  %s%n", timeTaken.get().toMillis(), budgetMs, report.format());
+
+            assertThat(context.isActive()).isTrue();
+            assertThat(report.phase(StartupPhaseReport.Phase.FLYWAY)).isPositive();
+            assertThat(report.phase(StartupPhaseReport.Phase.JPA)).isPositive();
+            assertThat(timeTaken.get().toMillis())
+                    .as("startup time in ms, see the phase report above")
+                    .isLessThanOrEqualTo(budgetMs);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package duy.personalproject.taskmanagementsystem.integration.project;
+
+import duy.personalproject.taskmanagementsystem.app.TaskManagementSystemApplication;
+import duy.personalproject.taskmanagementsystem.app.config.TestContainersConfiguration;
+import duy.personalproject.taskmanagementsystem.core.model.enums.ProjectActivityType;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectChangeService;
+import duy.personalproject.taskmanagementsystem.project.stream.ProjectChangeBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end test of the project change stream through Postgres LISTEN/NOTIFY.
+ * Notifications must reach subscribers only for committed transactions.
+ */
+@SpringBootTest(classes = TaskManagementSystemApplication.class)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestContainersConfiguration.class)
+@DisplayName("Project Change Stream Tests")
+class ProjectChangeStreamTest {
+
+    @Autowired
+    private ProjectChangeService projectChangeService;
+
+    @Autowired
+    private ProjectChangeBroadcaster projectChangeBroadcaster;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private BlockingQueue<Object> received;
+
+    @BeforeEach
+    void setUp() {
+        received = new LinkedBlockingQueue<>();
+        projectChangeBroadcaster.register(new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                received.add(builder.build());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Should deliver a change once its transaction commits")
+    void publish_Committed_DeliveredToSubscribers() throws Exception {
+        UUID projectId = UUID.randomUUID();
+
+        transactionTemplate.executeWithoutResult(status ->
+                projectChangeService.publish(projectId, UUID.randomUUID(), ProjectActivityType.UPDATED));
+
+        Object event = received.poll(10, TimeUnit.SECONDS);
+        assertThat(event).isNotNull();
+        assertThat(event.toString()).contains(projectId.toString());
+    }
+
+    @Test
+    @DisplayName("Should not deliver changes of a rolled back transaction")
+    void publish_RolledBack_NotDelivered() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            projectChangeService.publish(UUID.randomUUID(), UUID.randomUUID(), ProjectActivityType.DELETED);
+            status.setRollbackOnly();
+        });
+
+        assertThat(received.poll(2, TimeUnit.SECONDS)).isNull();
+    }
+}
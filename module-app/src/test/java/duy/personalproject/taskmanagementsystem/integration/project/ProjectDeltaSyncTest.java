@@ -0,0 +1,134 @@
+package duy.personalproject.taskmanagementsystem.integration.project;
+
+import duy.personalproject.taskmanagementsystem.app.TaskManagementSystemApplication;
+import duy.personalproject.taskmanagementsystem.app.config.TestContainersConfiguration;
+import duy.personalproject.taskmanagementsystem.project.model.request.SyncProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectChangesResponse;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Delta sync tests against a real database.
+ * A transaction that commits after a later transaction must still be picked up by the next sync.
+ */
+@SpringBootTest(classes = TaskManagementSystemApplication.class)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestContainersConfiguration.class)
+@DisplayName("Project Delta Sync Tests")
+class ProjectDeltaSyncTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users(id, username, email, password, full_name, status) VALUES (?, ?, ?, 'x', 'Sync Owner', 'ACTIVE')",
+                userId, "sync_" + userId, userId + "@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    private UUID insertProject(JdbcTemplate template) {
+        UUID projectId = UUID.randomUUID();
+        template.update("INSERT INTO projects(id, name, owner_id) VALUES (?, ?, ?)", projectId, "sync-" + projectId, userId);
+        return projectId;
+    }
+
+    /**
+     * Follows the watermark until the delta is drained and collects every upserted and deleted id.
+     */
+    private String syncAll(String since, Set<UUID> upserts, Set<UUID> tombstones) {
+        ProjectChangesResponse response;
+        do {
+            response = projectService.findChanges(new SyncProjectRequest(since, 2));
+            response.upserts().stream().map(ProjectResponse::id).forEach(upserts::add);
+            tombstones.addAll(response.tombstones());
+            since = response.watermark();
+        } while (response.hasMore());
+        return since;
+    }
+
+    @Test
+    @DisplayName("Should return upserts and tombstones across several keyset pages")
+    void findChanges_LargeDelta_ReturnsEveryChangeOnce() {
+        String watermark = syncAll(null, new HashSet<>(), new HashSet<>());
+        Set<UUID> created = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(insertProject(jdbcTemplate));
+        }
+        UUID deleted = created.iterator().next();
+        jdbcTemplate.update("UPDATE projects SET deleted_at = NOW() WHERE id = ?", deleted);
+
+        Set<UUID> upserts = new HashSet<>();
+        Set<UUID> tombstones = new HashSet<>();
+        syncAll(watermark, upserts, tombstones);
+
+        assertThat(tombstones).containsExactly(deleted);
+        assertThat(upserts).containsExactlyInAnyOrderElementsOf(created.stream().filter(id -> !id.equals(deleted)).toList());
+    }
+
+    @Test
+    @DisplayName("Should not skip a transaction that commits after a newer one")
+    void findChanges_LateCommit_PickedUpByNextSync() throws Exception {
+        String watermark = syncAll(null, new HashSet<>(), new HashSet<>());
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        UUID[] slowProject = new UUID[1];
+
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            slowProject[0] = insertProject(jdbcTemplate);
+            inserted.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+        UUID fastProject = insertProject(jdbcTemplate);
+
+        Set<UUID> firstSync = new HashSet<>();
+        watermark = syncAll(watermark, firstSync, new HashSet<>());
+        assertThat(firstSync).doesNotContain(slowProject[0], fastProject);
+
+        release.countDown();
+        slow.get(10, TimeUnit.SECONDS);
+
+        Set<UUID> secondSync = new HashSet<>();
+        syncAll(watermark, secondSync, new HashSet<>());
+        assertThat(secondSync).contains(slowProject[0], fastProject);
+    }
+}
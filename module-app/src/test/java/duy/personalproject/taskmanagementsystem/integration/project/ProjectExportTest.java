@@ -0,0 +1,156 @@
+package duy.personalproject.taskmanagementsystem.integration.project;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duy.personalproject.taskmanagementsystem.app.TaskManagementSystemApplication;
+import duy.personalproject.taskmanagementsystem.app.config.TestContainersConfiguration;
+import duy.personalproject.taskmanagementsystem.auth.repository.UserRepository;
+import duy.personalproject.taskmanagementsystem.auth.service.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exports against the project search: the same projects in the same order, across more rows than one cursor
+ * fetch, so the export has to read the cursor more than once.
+ */
+@SpringBootTest(classes = TaskManagementSystemApplication.class, properties = "task.management.system.project-export.fetch-size=4")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestContainersConfiguration.class)
+@DisplayName("Project Export Tests")
+class ProjectExportTest {
+    private static final int PROJECTS = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID userId;
+    private String searchTerm;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        searchTerm = "export-" + userId;
+        String username = "export_" + userId;
+        jdbcTemplate.update("INSERT INTO users(id, username, email, password, full_name, status) VALUES (?, ?, ?, 'x', 'Export Owner', 'ACTIVE')",
+                userId, username, userId + "@example.com");
+        for (int i = 0; i < PROJECTS; i++) {
+            jdbcTemplate.update("INSERT INTO projects(id, name, description, owner_id) VALUES (?, ?, ?, ?)",
+                    UUID.randomUUID(), searchTerm + "-" + i, "Project " + i + ", \"quoted\"", userId);
+        }
+        // soft-deleted projects are not exported, like they are not searched
+        jdbcTemplate.update("INSERT INTO projects(id, name, owner_id, deleted_at) VALUES (?, ?, ?, NOW())",
+                UUID.randomUUID(), searchTerm + "-deleted", userId);
+        token = jwtService.generateAccessToken(userRepository.findByUsername(username).orElseThrow()).token();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM projects WHERE owner_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private List<String> searchedIds() throws Exception {
+        MvcResult search = mockMvc.perform(authorized(get("/api/v1/projects").param("search", searchTerm)
+                        .param("size", "100").param("sortBy", "name").param("sortDirection", "ASC")))
+                .andExpect(status().isOk()).andReturn();
+        List<String> ids = new ArrayList<>();
+        objectMapper.readTree(search.getResponse().getContentAsString()).at("/data/items").forEach(item -> ids.add(item.get("id").asText()));
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Should export as NDJSON the projects the search finds, in the same order")
+    void export_Ndjson_SameAsSearch() throws Exception {
+        MvcResult export = mockMvc.perform(authorized(get("/api/v1/projects/export").param("search", searchTerm)
+                        .param("sortBy", "name").param("sortDirection", "ASC")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"projects.ndjson\""))
+                .andReturn();
+
+        List<String> exportedIds = new ArrayList<>();
+        for (String line : export.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n")) {
+            JsonNode project = objectMapper.readTree(line);
+            exportedIds.add(project.get("id").asText());
+        }
+        assertThat(exportedIds).hasSize(PROJECTS).isEqualTo(searchedIds());
+    }
+
+    @Test
+    @DisplayName("Should export as gzipped CSV with a header row and quoted fields")
+    void export_GzippedCsv_Decompresses() throws Exception {
+        MvcResult export = mockMvc.perform(authorized(get("/api/v1/projects/export").param("search", searchTerm)
+                        .param("sortBy", "name").param("sortDirection", "ASC").param("format", "CSV").param("gzip", "true")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"projects.csv.gz\""))
+                .andReturn();
+
+        String csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(export.getResponse().getContentAsByteArray()))) {
+            csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = csv.split("\r\n");
+        assertThat(lines).hasSize(PROJECTS + 1);
+        assertThat(lines[0]).isEqualTo("id,name,description,ownerId,memberCount,createdAt,updatedAt");
+        assertThat(lines[1]).startsWith(searchedIds().get(0) + "," + searchTerm + "-0,\"Project 0, \"\"quoted\"\"\"," + userId + ",");
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown sort property with 400")
+    void export_UnknownSort_BadRequest() throws Exception {
+        mockMvc.perform(authorized(get("/api/v1/projects/export").param("sortBy", "owner.password")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should reject a request without a token")
+    void export_NoToken_Unauthorized() throws Exception {
+        mockMvc.perform(get("/api/v1/projects/export"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,96 @@
+package duy.personalproject.taskmanagementsystem.integration.project;
+
+import duy.personalproject.taskmanagementsystem.app.TaskManagementSystemApplication;
+import duy.personalproject.taskmanagementsystem.app.config.TestContainersConfiguration;
+import duy.personalproject.taskmanagementsystem.app.datasource.SqlStatementBudget;
+import duy.personalproject.taskmanagementsystem.app.datasource.SqlStatementFilter;
+import duy.personalproject.taskmanagementsystem.auth.repository.UserRepository;
+import duy.personalproject.taskmanagementsystem.auth.service.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets of the project read endpoints. The token check and the read itself must each be a fixed
+ * number of statements, however many projects a page holds.
+ */
+@SpringBootTest(classes = TaskManagementSystemApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestContainersConfiguration.class)
+@DisplayName("Project Statement Budget Tests")
+class ProjectStatementBudgetTest {
+    private static final int PROJECTS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private UUID userId;
+    private UUID projectId;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        String username = "budget_" + userId;
+        jdbcTemplate.update("INSERT INTO users(id, username, email, password, full_name, status) VALUES (?, ?, ?, 'x', 'Budget Owner', 'ACTIVE')",
+                userId, username, userId + "@example.com");
+        for (int i = 0; i < PROJECTS; i++) {
+            projectId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO projects(id, name, owner_id) VALUES (?, ?, ?)", projectId, "budget-" + projectId, userId);
+        }
+        token = jwtService.generateAccessToken(userRepository.findByUsername(username).orElseThrow()).token();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    @SqlStatementBudget(maxStatements = 4)
+    @DisplayName("Should read a project in a fixed number of statements")
+    void findById_WithinBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/projects/{projectId}", projectId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlStatementFilter.STATEMENTS_HEADER));
+    }
+
+    @Test
+    @SqlStatementBudget(maxStatements = 4)
+    @DisplayName("Should search a page of projects without a statement per project")
+    void search_FullPage_NoStatementPerProject() throws Exception {
+        mockMvc.perform(get("/api/v1/projects")
+                        .param("size", Integer.toString(PROJECTS))
+                        .param("search", "budget-")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+}
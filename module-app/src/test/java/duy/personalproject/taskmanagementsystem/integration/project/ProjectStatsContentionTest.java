@@ -0,0 +1,178 @@
+package duy.personalproject.taskmanagementsystem.integration.project;
+
+import duy.personalproject.taskmanagementsystem.app.TaskManagementSystemApplication;
+import duy.personalproject.taskmanagementsystem.app.config.TestContainersConfiguration;
+import duy.personalproject.taskmanagementsystem.project.config.properties.ProjectStatsConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectStatsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contention test for the striped project member counters.
+ * Many concurrent transactions increment the counter of a single hot project; the striped upsert must
+ * neither lose updates nor serialize every writer on one row. Lock waits are compared with a single stripe by
+ * holding one increment uncommitted and counting the writers that time out behind it.
+ */
+@SpringBootTest(classes = TaskManagementSystemApplication.class)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestContainersConfiguration.class)
+@DisplayName("ProjectStats Contention Tests")
+class ProjectStatsContentionTest {
+    private static final int WRITERS = 32;
+    private static final int INCREMENTS_PER_WRITER = 50;
+    private static final int PROBES = 24;
+    private static final String LOCK_NOT_AVAILABLE = "55P03";
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProjectStatsConfigProperties projectStatsConfigProperties;
+
+    private UUID userId;
+    private UUID projectId;
+    private int stripes;
+
+    @BeforeEach
+    void setUp() {
+        stripes = projectStatsConfigProperties.getStripes();
+        userId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users(id, username, email, password, full_name, status) VALUES (?, ?, ?, 'x', 'Hot Owner', 'ACTIVE')",
+                userId, "hot_" + userId, userId + "@example.com");
+        jdbcTemplate.update("INSERT INTO projects(id, name, owner_id) VALUES (?, ?, ?)", projectId, "hot-" + projectId, userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectStatsConfigProperties.setStripes(stripes);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("Should not lose increments under concurrent writers on a hot project")
+    void incrementMemberCount_ConcurrentWriters_NoLostUpdates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < WRITERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < INCREMENTS_PER_WRITER; j++) {
+                    transactionTemplate.executeWithoutResult(status -> projectStatsService.incrementMemberCount(projectId, 1));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        Integer stripesUsed = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project_stats WHERE project_id = ?", Integer.class, projectId);
+
+        assertThat(projectStatsService.getMemberCount(projectId)).isEqualTo((long) WRITERS * INCREMENTS_PER_WRITER);
+        assertThat(stripesUsed).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("Should let most writers past an open increment, where a single stripe blocks them all")
+    void incrementMemberCount_OpenIncrement_BlocksFewerWritersThanSingleStripe() throws Exception {
+        projectStatsConfigProperties.setStripes(1);
+        int blockedSingleStripe = blockedWriters();
+        projectStatsConfigProperties.setStripes(stripes);
+        int blockedStriped = blockedWriters();
+
+        assertThat(blockedSingleStripe).isEqualTo(PROBES);
+        // each writer picks the held stripe with probability 1/stripes
+        assertThat(blockedStriped).isLessThan(PROBES / 2);
+    }
+
+    /**
+     * Holds one increment uncommitted, so that its stripe stays locked, while {@link #PROBES} other transactions
+     * each try an increment with a short lock timeout.
+     *
+     * @return how many of them timed out waiting for the held stripe
+     */
+    private int blockedWriters() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            projectStatsService.incrementMemberCount(projectId, 1);
+            held.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        int blocked = 0;
+        try {
+            assertThat(held.await(10, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < PROBES; i++) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        jdbcTemplate.execute("SET LOCAL lock_timeout = '250ms'");
+                        projectStatsService.incrementMemberCount(projectId, 1);
+                    });
+                } catch (RuntimeException e) {
+                    if (!(NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sqlException)
+                            || !LOCK_NOT_AVAILABLE.equals(sqlException.getSQLState())) {
+                        throw e;
+                    }
+                    blocked++;
+                }
+            }
+        } finally {
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+            executor.shutdown();
+        }
+        return blocked;
+    }
+
+    @Test
+    @DisplayName("Should repair drifted counters from project_members")
+    void reconcileMemberCounts_DriftedCounter_RebuildsFromMembers() {
+        jdbcTemplate.update("INSERT INTO project_members(project_id, user_id, role) VALUES (?, ?, 'OWNER')", projectId, userId);
+        transactionTemplate.executeWithoutResult(status -> projectStatsService.incrementMemberCount(projectId, 41));
+
+        projectStatsService.reconcileMemberCounts();
+
+        assertThat(projectStatsService.getMemberCount(projectId)).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,146 @@
+package duy.personalproject.taskmanagementsystem.integration.project;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duy.personalproject.taskmanagementsystem.app.TaskManagementSystemApplication;
+import duy.personalproject.taskmanagementsystem.app.config.TestContainersConfiguration;
+import duy.personalproject.taskmanagementsystem.auth.repository.UserRepository;
+import duy.personalproject.taskmanagementsystem.auth.service.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The reactive project reads against the servlet ones: same answers, and the same authentication, which must
+ * still hold on the async dispatch that writes the response.
+ */
+@SpringBootTest(classes = TaskManagementSystemApplication.class, properties = "task.management.system.reactive-read.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestContainersConfiguration.class)
+@DisplayName("Reactive Project Read Tests")
+class ReactiveProjectReadTest {
+    private static final int PROJECTS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID userId;
+    private UUID projectId;
+    private String searchTerm;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        searchTerm = "reactive-" + userId;
+        String username = "reactive_" + userId;
+        jdbcTemplate.update("INSERT INTO users(id, username, email, password, full_name, status) VALUES (?, ?, ?, 'x', 'Reactive Owner', 'ACTIVE')",
+                userId, username, userId + "@example.com");
+        for (int i = 0; i < PROJECTS; i++) {
+            projectId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO projects(id, name, description, owner_id) VALUES (?, ?, ?, ?)",
+                    projectId, searchTerm + "-" + i, "Project " + i, userId);
+        }
+        token = jwtService.generateAccessToken(userRepository.findByUsername(username).orElseThrow()).token();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM projects WHERE owner_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    /**
+     * Sends a reactive request and completes its async dispatch.
+     */
+    private MvcResult reactive(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(started)).andReturn();
+    }
+
+    private JsonNode body(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Should find a project like the servlet endpoint")
+    void findById_Exists_SameAsServlet() throws Exception {
+        MvcResult servlet = mockMvc.perform(authorized(get("/api/v1/projects/{projectId}", projectId)))
+                .andExpect(status().isOk()).andReturn();
+
+        MvcResult reactive = reactive(authorized(get("/api/v1/reactive/projects/{projectId}", projectId)));
+
+        assertThat(reactive.getResponse().getStatus()).isEqualTo(200);
+        assertThat(body(reactive)).isEqualTo(body(servlet));
+    }
+
+    @Test
+    @DisplayName("Should search a page like the servlet endpoint")
+    void search_Page_SameAsServlet() throws Exception {
+        MvcResult servlet = mockMvc.perform(authorized(get("/api/v1/projects").param("search", searchTerm).param("size", "2")
+                        .param("page", "1").param("sortBy", "name").param("sortDirection", "ASC")))
+                .andExpect(status().isOk()).andReturn();
+
+        MvcResult reactive = reactive(authorized(get("/api/v1/reactive/projects").param("search", searchTerm).param("size", "2")
+                .param("page", "1").param("sortBy", "name").param("sortDirection", "ASC")));
+
+        assertThat(reactive.getResponse().getStatus()).isEqualTo(200);
+        assertThat(body(reactive)).isEqualTo(body(servlet));
+        assertThat(body(reactive).at("/data/metadata/totalItems").asLong()).isEqualTo(PROJECTS);
+    }
+
+    @Test
+    @DisplayName("Should answer an unknown project with 404")
+    void findById_Missing_NotFound() throws Exception {
+        MvcResult reactive = reactive(authorized(get("/api/v1/reactive/projects/{projectId}", UUID.randomUUID())));
+
+        assertThat(reactive.getResponse().getStatus()).isEqualTo(404);
+        assertThat(body(reactive).at("/error/code").asText()).isEqualTo("RESOURCE_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("Should reject a request without a token before any query runs")
+    void search_NoToken_Unauthorized() throws Exception {
+        mockMvc.perform(get("/api/v1/reactive/projects"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(request().asyncNotStarted());
+    }
+}
@@ -0,0 +1,133 @@
+package duy.personalproject.taskmanagementsystem.integration.task;
+
+import duy.personalproject.taskmanagementsystem.app.TaskManagementSystemApplication;
+import duy.personalproject.taskmanagementsystem.app.config.TestContainersConfiguration;
+import duy.personalproject.taskmanagementsystem.core.model.common.CursorPaginationResponse;
+import duy.personalproject.taskmanagementsystem.task.model.request.ListTaskRequest;
+import duy.personalproject.taskmanagementsystem.task.model.response.TaskResponse;
+import duy.personalproject.taskmanagementsystem.task.service.TaskService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test for keyset task listing.
+ * Seeds {@code -Dtask.load-test.rows} tasks (e.g. 100000000) spread over many projects with one hot project,
+ * then measures page latency near the start and deep into the hot project. With keyset pagination the
+ * latency must depend on the page size only, not on the cursor depth or the table size.
+ *
+ * <p>Run with: {@code mvn -pl module-app test -Dtest=TaskListLatencyLoadTest -Dtask.load-test.rows=100000000}
+ */
+@SpringBootTest(classes = TaskManagementSystemApplication.class)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestContainersConfiguration.class)
+@EnabledIfSystemProperty(named = "task.load-test.rows", matches = "\\d+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Task List Latency Load Tests")
+class TaskListLatencyLoadTest {
+    private static final int PROJECTS = 1_000;
+    private static final int SEED_CHUNK = 1_000_000;
+    private static final int SAMPLES = 50;
+    private static final double MAX_DEPTH_SLOWDOWN = 3.0;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID hotProjectId = UUID.randomUUID();
+    private long hotProjectRows;
+
+    @BeforeAll
+    void seed() {
+        long totalRows = Long.getLong("task.load-test.rows");
+        hotProjectRows = totalRows / 10;
+
+        jdbcTemplate.update("INSERT INTO users(id, username, email, password, full_name, status) VALUES (?, ?, ?, 'x', 'Load Test', 'ACTIVE')",
+                userId, "load_" + userId, userId + "@example.com");
+        jdbcTemplate.update("INSERT INTO projects(id, name, owner_id) VALUES (?, ?, ?)", hotProjectId, "hot-" + hotProjectId, userId);
+        jdbcTemplate.update("INSERT INTO project_members(project_id, user_id, role) VALUES (?, ?, 'OWNER')", hotProjectId, userId);
+        jdbcTemplate.update("""
+                INSERT INTO projects(id, name, owner_id)
+                SELECT uuid_generate_v4(), 'load-' || g || '-' || ?, ? FROM generate_series(1, ?) g
+                """, userId.toString(), userId, PROJECTS);
+
+        seedTasks("SELECT ARRAY[?::uuid] AS ids", hotProjectRows, hotProjectId);
+        seedTasks("SELECT array_agg(id) AS ids FROM projects WHERE owner_id = ? AND id <> ?", totalRows - hotProjectRows, userId, hotProjectId);
+        jdbcTemplate.execute("ANALYZE tasks");
+    }
+
+    /**
+     * Server-side bulk insert in chunks; tasks are spread round-robin over the projects selected by {@code projectIds}.
+     */
+    private void seedTasks(String projectIds, long rows, Object... projectIdArgs) {
+        for (long from = 0; from < rows; from += SEED_CHUNK) {
+            long to = Math.min(rows, from + SEED_CHUNK);
+            Object[] args = Arrays.copyOf(projectIdArgs, projectIdArgs.length + 2);
+            args[projectIdArgs.length] = from + 1;
+            args[projectIdArgs.length + 1] = to;
+            jdbcTemplate.update("""
+                    WITH p AS (%s)
+                    INSERT INTO tasks(project_id, title, status, position)
+                    SELECT p.ids[1 + (g %% array_length(p.ids, 1))], 'Task ' || g, (ARRAY['TODO','IN_PROGRESS','DONE'])[1 + g %% 3], g * 1024
+                    FROM p, generate_series(?::bigint, ?::bigint) g
+                    """.formatted(projectIds), args);
+        }
+    }
+
+    @ParameterizedTest(name = "page size {0}")
+    @ValueSource(ints = {10, 50, 100})
+    @DisplayName("Should keep page latency independent of cursor depth")
+    void listTasks_DeepCursor_LatencyIndependentOfDepth(int pageSize) {
+        String deepCursor = cursorAtDepth(hotProjectRows / 2);
+
+        double shallowMicros = medianMicros(pageSize, null);
+        double deepMicros = medianMicros(pageSize, deepCursor);
+
+        System.out.printf("page=%d shallow p50=%.0fus deep p50=%.0fus%n", pageSize, shallowMicros, deepMicros);
+        assertThat(deepMicros).isLessThan(shallowMicros * MAX_DEPTH_SLOWDOWN);
+    }
+
+    /**
+     * Builds the cursor a client would hold after paging {@code depth} rows into the TODO column.
+     */
+    private String cursorAtDepth(long depth) {
+        Long position = jdbcTemplate.queryForObject("""
+                SELECT position FROM tasks WHERE project_id = ? AND status = 'TODO' AND deleted_at IS NULL
+                ORDER BY position OFFSET ? LIMIT 1
+                """, Long.class, hotProjectId, depth / 3);
+        String raw = "TODO|" + position + "|" + new UUID(0L, 0L);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private double medianMicros(int pageSize, String cursor) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            CursorPaginationResponse<TaskResponse> page = taskService.listTasks(hotProjectId, new ListTaskRequest(null, pageSize, cursor), userId);
+            samples[i] = System.nanoTime() - start;
+            assertThat(page.items()).hasSize(pageSize);
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2] / 1_000.0;
+    }
+}
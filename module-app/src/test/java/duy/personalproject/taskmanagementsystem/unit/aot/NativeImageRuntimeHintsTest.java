@@ -0,0 +1,82 @@
+package duy.personalproject.taskmanagementsystem.unit.aot;
+
+import duy.personalproject.taskmanagementsystem.app.aot.NativeImageRuntimeHints;
+import duy.personalproject.taskmanagementsystem.auth.mapper.UserMapper;
+import duy.personalproject.taskmanagementsystem.auth.model.entity.UserEntity;
+import duy.personalproject.taskmanagementsystem.core.model.entity.BaseEntity;
+import duy.personalproject.taskmanagementsystem.project.mapper.ProjectMapper;
+import duy.personalproject.taskmanagementsystem.project.model.entity.ProjectEntity;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import duy.personalproject.taskmanagementsystem.task.mapper.TaskMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for NativeImageRuntimeHints. The class names registered as strings are checked against the classpath,
+ * so that a renamed mapper or a jjwt upgrade does not silently drop a hint.
+ */
+@DisplayName("NativeImageRuntimeHints Unit Tests")
+class NativeImageRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeImageRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should register the entities for field access and instantiation")
+    void registerHints_Entities_Registered() {
+        Stream.of(BaseEntity.class, UserEntity.class, ProjectEntity.class).forEach(entity -> assertThat(RuntimeHintsPredicates.reflection()
+                .onType(entity).withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints));
+    }
+
+    @Test
+    @DisplayName("Should register the generated mapper implementations")
+    void registerHints_Mappers_Registered() throws Exception {
+        for (Class<?> mapper : new Class<?>[]{UserMapper.class, ProjectMapper.class, TaskMapper.class}) {
+            Class<?> implementation = Class.forName(mapper.getName() + "Impl");
+            assertThat(RuntimeHintsPredicates.reflection().onType(implementation)).accepts(hints);
+        }
+    }
+
+    @Test
+    @DisplayName("Should register the jjwt implementations that jjwt-api loads by name")
+    void registerHints_Jjwt_RegisteredAndPresent() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Class.forName("io.jsonwebtoken.impl.DefaultJwtBuilder$Supplier"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Class.forName("io.jsonwebtoken.jackson.io.JacksonSerializer"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Serializer")).accepts(hints);
+
+        ClassLoader classLoader = getClass().getClassLoader();
+        assertThat(hints.reflection().typeHints())
+                .allSatisfy(hint -> assertThat(classLoader.loadClass(hint.getType().getName())).isNotNull());
+    }
+
+    @Test
+    @DisplayName("Should register the migrations, the Swagger UI and the types written with the ObjectMapper")
+    void registerHints_ResourcesAndSerializedTypes_Registered() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__initial_database.sql")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/resources/webjars/swagger-ui/index.html")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ProjectResponse.class, "name")).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register the JDK proxies of the data source wrappers")
+    void registerHints_JdbcProxies_Registered() {
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class)).accepts(hints);
+    }
+}
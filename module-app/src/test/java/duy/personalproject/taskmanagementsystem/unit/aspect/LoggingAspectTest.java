@@ -0,0 +1,312 @@
+package duy.personalproject.taskmanagementsystem.unit.aspect;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import duy.personalproject.taskmanagementsystem.core.annotation.LogExecutionTime;
+import duy.personalproject.taskmanagementsystem.core.aspect.LoggingAspect;
+import duy.personalproject.taskmanagementsystem.core.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for LoggingAspect.
+ * Proxies a small annotated target with AspectJProxyFactory and inspects the recorded timers.
+ */
+@DisplayName("LoggingAspect Unit Tests")
+class LoggingAspectTest {
+    private static final String ASPECT_LOGGER = "LOGGING_EXECUTION_TIME_ASPECT";
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoggingAspect loggingAspect;
+    private Level originalLevel;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loggingAspect = new LoggingAspect(meterRegistry);
+        originalLevel = aspectLogger().getLevel();
+    }
+
+    @AfterEach
+    void tearDown() {
+        aspectLogger().setLevel(originalLevel);
+    }
+
+    private static Logger aspectLogger() {
+        return (Logger) LoggerFactory.getLogger(ASPECT_LOGGER);
+    }
+
+    private <T> T proxy(T target) {
+        return proxy(target, loggingAspect);
+    }
+
+    private static <T> T proxy(T target, Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    /**
+     * Same pointcut and binding as LoggingAspect but does nothing, to separate the cost of Spring AOP itself.
+     * It resolves the signature like any aspect that needs the intercepted method, because Spring creates
+     * that object lazily on each join point.
+     */
+    @Aspect
+    static class PassThroughAspect {
+        @Around("@annotation(logExecutionTime) || @within(logExecutionTime)")
+        public Object around(ProceedingJoinPoint joinPoint, LogExecutionTime logExecutionTime) throws Throwable {
+            joinPoint.getSignature();
+            return joinPoint.proceed();
+        }
+    }
+
+    @LogExecutionTime(LogExecutionTime.LogLevel.DEBUG)
+    static class SampleService {
+        int add(int a, int b) {
+            return a + b;
+        }
+
+        void fail() {
+            throw new IllegalStateException("boom");
+        }
+
+        void notFound() {
+            throw new ResourceNotFoundException("Project not found");
+        }
+    }
+
+    static class ThresholdService {
+        @LogExecutionTime(slowThresholdMs = 50)
+        void fast() {
+        }
+
+        @LogExecutionTime(slowThresholdMs = 50)
+        void slow() throws InterruptedException {
+            Thread.sleep(60);
+        }
+
+        @LogExecutionTime(sampleRate = 0.0)
+        void neverSampled() {
+        }
+
+        @LogExecutionTime
+        void everyCall() {
+        }
+    }
+
+    @Nested
+    @DisplayName("Timer Tests")
+    class TimerTests {
+
+        @Test
+        @DisplayName("Should record successful calls tagged by class, method and outcome")
+        void logExecutionTime_Success_RecordsSuccessTimer() {
+            SampleService service = proxy(new SampleService());
+
+            service.add(1, 2);
+            service.add(3, 4);
+
+            Timer timer = meterRegistry.get("method.execution")
+                    .tags("class", "SampleService", "method", "add", "outcome", "SUCCESS")
+                    .timer();
+            assertThat(timer.count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should record failed calls under the error outcome and rethrow")
+        void logExecutionTime_Exception_RecordsErrorTimer() {
+            SampleService service = proxy(new SampleService());
+
+            assertThatThrownBy(service::fail).isInstanceOf(IllegalStateException.class);
+
+            Timer timer = meterRegistry.get("method.execution")
+                    .tags("class", "SampleService", "method", "fail", "outcome", "ERROR")
+                    .timer();
+            assertThat(timer.count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Threshold And Sampling Tests")
+    class ThresholdTests {
+        private ListAppender<ILoggingEvent> appender;
+
+        @BeforeEach
+        void attachAppender() {
+            appender = new ListAppender<>();
+            appender.start();
+            aspectLogger().addAppender(appender);
+        }
+
+        @AfterEach
+        void detachAppender() {
+            aspectLogger().detachAppender(appender);
+        }
+
+        @Test
+        @DisplayName("Should only log calls slower than the threshold but time all of them")
+        void logExecutionTime_SlowThreshold_LogsOnlyOutliers() throws Exception {
+            ThresholdService service = proxy(new ThresholdService());
+
+            service.fast();
+            service.slow();
+
+            assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                    .singleElement().asString().startsWith("[ThresholdService] slow()");
+            assertThat(meterRegistry.get("method.execution").tag("method", "fast").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not log calls that are not sampled")
+        void logExecutionTime_ZeroSampleRate_LogsNothing() {
+            ThresholdService service = proxy(new ThresholdService());
+
+            service.neverSampled();
+            service.everyCall();
+
+            assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                    .singleElement().asString().startsWith("[ThresholdService] everyCall()");
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Logging Tests")
+    class FailureLoggingTests {
+        private ListAppender<ILoggingEvent> appender;
+
+        @BeforeEach
+        void attachAppender() {
+            aspectLogger().setLevel(Level.INFO);
+            appender = new ListAppender<>();
+            appender.start();
+            aspectLogger().addAppender(appender);
+        }
+
+        @AfterEach
+        void detachAppender() {
+            aspectLogger().detachAppender(appender);
+        }
+
+        @Test
+        @DisplayName("Should log unexpected exceptions at ERROR but not business exceptions")
+        void logExecutionTime_BusinessException_NotLoggedAsError() {
+            SampleService service = proxy(new SampleService());
+
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(service::notFound).isInstanceOf(ResourceNotFoundException.class);
+            }
+            assertThatThrownBy(service::fail).isInstanceOf(IllegalStateException.class);
+
+            assertThat(appender.list).singleElement().satisfies(event -> {
+                assertThat(event.getLevel()).isEqualTo(Level.ERROR);
+                assertThat(event.getFormattedMessage()).startsWith("Exception in [SampleService] fail()");
+            });
+            assertThat(meterRegistry.get("method.execution").tags("method", "notFound", "outcome", "ERROR").timer().count())
+                    .isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Allocation Tests")
+    class AllocationTests {
+        private static final int WARMUP = 50_000;
+        private static final int ITERATIONS = 200_000;
+        private static final long MAX_EXTRA_BYTES_PER_CALL = 8;
+
+        /**
+         * Calls that are timed but not logged must not allocate beyond what Spring AOP itself allocates.
+         */
+        @Test
+        @DisplayName("Should not allocate per call when the call is not logged")
+        void logExecutionTime_NotLogged_NoExtraAllocation() {
+            aspectLogger().setLevel(Level.INFO);
+            SampleService passThrough = proxy(new SampleService(), new PassThroughAspect());
+            SampleService timed = proxy(new SampleService());
+
+            allocatedBytesPerCall(passThrough, WARMUP);
+            allocatedBytesPerCall(timed, WARMUP);
+
+            double baseline = allocatedBytesPerCall(passThrough, ITERATIONS);
+            double withAspect = allocatedBytesPerCall(timed, ITERATIONS);
+
+            assertThat(withAspect - baseline).isLessThan(MAX_EXTRA_BYTES_PER_CALL);
+        }
+
+        private double allocatedBytesPerCall(SampleService service, int iterations) {
+            com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long threadId = Thread.currentThread().getId();
+            long sink = 0;
+
+            long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < iterations; i++) {
+                sink += service.add(i, 1);
+            }
+            long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+            assertThat(sink).isNotZero();
+            return (double) allocated / iterations;
+        }
+    }
+
+    @Nested
+    @DisplayName("Overhead Tests")
+    class OverheadTests {
+        private static final int WARMUP = 200_000;
+        private static final int ITERATIONS = 2_000_000;
+
+        /**
+         * Rough wall-clock guard for the aspect's own cost on top of a pass-through aspect with the same pointcut;
+         * run with -Dperf.aspect-overhead=true. The JMH benchmarks give precise numbers.
+         */
+        @Test
+        @EnabledIfSystemProperty(named = "perf.aspect-overhead", matches = "true")
+        @DisplayName("Should add less than a microsecond per call")
+        void logExecutionTime_Overhead_BelowOneMicrosecond() {
+            aspectLogger().setLevel(Level.INFO);
+            SampleService passThrough = proxy(new SampleService(), new PassThroughAspect());
+            SampleService timed = proxy(new SampleService());
+
+            long sink = 0;
+            for (int i = 0; i < WARMUP; i++) {
+                sink += passThrough.add(i, 1) + timed.add(i, 1);
+            }
+
+            long passThroughNanos = measure(passThrough);
+            long timedNanos = measure(timed);
+
+            double overheadPerCall = (double) (timedNanos - passThroughNanos) / ITERATIONS;
+            assertThat(sink).isNotZero();
+            assertThat(overheadPerCall).isLessThan(1_000);
+        }
+
+        private long measure(SampleService service) {
+            long sink = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += service.add(i, 1);
+            }
+            long elapsed = System.nanoTime() - start;
+            assertThat(sink).isNotZero();
+            return elapsed;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package duy.personalproject.taskmanagementsystem.unit.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import duy.personalproject.taskmanagementsystem.app.cache.SecondLevelCacheRegions;
+import duy.personalproject.taskmanagementsystem.app.config.properties.SecondLevelCacheConfigProperties;
+import duy.personalproject.taskmanagementsystem.core.model.constant.CacheRegionConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.Cache;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SecondLevelCacheRegions.
+ */
+@DisplayName("Second-Level Cache Regions Unit Tests")
+class SecondLevelCacheRegionsTest {
+
+    private SecondLevelCacheRegions regions;
+
+    @AfterEach
+    void tearDown() {
+        if (regions != null) {
+            regions.close();
+        }
+    }
+
+    private static SecondLevelCacheConfigProperties.Region region(long maxEntries, long ttlMs) {
+        SecondLevelCacheConfigProperties.Region region = new SecondLevelCacheConfigProperties.Region();
+        region.setMaxEntries(maxEntries);
+        region.setTtlMs(ttlMs);
+        return region;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CaffeineConfiguration<Object, Object> configurationOf(String name) {
+        Cache<Object, Object> cache = regions.cacheManager().getCache(name);
+        return cache.getConfiguration(CaffeineConfiguration.class);
+    }
+
+    @Test
+    @DisplayName("Should create every region, sized and expired by its own entry or the defaults")
+    void shouldCreateEveryRegionFromItsEntryOrTheDefaults() {
+        SecondLevelCacheConfigProperties properties = new SecondLevelCacheConfigProperties();
+        properties.setDefaults(region(100, 1_000));
+        properties.getRegions().put(CacheRegionConstants.USERS, region(5, 0));
+
+        regions = new SecondLevelCacheRegions(properties);
+
+        CacheRegionConstants.ALL.forEach(name -> assertThat(regions.cacheManager().getCache(name)).as(name).isNotNull());
+        assertThat(configurationOf(CacheRegionConstants.USERS).getMaximumSize()).isEqualTo(OptionalLong.of(5));
+        assertThat(configurationOf(CacheRegionConstants.USERS).getExpireAfterWrite()).isEmpty();
+        assertThat(configurationOf(CacheRegionConstants.PROJECTS).getMaximumSize()).isEqualTo(OptionalLong.of(100));
+        assertThat(configurationOf(CacheRegionConstants.PROJECTS).getExpireAfterWrite())
+                .isEqualTo(OptionalLong.of(TimeUnit.SECONDS.toNanos(1)));
+        assertThat(configurationOf(CacheRegionConstants.PROJECTS).isStoreByValue()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should never bound nor expire the update-timestamps region")
+    void shouldNeverBoundTheUpdateTimestampsRegion() {
+        SecondLevelCacheConfigProperties properties = new SecondLevelCacheConfigProperties();
+        properties.setDefaults(region(1, 1));
+
+        regions = new SecondLevelCacheRegions(properties);
+
+        assertThat(configurationOf(CacheRegionConstants.UPDATE_TIMESTAMPS).getMaximumSize()).isEmpty();
+        assertThat(configurationOf(CacheRegionConstants.UPDATE_TIMESTAMPS).getExpireAfterWrite()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown region and the update-timestamps region")
+    void shouldRejectUnconfigurableRegions() {
+        SecondLevelCacheConfigProperties unknown = new SecondLevelCacheConfigProperties();
+        unknown.getRegions().put("user", region(1, 1));
+        SecondLevelCacheConfigProperties timestamps = new SecondLevelCacheConfigProperties();
+        timestamps.getRegions().put(CacheRegionConstants.UPDATE_TIMESTAMPS, region(1, 1));
+
+        assertThatThrownBy(() -> new SecondLevelCacheRegions(unknown))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("user");
+        assertThatThrownBy(() -> new SecondLevelCacheRegions(timestamps))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should export the size of every region")
+    void shouldExportTheSizeOfEveryRegion() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        regions = new SecondLevelCacheRegions(new SecondLevelCacheConfigProperties());
+        regions.bindTo(meterRegistry);
+
+        regions.cacheManager().getCache(CacheRegionConstants.USERS).put("id", "state");
+
+        assertThat(meterRegistry.get("hibernate.second.level.cache.size").gauges()).hasSize(CacheRegionConstants.ALL.size());
+        assertThat(meterRegistry.get("hibernate.second.level.cache.size").tag("region", CacheRegionConstants.USERS).gauge().value())
+                .isEqualTo(1);
+    }
+}
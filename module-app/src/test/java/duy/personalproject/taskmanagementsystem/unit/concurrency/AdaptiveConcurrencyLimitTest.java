@@ -0,0 +1,292 @@
+package duy.personalproject.taskmanagementsystem.unit.concurrency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duy.personalproject.taskmanagementsystem.app.concurrency.AdaptiveConcurrencyLimiter;
+import duy.personalproject.taskmanagementsystem.app.concurrency.AimdLimit;
+import duy.personalproject.taskmanagementsystem.app.concurrency.ConcurrencyLimitFilter;
+import duy.personalproject.taskmanagementsystem.app.concurrency.GradientLimit;
+import duy.personalproject.taskmanagementsystem.app.concurrency.LimitAlgorithm;
+import duy.personalproject.taskmanagementsystem.app.concurrency.RouteGroup;
+import duy.personalproject.taskmanagementsystem.app.config.properties.ConcurrencyLimitConfigProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the adaptive concurrency limits: the limit algorithms, AdaptiveConcurrencyLimiter and
+ * ConcurrencyLimitFilter. Latencies are passed in directly or driven by a fake nanosecond clock.
+ */
+@DisplayName("Adaptive Concurrency Limit Unit Tests")
+class AdaptiveConcurrencyLimitTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(600);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    /**
+     * Completes {@code samples} requests of the given latency one after the other, each reported as started with
+     * the limiter full.
+     */
+    private static void run(AdaptiveConcurrencyLimiter limiter, long rttNanos, int samples) {
+        for (int i = 0; i < samples; i++) {
+            int inFlight = limiter.tryAcquire();
+            limiter.onSample(rttNanos, Math.max(inFlight, limiter.getLimit()));
+        }
+    }
+
+    private static ConcurrencyLimitConfigProperties.Group group(String name, List<String> paths, List<String> methods, int limit) {
+        ConcurrencyLimitConfigProperties.Group group = new ConcurrencyLimitConfigProperties.Group();
+        group.setName(name);
+        group.setPaths(paths);
+        group.setMethods(methods);
+        group.setInitialLimit(limit);
+        group.setMinLimit(1);
+        group.setMaxLimit(limit);
+        return group;
+    }
+
+    @Nested
+    @DisplayName("AIMD Tests")
+    class AimdTests {
+        private final LimitAlgorithm aimd = new AimdLimit(500, 0.9);
+
+        @Test
+        @DisplayName("Should add one per fast request while the limit is in use")
+        void update_FastAndLimitBound_Increases() {
+            assertThat(aimd.update(10, FAST, 10)).isEqualTo(11);
+        }
+
+        @Test
+        @DisplayName("Should not raise a limit that is mostly unused")
+        void update_FastButIdle_Unchanged() {
+            assertThat(aimd.update(10, FAST, 2)).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Should back off on a request slower than the threshold")
+        void update_Slow_BacksOff() {
+            assertThat(aimd.update(10, SLOW, 10)).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("Should reject a backoff ratio that does not shrink the limit")
+        void constructor_InvalidBackoff_Throws() {
+            assertThatThrownBy(() -> new AimdLimit(500, 1.0)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Gradient Tests")
+    class GradientTests {
+
+        private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+            return new AdaptiveConcurrencyLimiter("project-read", new GradientLimit(1.5), initialLimit, 2, 200, meterRegistry);
+        }
+
+        @Test
+        @DisplayName("Should grow the limit while the latency stays steady under load")
+        void onSample_SteadyLatency_Grows() {
+            AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+            run(limiter, FAST, 50);
+
+            assertThat(limiter.getLimit()).isGreaterThan(20);
+        }
+
+        @Test
+        @DisplayName("Should shrink the limit once the latency grows well beyond its long-term average")
+        void onSample_LatencySpike_Shrinks() {
+            AdaptiveConcurrencyLimiter limiter = limiter(50);
+            run(limiter, FAST, 100);
+            int before = limiter.getLimit();
+
+            run(limiter, FAST * 10, 30);
+
+            assertThat(limiter.getLimit()).isLessThan(before / 2);
+        }
+
+        @Test
+        @DisplayName("Should grow back after the overload clears")
+        void onSample_OverloadCleared_Recovers() {
+            AdaptiveConcurrencyLimiter limiter = limiter(50);
+            run(limiter, FAST, 100);
+            run(limiter, FAST * 10, 50);
+            int overloaded = limiter.getLimit();
+
+            run(limiter, FAST, 200);
+
+            assertThat(limiter.getLimit()).isGreaterThan(overloaded * 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Limiter Tests")
+    class LimiterTests {
+
+        @Test
+        @DisplayName("Should reject at once when the limit is reached and count the rejection")
+        void tryAcquire_AtLimit_Rejects() {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("auth", new AimdLimit(500, 0.9), 2, 1, 10, meterRegistry);
+
+            assertThat(limiter.tryAcquire()).isEqualTo(1);
+            assertThat(limiter.tryAcquire()).isEqualTo(2);
+            assertThat(limiter.tryAcquire()).isZero();
+
+            assertThat(limiter.getInFlight()).isEqualTo(2);
+            assertThat(meterRegistry.get("concurrency.limiter.rejected").tag("group", "auth").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("concurrency.limiter.in.flight").tag("group", "auth").gauge().value()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should keep the limit within its bounds")
+        void onSample_Extremes_Clamped() {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("auth", new AimdLimit(500, 0.5), 4, 2, 6, meterRegistry);
+
+            run(limiter, SLOW, 10);
+            assertThat(limiter.getLimit()).isEqualTo(2);
+
+            run(limiter, FAST, 10);
+            assertThat(limiter.getLimit()).isEqualTo(6);
+            assertThat(meterRegistry.get("concurrency.limiter.limit").tag("group", "auth").gauge().value()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("Should reject bounds that do not contain the initial limit")
+        void constructor_InvalidBounds_Throws() {
+            assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("auth", new AimdLimit(500, 0.9), 20, 2, 10, meterRegistry))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("auth");
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter Tests")
+    class FilterTests {
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+        private RouteGroup auth;
+        private RouteGroup projectRead;
+        private ConcurrencyLimitFilter filter;
+
+        @BeforeEach
+        void setUp() {
+            auth = RouteGroup.of(group("auth", List.of("/api/v1/auth/**"), List.of(), 1), meterRegistry);
+            projectRead = RouteGroup.of(group("project-read", List.of("/api/v1/projects", "/api/v1/projects/**"), List.of("get"), 1),
+                    meterRegistry);
+            filter = new ConcurrencyLimitFilter(List.of(auth, projectRead), objectMapper, 1, clock::get);
+        }
+
+        private MockHttpServletResponse send(String method, String uri) throws Exception {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest(method, uri), response, new MockFilterChain());
+            return response;
+        }
+
+        @Test
+        @DisplayName("Should reject with 503, Retry-After and an error body while the group is full")
+        void doFilter_GroupFull_Rejects() throws Exception {
+            projectRead.limiter().tryAcquire();
+
+            MockHttpServletResponse response = send("GET", "/api/v1/projects");
+
+            assertThat(response.getStatus()).isEqualTo(503);
+            assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+            JsonNode body = objectMapper.readTree(response.getContentAsString());
+            assertThat(body.get("success").asBoolean()).isFalse();
+            assertThat(body.get("error").get("code").asText()).isEqualTo("SERVICE_UNAVAILABLE");
+            assertThat(meterRegistry.get("concurrency.limiter.rejected").tag("group", "project-read").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should keep serving the other groups and unmatched requests while one group is full")
+        void doFilter_OtherGroupFull_Isolated() throws Exception {
+            projectRead.limiter().tryAcquire();
+
+            assertThat(send("POST", "/api/v1/auth/refresh-token").getStatus()).isEqualTo(200);
+            assertThat(send("PUT", "/api/v1/projects/42").getStatus()).isEqualTo(200);
+            assertThat(auth.limiter().getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should release the slot and sample the latency when the request completes")
+        void doFilter_Completed_ReleasesAndSamples() throws Exception {
+            RouteGroup aimd = new RouteGroup("auth", auth.paths(), auth.methods(),
+                    new AdaptiveConcurrencyLimiter("aimd-auth", new AimdLimit(500, 0.5), 4, 1, 4, meterRegistry));
+            filter = new ConcurrencyLimitFilter(List.of(aimd), objectMapper, 1, clock::get);
+
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/auth/login"), new MockHttpServletResponse(),
+                    (request, response) -> clock.addAndGet(SLOW));
+
+            assertThat(aimd.limiter().getInFlight()).isZero();
+            assertThat(aimd.limiter().getLimit()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should release the slot without sampling when the request fails")
+        void doFilter_Failed_ReleasesOnly() throws Exception {
+            MockHttpServletRequest failing = new MockHttpServletRequest("GET", "/api/v1/projects");
+            assertThatThrownBy(() -> filter.doFilter(failing, new MockHttpServletResponse(), (request, response) -> {
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class);
+
+            assertThat(projectRead.limiter().getInFlight()).isZero();
+            assertThat(send("GET", "/api/v1/projects").getStatus()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("Should hold the slot of an asynchronous request until it completes, then sample its latency")
+        void doFilter_Async_HoldsSlotUntilComplete() throws Exception {
+            RouteGroup aimd = new RouteGroup("project-read", projectRead.paths(), projectRead.methods(),
+                    new AdaptiveConcurrencyLimiter("aimd-project-read", new AimdLimit(500, 0.5), 4, 1, 4, meterRegistry));
+            filter = new ConcurrencyLimitFilter(List.of(aimd), objectMapper, 1, clock::get);
+            MockHttpServletRequest async = new MockHttpServletRequest("GET", "/api/v1/projects/42");
+            async.setAsyncSupported(true);
+
+            filter.doFilter(async, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+            assertThat(aimd.limiter().getInFlight()).isEqualTo(1);
+
+            clock.addAndGet(SLOW);
+            async.getAsyncContext().complete();
+            assertThat(aimd.limiter().getInFlight()).isZero();
+            assertThat(aimd.limiter().getLimit()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should release the slot of an event stream when it closes, without sampling its duration")
+        void doFilter_EventStream_ReleasesOnCloseOnly() throws Exception {
+            MockHttpServletRequest stream = new MockHttpServletRequest("GET", "/api/v1/projects/changes/stream");
+            stream.setAsyncSupported(true);
+
+            filter.doFilter(stream, new MockHttpServletResponse(), (request, response) -> {
+                response.setContentType("text/event-stream");
+                request.startAsync();
+            });
+            assertThat(send("GET", "/api/v1/projects").getStatus()).isEqualTo(503);
+
+            clock.addAndGet(TimeUnit.MINUTES.toNanos(30));
+            stream.getAsyncContext().complete();
+            assertThat(projectRead.limiter().getInFlight()).isZero();
+            assertThat(projectRead.limiter().getLimit()).isEqualTo(1);
+            assertThat(send("GET", "/api/v1/projects").getStatus()).isEqualTo(200);
+        }
+    }
+}
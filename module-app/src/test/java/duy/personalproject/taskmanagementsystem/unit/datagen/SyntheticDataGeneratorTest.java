@@ -0,0 +1,173 @@
+package duy.personalproject.taskmanagementsystem.unit.datagen;
+
+import duy.personalproject.taskmanagementsystem.datagen.DataGeneratorConfig;
+import duy.personalproject.taskmanagementsystem.datagen.GenerationReport;
+import duy.personalproject.taskmanagementsystem.datagen.SkewedAllocator;
+import duy.personalproject.taskmanagementsystem.datagen.SyntheticDataGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SyntheticDataGenerator and SkewedAllocator.
+ * The generator writes into in-memory copy streams, one per table, which are parsed back into rows.
+ */
+@DisplayName("SyntheticDataGenerator Unit Tests")
+class SyntheticDataGeneratorTest {
+
+    private static DataGeneratorConfig config(long seed) {
+        return DataGeneratorConfig.builder()
+                .seed(seed)
+                .prefix("test")
+                .users(2_000)
+                .projects(1_000)
+                .members(10_000)
+                .refreshTokens(5_000)
+                .projectSkew(1.1)
+                .tokenSkew(0.8)
+                .passwordHash("$2a$10$hash")
+                .build();
+    }
+
+    private static Map<String, List<String[]>> generate(DataGeneratorConfig config) throws Exception {
+        Map<String, ByteArrayOutputStream> streams = new HashMap<>();
+        new SyntheticDataGenerator(config).generate((table, columns) -> streams.computeIfAbsent(table, t -> new ByteArrayOutputStream()));
+
+        Map<String, List<String[]>> tables = new HashMap<>();
+        streams.forEach((table, bytes) -> tables.put(table, bytes.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> line.split("\t", -1))
+                .toList()));
+        return tables;
+    }
+
+    @Nested
+    @DisplayName("Generation Tests")
+    class GenerationTests {
+
+        @Test
+        @DisplayName("Should write the configured number of rows per table")
+        void generate_ValidConfig_WritesConfiguredCardinalities() throws Exception {
+            Map<String, ByteArrayOutputStream> streams = new HashMap<>();
+            GenerationReport report = new SyntheticDataGenerator(config(42))
+                    .generate((table, columns) -> streams.computeIfAbsent(table, t -> new ByteArrayOutputStream()));
+
+            assertThat(report.users()).isEqualTo(2_000);
+            assertThat(report.projects()).isEqualTo(1_000);
+            assertThat(report.members()).isEqualTo(10_000);
+            assertThat(report.refreshTokens()).isEqualTo(5_000);
+            assertThat(streams).containsOnlyKeys("users", "projects", "project_members", "project_stats", "refresh_tokens");
+        }
+
+        @Test
+        @DisplayName("Should produce identical rows for the same seed and different rows for another seed")
+        void generate_SameSeed_Reproducible() throws Exception {
+            Map<String, List<String[]>> first = generate(config(42));
+            Map<String, List<String[]>> second = generate(config(42));
+            Map<String, List<String[]>> other = generate(config(7));
+
+            for (String table : List.of("users", "projects", "project_members", "project_stats")) {
+                assertThat(second.get(table)).as(table).usingElementComparator(Arrays::compare).isEqualTo(first.get(table));
+            }
+            assertThat(tokenColumns(second)).isEqualTo(tokenColumns(first));
+            assertThat(other.get("projects").get(0)[0]).isNotEqualTo(first.get("projects").get(0)[0]);
+        }
+
+        @Test
+        @DisplayName("Should give every project one owner and distinct members")
+        void generate_Members_OneOwnerAndDistinctUsersPerProject() throws Exception {
+            Map<String, List<String[]>> tables = generate(config(42));
+
+            Map<String, List<String[]>> byProject = tables.get("project_members").stream()
+                    .collect(Collectors.groupingBy(row -> row[0]));
+            assertThat(byProject).hasSize(1_000);
+            assertThat(byProject.values()).allSatisfy(members -> {
+                assertThat(members).filteredOn(row -> row[2].equals("OWNER")).hasSize(1);
+                assertThat(members.stream().map(row -> row[1]).distinct()).hasSameSizeAs(members);
+            });
+
+            Map<String, String> ownerByProject = tables.get("projects").stream()
+                    .collect(Collectors.toMap(row -> row[0], row -> row[3]));
+            assertThat(byProject).allSatisfy((projectId, members) -> assertThat(members)
+                    .filteredOn(row -> row[2].equals("OWNER"))
+                    .singleElement()
+                    .satisfies(row -> assertThat(row[1]).isEqualTo(ownerByProject.get(projectId))));
+        }
+
+        @Test
+        @DisplayName("Should skew members towards a few large projects")
+        void generate_ProjectSkew_FewHugeManyTinyProjects() throws Exception {
+            Map<String, List<String[]>> tables = generate(config(42));
+
+            int[] sizes = tables.get("project_stats").stream().mapToInt(row -> Integer.parseInt(row[2])).sorted().toArray();
+            int median = sizes[sizes.length / 2];
+            int largest = sizes[sizes.length - 1];
+
+            assertThat(largest).isGreaterThan(median * 100);
+            assertThat(median).isLessThanOrEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should only reference generated users")
+        void generate_ForeignKeys_ReferenceGeneratedRows() throws Exception {
+            Map<String, List<String[]>> tables = generate(config(42));
+
+            Set<String> userIds = tables.get("users").stream().map(row -> row[0]).collect(Collectors.toSet());
+            Set<String> projectIds = tables.get("projects").stream().map(row -> row[0]).collect(Collectors.toSet());
+
+            assertThat(userIds).hasSize(2_000);
+            assertThat(tables.get("projects")).allSatisfy(row -> assertThat(userIds).contains(row[3]));
+            assertThat(tables.get("project_members")).allSatisfy(row -> {
+                assertThat(projectIds).contains(row[0]);
+                assertThat(userIds).contains(row[1]);
+            });
+            assertThat(tables.get("refresh_tokens")).allSatisfy(row -> assertThat(userIds).contains(row[0]));
+        }
+
+        private List<String> tokenColumns(Map<String, List<String[]>> tables) {
+            return tables.get("refresh_tokens").stream().map(row -> row[0] + "|" + row[1]).toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("Allocator Tests")
+    class AllocatorTests {
+
+        @Test
+        @DisplayName("Should allocate the exact total within bounds")
+        void allocate_Bounds_ExactTotal() {
+            int[] counts = SkewedAllocator.allocate(1_000_000, 10_000, 1, 5_000, 1.2);
+
+            assertThat(Arrays.stream(counts).asLongStream().sum()).isEqualTo(1_000_000);
+            assertThat(Arrays.stream(counts).boxed().toList()).allSatisfy(count -> assertThat(count).isBetween(1, 5_000));
+            assertThat(counts[0]).isEqualTo(5_000);
+        }
+
+        @Test
+        @DisplayName("Should split evenly without skew")
+        void allocate_ZeroSkew_Uniform() {
+            int[] counts = SkewedAllocator.allocate(1_000, 10, 0, 1_000, 0.0);
+
+            assertThat(new HashSet<>(Arrays.stream(counts).boxed().toList())).containsExactly(100);
+        }
+
+        @Test
+        @DisplayName("Should reject a total below the minimum")
+        void allocate_TotalBelowMinimum_Throws() {
+            assertThatThrownBy(() -> SkewedAllocator.allocate(5, 10, 1, 10, 1.0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
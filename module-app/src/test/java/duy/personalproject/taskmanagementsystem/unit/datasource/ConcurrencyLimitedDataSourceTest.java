@@ -0,0 +1,117 @@
+package duy.personalproject.taskmanagementsystem.unit.datasource;
+
+import duy.personalproject.taskmanagementsystem.app.datasource.ConcurrencyLimitedDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ConcurrencyLimitedDataSource.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitedDataSource Unit Tests")
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private ConcurrencyLimitedDataSource limited(int maxConcurrency, int maxWaiting, long acquireTimeoutMs) {
+        return new ConcurrencyLimitedDataSource(target, maxConcurrency, maxWaiting, acquireTimeoutMs, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should release the permit once when the connection is closed twice")
+    void getConnection_CloseTwice_ReleasesOnce() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource dataSource = limited(1, 0, 10);
+
+        Connection first = dataSource.getConnection();
+        first.close();
+        first.close();
+
+        Connection second = dataSource.getConnection();
+        assertThat(meterRegistry.get("datasource.limiter.available").gauge().value()).isZero();
+        second.close();
+        verify(connection, times(2)).close();
+        assertThat(meterRegistry.get("datasource.limiter.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject immediately when too many callers are waiting")
+    void getConnection_WaitQueueFull_RejectsImmediately() throws Exception {
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConcurrencyLimitedDataSource dataSource = limited(1, 0, 5_000);
+        dataSource.getConnection();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+        assertThat(meterRegistry.get("datasource.limiter.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should time out a waiting caller and hand the permit over once released")
+    void getConnection_PoolBusy_WaitsForRelease() throws Exception {
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConcurrencyLimitedDataSource dataSource = limited(1, 1, 50);
+        Connection held = dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        ConcurrencyLimitedDataSource patient = limited(1, 1, 5_000);
+        Connection patientHeld = patient.getConnection();
+        CountDownLatch waiting = new CountDownLatch(1);
+        CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(() -> {
+            waiting.countDown();
+            try {
+                return patient.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        waiting.await();
+        patientHeld.close();
+
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isNotNull();
+        held.close();
+    }
+
+    @Test
+    @DisplayName("Should give the permit back when the pool fails to hand out a connection")
+    void getConnection_TargetFails_ReleasesPermit() throws Exception {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        ConcurrencyLimitedDataSource dataSource = limited(1, 0, 10);
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool exhausted");
+
+        assertThat(meterRegistry.get("datasource.limiter.available").gauge().value()).isEqualTo(1);
+    }
+}
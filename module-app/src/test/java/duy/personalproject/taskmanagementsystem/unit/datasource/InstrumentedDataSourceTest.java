@@ -0,0 +1,114 @@
+package duy.personalproject.taskmanagementsystem.unit.datasource;
+
+import duy.personalproject.taskmanagementsystem.app.datasource.InstrumentedDataSource;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for InstrumentedDataSource.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InstrumentedDataSource Unit Tests")
+class InstrumentedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private InstrumentedDataSource instrumented(int maxHolders) {
+        return new InstrumentedDataSource(target, "primary", "duy.personalproject.taskmanagementsystem", maxHolders, 0,
+                Duration.ofSeconds(30), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should attribute the hold time to the method that acquired the connection")
+    void getConnection_Close_RecordsHoldTimeOfHolder() throws Exception {
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        InstrumentedDataSource dataSource = instrumented(10);
+
+        new ReportService(dataSource).generate();
+
+        Timer hold = meterRegistry.get("datasource.connection.hold")
+                .tag("pool", "primary")
+                .tag("holder", "InstrumentedDataSourceTest$ReportService.generate")
+                .timer();
+        assertThat(hold.count()).isEqualTo(1);
+        assertThat(dataSource.topHolders(1)).singleElement().asString().startsWith("InstrumentedDataSourceTest$ReportService.generate");
+    }
+
+    @Test
+    @DisplayName("Should record the hold time and close the target once when closed twice")
+    void getConnection_CloseTwice_RecordsOnce() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        InstrumentedDataSource dataSource = instrumented(10);
+
+        Connection instrumentedConnection = dataSource.getConnection();
+        instrumentedConnection.close();
+        instrumentedConnection.close();
+
+        verify(connection, times(1)).close();
+        assertThat(meterRegistry.get("datasource.connection.hold").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report the acquire-wait p99 of the window")
+    void getConnection_SlowPool_ReportsAcquireP99() throws Exception {
+        when(target.getConnection()).thenAnswer(invocation -> {
+            Thread.sleep(30);
+            return mock(Connection.class);
+        });
+        InstrumentedDataSource dataSource = instrumented(10);
+
+        dataSource.getConnection().close();
+
+        assertThat(meterRegistry.get("datasource.connection.acquire").tag("pool", "primary").timer().count()).isEqualTo(1);
+        assertThat(dataSource.acquireP99Millis()).isGreaterThanOrEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("Should attribute holders beyond the limit to other")
+    void getConnection_TooManyHolders_AttributesToOther() throws Exception {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        InstrumentedDataSource dataSource = instrumented(1);
+
+        new ReportService(dataSource).generate();
+        dataSource.getConnection().close();
+
+        assertThat(meterRegistry.get("datasource.connection.hold").timers())
+                .extracting(timer -> timer.getId().getTag("holder"))
+                .containsExactlyInAnyOrder("InstrumentedDataSourceTest$ReportService.generate", "other");
+    }
+
+    private record ReportService(DataSource dataSource) {
+
+        void generate() throws SQLException {
+            try (Connection ignored = dataSource.getConnection()) {
+                // holds the connection for the duration of the report
+            }
+        }
+    }
+}
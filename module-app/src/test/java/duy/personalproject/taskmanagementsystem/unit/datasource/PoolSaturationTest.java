@@ -0,0 +1,114 @@
+package duy.personalproject.taskmanagementsystem.unit.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duy.personalproject.taskmanagementsystem.app.config.properties.DataSourceTelemetryConfigProperties;
+import duy.personalproject.taskmanagementsystem.app.datasource.InstrumentedDataSource;
+import duy.personalproject.taskmanagementsystem.app.datasource.PoolSaturationFilter;
+import duy.personalproject.taskmanagementsystem.app.datasource.PoolSaturationMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PoolSaturationMonitor and PoolSaturationFilter.
+ */
+@DisplayName("Pool Saturation Unit Tests")
+class PoolSaturationTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSourceTelemetryConfigProperties.Saturation properties;
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new DataSourceTelemetryConfigProperties.Saturation();
+        properties.setAcquireP99ThresholdMs(10);
+
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> {
+            Thread.sleep(30);
+            return mock(Connection.class);
+        });
+        dataSource = new InstrumentedDataSource(target, "primary", "duy.personalproject.taskmanagementsystem", 10, 0,
+                Duration.ofSeconds(30), meterRegistry);
+    }
+
+    private PoolSaturationMonitor monitor() {
+        return new PoolSaturationMonitor(properties, () -> List.of(dataSource), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should stay unsaturated while the acquire p99 is below the threshold")
+    void check_FastPool_NotSaturated() {
+        PoolSaturationMonitor monitor = monitor();
+
+        monitor.check();
+
+        assertThat(monitor.isSaturated()).isFalse();
+        assertThat(meterRegistry.get("datasource.saturated").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should only warn under the WARN policy")
+    void check_SlowPoolWarnPolicy_SaturatedWithoutShedding() throws Exception {
+        PoolSaturationMonitor monitor = monitor();
+        dataSource.getConnection().close();
+
+        monitor.check();
+
+        assertThat(monitor.isSaturated()).isTrue();
+        assertThat(monitor.isShedding()).isFalse();
+        assertThat(meterRegistry.get("datasource.saturated").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject API requests with 503 and Retry-After under the SHED policy")
+    void doFilter_SlowPoolShedPolicy_Rejects() throws Exception {
+        properties.setPolicy(DataSourceTelemetryConfigProperties.SaturationPolicy.SHED);
+        PoolSaturationMonitor monitor = monitor();
+        dataSource.getConnection().close();
+        monitor.check();
+        PoolSaturationFilter filter = new PoolSaturationFilter(monitor, new ObjectMapper(), 2, meterRegistry);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/projects"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("\"SERVICE_UNAVAILABLE\"");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(meterRegistry.get("datasource.saturation.shed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should let non-API requests through while shedding")
+    void doFilter_ActuatorWhileShedding_PassesThrough() throws Exception {
+        properties.setPolicy(DataSourceTelemetryConfigProperties.SaturationPolicy.SHED);
+        PoolSaturationMonitor monitor = monitor();
+        dataSource.getConnection().close();
+        monitor.check();
+        PoolSaturationFilter filter = new PoolSaturationFilter(monitor, new ObjectMapper(), 1, meterRegistry);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+}
@@ -0,0 +1,301 @@
+package duy.personalproject.taskmanagementsystem.unit.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import duy.personalproject.taskmanagementsystem.app.config.properties.ReadReplicaConfigProperties;
+import duy.personalproject.taskmanagementsystem.app.datasource.ReadWriteRoutingDataSource;
+import duy.personalproject.taskmanagementsystem.app.datasource.ReadYourWritesTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ReadWriteRoutingDataSource and ReadYourWritesTracker.
+ * Transactions are simulated by setting the read-only flag and synchronization of TransactionSynchronizationManager.
+ */
+@DisplayName("ReadWriteRoutingDataSource Unit Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final AtomicReference<String> client = new AtomicReference<>("alice");
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource primary;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        primary = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static DataSource replica(Connection connection, double lagMs) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagMs);
+        return dataSource;
+    }
+
+    private ReadWriteRoutingDataSource routing(ReadReplicaConfigProperties.LoadBalancingPolicy policy, ReadYourWritesTracker tracker,
+                                               ReadWriteRoutingDataSource.Replica... replicas) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, List.of(replicas), policy, 1_000, tracker,
+                client::get, meterRegistry);
+        routing.checkReplicas();
+        return routing;
+    }
+
+    private ReadWriteRoutingDataSource routing(ReadWriteRoutingDataSource.Replica... replicas) {
+        return routing(ReadReplicaConfigProperties.LoadBalancingPolicy.ROUND_ROBIN, new ReadYourWritesTracker(5_000, 100), replicas);
+    }
+
+    private double routed(String route) {
+        return meterRegistry.get("datasource.routing").tag("route", route).counter().count();
+    }
+
+    @Nested
+    @DisplayName("Routing Tests")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("Should send connections outside read-only transactions to the primary")
+        void getConnection_ReadWrite_UsesPrimary() throws Exception {
+            ReadWriteRoutingDataSource routing = routing(new ReadWriteRoutingDataSource.Replica("replica-1", replica(mock(Connection.class), 0)));
+
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+            assertThat(routed("primary")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should send read-only transactions to the replicas in turn")
+        void getConnection_ReadOnlyRoundRobin_AlternatesReplicas() throws Exception {
+            Connection first = mock(Connection.class);
+            Connection second = mock(Connection.class);
+            ReadWriteRoutingDataSource routing = routing(
+                    new ReadWriteRoutingDataSource.Replica("replica-1", replica(first, 0)),
+                    new ReadWriteRoutingDataSource.Replica("replica-2", replica(second, 0)));
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            List<Connection> connections = List.of(routing.getConnection(), routing.getConnection(), routing.getConnection(), routing.getConnection());
+
+            assertThat(connections).containsExactly(first, second, first, second);
+            assertThat(routed("replica")).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should prefer the replica with the lowest lag")
+        void getConnection_LeastLag_PicksFreshestReplica() throws Exception {
+            Connection lagging = mock(Connection.class);
+            Connection fresh = mock(Connection.class);
+            ReadWriteRoutingDataSource routing = routing(ReadReplicaConfigProperties.LoadBalancingPolicy.LEAST_LAG, new ReadYourWritesTracker(5_000, 100),
+                    new ReadWriteRoutingDataSource.Replica("replica-1", replica(lagging, 800)),
+                    new ReadWriteRoutingDataSource.Replica("replica-2", replica(fresh, 10)));
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            assertThat(routing.getConnection()).isSameAs(fresh);
+            assertThat(routing.getConnection()).isSameAs(fresh);
+        }
+    }
+
+    @Nested
+    @DisplayName("Fallback Tests")
+    class FallbackTests {
+
+        @Test
+        @DisplayName("Should fall back to the primary while the replica lags too far behind")
+        void getConnection_ReplicaLagging_FallsBackToPrimary() throws Exception {
+            ReadWriteRoutingDataSource routing = routing(new ReadWriteRoutingDataSource.Replica("replica-1", replica(mock(Connection.class), 5_000)));
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+            assertThat(routed("fallback")).isEqualTo(1);
+            assertThat(meterRegistry.get("datasource.replica.available").tag("replica", "replica-1").gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should fall back to the primary while the replica is not streaming WAL, even if it replayed everything it received")
+        void getConnection_ReplicaNotStreaming_FallsBackToPrimary() throws Exception {
+            Connection replicaConnection = mock(Connection.class);
+            DataSource replica = replica(replicaConnection, 0);
+            when(replicaConnection.createStatement().executeQuery(anyString()).wasNull()).thenReturn(true);
+            ReadWriteRoutingDataSource routing = routing(new ReadWriteRoutingDataSource.Replica("replica-1", replica));
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+            assertThat(routed("fallback")).isEqualTo(1);
+            assertThat(meterRegistry.get("datasource.replica.available").tag("replica", "replica-1").gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should fall back to the primary and skip a replica that fails to connect")
+        void getConnection_ReplicaDown_FallsBackAndSkipsReplica() throws Exception {
+            DataSource replica = replica(mock(Connection.class), 0);
+            ReadWriteRoutingDataSource routing = routing(new ReadWriteRoutingDataSource.Replica("replica-1", replica));
+            when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+            assertThat(routed("fallback")).isEqualTo(2);
+            assertThat(meterRegistry.get("datasource.replica.available").tag("replica", "replica-1").gauge().value()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Lifecycle Tests")
+    class LifecycleTests {
+
+        @Test
+        @DisplayName("Should close the replica pools, also behind a wrapper, when destroyed")
+        void destroy_ClosesReplicaPools() throws Exception {
+            HikariDataSource pool = mock(HikariDataSource.class);
+            when(pool.getConnection()).thenThrow(new SQLException("not started"));
+            ReadWriteRoutingDataSource routing = routing(
+                    new ReadWriteRoutingDataSource.Replica("replica-1", new DelegatingDataSource(pool)),
+                    new ReadWriteRoutingDataSource.Replica("replica-2", replica(mock(Connection.class), 0)));
+
+            routing.destroy();
+
+            verify(pool).close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Read-Your-Writes Tests")
+    class ReadYourWritesTests {
+
+        @Test
+        @DisplayName("Should read from the primary after the client's own write commits")
+        void getConnection_AfterOwnWrite_SticksToPrimary() throws Exception {
+            Connection replicaConnection = mock(Connection.class);
+            ReadWriteRoutingDataSource routing = routing(new ReadWriteRoutingDataSource.Replica("replica-1", replica(replicaConnection, 0)));
+
+            commit(routing, "UPDATE projects SET name = ? WHERE id = ?", false);
+
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+            assertThat(routed("sticky")).isEqualTo(1);
+
+            client.set("bob");
+            assertThat(routing.getConnection()).isSameAs(replicaConnection);
+        }
+
+        @Test
+        @DisplayName("Should stick after an insert that returns its row")
+        void getConnection_AfterInsertReturning_SticksToPrimary() throws Exception {
+            ReadWriteRoutingDataSource routing = routing(new ReadWriteRoutingDataSource.Replica("replica-1", replica(mock(Connection.class), 0)));
+
+            commit(routing, "insert into projects (id, name) values (?, ?) returning created_at", true);
+
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        }
+
+        @Test
+        @DisplayName("Should not stick after a read-write transaction that only queried")
+        void getConnection_AfterReadWriteQuery_UsesReplica() throws Exception {
+            Connection replicaConnection = mock(Connection.class);
+            ReadWriteRoutingDataSource routing = routing(new ReadWriteRoutingDataSource.Replica("replica-1", replica(replicaConnection, 0)));
+
+            commit(routing, "SELECT * FROM project_activity WHERE id > ?", true);
+
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            assertThat(routing.getConnection()).isSameAs(replicaConnection);
+            assertThat(routed("sticky")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not stick when the write transaction rolls back")
+        void getConnection_AfterRollback_UsesReplica() throws Exception {
+            Connection replicaConnection = mock(Connection.class);
+            ReadWriteRoutingDataSource routing = routing(new ReadWriteRoutingDataSource.Replica("replica-1", replica(replicaConnection, 0)));
+            when(primaryConnection.createStatement()).thenReturn(mock(Statement.class));
+
+            TransactionSynchronizationManager.initSynchronization();
+            routing.getConnection().createStatement().executeUpdate("DELETE FROM projects");
+            TransactionSynchronizationManager.clearSynchronization();
+
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            assertThat(routing.getConnection()).isSameAs(replicaConnection);
+        }
+
+        /**
+         * Runs one statement in a read-write transaction on the routed connection and commits it.
+         */
+        private void commit(ReadWriteRoutingDataSource routing, String sql, boolean query) throws SQLException {
+            PreparedStatement statement = mock(PreparedStatement.class);
+            when(primaryConnection.prepareStatement(sql)).thenReturn(statement);
+
+            TransactionSynchronizationManager.initSynchronization();
+            PreparedStatement routed = routing.getConnection().prepareStatement(sql);
+            if (query) {
+                routed.executeQuery();
+            } else {
+                routed.executeUpdate();
+            }
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+
+        @Test
+        @DisplayName("Should expire stickiness after the window")
+        void isSticky_AfterWindow_Expires() throws Exception {
+            ReadYourWritesTracker tracker = new ReadYourWritesTracker(20, 100);
+
+            tracker.recordWrite("alice");
+            assertThat(tracker.isSticky("alice")).isTrue();
+            assertThat(tracker.isSticky("bob")).isFalse();
+
+            Thread.sleep(40);
+            tracker.evictExpired();
+            assertThat(tracker.isSticky("alice")).isFalse();
+            assertThat(tracker.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should make every client sticky when too many clients are tracked")
+        void recordWrite_TooManyClients_EveryoneSticky() {
+            ReadYourWritesTracker tracker = new ReadYourWritesTracker(5_000, 2);
+
+            tracker.recordWrite("alice");
+            tracker.recordWrite("bob");
+            tracker.recordWrite("carol");
+
+            assertThat(tracker.size()).isEqualTo(2);
+            assertThat(tracker.isSticky("carol")).isTrue();
+            assertThat(tracker.isSticky("dave")).isTrue();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package duy.personalproject.taskmanagementsystem.unit.datasource;
+
+import duy.personalproject.taskmanagementsystem.app.config.properties.SqlStatementConfigProperties;
+import duy.personalproject.taskmanagementsystem.app.datasource.SqlStatementFilter;
+import duy.personalproject.taskmanagementsystem.app.datasource.SqlStatementMonitor;
+import duy.personalproject.taskmanagementsystem.app.datasource.SqlStatementStats;
+import duy.personalproject.taskmanagementsystem.app.datasource.StatementCountingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the per-request statement counting: StatementCountingDataSource, SqlStatementMonitor and
+ * SqlStatementFilter.
+ */
+@DisplayName("SQL Statement Budget Unit Tests")
+class SqlStatementBudgetTest {
+    private static final String SELECT_OWNER = "select u.id, u.username from users u where u.id=?";
+
+    private StatementCountingDataSource dataSource;
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementConfigProperties properties;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+        when(connection.createStatement()).thenAnswer(invocation -> mock(Statement.class));
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new StatementCountingDataSource(target);
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new SqlStatementConfigProperties();
+        properties.setMaxStatementsPerRequest(3);
+        properties.setRepeatThreshold(3);
+    }
+
+    /**
+     * Runs the owner lookup once per project, the way a lazy association loaded in a loop does.
+     */
+    private void loadOwners(int projects) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            for (int i = 0; i < projects; i++) {
+                try (PreparedStatement statement = connection.prepareStatement(SELECT_OWNER)) {
+                    statement.setInt(1, i);
+                    statement.executeQuery();
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Statement Counting Tests")
+    class StatementCountingTests {
+        private SqlStatementStats stats;
+
+        @AfterEach
+        void tearDown() {
+            if (stats != null) {
+                stats.stop();
+            }
+        }
+
+        @Test
+        @DisplayName("Should count executions of the same prepared SQL together, whatever their parameters")
+        void executeQuery_SamePreparedSql_CountedPerSql() throws SQLException {
+            stats = SqlStatementStats.start(100);
+
+            loadOwners(4);
+
+            assertThat(stats.statements()).isEqualTo(4);
+            assertThat(stats.mostRepeated()).hasValue(new SqlStatementStats.Repeat(SELECT_OWNER, 4));
+        }
+
+        @Test
+        @DisplayName("Should count a batch as one statement and a plain statement by its SQL")
+        void executeBatch_ManyRows_CountedOnce() throws SQLException {
+            stats = SqlStatementStats.start(100);
+
+            try (Connection connection = dataSource.getConnection()) {
+                PreparedStatement insert = connection.prepareStatement("insert into tasks(id) values (?)");
+                for (int i = 0; i < 10; i++) {
+                    insert.setInt(1, i);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                Statement statement = connection.createStatement();
+                statement.execute("select 1");
+                assertThat(statement.getConnection()).isSameAs(connection);
+            }
+
+            assertThat(stats.statements()).isEqualTo(2);
+            assertThat(stats.mostRepeated()).get().extracting(SqlStatementStats.Repeat::executions).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should record nothing on a thread that has not started recording")
+        void executeQuery_NotStarted_NotRecorded() throws SQLException {
+            loadOwners(2);
+            stats = SqlStatementStats.start(100);
+
+            assertThat(stats.statements()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should keep counting the totals beyond the distinct SQL limit")
+        void executeQuery_ManyDistinctSql_TotalsStillCounted() throws SQLException {
+            stats = SqlStatementStats.start(1);
+
+            try (Connection connection = dataSource.getConnection()) {
+                connection.prepareStatement("select 1").execute();
+                connection.prepareStatement("select 2").execute();
+                connection.prepareStatement("select 2").execute();
+            }
+
+            assertThat(stats.statements()).isEqualTo(3);
+            assertThat(stats.mostRepeated()).hasValue(new SqlStatementStats.Repeat("select 1", 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Monitor Tests")
+    class MonitorTests {
+
+        @Test
+        @DisplayName("Should export the statements of a request and tell the listeners")
+        void requestCompleted_WithinBudget_RecordsMetrics() throws SQLException {
+            SqlStatementMonitor monitor = new SqlStatementMonitor(properties, meterRegistry);
+            List<Integer> seen = new ArrayList<>();
+            monitor.addListener((method, uri, stats) -> seen.add(stats.statements()));
+            SqlStatementStats stats = SqlStatementStats.start(100);
+            loadOwners(2);
+            stats.stop();
+
+            monitor.requestCompleted("GET", "/api/v1/projects/{projectId}", stats);
+
+            assertThat(meterRegistry.get("http.server.requests.sql.statements")
+                    .tag("method", "GET").tag("uri", "/api/v1/projects/{projectId}")
+                    .summary().totalAmount()).isEqualTo(2);
+            assertThat(meterRegistry.get("http.server.requests.sql.time").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.find("http.server.requests.sql.over.budget").counter()).isNull();
+            assertThat(seen).containsExactly(2);
+        }
+
+        @Test
+        @DisplayName("Should count a request over the statement budget with repeated SQL for both reasons")
+        void requestCompleted_NPlusOne_CountedOverBudget() throws SQLException {
+            SqlStatementMonitor monitor = new SqlStatementMonitor(properties, meterRegistry);
+            SqlStatementStats stats = SqlStatementStats.start(100);
+            loadOwners(5);
+            stats.stop();
+
+            monitor.requestCompleted("GET", "/api/v1/projects", stats);
+
+            assertThat(meterRegistry.get("http.server.requests.sql.over.budget").tag("reason", "statements").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("http.server.requests.sql.over.budget").tag("reason", "repeated").counter().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter Tests")
+    class FilterTests {
+
+        private MockHttpServletRequest request(String uri) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/projects");
+            return request;
+        }
+
+        @Test
+        @DisplayName("Should send the counts as headers before the body commits the response")
+        void doFilter_HeadersEnabled_WritesCountsOnCommit() throws Exception {
+            SqlStatementFilter filter = new SqlStatementFilter(new SqlStatementMonitor(properties, meterRegistry), true);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(request("/api/v1/projects"), response, (req, res) -> {
+                try {
+                    loadOwners(2);
+                    res.getOutputStream().write("[]".getBytes());
+                    res.flushBuffer();
+                    // after the commit: in the metrics only
+                    loadOwners(1);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            assertThat(response.getHeader(SqlStatementFilter.STATEMENTS_HEADER)).isEqualTo("2");
+            assertThat(response.getHeader(SqlStatementFilter.TIME_HEADER)).isNotNull();
+            assertThat(meterRegistry.get("http.server.requests.sql.statements").tag("uri", "/api/v1/projects")
+                    .summary().totalAmount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should send the counts of a response without a body")
+        void doFilter_NoBody_WritesCountsAfterChain() throws Exception {
+            SqlStatementFilter filter = new SqlStatementFilter(new SqlStatementMonitor(properties, meterRegistry), true);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(request("/api/v1/projects"), response, (req, res) -> {
+                try {
+                    loadOwners(1);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            assertThat(response.getHeader(SqlStatementFilter.STATEMENTS_HEADER)).isEqualTo("1");
+        }
+
+        @Test
+        @DisplayName("Should neither send headers when disabled nor record requests outside of the API")
+        void doFilter_HeadersDisabledOrNotApi_NoHeaders() throws Exception {
+            SqlStatementFilter filter = new SqlStatementFilter(new SqlStatementMonitor(properties, meterRegistry), false);
+            MockHttpServletResponse apiResponse = new MockHttpServletResponse();
+            MockHttpServletResponse actuatorResponse = new MockHttpServletResponse();
+
+            filter.doFilter(request("/api/v1/projects"), apiResponse, (req, res) -> {
+            });
+            filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), actuatorResponse, (req, res) -> {
+            });
+
+            assertThat(apiResponse.getHeader(SqlStatementFilter.STATEMENTS_HEADER)).isNull();
+            assertThat(meterRegistry.get("http.server.requests.sql.statements").summary().count()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package duy.personalproject.taskmanagementsystem.unit.diagnostics;
+
+import duy.personalproject.taskmanagementsystem.app.diagnostics.StartupPhaseReport;
+import duy.personalproject.taskmanagementsystem.app.diagnostics.StartupPhaseReport.Phase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for StartupPhaseReport, on steps recorded by a BufferingApplicationStartup while sleeping.
+ */
+@DisplayName("StartupPhaseReport Unit Tests")
+class StartupPhaseReportTest {
+
+    private final BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(100);
+
+    private StartupStep instantiate(String beanName, String beanType) {
+        return applicationStartup.start("spring.beans.instantiate").tag("beanName", beanName).tag("beanType", beanType);
+    }
+
+    @Test
+    @DisplayName("Should count nested steps with their self time only")
+    void of_NestedBeans_SelfTimePerPhase() throws Exception {
+        StartupStep refresh = applicationStartup.start("spring.context.refresh");
+        StartupStep flyway = instantiate("flywayInitializer", "org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer");
+        StartupStep entityManagerFactory = instantiate("entityManagerFactory", "org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean");
+        Thread.sleep(100);
+        entityManagerFactory.end();
+        Thread.sleep(50);
+        flyway.end();
+        refresh.end();
+
+        StartupPhaseReport report = StartupPhaseReport.of(applicationStartup.getBufferedTimeline(), 5);
+
+        assertThat(report.phase(Phase.JPA)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+        assertThat(report.phase(Phase.FLYWAY)).isBetween(Duration.ofMillis(50), Duration.ofMillis(100));
+        assertThat(report.phase(Phase.CONTEXT)).isLessThan(Duration.ofMillis(50));
+        assertThat(report.total()).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+        assertThat(report.slowestBeans()).extracting(StartupPhaseReport.BeanTiming::beanName)
+                .containsExactly("entityManagerFactory", "flywayInitializer");
+    }
+
+    @Test
+    @DisplayName("Should classify beans and framework steps into phases")
+    void of_Steps_Classified() {
+        instantiate("projectMapperImpl", "duy.personalproject.taskmanagementsystem.project.mapper.ProjectMapperImpl").end();
+        instantiate("securityFilterChain", "org.springframework.security.web.SecurityFilterChain").end();
+        instantiate("openApiResource", "org.springdoc.webmvc.api.OpenApiWebMvcResource").end();
+        instantiate("projectRepository", "duy.personalproject.taskmanagementsystem.project.repository.ProjectRepository").end();
+        instantiate("projectServiceImpl", "duy.personalproject.taskmanagementsystem.project.service.impl.ProjectServiceImpl").end();
+        applicationStartup.start("spring.context.config-classes.parse").end();
+        applicationStartup.start("spring.boot.application.environment-prepared").end();
+
+        StartupPhaseReport report = StartupPhaseReport.of(applicationStartup.getBufferedTimeline(), 10);
+
+        assertThat(report.phases()).containsOnlyKeys(Phase.MAPSTRUCT, Phase.SECURITY, Phase.SPRINGDOC, Phase.JPA,
+                Phase.OTHER_BEANS, Phase.CONFIGURATION, Phase.BOOT);
+        assertThat(report.slowestBeans()).hasSize(5);
+        assertThat(report.format()).contains("mapstruct", "other-beans", "slowest beans: ");
+    }
+}
@@ -0,0 +1,43 @@
+package duy.personalproject.taskmanagementsystem.unit.diagnostics;
+
+import duy.personalproject.taskmanagementsystem.app.diagnostics.VirtualThreadPinningMonitor;
+import duy.personalproject.taskmanagementsystem.app.diagnostics.VirtualThreadPinningMonitor.PinningSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the pinning classification of VirtualThreadPinningMonitor.
+ * The JFR event itself only exists on JDK 21 and later.
+ */
+@DisplayName("VirtualThreadPinningMonitor Unit Tests")
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    @DisplayName("Should attribute a pinning inside the driver or pool to JDBC")
+    void classify_DriverFrame_Jdbc() {
+        assertThat(VirtualThreadPinningMonitor.classify(List.of(
+                "java.lang.Object", "org.postgresql.core.v3.QueryExecutorImpl", "org.hibernate.engine.jdbc.internal.ResultSetReturnImpl")))
+                .isEqualTo(PinningSource.JDBC);
+        assertThat(VirtualThreadPinningMonitor.classify(List.of("com.zaxxer.hikari.pool.HikariPool")))
+                .isEqualTo(PinningSource.JDBC);
+    }
+
+    @Test
+    @DisplayName("Should attribute a pinning inside Hibernate to Hibernate")
+    void classify_HibernateFrame_Hibernate() {
+        assertThat(VirtualThreadPinningMonitor.classify(List.of("java.lang.Object", "org.hibernate.internal.SessionImpl")))
+                .isEqualTo(PinningSource.HIBERNATE);
+    }
+
+    @Test
+    @DisplayName("Should attribute any other synchronized section to the application")
+    void classify_NoLibraryFrame_Application() {
+        assertThat(VirtualThreadPinningMonitor.classify(List.of("java.lang.Object", "duy.personalproject.taskmanagementsystem.Foo")))
+                .isEqualTo(PinningSource.APPLICATION);
+        assertThat(VirtualThreadPinningMonitor.classify(List.of())).isEqualTo(PinningSource.APPLICATION);
+    }
+}
@@ -0,0 +1,144 @@
+package duy.personalproject.taskmanagementsystem.unit.exception;
+
+import duy.personalproject.taskmanagementsystem.core.exception.BusinessException;
+import duy.personalproject.taskmanagementsystem.core.exception.ErrorCode;
+import duy.personalproject.taskmanagementsystem.core.exception.GlobalExceptionHandler;
+import duy.personalproject.taskmanagementsystem.core.exception.ResourceNotFoundException;
+import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
+import duy.personalproject.taskmanagementsystem.core.model.common.ErrorDetails;
+import duy.personalproject.taskmanagementsystem.core.util.LogRateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the cheap expected-error path: stackless business exceptions, shared error details and
+ * rate-limited error logging.
+ */
+@DisplayName("Error Handling Unit Tests")
+class ErrorHandlingTest {
+
+    /**
+     * Chooses whether to record the stack trace, whatever the JVM-wide setting.
+     */
+    private static final class TracedException extends BusinessException {
+        TracedException(String message, Throwable cause, boolean writableStackTrace) {
+            super(message, ErrorCode.BUSINESS_ERROR, cause, writableStackTrace);
+        }
+    }
+
+    @Nested
+    @DisplayName("Stack Trace Tests")
+    class StackTraceTests {
+
+        @Test
+        @DisplayName("Should follow the JVM-wide setting, off unless configured")
+        void create_Default_FollowsJvmSetting() {
+            BusinessException exception = new ResourceNotFoundException("Project not found");
+
+            assertThat(BusinessException.isStackTraceEnabled())
+                    .isEqualTo(Boolean.getBoolean(BusinessException.STACK_TRACES_PROPERTY)
+                            || "true".equalsIgnoreCase(System.getenv("BUSINESS_EXCEPTION_STACK_TRACES")));
+            assertThat(exception.getStackTrace().length > 0).isEqualTo(BusinessException.isStackTraceEnabled());
+        }
+
+        @Test
+        @DisplayName("Should record the stack trace when enabled")
+        void create_StackTracesEnabled_HasStackTrace() {
+            BusinessException exception = new TracedException("Project not found", null, true);
+
+            assertThat(exception.getStackTrace()).isNotEmpty();
+        }
+
+        @Test
+        @DisplayName("Should skip the stack trace but keep message, code and cause when disabled")
+        void create_StackTracesDisabled_HasNoStackTrace() {
+            IllegalStateException cause = new IllegalStateException("boom");
+
+            BusinessException exception = new TracedException("Failed", cause, false);
+
+            assertThat(exception.getStackTrace()).isEmpty();
+            assertThat(exception.getMessage()).isEqualTo("Failed");
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.BUSINESS_ERROR);
+            assertThat(exception.getCause()).isSameAs(cause);
+        }
+    }
+
+    @Nested
+    @DisplayName("Error Details Tests")
+    class ErrorDetailsTests {
+
+        @Test
+        @DisplayName("Should share error details for the same code and message")
+        void of_SameCodeAndMessage_ReturnsSameInstance() {
+            ErrorDetails first = ErrorDetails.of(ErrorCode.PROJECT_NOT_FOUND, ErrorCode.PROJECT_NOT_FOUND.getMessage());
+            ErrorDetails second = ErrorDetails.of(ErrorCode.PROJECT_NOT_FOUND);
+
+            assertThat(first).isSameAs(second);
+            assertThat(first.getCode()).isEqualTo(ErrorCode.PROJECT_NOT_FOUND.getCode());
+            assertThat(first.getDetails()).isEqualTo(ErrorCode.PROJECT_NOT_FOUND.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should stop sharing once a code has too many distinct messages")
+        void of_ManyDistinctMessages_BuildsUnsharedDetails() {
+            for (int i = 0; i < 100; i++) {
+                ErrorDetails.of(ErrorCode.RESOURCE_NOT_FOUND, "Resource " + i + " not found");
+            }
+
+            ErrorDetails first = ErrorDetails.of(ErrorCode.RESOURCE_NOT_FOUND, "Resource 99 not found");
+            ErrorDetails second = ErrorDetails.of(ErrorCode.RESOURCE_NOT_FOUND, "Resource 99 not found");
+
+            assertThat(first).isNotSameAs(second).isEqualTo(second);
+        }
+    }
+
+    @Nested
+    @DisplayName("Log Rate Limiter Tests")
+    class LogRateLimiterTests {
+
+        @Test
+        @DisplayName("Should suppress statements beyond the permits and report them with the next one")
+        void tryAcquire_BeyondPermits_SuppressesAndReports() throws Exception {
+            LogRateLimiter limiter = new LogRateLimiter(2, 50, TimeUnit.MILLISECONDS);
+
+            assertThat(limiter.tryAcquire(ErrorCode.PROJECT_NOT_FOUND)).isZero();
+            assertThat(limiter.tryAcquire(ErrorCode.PROJECT_NOT_FOUND)).isZero();
+            assertThat(limiter.tryAcquire(ErrorCode.PROJECT_NOT_FOUND)).isEqualTo(LogRateLimiter.SUPPRESSED);
+            assertThat(limiter.tryAcquire(ErrorCode.PROJECT_NOT_FOUND)).isEqualTo(LogRateLimiter.SUPPRESSED);
+            assertThat(limiter.tryAcquire(ErrorCode.UNAUTHORIZED)).isZero();
+
+            Thread.sleep(80);
+            long suppressed = limiter.tryAcquire(ErrorCode.PROJECT_NOT_FOUND);
+            assertThat(suppressed).isEqualTo(2);
+            assertThat(LogRateLimiter.suppressedSuffix(suppressed)).isEqualTo(" (2 similar suppressed)");
+            assertThat(LogRateLimiter.suppressedSuffix(0)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Global Exception Handler Tests")
+    class GlobalExceptionHandlerTests {
+
+        @Test
+        @DisplayName("Should answer a suppressed 404 with the same response as a logged one")
+        void handleBusinessException_LoggingSuppressed_SameResponse() {
+            GlobalExceptionHandler handler = new GlobalExceptionHandler(new LogRateLimiter(1, 1, TimeUnit.HOURS));
+
+            ResponseEntity<ApiResponse<Void>> logged = handler.handleBusinessException(
+                    new ResourceNotFoundException(ErrorCode.PROJECT_NOT_FOUND.getMessage()), null);
+            ResponseEntity<ApiResponse<Void>> suppressed = handler.handleBusinessException(
+                    new ResourceNotFoundException(ErrorCode.PROJECT_NOT_FOUND.getMessage()), null);
+
+            assertThat(suppressed.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND).isEqualTo(logged.getStatusCode());
+            assertThat(suppressed.getBody().getMessage()).isEqualTo(logged.getBody().getMessage());
+            assertThat(suppressed.getBody().getError()).isSameAs(logged.getBody().getError());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package duy.personalproject.taskmanagementsystem.unit.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import duy.personalproject.taskmanagementsystem.core.json.CoreJacksonModule;
+import duy.personalproject.taskmanagementsystem.core.json.IsoInstant;
+import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
+import duy.personalproject.taskmanagementsystem.core.model.common.ErrorDetails;
+import duy.personalproject.taskmanagementsystem.core.model.common.PaginationResponse;
+import duy.personalproject.taskmanagementsystem.project.json.ProjectJacksonModule;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the hand-written response serializers.
+ * Every response must serialize to exactly the JSON of Jackson's reflective serializers.
+ */
+@DisplayName("Response Serialization Unit Tests")
+class ResponseSerializationTest {
+    // dates as ISO-8601 strings, like Spring Boot's mapper
+    private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ObjectMapper tuned = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(new BlackbirdModule(), new CoreJacksonModule(), new ProjectJacksonModule())
+            .build();
+
+    private static ProjectResponse project(int i) {
+        return new ProjectResponse(new UUID(i, i), "Project " + i, "Description \"" + i + "\"", new UUID(0, i), i,
+                Instant.parse("2025-01-01T00:00:00Z").plusSeconds(i), Instant.parse("2025-01-02T00:00:00.123Z"));
+    }
+
+    private void assertSameJson(Object value) throws Exception {
+        assertThat(tuned.writeValueAsString(value)).isEqualTo(reflective.writeValueAsString(value));
+    }
+
+    @Test
+    @DisplayName("Should serialize a page of projects like the reflective serializers")
+    void serialize_ProjectPage_SameJson() throws Exception {
+        List<ProjectResponse> projects = List.of(project(1), project(2), project(3));
+
+        assertSameJson(ApiResponse.ok(PaginationResponse.of(new PageImpl<>(projects, PageRequest.of(1, 3), 20))));
+        assertSameJson(ApiResponse.ok(PaginationResponse.of(new PageImpl<>(List.<ProjectResponse>of(), PageRequest.of(0, 10), 0))));
+    }
+
+    @Test
+    @DisplayName("Should serialize null components like the reflective serializers")
+    void serialize_NullComponents_SameJson() throws Exception {
+        assertSameJson(new ProjectResponse(null, null, null, null, 0, null, null));
+        assertSameJson(ApiResponse.okWithMessage("Project deleted successfully"));
+        assertSameJson(ApiResponse.builder().build());
+        assertSameJson(new PaginationResponse<>(null, null));
+        assertSameJson(new PaginationResponse<>(Arrays.asList(project(1), null), null));
+    }
+
+    @Test
+    @DisplayName("Should serialize error responses like the reflective serializers")
+    void serialize_ErrorResponse_SameJson() throws Exception {
+        assertSameJson(ApiResponse.error(404, "Project not found", "PROJECT_NOT_FOUND", "Project not found"));
+        assertSameJson(ApiResponse.<Void>builder()
+                .success(false)
+                .code(400)
+                .message("Validation failed")
+                .error(ErrorDetails.withFieldErrors("VALIDATION_ERROR", "Invalid input", Map.of("name", "must not be blank")))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should serialize other payloads inside the envelope through the regular serializers")
+    void serialize_OtherPayload_SameJson() throws Exception {
+        assertSameJson(ApiResponse.ok(Map.of("token", "abc", "expiresIn", 3600)));
+        assertSameJson(ApiResponse.created(project(7)));
+    }
+
+    @Test
+    @DisplayName("Should follow the mapper's date configuration")
+    void serialize_DatesAsTimestamps_SameJson() throws Exception {
+        ObjectMapper reflectiveTimestamps = reflective.copy().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper tunedTimestamps = tuned.copy().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ApiResponse<ProjectResponse> response = ApiResponse.ok(project(3));
+
+        assertThat(tunedTimestamps.writeValueAsString(response)).isEqualTo(reflectiveTimestamps.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("Should format instants exactly like ISO_INSTANT")
+    void format_AnyInstant_MatchesIsoInstant() {
+        List<Instant> instants = new ArrayList<>(List.of(Instant.EPOCH, Instant.parse("0000-01-01T00:00:00Z"),
+                Instant.parse("9999-12-31T23:59:59.999999999Z"), Instant.parse("2024-02-29T12:00:00.100Z"),
+                Instant.parse("1969-12-31T23:59:59.000001Z"), Instant.parse("-0001-12-31T23:59:59Z"),
+                Instant.parse("+10000-01-01T00:00:00Z"), Instant.MIN, Instant.MAX));
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long second = random.nextLong(-62_167_219_200L, 253_402_300_800L);
+            int nano = switch (i % 4) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(1_000) * 1_000_000;
+                case 2 -> random.nextInt(1_000_000) * 1_000;
+                default -> random.nextInt(1_000_000_000);
+            };
+            instants.add(Instant.ofEpochSecond(second, nano));
+        }
+
+        for (Instant instant : instants) {
+            assertThat(IsoInstant.format(instant)).isEqualTo(DateTimeFormatter.ISO_INSTANT.format(instant));
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package duy.personalproject.taskmanagementsystem.unit.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duy.personalproject.taskmanagementsystem.auth.config.properties.RateLimitConfigProperties;
+import duy.personalproject.taskmanagementsystem.auth.ratelimit.LocalRateLimiter;
+import duy.personalproject.taskmanagementsystem.auth.ratelimit.RateLimitFilter;
+import duy.personalproject.taskmanagementsystem.auth.ratelimit.RateLimitRule;
+import duy.personalproject.taskmanagementsystem.auth.ratelimit.RateLimiter;
+import duy.personalproject.taskmanagementsystem.auth.ratelimit.RedisRateLimiter;
+import duy.personalproject.taskmanagementsystem.auth.service.JwtService;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the rate limiters and RateLimitFilter. Time is driven by a fake nanosecond clock.
+ */
+@DisplayName("Rate Limit Unit Tests")
+class RateLimitTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private static RateLimitRule rule(String name, String path, long capacity, long refillPerMinute, String... methods) {
+        RateLimitConfigProperties.Rule rule = new RateLimitConfigProperties.Rule();
+        rule.setName(name);
+        rule.setPath(path);
+        rule.setMethods(List.of(methods));
+        rule.setCapacity(capacity);
+        rule.setRefillPerMinute(refillPerMinute);
+        return RateLimitRule.of(rule);
+    }
+
+    private LocalRateLimiter localRateLimiter(int maxBuckets) {
+        return new LocalRateLimiter(maxBuckets, clock::get, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Local Rate Limiter Tests")
+    class LocalRateLimiterTests {
+        // a burst of 3, then one request per second
+        private final RateLimitRule rule = rule("api", "/api/**", 3, 60);
+
+        @Test
+        @DisplayName("Should allow the burst and then tell how long to wait")
+        void tryAcquire_BurstExceeded_ReturnsWait() {
+            LocalRateLimiter limiter = localRateLimiter(100);
+
+            assertThat(limiter.tryAcquire("alice", rule)).isEqualTo(RateLimiter.ALLOWED);
+            assertThat(limiter.tryAcquire("alice", rule)).isEqualTo(RateLimiter.ALLOWED);
+            assertThat(limiter.tryAcquire("alice", rule)).isEqualTo(RateLimiter.ALLOWED);
+            assertThat(limiter.tryAcquire("alice", rule)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+            assertThat(limiter.tryAcquire("bob", rule)).isEqualTo(RateLimiter.ALLOWED);
+        }
+
+        @Test
+        @DisplayName("Should refill one token per emission interval")
+        void tryAcquire_AfterInterval_Refilled() {
+            LocalRateLimiter limiter = localRateLimiter(100);
+            for (int i = 0; i < 3; i++) {
+                limiter.tryAcquire("alice", rule);
+            }
+
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+            assertThat(limiter.tryAcquire("alice", rule)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(600));
+
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+            assertThat(limiter.tryAcquire("alice", rule)).isEqualTo(RateLimiter.ALLOWED);
+            assertThat(limiter.tryAcquire("alice", rule)).isPositive();
+        }
+
+        @Test
+        @DisplayName("Should evict buckets only once they are full again")
+        void evictExpired_FullBuckets_Removed() {
+            LocalRateLimiter limiter = localRateLimiter(100);
+            limiter.tryAcquire("alice", rule);
+            limiter.tryAcquire("alice", rule);
+
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            limiter.evictExpired();
+            assertThat(limiter.size()).isEqualTo(1);
+
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            limiter.evictExpired();
+            assertThat(limiter.size()).isZero();
+            assertThat(meterRegistry.get("ratelimit.buckets").gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reject only new clients beyond the bucket limit, and keep existing clients' own buckets")
+        void tryAcquire_TooManyClients_RejectsNewClients() {
+            LocalRateLimiter limiter = localRateLimiter(1);
+            limiter.tryAcquire("alice", rule);
+
+            for (String client : List.of("bob", "carol", "dave")) {
+                assertThat(limiter.tryAcquire(client, rule)).isPositive();
+            }
+            assertThat(limiter.tryAcquire("alice", rule)).isEqualTo(RateLimiter.ALLOWED);
+            assertThat(limiter.tryAcquire("alice", rule)).isEqualTo(RateLimiter.ALLOWED);
+            assertThat(limiter.size()).isEqualTo(1);
+            assertThat(meterRegistry.get("ratelimit.buckets.overflow").counter().count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should drop full buckets to make room for a new client when the map is full")
+        void tryAcquire_TooManyClients_EvictsFullBuckets() {
+            LocalRateLimiter limiter = localRateLimiter(1);
+            limiter.tryAcquire("alice", rule);
+            assertThat(limiter.tryAcquire("bob", rule)).isPositive();
+
+            // bob waits for the next sweep, which comes when alice's bucket is full again
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+            assertThat(limiter.tryAcquire("bob", rule)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            assertThat(limiter.tryAcquire("bob", rule)).isEqualTo(RateLimiter.ALLOWED);
+            assertThat(limiter.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should hand out exactly the burst to concurrent requests")
+        void tryAcquire_Concurrent_NoExtraTokens() throws Exception {
+            LocalRateLimiter limiter = localRateLimiter(100);
+            RateLimitRule burst = rule("api", "/api/**", 1_000, 1);
+            AtomicLong allowed = new AtomicLong();
+
+            List<Thread> threads = IntStream.range(0, 8)
+                    .mapToObj(i -> new Thread(() -> {
+                        for (int j = 0; j < 500; j++) {
+                            if (limiter.tryAcquire("alice", burst) == RateLimiter.ALLOWED) {
+                                allowed.incrementAndGet();
+                            }
+                        }
+                    }))
+                    .toList();
+            threads.forEach(Thread::start);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertThat(allowed.get()).isEqualTo(1_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter Tests")
+    class FilterTests {
+        private final JwtService jwtService = mock(JwtService.class);
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private RateLimitFilter filter;
+
+        @BeforeEach
+        void setUp() {
+            filter = new RateLimitFilter(List.of(rule("login", "/api/v1/auth/login", 1, 60, "POST"), rule("api", "/api/**", 2, 60)),
+                    localRateLimiter(100), jwtService, objectMapper, meterRegistry);
+        }
+
+        private MockHttpServletResponse send(String method, String uri, String remoteAddr, String token) throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+            request.setRemoteAddr(remoteAddr);
+            if (token != null) {
+                request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+            }
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            return response;
+        }
+
+        @Test
+        @DisplayName("Should reject with 429, Retry-After and an error body once the bucket is empty")
+        void doFilter_LimitExceeded_Rejects() throws Exception {
+            assertThat(send("POST", "/api/v1/auth/login", "10.0.0.1", null).getStatus()).isEqualTo(200);
+
+            MockHttpServletResponse response = send("POST", "/api/v1/auth/login", "10.0.0.1", null);
+
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+            JsonNode body = objectMapper.readTree(response.getContentAsString());
+            assertThat(body.get("success").asBoolean()).isFalse();
+            assertThat(body.get("code").asInt()).isEqualTo(429);
+            assertThat(body.get("error").get("code").asText()).isEqualTo("TOO_MANY_REQUESTS");
+            assertThat(meterRegistry.get("ratelimit.rejected").tag("rule", "login").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should count anonymous requests per address")
+        void doFilter_Anonymous_KeyedByAddress() throws Exception {
+            send("POST", "/api/v1/auth/login", "10.0.0.1", null);
+
+            assertThat(send("POST", "/api/v1/auth/login", "10.0.0.2", null).getStatus()).isEqualTo(200);
+            assertThat(send("POST", "/api/v1/auth/login", "10.0.0.1", null).getStatus()).isEqualTo(429);
+        }
+
+        @Test
+        @DisplayName("Should count authenticated requests per user across addresses")
+        void doFilter_Authenticated_KeyedByUser() throws Exception {
+            when(jwtService.extractUsername("alice-token")).thenReturn("alice");
+            when(jwtService.extractUsername("bob-token")).thenReturn("bob");
+
+            send("GET", "/api/v1/projects", "10.0.0.1", "alice-token");
+            send("GET", "/api/v1/projects", "10.0.0.2", "alice-token");
+
+            assertThat(send("GET", "/api/v1/projects", "10.0.0.3", "alice-token").getStatus()).isEqualTo(429);
+            assertThat(send("GET", "/api/v1/projects", "10.0.0.1", "bob-token").getStatus()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("Should count requests with an invalid token by address")
+        void doFilter_InvalidToken_KeyedByAddress() throws Exception {
+            when(jwtService.extractUsername(any())).thenThrow(new JwtException("bad signature"));
+
+            send("GET", "/api/v1/projects", "10.0.0.1", "forged-1");
+            send("GET", "/api/v1/projects", "10.0.0.1", "forged-2");
+
+            assertThat(send("GET", "/api/v1/projects", "10.0.0.1", "forged-3").getStatus()).isEqualTo(429);
+        }
+
+        @Test
+        @DisplayName("Should apply only the first matching rule and leave unmatched requests alone")
+        void doFilter_Rules_FirstMatchOnly() throws Exception {
+            send("POST", "/api/v1/auth/login", "10.0.0.1", null);
+
+            assertThat(send("POST", "/api/v1/auth/register", "10.0.0.1", null).getStatus()).isEqualTo(200);
+            assertThat(send("GET", "/api/v1/auth/login", "10.0.0.1", null).getStatus()).isEqualTo(200);
+            for (int i = 0; i < 10; i++) {
+                assertThat(send("GET", "/actuator/health", "10.0.0.1", null).getStatus()).isEqualTo(200);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis Rate Limiter Tests")
+    class RedisRateLimiterTests {
+        private static final long BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+        private RedisRateLimiter redisRateLimiter(StringRedisTemplate redisTemplate) {
+            return new RedisRateLimiter(redisTemplate, localRateLimiter(100), clock::get, BACKOFF_NANOS);
+        }
+
+        @Test
+        @DisplayName("Should convert the script's wait from microseconds")
+        @SuppressWarnings("unchecked")
+        void tryAcquire_ScriptResult_ConvertedToNanos() {
+            StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(0L, 250_000L);
+            RedisRateLimiter limiter = redisRateLimiter(redisTemplate);
+            RateLimitRule rule = rule("api", "/api/**", 1, 60);
+
+            assertThat(limiter.tryAcquire("alice", rule)).isEqualTo(RateLimiter.ALLOWED);
+            assertThat(limiter.tryAcquire("alice", rule)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(250));
+        }
+
+        @Test
+        @DisplayName("Should fall back to the local buckets while Redis is unreachable")
+        @SuppressWarnings("unchecked")
+        void tryAcquire_RedisDown_UsesLocalBuckets() {
+            StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                    .thenThrow(new RedisConnectionFailureException("connection refused"));
+            RedisRateLimiter limiter = redisRateLimiter(redisTemplate);
+            RateLimitRule rule = rule("api", "/api/**", 1, 60);
+
+            assertThat(limiter.tryAcquire("alice", rule)).isEqualTo(RateLimiter.ALLOWED);
+            assertThat(limiter.tryAcquire("alice", rule)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        }
+
+        @Test
+        @DisplayName("Should skip Redis during the backoff after a failure and try it again afterwards")
+        @SuppressWarnings("unchecked")
+        void tryAcquire_AfterFailure_SkipsRedisUntilBackoffPassed() {
+            StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                    .thenThrow(new RedisConnectionFailureException("command timed out"))
+                    .thenReturn(0L);
+            RedisRateLimiter limiter = redisRateLimiter(redisTemplate);
+            RateLimitRule rule = rule("api", "/api/**", 100, 6000);
+
+            for (int i = 0; i < 10; i++) {
+                limiter.tryAcquire("alice", rule);
+            }
+            verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any());
+
+            clock.addAndGet(BACKOFF_NANOS);
+            limiter.tryAcquire("alice", rule);
+            limiter.tryAcquire("alice", rule);
+            verify(redisTemplate, times(3)).execute(any(RedisScript.class), anyList(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should keep the circuit open for another backoff when the retry fails")
+        @SuppressWarnings("unchecked")
+        void tryAcquire_RetryFails_BacksOffAgain() {
+            StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                    .thenThrow(new RedisConnectionFailureException("command timed out"));
+            RedisRateLimiter limiter = redisRateLimiter(redisTemplate);
+            RateLimitRule rule = rule("api", "/api/**", 100, 6000);
+
+            limiter.tryAcquire("alice", rule);
+            clock.addAndGet(BACKOFF_NANOS);
+            limiter.tryAcquire("alice", rule);
+            clock.addAndGet(BACKOFF_NANOS - 1);
+            limiter.tryAcquire("alice", rule);
+
+            verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(), any());
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package duy.personalproject.taskmanagementsystem.unit.service;
+
+import duy.personalproject.taskmanagementsystem.core.model.enums.ProjectActivityType;
+import duy.personalproject.taskmanagementsystem.project.config.properties.ActivityLogConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.model.event.ProjectActivityEvent;
+import duy.personalproject.taskmanagementsystem.project.repository.ProjectActivityRepository;
+import duy.personalproject.taskmanagementsystem.project.repository.ProjectRepository;
+import duy.personalproject.taskmanagementsystem.project.service.impl.ActivityLogServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ActivityLogServiceImpl.
+ * Exercises batching, overflow and shutdown behaviour of the background writer against a mocked repository.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogService Unit Tests")
+class ActivityLogServiceImplTest {
+
+    @Mock
+    private ProjectActivityRepository projectActivityRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ActivityLogConfigProperties properties;
+    private ActivityLogServiceImpl activityLogService;
+    private UUID projectId;
+    private UUID actorId;
+    private List<List<ProjectActivityEvent>> writtenBatches;
+
+    @BeforeEach
+    void setUp() {
+        // the writer reuses its batch list, so copy each batch as it is written
+        writtenBatches = new CopyOnWriteArrayList<>();
+        lenient().when(projectActivityRepository.insertBatch(anyList())).thenAnswer(invocation -> {
+            List<ProjectActivityEvent> batch = invocation.getArgument(0);
+            writtenBatches.add(List.copyOf(batch));
+            return batch.size();
+        });
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ActivityLogConfigProperties();
+        properties.setCapacity(2);
+        properties.setBatchSize(3);
+        properties.setFlushIntervalMs(60_000);
+        properties.setShutdownTimeoutMs(5_000);
+        projectId = UUID.randomUUID();
+        actorId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (activityLogService != null && activityLogService.isRunning()) {
+            activityLogService.stop();
+        }
+    }
+
+    private void createService() {
+        activityLogService = new ActivityLogServiceImpl(projectActivityRepository, projectRepository, properties, meterRegistry);
+    }
+
+    private List<ProjectActivityType> writtenTypes() {
+        return writtenBatches.stream().flatMap(List::stream).map(ProjectActivityEvent::type).toList();
+    }
+
+    @Nested
+    @DisplayName("Batching Tests")
+    class BatchingTests {
+
+        @Test
+        @DisplayName("Should flush a full batch without waiting for the flush interval")
+        void record_FullBatch_FlushesImmediately() {
+            properties.setCapacity(100);
+            createService();
+            activityLogService.start();
+
+            for (int i = 0; i < 3; i++) {
+                activityLogService.record(projectId, actorId, ProjectActivityType.UPDATED);
+            }
+
+            verify(projectActivityRepository, timeout(2_000)).insertBatch(anyList());
+            activityLogService.stop();
+
+            assertThat(writtenBatches).hasSize(1);
+            assertThat(writtenBatches.get(0)).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("Should flush buffered activities on shutdown")
+        void stop_PendingActivities_FlushesBeforeStopping() {
+            createService();
+            activityLogService.record(projectId, actorId, ProjectActivityType.CREATED);
+            activityLogService.record(projectId, actorId, ProjectActivityType.UPDATED);
+
+            activityLogService.start();
+            activityLogService.stop();
+
+            assertThat(writtenTypes()).containsExactly(ProjectActivityType.CREATED, ProjectActivityType.UPDATED);
+            assertThat(activityLogService.isRunning()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should let a running flush finish on shutdown, then write the rest")
+        void stop_DuringFlush_DoesNotInterruptWriter() throws InterruptedException {
+            properties.setCapacity(100);
+            CountDownLatch flushing = new CountDownLatch(1);
+            List<Boolean> interrupted = new CopyOnWriteArrayList<>();
+            when(projectActivityRepository.insertBatch(anyList())).thenAnswer(invocation -> {
+                flushing.countDown();
+                // stands in for waiting on a pooled connection, which fails on an interrupted thread
+                Thread.sleep(100);
+                interrupted.add(Thread.currentThread().isInterrupted());
+                writtenBatches.add(List.copyOf(invocation.<List<ProjectActivityEvent>>getArgument(0)));
+                return 1;
+            });
+            createService();
+            activityLogService.start();
+
+            for (int i = 0; i < 4; i++) {
+                activityLogService.record(projectId, actorId, ProjectActivityType.UPDATED);
+            }
+            assertThat(flushing.await(2, TimeUnit.SECONDS)).isTrue();
+            activityLogService.stop();
+
+            assertThat(interrupted).containsOnly(false);
+            assertThat(writtenTypes()).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("Should stop only after the web server has stopped")
+        void getPhase_BelowWebServer() {
+            createService();
+
+            assertThat(ActivityLogServiceImpl.WEB_SERVER_PHASE).isLessThan(WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE);
+            assertThat(activityLogService.getPhase()).isLessThan(ActivityLogServiceImpl.WEB_SERVER_PHASE);
+        }
+
+        @Test
+        @DisplayName("Should count failed flushes and keep the writer alive")
+        void flush_RepositoryFails_CountsFailure() {
+            properties.setCapacity(100);
+            when(projectActivityRepository.insertBatch(anyList())).thenThrow(new IllegalStateException("db down"));
+            createService();
+            activityLogService.start();
+
+            for (int i = 0; i < 3; i++) {
+                activityLogService.record(projectId, actorId, ProjectActivityType.UPDATED);
+            }
+            activityLogService.stop();
+
+            assertThat(meterRegistry.get("project.activity.flush.failures").counter().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Overflow Tests")
+    class OverflowTests {
+
+        @Test
+        @DisplayName("Should drop the newest activity when the buffer is full")
+        void record_BufferFullDropNewest_KeepsOldest() {
+            createService();
+
+            activityLogService.record(projectId, actorId, ProjectActivityType.CREATED);
+            activityLogService.record(projectId, actorId, ProjectActivityType.UPDATED);
+            activityLogService.record(projectId, actorId, ProjectActivityType.DELETED);
+
+            assertThat(meterRegistry.get("project.activity.dropped").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("project.activity.queue.depth").gauge().value()).isEqualTo(2);
+
+            activityLogService.start();
+            activityLogService.stop();
+
+            assertThat(writtenTypes()).containsExactly(ProjectActivityType.CREATED, ProjectActivityType.UPDATED);
+        }
+
+        @Test
+        @DisplayName("Should evict the oldest activity when configured to")
+        void record_BufferFullDropOldest_KeepsNewest() {
+            properties.setOverflowPolicy(ActivityLogConfigProperties.OverflowPolicy.DROP_OLDEST);
+            createService();
+
+            activityLogService.record(projectId, actorId, ProjectActivityType.CREATED);
+            activityLogService.record(projectId, actorId, ProjectActivityType.UPDATED);
+            activityLogService.record(projectId, actorId, ProjectActivityType.DELETED);
+
+            activityLogService.start();
+            activityLogService.stop();
+
+            assertThat(meterRegistry.get("project.activity.dropped").counter().count()).isEqualTo(1);
+            assertThat(writtenTypes()).containsExactly(ProjectActivityType.UPDATED, ProjectActivityType.DELETED);
+        }
+    }
+}
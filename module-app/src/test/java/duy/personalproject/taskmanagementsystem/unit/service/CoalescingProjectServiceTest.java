@@ -0,0 +1,275 @@
+package duy.personalproject.taskmanagementsystem.unit.service;
+
+import duy.personalproject.taskmanagementsystem.core.exception.ResourceNotFoundException;
+import duy.personalproject.taskmanagementsystem.core.util.ReadYourWrites;
+import duy.personalproject.taskmanagementsystem.core.util.SingleFlight;
+import duy.personalproject.taskmanagementsystem.project.model.request.SearchProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.request.UpdateProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectService;
+import duy.personalproject.taskmanagementsystem.project.service.impl.CoalescingProjectService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SingleFlight and CoalescingProjectService. Concurrent callers are held at a latch inside the
+ * first call until all of them have started.
+ */
+@DisplayName("Request Coalescing Unit Tests")
+class CoalescingProjectServiceTest {
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private double calls(String name, String outcome) {
+        return meterRegistry.get("coalescing.calls").tag("name", name).tag("outcome", outcome).counter().count();
+    }
+
+    /**
+     * Starts {@code CALLERS} calls of {@code task} and releases the first one after a grace period, by which the
+     * others have joined it; joining itself cannot be observed.
+     */
+    private <T> List<Future<T>> callConcurrently(Callable<T> task, CountDownLatch release) throws Exception {
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(task));
+        }
+        Thread.sleep(200);
+        release.countDown();
+        return futures;
+    }
+
+    @Nested
+    @DisplayName("Single Flight Tests")
+    class SingleFlightTests {
+
+        @Test
+        @DisplayName("Should run concurrent identical calls once and share the result")
+        void execute_ConcurrentIdenticalCalls_RunOnce() throws Exception {
+            SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+            AtomicInteger runs = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+
+            List<Future<String>> futures = callConcurrently(() -> singleFlight.execute("key", () -> {
+                runs.incrementAndGet();
+                await(release);
+                return "value";
+            }), release);
+
+            for (Future<String> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+            assertThat(runs.get()).isEqualTo(1);
+            assertThat(calls("test", "executed")).isEqualTo(1);
+            assertThat(calls("test", "collapsed")).isEqualTo(CALLERS - 1);
+            assertThat(meterRegistry.get("coalescing.in_flight").tag("name", "test").gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should hand the exception of the call to every caller that shared it")
+        void execute_CallFails_AllCallersGetException() throws Exception {
+            SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+            ResourceNotFoundException notFound = new ResourceNotFoundException("Project not found");
+            CountDownLatch release = new CountDownLatch(1);
+
+            List<Future<String>> futures = callConcurrently(() -> singleFlight.execute("key", () -> {
+                await(release);
+                throw notFound;
+            }), release);
+
+            for (Future<String> future : futures) {
+                assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasCause(notFound);
+            }
+            assertThat(calls("test", "executed")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should run the call itself once it waited too long")
+        void execute_SlowCall_WaitIsBounded() throws Exception {
+            SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofMillis(50), meterRegistry);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<String> slow = executor.submit(() -> singleFlight.execute("key", () -> {
+                await(release);
+                return "slow";
+            }));
+            Thread.sleep(100);
+
+            String value = singleFlight.execute("key", () -> "own");
+            release.countDown();
+
+            assertThat(value).isEqualTo("own");
+            assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+            assertThat(calls("test", "timed_out")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not share calls between keys or after they ended or were forgotten")
+        void execute_DifferentKeysOrForgotten_RunSeparately() throws Exception {
+            SingleFlight<String, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<String> running = executor.submit(() -> singleFlight.execute("key", () -> {
+                await(release);
+                return "before";
+            }));
+            Thread.sleep(100);
+
+            assertThat(singleFlight.execute("other", () -> "other")).isEqualTo("other");
+            singleFlight.forget("key");
+            assertThat(singleFlight.execute("key", () -> "after")).isEqualTo("after");
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("before");
+            assertThat(singleFlight.execute("key", () -> "again")).isEqualTo("again");
+
+            assertThat(calls("test", "executed")).isEqualTo(4);
+            assertThat(calls("test", "collapsed")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Coalescing Project Service Tests")
+    class CoalescingProjectServiceTests {
+        private final ProjectService delegate = mock(ProjectService.class);
+        private final UUID projectId = UUID.randomUUID();
+
+        private CoalescingProjectService service(ReadYourWrites readYourWrites) {
+            return new CoalescingProjectService(delegate, readYourWrites, Duration.ofSeconds(5), 100, meterRegistry);
+        }
+
+        @Test
+        @DisplayName("Should load a project once for concurrent requests")
+        void findById_Concurrent_QueriesOnce() throws Exception {
+            CoalescingProjectService service = service(null);
+            ProjectResponse project = ProjectResponse.builder().id(projectId).name("Shared").build();
+            CountDownLatch release = new CountDownLatch(1);
+            when(delegate.findById(projectId)).thenAnswer(invocation -> {
+                await(release);
+                return project;
+            });
+
+            List<Future<ProjectResponse>> futures = callConcurrently(() -> service.findById(projectId), release);
+
+            for (Future<ProjectResponse> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(project);
+            }
+            verify(delegate, times(1)).findById(projectId);
+            assertThat(calls("project.findById", "collapsed")).isEqualTo(CALLERS - 1);
+        }
+
+        @Test
+        @DisplayName("Should render a streamed page once and write it to every caller")
+        void streamProjects_Concurrent_RendersOnce() throws Exception {
+            CoalescingProjectService service = service(null);
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                await(release);
+                invocation.<OutputStream>getArgument(1).write("{\"success\":true}".getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).when(delegate).streamProjects(any(), any());
+
+            List<Future<String>> futures = callConcurrently(() -> {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                service.streamProjects(new SearchProjectRequest(0, 10, null, null, "shared"), out);
+                return out.toString(StandardCharsets.UTF_8);
+            }, release);
+
+            for (Future<String> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("{\"success\":true}");
+            }
+            verify(delegate, times(1)).streamProjects(any(), any());
+            assertThat(calls("project.streamProjects", "collapsed")).isEqualTo(CALLERS - 1);
+        }
+
+        @Test
+        @DisplayName("Should stream pages above the coalesced size straight to the caller")
+        void streamProjects_LargePage_NotCoalesced() throws Exception {
+            CoalescingProjectService service = service(null);
+            SearchProjectRequest request = new SearchProjectRequest(0, 500, null, null, null);
+            OutputStream out = new ByteArrayOutputStream();
+
+            service.streamProjects(request, out);
+
+            verify(delegate).streamProjects(request, out);
+            assertThat(calls("project.streamProjects", "executed")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not let reads join a call that started before a write")
+        void update_WhileReadRunning_LaterReadsRunAfresh() throws Exception {
+            CoalescingProjectService service = service(null);
+            ProjectResponse before = ProjectResponse.builder().id(projectId).name("Before").build();
+            ProjectResponse after = ProjectResponse.builder().id(projectId).name("After").build();
+            CountDownLatch release = new CountDownLatch(1);
+            when(delegate.findById(projectId)).thenAnswer(invocation -> {
+                await(release);
+                return before;
+            }).thenReturn(after);
+            Future<ProjectResponse> running = executor.submit(() -> service.findById(projectId));
+            Thread.sleep(100);
+
+            service.update(projectId, mock(UpdateProjectRequest.class), UUID.randomUUID());
+
+            assertThat(service.findById(projectId)).isSameAs(after);
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isSameAs(before);
+        }
+
+        @Test
+        @DisplayName("Should not coalesce clients that must read their own writes")
+        void findById_RequiresPrimary_Bypasses() {
+            CoalescingProjectService service = service(() -> true);
+            ProjectResponse project = ProjectResponse.builder().id(projectId).build();
+            when(delegate.findById(projectId)).thenReturn(project);
+
+            assertThat(service.findById(projectId)).isSameAs(project);
+            assertThat(calls("project.findById", "executed")).isZero();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
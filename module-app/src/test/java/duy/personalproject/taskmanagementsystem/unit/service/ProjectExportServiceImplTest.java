@@ -0,0 +1,258 @@
+package duy.personalproject.taskmanagementsystem.unit.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import duy.personalproject.taskmanagementsystem.core.exception.InvalidRequestException;
+import duy.personalproject.taskmanagementsystem.core.model.enums.ExportFormat;
+import duy.personalproject.taskmanagementsystem.core.model.enums.SortDirection;
+import duy.personalproject.taskmanagementsystem.project.config.properties.ProjectExportConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.model.request.ExportProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import duy.personalproject.taskmanagementsystem.project.repository.ProjectExportRepository;
+import duy.personalproject.taskmanagementsystem.project.service.impl.ProjectExportServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for ProjectExportServiceImpl. The repository is mocked and passes its projects to the export one at a
+ * time, like rows read from the cursor.
+ */
+@DisplayName("ProjectExportService Unit Tests")
+class ProjectExportServiceImplTest {
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private ProjectExportRepository projectExportRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private ProjectExportServiceImpl projectExportService;
+
+    @BeforeEach
+    void setUp() {
+        projectExportRepository = mock(ProjectExportRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        ProjectExportConfigProperties properties = new ProjectExportConfigProperties();
+        properties.setBufferSizeBytes(1024);
+        projectExportService = new ProjectExportServiceImpl(projectExportRepository, objectMapper, properties, meterRegistry);
+    }
+
+    private static ProjectResponse project(String name, String description) {
+        return ProjectResponse.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .description(description)
+                .ownerId(UUID.randomUUID())
+                .memberCount(3)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build();
+    }
+
+    /**
+     * Makes the repository pass {@code projects} to the export's consumer.
+     */
+    private void rows(List<ProjectResponse> projects) {
+        doAnswer(invocation -> {
+            Consumer<ProjectResponse> consumer = invocation.getArgument(2);
+            projects.forEach(consumer);
+            return null;
+        }).when(projectExportRepository).exportProjects(any(), any(), any());
+    }
+
+    private static ExportProjectRequest request(ExportFormat format, boolean gzip) {
+        return new ExportProjectRequest(null, null, "  Apollo ", format, gzip);
+    }
+
+    private double exports(String outcome) {
+        return meterRegistry.find("project.export").tag("outcome", outcome).timers().stream()
+                .mapToLong(timer -> timer.count()).sum();
+    }
+
+    @Nested
+    @DisplayName("Format Tests")
+    class FormatTests {
+
+        @Test
+        @DisplayName("Should write one JSON object per line, with the filters and sort of the search")
+        void export_Ndjson_OneObjectPerLine() throws IOException {
+            List<ProjectResponse> projects = List.of(project("Apollo", "first"), project("Apollo 2", null));
+            rows(projects);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            projectExportService.export(request(null, false), out);
+
+            String body = out.toString(StandardCharsets.UTF_8);
+            assertThat(body).endsWith("\n");
+            String[] lines = body.split("\n");
+            assertThat(lines).hasSize(2);
+            JsonNode first = objectMapper.readTree(lines[0]);
+            assertThat(first.get("id").asText()).isEqualTo(projects.get(0).id().toString());
+            assertThat(first.get("memberCount").asLong()).isEqualTo(3);
+            assertThat(first.get("createdAt").asText()).isEqualTo("2026-01-01T00:00:00Z");
+            assertThat(objectMapper.readTree(lines[1]).get("name").asText()).isEqualTo("Apollo 2");
+            verify(projectExportRepository).exportProjects(eq("  Apollo "), eq(Sort.by(Sort.Direction.DESC, "createdAt")), any());
+            assertThat(exports("completed")).isEqualTo(1);
+            assertThat(meterRegistry.counter("project.export.rows", "format", "NDJSON").count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should write CSV with a header and quote fields with commas, quotes and line breaks")
+        void export_Csv_QuotesFields() throws IOException {
+            ProjectResponse plain = project("Apollo", null);
+            ProjectResponse quoted = project("Apollo, \"the\" second", "line one\nline two");
+            rows(List.of(plain, quoted));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            projectExportService.export(request(ExportFormat.CSV, false), out);
+
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                    "id,name,description,ownerId,memberCount,createdAt,updatedAt\r\n"
+                            + plain.id() + ",Apollo,," + plain.ownerId() + ",3,2026-01-01T00:00:00Z,2026-01-01T00:00:00Z\r\n"
+                            + quoted.id() + ",\"Apollo, \"\"the\"\" second\",\"line one\nline two\"," + quoted.ownerId()
+                            + ",3,2026-01-01T00:00:00Z,2026-01-01T00:00:00Z\r\n");
+        }
+
+        @Test
+        @DisplayName("Should prefix and quote text a spreadsheet would run as a formula")
+        void export_CsvFormula_Neutralized() throws IOException {
+            ProjectResponse formula = project("=HYPERLINK(\"http://evil\")", "@SUM(A1)");
+            ProjectResponse signs = project("+1", "-2");
+            ProjectResponse whitespace = project("\tTabbed", "\rReturned");
+            rows(List.of(formula, signs, whitespace));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            projectExportService.export(request(ExportFormat.CSV, false), out);
+
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+            assertThat(lines[1]).contains(",\"'=HYPERLINK(\"\"http://evil\"\")\",\"'@SUM(A1)\",");
+            assertThat(lines[2]).contains(",\"'+1\",\"'-2\",");
+            assertThat(lines[3]).contains(",\"'\tTabbed\",\"'\rReturned\",");
+        }
+
+        @Test
+        @DisplayName("Should gzip the same bytes as the plain export")
+        void export_Gzip_DecompressesToPlain() throws IOException {
+            rows(List.of(project("Apollo", "first"), project("Apollo 2", "second")));
+            ByteArrayOutputStream plain = new ByteArrayOutputStream();
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+
+            projectExportService.export(request(ExportFormat.CSV, false), plain);
+            projectExportService.export(request(ExportFormat.CSV, true), gzipped);
+
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.toByteArray()))) {
+                assertThat(in.readAllBytes()).isEqualTo(plain.toByteArray());
+            }
+        }
+
+        @Test
+        @DisplayName("Should write only the header when no project matches")
+        void export_NoRows_HeaderOnly() throws IOException {
+            rows(List.of());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            projectExportService.export(request(ExportFormat.CSV, false), out);
+
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("id,name,description,ownerId,memberCount,createdAt,updatedAt\r\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should stop reading rows once the client has gone away")
+        void export_ClientDisconnects_StopsReading() throws IOException {
+            AtomicLong read = new AtomicLong();
+            doAnswer(invocation -> {
+                Consumer<ProjectResponse> consumer = invocation.getArgument(2);
+                ProjectResponse project = project("Apollo", "a description long enough to fill the buffer soon");
+                for (int i = 0; i < 1_000_000; i++) {
+                    read.incrementAndGet();
+                    consumer.accept(project);
+                }
+                return null;
+            }).when(projectExportRepository).exportProjects(any(), any(), any());
+            OutputStream disconnected = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+            };
+
+            projectExportService.export(request(ExportFormat.NDJSON, false), disconnected);
+
+            assertThat(read.get()).isLessThan(100);
+            assertThat(exports("cancelled")).isEqualTo(1);
+            assertThat(exports("completed")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should pass on a failing query and count the export as failed")
+        void export_QueryFails_Rethrows() {
+            doThrow(new DataAccessResourceFailureException("Connection refused"))
+                    .when(projectExportRepository).exportProjects(any(), any(), any());
+
+            assertThatThrownBy(() -> projectExportService.export(request(ExportFormat.CSV, false), new ByteArrayOutputStream()))
+                    .isInstanceOf(DataAccessResourceFailureException.class);
+            assertThat(exports("failed")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should pass on an I/O failure that is not a write to the response and count the export as failed")
+        void export_OtherIoFailure_Rethrows() {
+            doThrow(new UncheckedIOException(new IOException("No space left on device")))
+                    .when(projectExportRepository).exportProjects(any(), any(), any());
+
+            assertThatThrownBy(() -> projectExportService.export(request(ExportFormat.NDJSON, false), new ByteArrayOutputStream()))
+                    .isInstanceOf(UncheckedIOException.class);
+            assertThat(exports("failed")).isEqualTo(1);
+            assertThat(exports("cancelled")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown sort property without querying")
+        void export_UnknownSort_Rejected() {
+            ExportProjectRequest request = new ExportProjectRequest("owner.password", SortDirection.ASC, null, null, null);
+
+            assertThatThrownBy(() -> projectExportService.export(request, new ByteArrayOutputStream()))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("sortBy");
+            verifyNoInteractions(projectExportRepository);
+        }
+    }
+}
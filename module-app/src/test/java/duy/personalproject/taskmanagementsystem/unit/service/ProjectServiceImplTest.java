@@ -1,16 +1,29 @@
 package duy.personalproject.taskmanagementsystem.unit.service;
 
 import duy.personalproject.taskmanagementsystem.core.exception.DuplicateResourceException;
+import duy.personalproject.taskmanagementsystem.core.exception.InvalidRequestException;
 import duy.personalproject.taskmanagementsystem.core.exception.ResourceNotFoundException;
+import duy.personalproject.taskmanagementsystem.core.model.enums.ProjectActivityType;
 import duy.personalproject.taskmanagementsystem.project.mapper.ProjectMapper;
 import duy.personalproject.taskmanagementsystem.project.model.entity.ProjectEntity;
 import duy.personalproject.taskmanagementsystem.auth.model.entity.UserEntity;
 import duy.personalproject.taskmanagementsystem.project.model.request.CreateProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.request.SearchProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.request.SyncProjectRequest;
 import duy.personalproject.taskmanagementsystem.project.model.request.UpdateProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectChangesResponse;
 import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
 import duy.personalproject.taskmanagementsystem.project.repository.ProjectRepository;
 import duy.personalproject.taskmanagementsystem.auth.repository.UserRepository;
+import duy.personalproject.taskmanagementsystem.project.service.ActivityLogService;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectChangeService;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectStatsService;
 import duy.personalproject.taskmanagementsystem.project.service.impl.ProjectServiceImpl;
+import duy.personalproject.taskmanagementsystem.project.util.ProjectWatermarkUtil;
+import duy.personalproject.taskmanagementsystem.core.util.LogRateLimiter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,14 +31,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -45,6 +65,24 @@ class ProjectServiceImplTest {
     @Mock
     private ProjectMapper projectMapper;
 
+    @Mock
+    private ProjectStatsService projectStatsService;
+
+    @Mock
+    private ActivityLogService activityLogService;
+
+    @Mock
+    private ProjectChangeService projectChangeService;
+
+    @Mock
+    private LogRateLimiter errorLogRateLimiter;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -75,6 +113,7 @@ class ProjectServiceImplTest {
                 "Test Project",
                 "Test Description",
                 testUser.getId(),
+                1L,
                 null,
                 null
         );
@@ -101,6 +140,9 @@ class ProjectServiceImplTest {
             verify(userRepository).findById(userId);
             verify(projectRepository).existsByNameIgnoreCase(createRequest.name());
             verify(projectRepository).save(any(ProjectEntity.class));
+            verify(projectStatsService).incrementMemberCount(testProject.getId(), testProject.getProjectMembers().size());
+            verify(activityLogService).record(testProject.getId(), userId, ProjectActivityType.CREATED);
+            verify(projectChangeService).publish(testProject.getId(), userId, ProjectActivityType.CREATED);
             verify(projectMapper).mapEntityToResponse(testProject);
         }
 
@@ -130,6 +172,7 @@ class ProjectServiceImplTest {
 
             verify(projectRepository).existsByNameIgnoreCase(createRequest.name());
             verify(projectRepository, never()).save(any());
+            verifyNoInteractions(projectStatsService, activityLogService, projectChangeService);
         }
     }
 
@@ -154,6 +197,7 @@ class ProjectServiceImplTest {
             verify(projectRepository).findByIdAndOwnerId(projectId, userId);
             verify(projectMapper).mapUpdateRequestToEntity(updateRequest, testProject);
             verify(projectRepository).save(testProject);
+            verify(activityLogService).record(projectId, userId, ProjectActivityType.UPDATED);
         }
 
         @Test
@@ -221,5 +265,98 @@ class ProjectServiceImplTest {
             verify(projectMapper, never()).mapEntityToResponse(any());
         }
     }
-}
 
+    @Nested
+    @DisplayName("Stream Project Search Tests")
+    class StreamProjectSearchTests {
+
+        @Test
+        @DisplayName("Should write the page and detach every project without counting a partial first page")
+        void streamProjects_PartialFirstPage_WritesPageWithoutCount() throws Exception {
+            SearchProjectRequest request = new SearchProjectRequest(0, 10, null, null, "test");
+            when(projectRepository.streamProjects(eq("test"), any())).thenReturn(Stream.of(testProject));
+            when(projectMapper.mapEntityToResponse(testProject)).thenReturn(projectResponse);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            projectService.streamProjects(request, out);
+
+            JsonNode response = objectMapper.readTree(out.toByteArray());
+            assertThat(response.get("success").asBoolean()).isTrue();
+            assertThat(response.at("/data/items/0/id").asText()).isEqualTo(testProject.getId().toString());
+            assertThat(response.at("/data/metadata/totalItems").asLong()).isEqualTo(1);
+            assertThat(response.at("/data/metadata/totalPages").asInt()).isEqualTo(1);
+            verify(entityManager).detach(testProject);
+            verify(projectRepository, never()).countProjects(any());
+        }
+
+        @Test
+        @DisplayName("Should count the total when the page is full")
+        void streamProjects_FullPage_CountsTotal() throws Exception {
+            SearchProjectRequest request = new SearchProjectRequest(1, 1, null, null, null);
+            when(projectRepository.streamProjects(any(), any())).thenReturn(Stream.of(testProject));
+            when(projectMapper.mapEntityToResponse(testProject)).thenReturn(projectResponse);
+            when(projectRepository.countProjects(null)).thenReturn(5L);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            projectService.streamProjects(request, out);
+
+            JsonNode metadata = objectMapper.readTree(out.toByteArray()).at("/data/metadata");
+            assertThat(metadata.get("totalItems").asLong()).isEqualTo(5);
+            assertThat(metadata.get("totalPages").asInt()).isEqualTo(5);
+            assertThat(metadata.get("pageNumber").asInt()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sync Project Changes Tests")
+    class SyncProjectChangesTests {
+
+        private record Change(UUID getId, Long getChangeXid, Boolean getDeleted) implements ProjectRepository.ProjectChange {}
+
+        @Test
+        @DisplayName("Should split changes into upserts and tombstones and advance the watermark to the horizon")
+        void findChanges_AllChangesFit_ReturnsHorizonWatermark() {
+            UUID deletedId = UUID.randomUUID();
+            when(projectRepository.findChangeHorizon()).thenReturn(500L);
+            when(projectRepository.findChangesAfter(0L, ProjectWatermarkUtil.INITIAL.id(), 500L, 3))
+                    .thenReturn(List.of(new Change(testProject.getId(), 100L, false), new Change(deletedId, 120L, true)));
+            when(projectRepository.findAllById(List.of(testProject.getId()))).thenReturn(List.of(testProject));
+            when(projectMapper.mapEntityToResponse(testProject)).thenReturn(projectResponse);
+
+            ProjectChangesResponse result = projectService.findChanges(new SyncProjectRequest(null, 2));
+
+            assertThat(result.upserts()).containsExactly(projectResponse);
+            assertThat(result.tombstones()).containsExactly(deletedId);
+            assertThat(result.hasMore()).isFalse();
+            assertThat(ProjectWatermarkUtil.decode(result.watermark())).isEqualTo(ProjectWatermarkUtil.Watermark.before(500L));
+        }
+
+        @Test
+        @DisplayName("Should continue from the last returned row when more changes are pending")
+        void findChanges_MoreChangesThanSize_ReturnsKeysetWatermark() {
+            UUID firstId = UUID.randomUUID();
+            UUID secondId = UUID.randomUUID();
+            String since = ProjectWatermarkUtil.encode(new ProjectWatermarkUtil.Watermark(50L, UUID.randomUUID()));
+            when(projectRepository.findChangeHorizon()).thenReturn(500L);
+            when(projectRepository.findChangesAfter(eq(50L), any(UUID.class), eq(500L), eq(2)))
+                    .thenReturn(List.of(new Change(firstId, 60L, true), new Change(secondId, 70L, true)));
+
+            ProjectChangesResponse result = projectService.findChanges(new SyncProjectRequest(since, 1));
+
+            assertThat(result.tombstones()).containsExactly(firstId);
+            assertThat(result.upserts()).isEmpty();
+            assertThat(result.hasMore()).isTrue();
+            assertThat(ProjectWatermarkUtil.decode(result.watermark())).isEqualTo(new ProjectWatermarkUtil.Watermark(60L, firstId));
+            verify(projectRepository, never()).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed watermark")
+        void findChanges_MalformedWatermark_ThrowsInvalidRequestException() {
+            assertThatThrownBy(() -> projectService.findChanges(new SyncProjectRequest("not-a-watermark", 10)))
+                    .isInstanceOf(InvalidRequestException.class);
+
+            verify(projectRepository, never()).findChangesAfter(anyLong(), any(), anyLong(), anyInt());
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package duy.personalproject.taskmanagementsystem.unit.service;
+
+import duy.personalproject.taskmanagementsystem.core.exception.BusinessException;
+import duy.personalproject.taskmanagementsystem.core.exception.ErrorCode;
+import duy.personalproject.taskmanagementsystem.core.exception.InvalidRequestException;
+import duy.personalproject.taskmanagementsystem.core.exception.ResourceNotFoundException;
+import duy.personalproject.taskmanagementsystem.core.model.common.PaginationResponse;
+import duy.personalproject.taskmanagementsystem.core.model.enums.SortDirection;
+import duy.personalproject.taskmanagementsystem.core.util.LogRateLimiter;
+import duy.personalproject.taskmanagementsystem.project.model.request.SearchProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import duy.personalproject.taskmanagementsystem.project.repository.ReactiveProjectRepository;
+import duy.personalproject.taskmanagementsystem.project.service.impl.ReactiveProjectServiceImpl;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Parameter;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ReactiveProjectServiceImpl and the SQL of ReactiveProjectRepository.
+ * The R2DBC connection is mocked: every statement sent is recorded with its bindings and answered with the next
+ * queued result.
+ */
+@DisplayName("ReactiveProjectService Unit Tests")
+class ReactiveProjectServiceImplTest {
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final List<String> statements = new ArrayList<>();
+    private final List<Map<Integer, Object>> bindings = new ArrayList<>();
+    private final Queue<List<Row>> results = new LinkedList<>();
+    private ConnectionFactory connectionFactory;
+    private ReactiveProjectServiceImpl reactiveProjectService;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactoryMetadata metadata = mock(ConnectionFactoryMetadata.class);
+        when(metadata.getName()).thenReturn("PostgreSQL");
+        Connection connection = mock(Connection.class);
+        doAnswer(invocation -> statement(invocation.getArgument(0))).when(connection).createStatement(anyString());
+        doReturn(Mono.empty()).when(connection).close();
+        connectionFactory = mock(ConnectionFactory.class);
+        when(connectionFactory.getMetadata()).thenReturn(metadata);
+        doReturn(Mono.just(connection)).when(connectionFactory).create();
+
+        reactiveProjectService = new ReactiveProjectServiceImpl(new ReactiveProjectRepository(connectionFactory), new LogRateLimiter(5, 1, TimeUnit.MINUTES), 50);
+    }
+
+    private Statement statement(String sql) {
+        statements.add(sql);
+        Map<Integer, Object> bound = new HashMap<>();
+        bindings.add(bound);
+        Statement statement = mock(Statement.class);
+        when(statement.bind(anyInt(), any())).thenAnswer(invocation -> {
+            Object value = invocation.getArgument(1);
+            bound.put(invocation.getArgument(0), value instanceof Parameter parameter ? parameter.getValue() : value);
+            return statement;
+        });
+        List<Row> rows = results.isEmpty() ? List.of() : results.poll();
+        Result result = mock(Result.class);
+        doAnswer(invocation -> {
+            Function<Readable, ?> mapper = invocation.getArgument(0);
+            return Flux.fromIterable(rows).map(mapper);
+        }).when(result).map(any(Function.class));
+        doReturn(Flux.just(result)).when(statement).execute();
+        return statement;
+    }
+
+    private static Row projectRow(String name) {
+        Map<String, Object> values = Map.of(
+                "id", UUID.randomUUID(),
+                "name", name,
+                "description", name + " description",
+                "owner_id", UUID.randomUUID(),
+                "member_count", 3L,
+                "created_at", CREATED_AT,
+                "updated_at", CREATED_AT);
+        Row row = mock(Row.class);
+        when(row.get(anyString(), any(Class.class))).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        return row;
+    }
+
+    private static Row countRow(long count) {
+        Row row = mock(Row.class);
+        when(row.get(0, Long.class)).thenReturn(count);
+        return row;
+    }
+
+    private static List<Row> projectRows(int count) {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(projectRow("project " + i));
+        }
+        return rows;
+    }
+
+    @Nested
+    @DisplayName("Find By Id Tests")
+    class FindByIdTests {
+
+        @Test
+        @DisplayName("Should map the row with its member count when the project exists")
+        void findById_Exists_ReturnsProject() {
+            UUID projectId = UUID.randomUUID();
+            results.add(List.of(projectRow("Apollo")));
+
+            ProjectResponse project = reactiveProjectService.findById(projectId).block();
+
+            assertThat(project).isNotNull();
+            assertThat(project.name()).isEqualTo("Apollo");
+            assertThat(project.memberCount()).isEqualTo(3);
+            assertThat(project.createdAt()).isEqualTo(CREATED_AT);
+            assertThat(statements).singleElement().asString().contains("WHERE p.id = $1").contains("project_stats");
+            assertThat(bindings.get(0)).containsEntry(0, projectId);
+        }
+
+        @Test
+        @DisplayName("Should fail with ResourceNotFoundException when there is no such project")
+        void findById_Missing_ThrowsNotFound() {
+            Mono<ProjectResponse> project = reactiveProjectService.findById(UUID.randomUUID());
+
+            assertThatThrownBy(project::block)
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage(ErrorCode.PROJECT_NOT_FOUND.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should fail with 503 when no connection can be had")
+        void findById_NoConnection_ThrowsServiceUnavailable() {
+            doReturn(Mono.error(new R2dbcTimeoutException("Connection acquisition timed out"))).when(connectionFactory).create();
+
+            Mono<ProjectResponse> project = reactiveProjectService.findById(UUID.randomUUID());
+
+            assertThatThrownBy(project::block)
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Tests")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Should filter by the lower-cased term, sort and skip the count on a partial first page")
+        void searchProjects_PartialFirstPage_NoCount() {
+            results.add(projectRows(2));
+
+            PaginationResponse<ProjectResponse> page = reactiveProjectService
+                    .searchProjects(new SearchProjectRequest(0, 10, "name", SortDirection.ASC, "  ApOllo ")).block();
+
+            assertThat(page).isNotNull();
+            assertThat(page.items()).hasSize(2);
+            assertThat(page.metadata().totalItems()).isEqualTo(2);
+            assertThat(page.metadata().isLastPage()).isTrue();
+            assertThat(statements).singleElement().asString()
+                    .contains("p.deleted_at IS NULL")
+                    .contains("LIKE $1")
+                    .contains("ORDER BY p.name ASC, p.id")
+                    .contains("LIMIT $2 OFFSET $3");
+            assertThat(bindings.get(0)).containsEntry(0, "%apollo%").containsEntry(1, 10).containsEntry(2, 0L);
+        }
+
+        @Test
+        @DisplayName("Should count the matching projects when the page is full")
+        void searchProjects_FullPage_Counts() {
+            results.add(projectRows(5));
+            results.add(List.of(countRow(42)));
+
+            PaginationResponse<ProjectResponse> page = reactiveProjectService
+                    .searchProjects(new SearchProjectRequest(1, 5, null, null, null)).block();
+
+            assertThat(page).isNotNull();
+            assertThat(page.metadata().totalItems()).isEqualTo(42);
+            assertThat(page.metadata().totalPages()).isEqualTo(9);
+            assertThat(statements).hasSize(2);
+            assertThat(statements.get(0)).contains("ORDER BY p.created_at DESC, p.id").doesNotContain("LIKE");
+            assertThat(bindings.get(0)).containsEntry(0, 5).containsEntry(1, 5L);
+            assertThat(statements.get(1)).startsWith("SELECT COUNT(*) FROM projects p");
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown sort property and a page over the limit without querying")
+        void searchProjects_InvalidRequest_Rejected() {
+            Mono<PaginationResponse<ProjectResponse>> unknownSort = reactiveProjectService
+                    .searchProjects(new SearchProjectRequest(0, 10, "owner.password", SortDirection.ASC, null));
+            Mono<PaginationResponse<ProjectResponse>> pageTooLarge = reactiveProjectService
+                    .searchProjects(new SearchProjectRequest(0, 51, null, null, null));
+
+            assertThatThrownBy(unknownSort::block).isInstanceOf(InvalidRequestException.class).hasMessageContaining("sortBy");
+            assertThatThrownBy(pageTooLarge::block).isInstanceOf(InvalidRequestException.class).hasMessageContaining("size");
+            assertThat(statements).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package duy.personalproject.taskmanagementsystem.unit.service;
+
+import duy.personalproject.taskmanagementsystem.core.exception.InvalidRequestException;
+import duy.personalproject.taskmanagementsystem.core.exception.ResourceNotFoundException;
+import duy.personalproject.taskmanagementsystem.core.model.common.CursorPaginationResponse;
+import duy.personalproject.taskmanagementsystem.core.model.enums.TaskStatus;
+import duy.personalproject.taskmanagementsystem.project.repository.ProjectMemberRepository;
+import duy.personalproject.taskmanagementsystem.task.mapper.TaskMapper;
+import duy.personalproject.taskmanagementsystem.task.model.entity.TaskEntity;
+import duy.personalproject.taskmanagementsystem.task.model.request.BulkUpdateTaskStatusRequest;
+import duy.personalproject.taskmanagementsystem.task.model.request.CreateTaskRequest;
+import duy.personalproject.taskmanagementsystem.task.model.request.ListTaskRequest;
+import duy.personalproject.taskmanagementsystem.task.model.response.TaskResponse;
+import duy.personalproject.taskmanagementsystem.task.repository.TaskRepository;
+import duy.personalproject.taskmanagementsystem.task.service.impl.TaskServiceImpl;
+import duy.personalproject.taskmanagementsystem.task.util.TaskCursorUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaskServiceImpl.
+ * Uses Mockito to mock dependencies and test business logic in isolation.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskService Unit Tests")
+class TaskServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @InjectMocks
+    private TaskServiceImpl taskService;
+
+    private UUID projectId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    private TaskEntity task(long position) {
+        TaskEntity task = TaskEntity.builder()
+                .projectId(projectId)
+                .title("Task " + position)
+                .status(TaskStatus.TODO)
+                .position(position)
+                .build();
+        task.setId(UUID.randomUUID());
+        return task;
+    }
+
+    @Nested
+    @DisplayName("Create Task Tests")
+    class CreateTaskTests {
+
+        @Test
+        @DisplayName("Should append task after the last position of its column")
+        void createTask_ValidRequest_AppendsToColumn() {
+            CreateTaskRequest request = new CreateTaskRequest("Write docs", null, null);
+            TaskEntity entity = new TaskEntity();
+            when(projectMemberRepository.existsActiveMember(projectId, userId)).thenReturn(true);
+            when(taskMapper.mapCreateRequestToEntity(request)).thenReturn(entity);
+            when(taskRepository.findMaxPosition(projectId, TaskStatus.TODO.name())).thenReturn(2048L);
+            when(taskRepository.save(entity)).thenReturn(entity);
+
+            taskService.create(projectId, request, userId);
+
+            assertThat(entity.getProjectId()).isEqualTo(projectId);
+            assertThat(entity.getPosition()).isEqualTo(3072L);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when user is not a project member")
+        void createTask_NotMember_ThrowsResourceNotFoundException() {
+            when(projectMemberRepository.existsActiveMember(projectId, userId)).thenReturn(false);
+
+            assertThatThrownBy(() -> taskService.create(projectId, new CreateTaskRequest("Title", null, null), userId))
+                    .isInstanceOf(ResourceNotFoundException.class);
+
+            verify(taskRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("List Task Tests")
+    class ListTaskTests {
+
+        @Test
+        @DisplayName("Should return next cursor pointing at the last row when more rows exist")
+        void listTasks_MoreRowsThanPage_ReturnsNextCursor() {
+            List<TaskEntity> rows = new ArrayList<>(List.of(task(1024), task(2048), task(3072)));
+            when(projectMemberRepository.existsActiveMember(projectId, userId)).thenReturn(true);
+            when(taskRepository.findPageAfter(eq(projectId), anyString(), anyLong(), any(UUID.class), eq(3))).thenReturn(rows);
+            when(taskMapper.mapEntityToResponse(any())).thenReturn(TaskResponse.builder().build());
+
+            CursorPaginationResponse<TaskResponse> result = taskService.listTasks(projectId, new ListTaskRequest(null, 2, null), userId);
+
+            assertThat(result.items()).hasSize(2);
+            assertThat(result.hasNext()).isTrue();
+            TaskCursorUtil.Cursor cursor = TaskCursorUtil.decode(result.nextCursor());
+            assertThat(cursor.position()).isEqualTo(2048L);
+            assertThat(cursor.id()).isEqualTo(rows.get(1).getId());
+        }
+
+        @Test
+        @DisplayName("Should not return a cursor on the last page")
+        void listTasks_LastPage_ReturnsNoCursor() {
+            when(projectMemberRepository.existsActiveMember(projectId, userId)).thenReturn(true);
+            when(taskRepository.findPageByStatusAfter(eq(projectId), eq("TODO"), anyLong(), any(UUID.class), anyInt()))
+                    .thenReturn(List.of(task(1024)));
+
+            CursorPaginationResponse<TaskResponse> result = taskService.listTasks(projectId, new ListTaskRequest(TaskStatus.TODO, 10, null), userId);
+
+            assertThat(result.items()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reject malformed cursor")
+        void listTasks_MalformedCursor_ThrowsInvalidRequestException() {
+            when(projectMemberRepository.existsActiveMember(projectId, userId)).thenReturn(true);
+
+            assertThatThrownBy(() -> taskService.listTasks(projectId, new ListTaskRequest(null, 10, "not-a-cursor"), userId))
+                    .isInstanceOf(InvalidRequestException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Task Tests")
+    class BulkTaskTests {
+
+        @Test
+        @DisplayName("Should move tasks with a single set-based statement")
+        void bulkUpdateStatus_ValidRequest_IssuesSingleStatement() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            when(projectMemberRepository.existsActiveMember(projectId, userId)).thenReturn(true);
+            when(taskRepository.bulkUpdateStatus(projectId, first + "," + second, "DONE", 1024L)).thenReturn(2);
+
+            int moved = taskService.bulkUpdateStatus(projectId, new BulkUpdateTaskStatusRequest(List.of(first, second), TaskStatus.DONE), userId);
+
+            assertThat(moved).isEqualTo(2);
+            verify(taskRepository, times(1)).bulkUpdateStatus(any(), anyString(), anyString(), anyLong());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package duy.personalproject.taskmanagementsystem.unit.stream;
+
+import duy.personalproject.taskmanagementsystem.core.model.enums.ProjectActivityType;
+import duy.personalproject.taskmanagementsystem.project.config.properties.ProjectChangeStreamConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.model.event.ProjectActivityEvent;
+import duy.personalproject.taskmanagementsystem.project.stream.ProjectChangeBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ProjectChangeBroadcaster.
+ * Uses in-memory emitters to check fan-out to thousands of subscribers and isolation of slow consumers.
+ */
+@DisplayName("ProjectChangeBroadcaster Unit Tests")
+class ProjectChangeBroadcasterTest {
+    private static final int SUBSCRIBERS = 5_000;
+    private static final int EVENTS = 20;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProjectChangeStreamConfigProperties properties;
+    private ProjectChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ProjectChangeStreamConfigProperties();
+        properties.setSubscriberBufferSize(EVENTS);
+        properties.setDispatcherThreads(4);
+        broadcaster = new ProjectChangeBroadcaster(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.close();
+    }
+
+    private ProjectActivityEvent event() {
+        return ProjectActivityEvent.of(UUID.randomUUID(), UUID.randomUUID(), ProjectActivityType.UPDATED);
+    }
+
+    @Test
+    @DisplayName("Should deliver every event to thousands of subscribers with a fixed dispatcher pool")
+    void broadcast_ThousandsOfSubscribers_DeliversAllEvents() throws Exception {
+        CountDownLatch delivered = new CountDownLatch(SUBSCRIBERS * EVENTS);
+        List<CountingEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            CountingEmitter emitter = new CountingEmitter(delivered, null);
+            emitters.add(emitter);
+            broadcaster.register(emitter);
+        }
+
+        for (int i = 0; i < EVENTS; i++) {
+            broadcaster.broadcast(event());
+        }
+
+        assertThat(delivered.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitters).allSatisfy(emitter -> assertThat(emitter.received.get()).isEqualTo(EVENTS));
+        assertThat(broadcaster.subscriberCount()).isEqualTo(SUBSCRIBERS);
+        assertThat(meterRegistry.get("project.changes.evicted").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should disconnect a stalled subscriber without holding back the others")
+    void broadcast_SlowSubscriber_IsEvicted() throws Exception {
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountingEmitter slow = new CountingEmitter(new CountDownLatch(0), stalled);
+        CountingEmitter fast = new CountingEmitter(new CountDownLatch(0), null);
+        broadcaster.register(slow);
+        broadcaster.register(fast);
+
+        // publish in rounds the fast subscriber can keep up with, while the slow one never drains
+        for (int round = 1; round <= 3; round++) {
+            for (int i = 0; i < EVENTS; i++) {
+                broadcaster.broadcast(event());
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (fast.received.get() < round * EVENTS && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+
+        assertThat(fast.received.get()).isEqualTo(EVENTS * 3);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("project.changes.evicted").counter().count()).isEqualTo(1);
+        stalled.countDown();
+    }
+
+    @Test
+    @DisplayName("Should keep delivering to fast subscribers when more subscribers stall than there are dispatchers")
+    void broadcast_MoreStalledSubscribersThanDispatchers_FastSubscriberReceivesEvents() throws Exception {
+        broadcaster.close();
+        properties.setDispatcherThreads(2);
+        properties.setSendTimeoutMs(100);
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new ProjectChangeBroadcaster(properties, meterRegistry);
+
+        CountDownLatch stalled = new CountDownLatch(1);
+        for (int i = 0; i < 5; i++) {
+            broadcaster.register(new CountingEmitter(new CountDownLatch(0), stalled));
+        }
+        CountDownLatch delivered = new CountDownLatch(EVENTS);
+        CountingEmitter fast = new CountingEmitter(delivered, null);
+        broadcaster.register(fast);
+
+        for (int i = 0; i < EVENTS; i++) {
+            broadcaster.broadcast(event());
+        }
+
+        assertThat(delivered.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(fast.received.get()).isEqualTo(EVENTS);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.subscriberCount() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("project.changes.evicted").counter().count()).isEqualTo(5);
+        stalled.countDown();
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber whose connection fails")
+    void broadcast_FailingSubscriber_IsRemoved() throws Exception {
+        SseEmitter failing = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        broadcaster.register(failing);
+
+        broadcaster.broadcast(event());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.subscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    private static final class CountingEmitter extends SseEmitter {
+        private final AtomicInteger received = new AtomicInteger();
+        private final CountDownLatch delivered;
+        private final CountDownLatch stall;
+
+        private CountingEmitter(CountDownLatch delivered, CountDownLatch stall) {
+            this.delivered = delivered;
+            this.stall = stall;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (stall != null) {
+                // like a socket write into a full TCP window, the stall ignores interrupts
+                awaitUninterruptibly(stall);
+            }
+            received.incrementAndGet();
+            delivered.countDown();
+        }
+
+        private static void awaitUninterruptibly(CountDownLatch latch) {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    latch.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package duy.personalproject.taskmanagementsystem.unit.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
+import duy.personalproject.taskmanagementsystem.core.model.common.PaginationResponse;
+import duy.personalproject.taskmanagementsystem.core.util.PaginationResponseWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PaginationResponseWriter.
+ * The streamed JSON is compared with serializing the equivalent ApiResponse of a PageImpl.
+ */
+@DisplayName("PaginationResponseWriter Unit Tests")
+class PaginationResponseWriterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    record Item(int id, String name, Instant createdAt) {}
+
+    @ParameterizedTest(name = "page {0} of size {1} with {2} items in total")
+    @CsvSource({
+            "0, 10, 3",
+            "0, 10, 0",
+            "0, 5, 5",
+            "1, 5, 12",
+            "2, 5, 12",
+            "4, 5, 12",
+            "3, 4, 12"
+    })
+    @DisplayName("Should write the same JSON as the serialized ApiResponse")
+    void write_AnyPage_MatchesSerializedApiResponse(int page, int size, int total) throws Exception {
+        Pageable pageable = PageRequest.of(page, size);
+        List<Integer> content = IntStream.range(0, total).skip(pageable.getOffset()).limit(size).boxed().toList();
+        AtomicInteger counted = new AtomicInteger();
+        List<Integer> written = new ArrayList<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        PaginationResponseWriter.write(objectMapper, out, pageable, content.stream(), PaginationResponseWriterTest::item,
+                written::add, () -> {
+                    counted.incrementAndGet();
+                    return total;
+                });
+
+        String expected = objectMapper.writeValueAsString(
+                ApiResponse.ok(PaginationResponse.of(new PageImpl<>(content, pageable, total), PaginationResponseWriterTest::item)));
+        assertThat(out.toString()).isEqualTo(expected);
+        assertThat(written).isEqualTo(content);
+        assertThat(counted.get()).isLessThanOrEqualTo(1);
+    }
+
+    private static Item item(int id) {
+        return new Item(id, "Project " + id, Instant.ofEpochSecond(1_700_000_000L + id));
+    }
+}
@@ -0,0 +1,64 @@
+package duy.personalproject.taskmanagementsystem.auth.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duy.personalproject.taskmanagementsystem.auth.config.properties.RateLimitConfigProperties;
+import duy.personalproject.taskmanagementsystem.auth.ratelimit.LocalRateLimiter;
+import duy.personalproject.taskmanagementsystem.auth.ratelimit.RateLimitFilter;
+import duy.personalproject.taskmanagementsystem.auth.ratelimit.RateLimitRule;
+import duy.personalproject.taskmanagementsystem.auth.ratelimit.RateLimiter;
+import duy.personalproject.taskmanagementsystem.auth.ratelimit.RedisRateLimiter;
+import duy.personalproject.taskmanagementsystem.auth.service.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiting of the API, see {@link RateLimitFilter}. {@link SecurityConfig} adds the filter to its chain.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "task.management.system.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j(topic = "RATE_LIMIT_CONFIG")
+public class RateLimitConfig {
+
+    @Bean
+    LocalRateLimiter localRateLimiter(RateLimitConfigProperties properties, MeterRegistry meterRegistry) {
+        return new LocalRateLimiter(properties.getMaxBuckets(), System::nanoTime, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "task.management.system.rate-limit", name = "backend", havingValue = "REDIS")
+    RedisRateLimiter redisRateLimiter(RateLimitConfigProperties properties, StringRedisTemplate redisTemplate,
+                                      LocalRateLimiter localRateLimiter) {
+        return new RedisRateLimiter(redisTemplate, localRateLimiter, System::nanoTime,
+                TimeUnit.MILLISECONDS.toNanos(properties.getRedisBackoffMs()));
+    }
+
+    @Bean
+    RateLimitFilter rateLimitFilter(RateLimitConfigProperties properties, LocalRateLimiter localRateLimiter,
+                                    ObjectProvider<RedisRateLimiter> redisRateLimiter, JwtService jwtService,
+                                    ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        List<RateLimitRule> rules = properties.getRules().stream().map(RateLimitRule::of).toList();
+        RedisRateLimiter shared = redisRateLimiter.getIfAvailable();
+        RateLimiter rateLimiter = shared != null ? shared : localRateLimiter;
+        log.info("Rate limiting {} rules with {} buckets", rules.size(), properties.getBackend());
+        return new RateLimitFilter(rules, rateLimiter, jwtService, objectMapper, meterRegistry);
+    }
+
+    /**
+     * The filter runs in the security filter chain only, not a second time as a servlet filter.
+     */
+    @Bean
+    FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
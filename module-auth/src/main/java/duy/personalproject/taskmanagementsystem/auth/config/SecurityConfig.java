@@ -1,8 +1,11 @@
 package duy.personalproject.taskmanagementsystem.auth.config;
 
+import duy.personalproject.taskmanagementsystem.auth.ratelimit.RateLimitFilter;
 import duy.personalproject.taskmanagementsystem.auth.security.JwtAuthenticationEntryPoint;
 import duy.personalproject.taskmanagementsystem.auth.security.JwtTokenFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,6 +22,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @Configuration
 @EnableWebSecurity
@@ -35,15 +39,23 @@ public class SecurityConfig {
     private final UserDetailsService userDetailsService;
     private final JwtTokenFilter jwtTokenFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final ObjectProvider<RateLimitFilter> rateLimitFilter;
 
+    /**
+     * Actuator is served on its own port ({@code management.server.port}) that is reachable by probes and
+     * scrapers but not published at the edge, so everything on that port is open. On the application port the
+     * actuator paths are not served at all, and would need a token like any other path if the ports were shared.
+     */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   @Value("${management.server.port:-1}") int managementPort) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(requests -> requests
+                .requestMatchers(onPort(managementPort)).permitAll()
                 .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
                 .anyRequest().authenticated()
             )
@@ -52,10 +64,15 @@ public class SecurityConfig {
             )
             .authenticationProvider(authenticationProvider())
             .addFilterBefore(jwtTokenFilter, UsernamePasswordAuthenticationFilter.class);
+        rateLimitFilter.ifAvailable(filter -> http.addFilterBefore(filter, JwtTokenFilter.class));
 
         return http.build();
     }
 
+    private static RequestMatcher onPort(int port) {
+        return request -> port > 0 && request.getLocalPort() == port;
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder(10);
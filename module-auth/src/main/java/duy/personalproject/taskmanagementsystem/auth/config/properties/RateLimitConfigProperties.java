@@ -0,0 +1,56 @@
+package duy.personalproject.taskmanagementsystem.auth.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "task.management.system.rate-limit")
+public class RateLimitConfigProperties {
+    private boolean enabled = true;
+    private Backend backend = Backend.LOCAL;
+    /**
+     * Buckets the local backend keeps; new clients beyond that are rejected until buckets expire.
+     */
+    private int maxBuckets = 100_000;
+    private long evictionIntervalMs = 10_000;
+    /**
+     * How long the REDIS backend uses the local buckets after a failed Redis call before trying Redis again.
+     */
+    private long redisBackoffMs = 5_000;
+    /**
+     * Checked in order, the first matching rule applies. Requests matching no rule are not limited.
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+        private String name;
+        /**
+         * Path pattern, e.g. {@code /api/v1/auth/**}.
+         */
+        private String path;
+        /**
+         * HTTP methods the rule applies to, all if empty.
+         */
+        private List<String> methods = new ArrayList<>();
+        /**
+         * Requests a client may burst before being limited to the refill rate.
+         */
+        private long capacity;
+        private long refillPerMinute;
+    }
+
+    public enum Backend {
+        /**
+         * Buckets in this node's memory; every node enforces the limits on its own.
+         */
+        LOCAL,
+        /**
+         * Buckets shared by all nodes in Redis, falling back to the local buckets while Redis is unreachable.
+         */
+        REDIS
+    }
+}
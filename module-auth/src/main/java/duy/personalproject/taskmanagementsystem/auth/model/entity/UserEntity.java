@@ -1,10 +1,15 @@
 package duy.personalproject.taskmanagementsystem.auth.model.entity;
 
+import duy.personalproject.taskmanagementsystem.core.model.constant.CacheRegionConstants;
 import duy.personalproject.taskmanagementsystem.core.model.entity.BaseEntity;
 import duy.personalproject.taskmanagementsystem.core.model.enums.UserRole;
 import duy.personalproject.taskmanagementsystem.core.model.enums.UserStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Table(name = "users")
 @Entity
@@ -13,7 +18,10 @@ import lombok.*;
 @Getter
 @Setter
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegionConstants.USERS)
+@NaturalIdCache(region = CacheRegionConstants.USERS_BY_USERNAME)
 public class UserEntity extends BaseEntity {
+    @NaturalId
     @Column(name = "username", nullable = false, unique = true)
     private String username;
 
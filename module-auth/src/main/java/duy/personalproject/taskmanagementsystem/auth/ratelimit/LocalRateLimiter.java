@@ -0,0 +1,115 @@
+package duy.personalproject.taskmanagementsystem.auth.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets in memory, implemented as the generic cell rate algorithm: a bucket is a single theoretical
+ * arrival time updated by compare-and-set, so taking a token never locks.
+ *
+ * <p>A bucket whose arrival time has passed is full, and dropping it loses nothing, which is what
+ * {@link #evictExpired()} does. The map is bounded by {@code maxBuckets}; once it is full, a new client first
+ * makes the limiter drop the buckets that are full again, at most once a second, and is
+ * rejected when that frees no room. Clients that already have a bucket keep being limited on their own, so a flood
+ * of distinct addresses neither grows the map nor throttles anyone but the new clients.
+ */
+public class LocalRateLimiter implements RateLimiter {
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final int maxBuckets;
+    private final LongSupplier nanoClock;
+    private final AtomicLong nextSweep;
+    private final Counter overflowed;
+
+    public LocalRateLimiter(int maxBuckets, LongSupplier nanoClock, MeterRegistry meterRegistry) {
+        this.maxBuckets = maxBuckets;
+        this.nanoClock = nanoClock;
+        this.nextSweep = new AtomicLong(nanoClock.getAsLong());
+        this.overflowed = Counter.builder("ratelimit.buckets.overflow")
+                .description("Requests of new clients rejected because the bucket map was full")
+                .register(meterRegistry);
+        Gauge.builder("ratelimit.buckets", buckets, Map::size)
+                .description("Clients with a local rate limit bucket")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitRule rule) {
+        long now = nanoClock.getAsLong();
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets && !makeRoom(now)) {
+                overflowed.increment();
+                return Math.max(nextSweep.get() - now, 1);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(now));
+        }
+        return bucket.tryAcquire(now, rule);
+    }
+
+    /**
+     * Drops full buckets if no other request did within the sweep interval, so that a full map costs one scan per
+     * interval rather than one per request.
+     *
+     * @return whether the map has room for another bucket
+     */
+    private boolean makeRoom(long now) {
+        long next = nextSweep.get();
+        if (now - next >= 0 && nextSweep.compareAndSet(next, now + SWEEP_INTERVAL_NANOS)) {
+            evictExpired(now);
+        }
+        return buckets.size() < maxBuckets;
+    }
+
+    /**
+     * Drops full buckets. A bucket dropped while a request is taking a token from it forgives that one request.
+     */
+    @Scheduled(fixedDelayString = "${task.management.system.rate-limit.eviction-interval-ms:10000}")
+    public void evictExpired() {
+        evictExpired(nanoClock.getAsLong());
+    }
+
+    private void evictExpired(long now) {
+        buckets.entrySet().removeIf(entry -> entry.getValue().isFull(now));
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private static final class Bucket {
+        // the time at which the bucket is full again
+        private final AtomicLong theoreticalArrival;
+
+        private Bucket(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        private long tryAcquire(long now, RateLimitRule rule) {
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long start = arrival - now > 0 ? arrival : now;
+                long ahead = start - now;
+                if (ahead > rule.toleranceNanos()) {
+                    return ahead - rule.toleranceNanos();
+                }
+                if (theoreticalArrival.compareAndSet(arrival, start + rule.emissionIntervalNanos())) {
+                    return ALLOWED;
+                }
+            }
+        }
+
+        private boolean isFull(long now) {
+            return theoreticalArrival.get() - now <= 0;
+        }
+    }
+}
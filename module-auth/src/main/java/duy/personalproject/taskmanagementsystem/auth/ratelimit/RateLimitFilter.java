@@ -0,0 +1,119 @@
+package duy.personalproject.taskmanagementsystem.auth.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duy.personalproject.taskmanagementsystem.auth.service.JwtService;
+import duy.personalproject.taskmanagementsystem.core.exception.ErrorCode;
+import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
+import duy.personalproject.taskmanagementsystem.core.model.common.ErrorDetails;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Rejects requests with 429 once the client has used up its bucket for the first rule matching the request.
+ * It runs in the security filter chain ahead of {@code JwtTokenFilter}, so a rejected request never loads the user.
+ *
+ * <p>Requests with a valid bearer token are counted per user and rule, all others per client address and rule.
+ * The token's signature is checked before its subject is trusted, so a forged token is counted by address.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final List<RateLimitRule> rules;
+    private final RateLimiter rateLimiter;
+    private final JwtService jwtService;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Counter> rejected;
+
+    public RateLimitFilter(List<RateLimitRule> rules, RateLimiter rateLimiter, JwtService jwtService, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.rules = List.copyOf(rules);
+        this.rateLimiter = rateLimiter;
+        this.jwtService = jwtService;
+        this.objectMapper = objectMapper;
+        this.rejected = this.rules.stream().collect(Collectors.toUnmodifiableMap(RateLimitRule::name, rule ->
+                Counter.builder("ratelimit.rejected")
+                        .description("Requests rejected because the client exceeded its rate limit")
+                        .tag("rule", rule.name())
+                        .register(meterRegistry), (first, second) -> first));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RateLimitRule rule = matchingRule(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(clientKey(rule, request), rule);
+        if (waitNanos == RateLimiter.ALLOWED) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        rejected.get(rule.name()).increment();
+
+        ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+        ApiResponse<Void> apiResponse = ApiResponse.<Void>builder()
+                .success(false)
+                .code(errorCode.getHttpStatusCode())
+                .message(errorCode.getMessage())
+                .error(ErrorDetails.of(errorCode, "Rate limit exceeded for " + rule.name()))
+                .build();
+
+        response.setStatus(errorCode.getHttpStatusCode());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds(waitNanos)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), apiResponse);
+    }
+
+    private RateLimitRule matchingRule(HttpServletRequest request) {
+        for (RateLimitRule rule : rules) {
+            if (rule.matches(request)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String clientKey(RateLimitRule rule, HttpServletRequest request) {
+        String username = username(request);
+        return username != null
+                ? rule.name() + ":user:" + username
+                : rule.name() + ":ip:" + request.getRemoteAddr();
+    }
+
+    private String username(HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        try {
+            return jwtService.extractUsername(authHeader.substring(BEARER_PREFIX.length()));
+        } catch (Exception e) {
+            // invalid or expired, JwtTokenFilter reports it
+            return null;
+        }
+    }
+
+    /**
+     * Whole seconds, rounded up, as the header takes no fractions.
+     */
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,43 @@
+package duy.personalproject.taskmanagementsystem.auth.ratelimit;
+
+import duy.personalproject.taskmanagementsystem.auth.config.properties.RateLimitConfigProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * A configured limit in the form the limiters use: a client may send {@code capacity} requests at once and then
+ * one every {@code emissionIntervalNanos}.
+ */
+public record RateLimitRule(String name, PathPattern path, Set<String> methods, long capacity, long emissionIntervalNanos) {
+
+    public static RateLimitRule of(RateLimitConfigProperties.Rule rule) {
+        if (rule.getCapacity() <= 0 || rule.getRefillPerMinute() <= 0) {
+            throw new IllegalArgumentException("Rate limit rule " + rule.getName() + " needs a positive capacity and refill rate");
+        }
+        return new RateLimitRule(
+                rule.getName(),
+                PathPatternParser.defaultInstance.parse(rule.getPath()),
+                rule.getMethods().stream().map(method -> method.toUpperCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet()),
+                rule.getCapacity(),
+                TimeUnit.MINUTES.toNanos(1) / rule.getRefillPerMinute());
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        return (methods.isEmpty() || methods.contains(request.getMethod()))
+                && path.matches(PathContainer.parsePath(request.getRequestURI()));
+    }
+
+    /**
+     * How far the bucket's theoretical arrival time may run ahead of now, i.e. the burst.
+     */
+    public long toleranceNanos() {
+        return emissionIntervalNanos * (capacity - 1);
+    }
+}
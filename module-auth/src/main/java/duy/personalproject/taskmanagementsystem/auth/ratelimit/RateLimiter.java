@@ -0,0 +1,18 @@
+package duy.personalproject.taskmanagementsystem.auth.ratelimit;
+
+/**
+ * Token buckets keyed by client.
+ */
+public interface RateLimiter {
+    /**
+     * Value of {@link #tryAcquire} when the request may proceed.
+     */
+    long ALLOWED = 0;
+
+    /**
+     * Takes a token from the client's bucket for the rule.
+     *
+     * @return {@link #ALLOWED}, or the nanoseconds until the bucket holds a token again
+     */
+    long tryAcquire(String key, RateLimitRule rule);
+}
@@ -0,0 +1,95 @@
+package duy.personalproject.taskmanagementsystem.auth.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets shared by all nodes, using the same algorithm as {@link LocalRateLimiter} in a Lua script, so
+ * that a bucket is read and updated in one round trip. The script takes the time from Redis, so the nodes' clocks
+ * do not need to agree, and lets a key expire once its bucket is full again.
+ *
+ * <p>While Redis cannot be reached, requests are counted against the local buckets instead of being let through
+ * or rejected. Every request waits on Redis, so a failed call opens a circuit: for the next {@code backoffNanos}
+ * requests go straight to the local buckets, then a single request tries Redis again and either closes the circuit
+ * or keeps it open for another backoff. A slow Redis therefore costs at most one command timeout per backoff.
+ */
+@Slf4j(topic = "REDIS_RATE_LIMITER")
+public class RedisRateLimiter implements RateLimiter {
+    private static final String KEY_PREFIX = "ratelimit:";
+    // times are in microseconds, which Lua numbers hold exactly
+    private static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>("""
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local arrival = tonumber(redis.call('GET', KEYS[1])) or now
+            if arrival < now then
+                arrival = now
+            end
+            local ahead = arrival - now
+            if ahead > tolerance then
+                return ahead - tolerance
+            end
+            arrival = arrival + interval
+            redis.call('SET', KEYS[1], arrival, 'PX', math.ceil((arrival - now) / 1000))
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimiter fallback;
+    private final LongSupplier nanoClock;
+    private final long backoffNanos;
+    private final AtomicLong retryAt = new AtomicLong();
+    private volatile boolean unavailable;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, RateLimiter fallback, LongSupplier nanoClock, long backoffNanos) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+        this.nanoClock = nanoClock;
+        this.backoffNanos = backoffNanos;
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitRule rule) {
+        if (unavailable && !claimRetry()) {
+            return fallback.tryAcquire(key, rule);
+        }
+        Long waitMicros;
+        try {
+            waitMicros = redisTemplate.execute(SCRIPT, List.of(KEY_PREFIX + key),
+                    Long.toString(TimeUnit.NANOSECONDS.toMicros(rule.emissionIntervalNanos())),
+                    Long.toString(TimeUnit.NANOSECONDS.toMicros(rule.toleranceNanos())));
+        } catch (DataAccessException e) {
+            retryAt.set(nanoClock.getAsLong() + backoffNanos);
+            if (!unavailable) {
+                unavailable = true;
+                log.warn("Redis is unavailable, rate limiting with local buckets for {} ms: {}",
+                        TimeUnit.NANOSECONDS.toMillis(backoffNanos), e.getMessage());
+            }
+            return fallback.tryAcquire(key, rule);
+        }
+        if (unavailable) {
+            unavailable = false;
+            log.info("Redis is available again, rate limiting with shared buckets");
+        }
+        return waitMicros == null || waitMicros <= 0 ? ALLOWED : TimeUnit.MICROSECONDS.toNanos(waitMicros);
+    }
+
+    /**
+     * Lets one request through to Redis once the backoff has passed; the others keep using the local buckets
+     * until that request has an answer.
+     */
+    private boolean claimRetry() {
+        long now = nanoClock.getAsLong();
+        long retry = retryAt.get();
+        return now - retry >= 0 && retryAt.compareAndSet(retry, now + backoffNanos);
+    }
+}
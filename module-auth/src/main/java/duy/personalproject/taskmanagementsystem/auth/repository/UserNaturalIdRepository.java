@@ -0,0 +1,14 @@
+package duy.personalproject.taskmanagementsystem.auth.repository;
+
+import duy.personalproject.taskmanagementsystem.auth.model.entity.UserEntity;
+
+import java.util.Optional;
+
+/**
+ * Lookups by the username, the natural id of {@link UserEntity}. They resolve the username to the id through the
+ * {@code users-by-username} cache region and read the user from the {@code users} region, so a cached user
+ * costs no query.
+ */
+public interface UserNaturalIdRepository {
+    Optional<UserEntity> findByUsername(String username);
+}
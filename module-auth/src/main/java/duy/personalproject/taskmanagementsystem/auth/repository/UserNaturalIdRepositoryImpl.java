@@ -0,0 +1,18 @@
+package duy.personalproject.taskmanagementsystem.auth.repository;
+
+import duy.personalproject.taskmanagementsystem.auth.model.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<UserEntity> findByUsername(String username) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(UserEntity.class).loadOptional(username);
+    }
+}
@@ -1,16 +1,26 @@
 package duy.personalproject.taskmanagementsystem.auth.repository;
 
 import duy.personalproject.taskmanagementsystem.auth.model.entity.UserEntity;
+import duy.personalproject.taskmanagementsystem.core.model.constant.CacheRegionConstants;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<UserEntity, UUID> {
+public interface UserRepository extends JpaRepository<UserEntity, UUID>, UserNaturalIdRepository {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegionConstants.USER_EXISTS)
+    })
     boolean existsByEmail(String email);
-    boolean existsByUsername(String username);
 
-    Optional<UserEntity> findByUsername(String username);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegionConstants.USER_EXISTS)
+    })
+    boolean existsByUsername(String username);
 }
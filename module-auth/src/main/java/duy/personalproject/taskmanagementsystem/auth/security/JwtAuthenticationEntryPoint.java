@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import duy.personalproject.taskmanagementsystem.core.exception.ErrorCode;
 import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
 import duy.personalproject.taskmanagementsystem.core.model.common.ErrorDetails;
+import duy.personalproject.taskmanagementsystem.core.util.LogRateLimiter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ import java.io.IOException;
 @Slf4j(topic = "SECURITY")
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
     private final ObjectMapper objectMapper;
+    private final LogRateLimiter errorLogRateLimiter;
 
     @Override
     public void commence(
@@ -28,14 +30,17 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
             HttpServletResponse response,
             AuthenticationException authException
     ) throws IOException {
-        log.error("Unauthorized access attempt: {}", authException.getMessage());
-
         ErrorCode errorCode = ErrorCode.UNAUTHORIZED;
+        long suppressed = errorLogRateLimiter.tryAcquire(errorCode);
+        if (suppressed != LogRateLimiter.SUPPRESSED) {
+            log.error("Unauthorized access attempt: {}{}", authException.getMessage(), LogRateLimiter.suppressedSuffix(suppressed));
+        }
+
         ApiResponse<Void> apiResponse = ApiResponse.<Void>builder()
                 .success(false)
                 .code(HttpStatus.UNAUTHORIZED.value())
                 .message(errorCode.getMessage())
-                .error(ErrorDetails.of(errorCode.getCode(), authException.getMessage()))
+                .error(ErrorDetails.of(errorCode, authException.getMessage()))
                 .build();
 
         response.setStatus(HttpStatus.UNAUTHORIZED.value());
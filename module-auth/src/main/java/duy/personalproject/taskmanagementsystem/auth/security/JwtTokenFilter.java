@@ -1,6 +1,8 @@
 package duy.personalproject.taskmanagementsystem.auth.security;
 
 import duy.personalproject.taskmanagementsystem.auth.service.JwtService;
+import duy.personalproject.taskmanagementsystem.core.exception.ErrorCode;
+import duy.personalproject.taskmanagementsystem.core.util.LogRateLimiter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,10 +12,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -25,8 +30,15 @@ import java.io.IOException;
 public class JwtTokenFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
+    /**
+     * Keeps the authentication for the async dispatch that writes the response of an asynchronous handler, such as
+     * one returning a {@code Mono}. This filter does not run again then, but the security filter chain does.
+     */
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final LogRateLimiter errorLogRateLimiter;
 
     @Override
     protected void doFilterInternal(
@@ -55,11 +67,16 @@ public class JwtTokenFilter extends OncePerRequestFilter {
                             userDetails.getAuthorities()
                     );
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                    SecurityContext context = SecurityContextHolder.getContext();
+                    context.setAuthentication(authToken);
+                    securityContextRepository.saveContext(context, request, response);
                 }
             }
         } catch (Exception e) {
-            log.error("JWT authentication failed: {}", e.getMessage());
+            long suppressed = errorLogRateLimiter.tryAcquire(ErrorCode.INVALID_TOKEN);
+            if (suppressed != LogRateLimiter.SUPPRESSED) {
+                log.error("JWT authentication failed: {}{}", e.getMessage(), LogRateLimiter.suppressedSuffix(suppressed));
+            }
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,76 @@
+package duy.personalproject.taskmanagementsystem.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import duy.personalproject.taskmanagementsystem.core.json.CoreJacksonModule;
+import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
+import duy.personalproject.taskmanagementsystem.core.model.common.PaginationResponse;
+import duy.personalproject.taskmanagementsystem.project.json.ProjectJacksonModule;
+import duy.personalproject.taskmanagementsystem.project.mapper.ProjectMapper;
+import duy.personalproject.taskmanagementsystem.project.mapper.ProjectMapperImpl;
+import duy.personalproject.taskmanagementsystem.project.model.entity.ProjectEntity;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Jackson serialization of the search response body, with an ObjectMapper configured like the application's.
+ * {@code reflective} has only Spring Boot's default modules, {@code tuned} adds the modules of JacksonConfig and
+ * ProjectJacksonConfig. {@code writeGzipped} shows what compressing the body costs at each size, which is what
+ * {@code server.compression.min-response-size} trades off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    @Param({"reflective", "tuned"})
+    private String serialization;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PaginationResponse<ProjectResponse>> response;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot writes dates as ISO-8601 strings
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (serialization.equals("tuned")) {
+            builder.modulesToInstall(new BlackbirdModule(), new CoreJacksonModule(), new ProjectJacksonModule());
+        }
+        objectMapper = builder.build();
+        ProjectMapper projectMapper = new ProjectMapperImpl();
+        List<ProjectEntity> projects = BenchmarkData.projects(pageSize);
+        PageImpl<ProjectEntity> page = new PageImpl<>(projects, PageRequest.of(0, pageSize), pageSize * 10L);
+        response = ApiResponse.ok(PaginationResponse.of(page, projectMapper::mapEntityToResponse));
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeGzipped() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, response);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,51 @@
+package duy.personalproject.taskmanagementsystem.benchmark;
+
+import duy.personalproject.taskmanagementsystem.auth.model.entity.UserEntity;
+import duy.personalproject.taskmanagementsystem.project.model.entity.ProjectEntity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic fixtures shared by the benchmarks, so that runs on different commits measure the same data.
+ */
+public class BenchmarkData {
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {}
+
+    public static UserEntity user() {
+        UserEntity user = UserEntity.builder()
+                .username("benchmark_user")
+                .email("benchmark@example.com")
+                .fullName("Benchmark User")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOHiA1Zc1Y7a6o0KqgkA6YyRzFz5f6bIe")
+                .build();
+        user.setId(new UUID(SEED, SEED));
+        return user;
+    }
+
+    public static List<ProjectEntity> projects(int count) {
+        Random random = new Random(SEED);
+        UserEntity owner = user();
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        List<ProjectEntity> projects = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            ProjectEntity project = ProjectEntity.builder()
+                    .name("Project " + i)
+                    .description("Description of project " + i + " with some searchable text")
+                    .owner(owner)
+                    .memberCount((long) random.nextInt(50))
+                    .build();
+            project.setId(new UUID(random.nextLong(), random.nextLong()));
+            project.setCreatedAt(now.minusSeconds(random.nextInt(1_000_000)));
+            project.setUpdatedAt(now);
+            projects.add(project);
+        }
+        return projects;
+    }
+}
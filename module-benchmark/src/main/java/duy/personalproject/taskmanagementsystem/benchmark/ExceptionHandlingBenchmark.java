@@ -0,0 +1,67 @@
+package duy.personalproject.taskmanagementsystem.benchmark;
+
+import duy.personalproject.taskmanagementsystem.core.exception.BusinessException;
+import duy.personalproject.taskmanagementsystem.core.exception.ErrorCode;
+import duy.personalproject.taskmanagementsystem.core.exception.GlobalExceptionHandler;
+import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
+import duy.personalproject.taskmanagementsystem.core.util.LogRateLimiter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A flood of 404s for unknown project ids: the exception is thrown below a call stack about as deep as the
+ * filter, proxy and repository chain of a real request and turned into a response by GlobalExceptionHandler.
+ * Compares recorded against skipped stack traces, and logging every error against the rate-limited logging.
+ * Log output goes to target/benchmark.log, see logback.xml.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionHandlingBenchmark {
+    private static final int STACK_DEPTH = 120;
+
+    @Param({"true", "false"})
+    private boolean stackTraces;
+
+    @Param({"true", "false"})
+    private boolean rateLimitedLogging;
+
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        int permits = rateLimitedLogging ? 10 : Integer.MAX_VALUE;
+        handler = new GlobalExceptionHandler(new LogRateLimiter(permits, 1, TimeUnit.SECONDS));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> notFound() {
+        try {
+            findProject(STACK_DEPTH, stackTraces);
+            throw new IllegalStateException("unreachable");
+        } catch (BusinessException e) {
+            return handler.handleBusinessException(e, null);
+        }
+    }
+
+    private static void findProject(int depth, boolean stackTraces) {
+        if (depth == 0) {
+            throw new ProjectNotFoundException(stackTraces);
+        }
+        findProject(depth - 1, stackTraces);
+    }
+
+    /**
+     * A 404 like {@code ResourceNotFoundException}, recording its stack trace or not whatever the JVM-wide setting.
+     */
+    private static final class ProjectNotFoundException extends BusinessException {
+        ProjectNotFoundException(boolean stackTraces) {
+            super(ErrorCode.PROJECT_NOT_FOUND.getMessage(), ErrorCode.RESOURCE_NOT_FOUND, null, stackTraces);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package duy.personalproject.taskmanagementsystem.benchmark;
+
+import duy.personalproject.taskmanagementsystem.auth.config.properties.JwtConfigProperties;
+import duy.personalproject.taskmanagementsystem.auth.model.entity.UserEntity;
+import duy.personalproject.taskmanagementsystem.auth.model.response.TokenInfo;
+import duy.personalproject.taskmanagementsystem.auth.security.CustomUserDetails;
+import duy.personalproject.taskmanagementsystem.auth.service.impl.JwtServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token issuing and verification as done on login and by JwtTokenFilter on every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+    private JwtServiceImpl jwtService;
+    private UserEntity user;
+    private CustomUserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtConfigProperties properties = new JwtConfigProperties();
+        properties.setSecretKey(Base64.getEncoder().encodeToString(new byte[64]));
+        properties.setAccessTokenExpirationInSecond(3600L);
+        properties.setRefreshTokenExpirationInSecond(604800L);
+
+        jwtService = new JwtServiceImpl(properties);
+        jwtService.init();
+        user = BenchmarkData.user();
+        userDetails = new CustomUserDetails(user);
+        token = jwtService.generateAccessToken(user).token();
+    }
+
+    @Benchmark
+    public TokenInfo generateAccessToken() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(token, userDetails);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+}
@@ -0,0 +1,67 @@
+package duy.personalproject.taskmanagementsystem.benchmark;
+
+import duy.personalproject.taskmanagementsystem.core.annotation.LogExecutionTime;
+import duy.personalproject.taskmanagementsystem.core.aspect.LoggingAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of @LogExecutionTime on a call that is timed but not logged, next to a pass-through aspect with the
+ * same pointcut. The difference is the aspect's own overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingAspectBenchmark {
+    private Target passThrough;
+    private Target timed;
+    private int counter;
+
+    @Setup
+    public void setUp() {
+        passThrough = proxy(new PassThroughAspect());
+        timed = proxy(new LoggingAspect(new SimpleMeterRegistry()));
+    }
+
+    private static Target proxy(Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Target());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    @Benchmark
+    public int passThroughAspect() {
+        return passThrough.increment(counter++);
+    }
+
+    @Benchmark
+    public int loggingAspect() {
+        return timed.increment(counter++);
+    }
+
+    @LogExecutionTime(slowThresholdMs = 1_000)
+    public static class Target {
+        public int increment(int value) {
+            return value + 1;
+        }
+    }
+
+    @Aspect
+    public static class PassThroughAspect {
+        @Around("@annotation(logExecutionTime) || @within(logExecutionTime)")
+        public Object around(ProceedingJoinPoint joinPoint, LogExecutionTime logExecutionTime) throws Throwable {
+            joinPoint.getSignature();
+            return joinPoint.proceed();
+        }
+    }
+}
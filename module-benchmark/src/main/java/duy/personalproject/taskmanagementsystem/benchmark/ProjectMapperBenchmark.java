@@ -0,0 +1,50 @@
+package duy.personalproject.taskmanagementsystem.benchmark;
+
+import duy.personalproject.taskmanagementsystem.core.model.common.PaginationResponse;
+import duy.personalproject.taskmanagementsystem.project.mapper.ProjectMapper;
+import duy.personalproject.taskmanagementsystem.project.mapper.ProjectMapperImpl;
+import duy.personalproject.taskmanagementsystem.project.model.entity.ProjectEntity;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping and page wrapping as done by ProjectServiceImpl.searchProjects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectMapperBenchmark {
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private ProjectMapper projectMapper;
+    private ProjectEntity project;
+    private Page<ProjectEntity> page;
+
+    @Setup
+    public void setUp() {
+        projectMapper = new ProjectMapperImpl();
+        List<ProjectEntity> projects = BenchmarkData.projects(pageSize);
+        project = projects.get(0);
+        page = new PageImpl<>(projects, PageRequest.of(0, pageSize), pageSize * 10L);
+    }
+
+    @Benchmark
+    public ProjectResponse mapEntityToResponse() {
+        return projectMapper.mapEntityToResponse(project);
+    }
+
+    @Benchmark
+    public PaginationResponse<ProjectResponse> paginationResponseOf() {
+        return PaginationResponse.of(page, projectMapper::mapEntityToResponse);
+    }
+}
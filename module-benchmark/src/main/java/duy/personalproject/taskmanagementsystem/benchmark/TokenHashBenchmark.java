@@ -0,0 +1,30 @@
+package duy.personalproject.taskmanagementsystem.benchmark;
+
+import duy.personalproject.taskmanagementsystem.auth.util.TokenHashUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SHA-256 hashing of refresh tokens, done on every refresh and logout.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenHashBenchmark {
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // same shape and length as a signed refresh token
+        token = "eyJhbGciOiJIUzUxMiJ9." + "x".repeat(180) + "." + "s".repeat(86);
+    }
+
+    @Benchmark
+    public String hashToken() {
+        return TokenHashUtil.hashToken(token);
+    }
+}
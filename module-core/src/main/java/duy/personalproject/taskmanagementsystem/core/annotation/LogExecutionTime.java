@@ -7,6 +7,8 @@ import java.lang.annotation.Target;
 
 /**
  * Annotation to enable execution time logging for methods or classes.
+ * Every call is timed; only calls that reach {@link #slowThresholdMs()} and are picked by
+ * {@link #sampleRate()} are logged. Failed calls are always logged.
  */
 @Target({ElementType.METHOD, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
@@ -14,6 +16,16 @@ public @interface LogExecutionTime {
 
     LogLevel value() default LogLevel.INFO;
 
+    /**
+     * Minimum execution time for a successful call to be logged. 0 logs every call.
+     */
+    long slowThresholdMs() default 0;
+
+    /**
+     * Fraction of the calls above the threshold that are logged, between 0.0 and 1.0.
+     */
+    double sampleRate() default 1.0;
+
     enum LogLevel {
         DEBUG, INFO, WARN
     }
@@ -1,25 +1,45 @@
 package duy.personalproject.taskmanagementsystem.core.aspect;
 
 import duy.personalproject.taskmanagementsystem.core.annotation.LogExecutionTime;
+import duy.personalproject.taskmanagementsystem.core.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StopWatch;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Aspect for logging execution time of methods annotated with @LogExecutionTime.
  * This aspect provides flexible, annotation-based execution time logging.
  * Supports both method-level and class-level annotations.
+ * Every call is also recorded in the {@value #TIMER_NAME} timer, tagged by class, method and outcome.
+ * Failed calls are logged at ERROR, except {@link BusinessException}s, which are expected and only logged at DEBUG.
+ *
+ * <p>Names, the effective annotation and the timers are resolved once per method. On the hot path the aspect
+ * only reads the clock, records the timer and, for calls that will actually be logged, builds the message.
  */
 @Aspect
 @Component
 @Slf4j(topic = "LOGGING_EXECUTION_TIME_ASPECT")
+@RequiredArgsConstructor
 public class LoggingAspect {
+    static final String TIMER_NAME = "method.execution";
+    private static final String LOG_MESSAGE = "[{}] {}() executed in {} ms";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Method, MethodMetadata> metadataCache = new ConcurrentHashMap<>();
 
     /**
      * Logs execution time for methods or classes annotated with @LogExecutionTime.
@@ -31,70 +51,120 @@ public class LoggingAspect {
      */
     @Around("@annotation(logExecutionTime) || @within(logExecutionTime)")
     public Object logExecutionTime(ProceedingJoinPoint joinPoint, LogExecutionTime logExecutionTime) throws Throwable {
-        StopWatch stopWatch = new StopWatch();
-        stopWatch.start();
-
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
+        MethodMetadata metadata = getMetadata(joinPoint);
+        long start = System.nanoTime();
 
+        Object result;
         try {
-            Object result = joinPoint.proceed();
-            stopWatch.stop();
-
-            long executionTime = stopWatch.getTotalTimeMillis();
-
-            LogExecutionTime annotation = getAnnotation(joinPoint, logExecutionTime);
-
-            if (annotation != null) {
-                logMethodExecution(className, methodName, executionTime, annotation);
-            }
-
-            return result;
+            result = joinPoint.proceed();
         } catch (Throwable throwable) {
-            stopWatch.stop();
-            long executionTime = stopWatch.getTotalTimeMillis();
-            log.error("Exception in [{}] {}() after {}ms: {}", className, methodName, executionTime, throwable.getMessage());
+            long elapsedNanos = System.nanoTime() - start;
+            metadata.errorTimer().record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (throwable instanceof BusinessException) {
+                // expected errors are logged, rate-limited, by GlobalExceptionHandler
+                log.debug("Business exception in [{}] {}() after {}ms: {}", metadata.className(), metadata.methodName(),
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throwable.getMessage());
+            } else {
+                log.error("Exception in [{}] {}() after {}ms: {}", metadata.className(), metadata.methodName(),
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throwable.getMessage());
+            }
             throw throwable;
         }
+
+        long elapsedNanos = System.nanoTime() - start;
+        metadata.successTimer().record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (elapsedNanos >= metadata.slowThresholdNanos() && isSampled(metadata.sampleRate())) {
+            logMethodExecution(metadata, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+
+        return result;
     }
 
     /**
-     * Gets the annotation from either the method or the class.
+     * Gets the cached metadata of the intercepted method, resolving it on first use.
      */
-    private LogExecutionTime getAnnotation(ProceedingJoinPoint joinPoint, LogExecutionTime providedAnnotation) {
-        if (providedAnnotation != null) {
-            return providedAnnotation;
+    private MethodMetadata getMetadata(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodMetadata metadata = metadataCache.get(method);
+        if (metadata == null) {
+            Class<?> targetClass = joinPoint.getTarget().getClass();
+            metadata = metadataCache.computeIfAbsent(method, m -> resolveMetadata(m, targetClass));
         }
+        return metadata;
+    }
 
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
+    private MethodMetadata resolveMetadata(Method method, Class<?> targetClass) {
+        String className = targetClass.getSimpleName();
+        String methodName = method.getName();
+        LogExecutionTime annotation = getAnnotation(method, targetClass);
+
+        return new MethodMetadata(
+                className,
+                methodName,
+                annotation.value(),
+                TimeUnit.MILLISECONDS.toNanos(annotation.slowThresholdMs()),
+                annotation.sampleRate(),
+                buildTimer(className, methodName, "SUCCESS"),
+                buildTimer(className, methodName, "ERROR"));
+    }
 
-        LogExecutionTime methodAnnotation = method.getAnnotation(LogExecutionTime.class);
+    private Timer buildTimer(String className, String methodName, String outcome) {
+        return Timer.builder(TIMER_NAME)
+                .description("Execution time of methods annotated with @LogExecutionTime")
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gets the annotation from either the method or the class; the method-level one wins.
+     */
+    private LogExecutionTime getAnnotation(Method method, Class<?> targetClass) {
+        LogExecutionTime methodAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, LogExecutionTime.class);
         if (methodAnnotation != null) {
             return methodAnnotation;
         }
 
-        return joinPoint.getTarget().getClass().getAnnotation(LogExecutionTime.class);
+        return AnnotatedElementUtils.findMergedAnnotation(targetClass, LogExecutionTime.class);
     }
 
-    /**
-     * Logs the method execution with appropriate log level and details.
-     */
-    private void logMethodExecution(String className, String methodName, long executionTime, LogExecutionTime annotation) {
-        String message = buildLogMessage(className, methodName, executionTime);
-
-        switch (annotation.value()) {
-            case DEBUG -> log.debug(message);
-            case INFO -> log.info(message);
-            case WARN -> log.warn(message);
-        }
+    private boolean isSampled(double sampleRate) {
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
     }
 
     /**
-     * Builds the log message based on annotation configuration.
+     * Logs the method execution at the configured level; the message is only formatted when that level is enabled.
      */
-    private String buildLogMessage(String className, String methodName, long executionTime) {
-        return "[%s] %s() executed in %d ms".formatted(className, methodName, executionTime);
+    private void logMethodExecution(MethodMetadata metadata, long executionTime) {
+        switch (metadata.level()) {
+            case DEBUG -> {
+                if (log.isDebugEnabled()) {
+                    log.debug(LOG_MESSAGE, metadata.className(), metadata.methodName(), executionTime);
+                }
+            }
+            case INFO -> {
+                if (log.isInfoEnabled()) {
+                    log.info(LOG_MESSAGE, metadata.className(), metadata.methodName(), executionTime);
+                }
+            }
+            case WARN -> {
+                if (log.isWarnEnabled()) {
+                    log.warn(LOG_MESSAGE, metadata.className(), metadata.methodName(), executionTime);
+                }
+            }
+        }
     }
-}
 
+    private record MethodMetadata(
+            String className,
+            String methodName,
+            LogExecutionTime.LogLevel level,
+            long slowThresholdNanos,
+            double sampleRate,
+            Timer successTimer,
+            Timer errorTimer
+    ) {}
+}
@@ -0,0 +1,29 @@
+package duy.personalproject.taskmanagementsystem.core.config;
+
+import duy.personalproject.taskmanagementsystem.core.config.properties.ErrorHandlingConfigProperties;
+import duy.personalproject.taskmanagementsystem.core.exception.BusinessException;
+import duy.personalproject.taskmanagementsystem.core.util.LogRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration(proxyBeanMethods = false)
+@Slf4j(topic = "ERROR_HANDLING_CONFIG")
+public class ErrorHandlingConfig {
+
+    public ErrorHandlingConfig() {
+        if (!BusinessException.isStackTraceEnabled()) {
+            log.info("Business exceptions are created without stack traces");
+        }
+    }
+
+    /**
+     * Shared by everything that logs expected errors, keyed by error code.
+     */
+    @Bean
+    LogRateLimiter errorLogRateLimiter(ErrorHandlingConfigProperties properties) {
+        return new LogRateLimiter(properties.getLogPermitsPerSecond(), 1, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,32 @@
+package duy.personalproject.taskmanagementsystem.core.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import duy.personalproject.taskmanagementsystem.core.json.CoreJacksonModule;
+import org.springframework.core.NativeDetector;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Modules for the application's single ObjectMapper. Spring Boot registers every {@link Module} bean with the
+ * auto-configured mapper, which is the one injected everywhere and used by the HTTP message converters.
+ */
+@Configuration(proxyBeanMethods = false)
+public class JacksonConfig {
+
+    /**
+     * Replaces reflective getter and field access of the remaining bean serializers and deserializers with
+     * generated lambdas. The successor of Afterburner for Java 11 and later. Left out of the native image, which
+     * cannot define the lambdas at runtime and has no reflection overhead to save.
+     */
+    @Bean
+    Module blackbirdModule() {
+        return NativeDetector.inNativeImage() ? new SimpleModule("NoBlackbirdModule") : new BlackbirdModule();
+    }
+
+    @Bean
+    Module coreJacksonModule() {
+        return new CoreJacksonModule();
+    }
+}
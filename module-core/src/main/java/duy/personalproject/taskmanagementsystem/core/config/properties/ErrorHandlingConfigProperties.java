@@ -0,0 +1,13 @@
+package duy.personalproject.taskmanagementsystem.core.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "task.management.system.error-handling")
+public class ErrorHandlingConfigProperties {
+    /**
+     * Log statements per error code and second for expected errors; the rest are counted and reported with the next one.
+     */
+    private int logPermitsPerSecond = 10;
+}
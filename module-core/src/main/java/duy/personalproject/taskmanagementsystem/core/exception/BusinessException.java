@@ -2,34 +2,57 @@ package duy.personalproject.taskmanagementsystem.core.exception;
 
 import lombok.Getter;
 
+import java.util.Objects;
+
 /**
  * Base custom exception for business logic errors.
  * Used for validation and business rule violations.
+ *
+ * <p>These exceptions are expected control flow, such as a 404 for an unknown id, and their stack trace is never
+ * shown to the client. Unless {@value #STACK_TRACES_PROPERTY} (or {@code BUSINESS_EXCEPTION_STACK_TRACES}) is true
+ * they skip {@link Throwable#fillInStackTrace()}, which otherwise dominates the cost of throwing from deep inside
+ * the filter, proxy and repository call chain. The setting is read once per JVM, since exceptions are created
+ * outside of any application context.
  */
 @Getter
 public class BusinessException extends RuntimeException {
+    public static final String STACK_TRACES_PROPERTY = "task.management.system.error-handling.business-exception-stack-traces";
+    private static final boolean STACK_TRACES_ENABLED = Boolean.parseBoolean(System.getProperty(STACK_TRACES_PROPERTY,
+            Objects.requireNonNullElse(System.getenv("BUSINESS_EXCEPTION_STACK_TRACES"), "false")));
+
     private final ErrorCode errorCode;
 
     public BusinessException(String message) {
-        super(message);
-        this.errorCode = ErrorCode.BUSINESS_ERROR;
+        this(message, ErrorCode.BUSINESS_ERROR, null);
     }
 
     public BusinessException(String message, ErrorCode errorCode) {
-        super(message);
-        this.errorCode = errorCode;
+        this(message, errorCode, null);
     }
 
     public BusinessException(String message, Throwable cause) {
-        super(message, cause);
-        this.errorCode = ErrorCode.BUSINESS_ERROR;
+        this(message, ErrorCode.BUSINESS_ERROR, cause);
     }
 
     public BusinessException(String message, ErrorCode errorCode, Throwable cause) {
-        super(message, cause);
+        this(message, errorCode, cause, STACK_TRACES_ENABLED);
+    }
+
+    /**
+     * @param writableStackTrace whether to record the stack trace, regardless of {@value #STACK_TRACES_PROPERTY}
+     */
+    protected BusinessException(String message, ErrorCode errorCode, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
         this.errorCode = errorCode;
     }
 
+    /**
+     * Whether business exceptions record their stack trace in this JVM.
+     */
+    public static boolean isStackTraceEnabled() {
+        return STACK_TRACES_ENABLED;
+    }
+
     public String getErrorCodeValue() {
         return errorCode.getCode();
     }
@@ -38,4 +61,3 @@ public class BusinessException extends RuntimeException {
         return errorCode.getHttpStatusCode();
     }
 }
-
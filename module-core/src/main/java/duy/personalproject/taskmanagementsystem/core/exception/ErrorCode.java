@@ -41,11 +41,17 @@ public enum ErrorCode {
     EMAIL_ALREADY_EXISTS(409, "EMAIL_ALREADY_EXISTS", "Email already exists"),
     USERNAME_ALREADY_EXISTS(409, "USERNAME_ALREADY_EXISTS", "Username already exists"),
 
+    // 429 Too Many Requests Errors
+    TOO_MANY_REQUESTS(429, "TOO_MANY_REQUESTS", "Too many requests, please retry later"),
+
     // 500 Internal Server Errors
     INTERNAL_SERVER_ERROR(500, "INTERNAL_SERVER_ERROR", "An unexpected error occurred"),
     DATABASE_ERROR(500, "DATABASE_ERROR", "Database operation failed"),
     EXTERNAL_SERVICE_ERROR(500, "EXTERNAL_SERVICE_ERROR", "External service error"),
-    EMAIL_SENDING_ERROR(500, "EMAIL_SENDING_ERROR", "Failed to send email");
+    EMAIL_SENDING_ERROR(500, "EMAIL_SENDING_ERROR", "Failed to send email"),
+
+    // 503 Service Unavailable Errors
+    SERVICE_UNAVAILABLE(503, "SERVICE_UNAVAILABLE", "Service is temporarily overloaded, please retry later");
 
     /**
      * HTTP status code associated with this error.
@@ -2,6 +2,8 @@ package duy.personalproject.taskmanagementsystem.core.exception;
 
 import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
 import duy.personalproject.taskmanagementsystem.core.model.common.ErrorDetails;
+import duy.personalproject.taskmanagementsystem.core.util.LogRateLimiter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -27,21 +29,27 @@ import java.util.stream.Collectors;
  * - Proper HTTP status codes
  * - Secure error messages (no internal details in production)
  * - Detailed logging for debugging
+ * - Expected errors are logged at a bounded rate per error code and reuse shared error details
  */
 @Slf4j(topic = "GLOBAL_EXCEPTION_HANDLER")
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    private final LogRateLimiter errorLogRateLimiter;
 
     @ExceptionHandler(value = BusinessException.class)
     public ResponseEntity<ApiResponse<Void>> handleBusinessException(
             BusinessException e, WebRequest request) {
-        log.warn("Business exception occurred: {}", e.getErrorCode(), e);
+        String suppressed = logPermit(e.getErrorCode());
+        if (suppressed != null) {
+            log.warn("Business exception occurred: {}{}", e.getErrorCode(), suppressed, e);
+        }
 
         ApiResponse<Void> response = ApiResponse.<Void>builder()
                 .success(false)
                 .code(e.getHttpStatusCode())
                 .message(e.getMessage())
-                .error(ErrorDetails.of(e.getErrorCodeValue(), e.getMessage()))
+                .error(ErrorDetails.of(e.getErrorCode(), e.getMessage()))
                 .build();
 
         return new ResponseEntity<>(response, HttpStatus.valueOf(e.getHttpStatusCode()));
@@ -86,14 +94,17 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = ResourceNotFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleResourceNotFoundException(
             ResourceNotFoundException e, WebRequest request) {
-        log.warn("Resource not found: {}", e.getMessage());
-
         ErrorCode errorCode = ErrorCode.RESOURCE_NOT_FOUND;
+        String suppressed = logPermit(errorCode);
+        if (suppressed != null) {
+            log.warn("Resource not found: {}{}", e.getMessage(), suppressed);
+        }
+
         ApiResponse<Void> response = ApiResponse.<Void>builder()
                 .success(false)
                 .code(404)
                 .message(e.getMessage())
-                .error(ErrorDetails.of(errorCode.getCode(), e.getMessage()))
+                .error(ErrorDetails.of(errorCode, e.getMessage()))
                 .build();
 
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
@@ -105,14 +116,17 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = DuplicateResourceException.class)
     public ResponseEntity<ApiResponse<Void>> handleDuplicateResourceException(
             DuplicateResourceException e, WebRequest request) {
-        log.warn("Duplicate resource detected: {}", e.getMessage());
-
         ErrorCode errorCode = ErrorCode.DUPLICATE_RESOURCE;
+        String suppressed = logPermit(errorCode);
+        if (suppressed != null) {
+            log.warn("Duplicate resource detected: {}{}", e.getMessage(), suppressed);
+        }
+
         ApiResponse<Void> response = ApiResponse.<Void>builder()
                 .success(false)
                 .code(409)
                 .message(e.getMessage())
-                .error(ErrorDetails.of(errorCode.getCode(), e.getMessage()))
+                .error(ErrorDetails.of(errorCode, e.getMessage()))
                 .build();
 
         return new ResponseEntity<>(response, HttpStatus.CONFLICT);
@@ -124,14 +138,17 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = UnauthorizedException.class)
     public ResponseEntity<ApiResponse<Void>> handleUnauthorizedException(
             UnauthorizedException e, WebRequest request) {
-        log.warn("Unauthorized access attempt: {}", e.getMessage());
-
         ErrorCode errorCode = ErrorCode.UNAUTHORIZED;
+        String suppressed = logPermit(errorCode);
+        if (suppressed != null) {
+            log.warn("Unauthorized access attempt: {}{}", e.getMessage(), suppressed);
+        }
+
         ApiResponse<Void> response = ApiResponse.<Void>builder()
                 .success(false)
                 .code(401)
                 .message(e.getMessage())
-                .error(ErrorDetails.of(errorCode.getCode(), e.getMessage()))
+                .error(ErrorDetails.of(errorCode, e.getMessage()))
                 .build();
 
         return new ResponseEntity<>(response, HttpStatus.UNAUTHORIZED);
@@ -143,14 +160,17 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = ForbiddenException.class)
     public ResponseEntity<ApiResponse<Void>> handleForbiddenException(
             ForbiddenException e, WebRequest request) {
-        log.warn("Forbidden access attempt: {}", e.getMessage());
-
         ErrorCode errorCode = ErrorCode.FORBIDDEN;
+        String suppressed = logPermit(errorCode);
+        if (suppressed != null) {
+            log.warn("Forbidden access attempt: {}{}", e.getMessage(), suppressed);
+        }
+
         ApiResponse<Void> response = ApiResponse.<Void>builder()
                 .success(false)
                 .code(403)
                 .message(e.getMessage())
-                .error(ErrorDetails.of(errorCode.getCode(), e.getMessage()))
+                .error(ErrorDetails.of(errorCode, e.getMessage()))
                 .build();
 
         return new ResponseEntity<>(response, HttpStatus.FORBIDDEN);
@@ -162,9 +182,12 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = NoResourceFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleNoResourceFoundException(
             NoResourceFoundException e, WebRequest request) {
-        log.warn("Endpoint not found: {} {}", e.getHttpMethod(), e.getResourcePath());
-
         ErrorCode errorCode = ErrorCode.ENDPOINT_NOT_FOUND;
+        String suppressed = logPermit(errorCode);
+        if (suppressed != null) {
+            log.warn("Endpoint not found: {} {}{}", e.getHttpMethod(), e.getResourcePath(), suppressed);
+        }
+
         ApiResponse<Void> response = ApiResponse.<Void>builder()
                 .success(false)
                 .code(404)
@@ -179,9 +202,12 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = BadCredentialsException.class)
     public ResponseEntity<ApiResponse<Void>> handleBadCredentialsException(
             BadCredentialsException e, WebRequest request) {
-        log.warn("Authentication failed: {}", e.getMessage());
-
         ErrorCode errorCode = ErrorCode.INVALID_CREDENTIALS;
+        String suppressed = logPermit(errorCode);
+        if (suppressed != null) {
+            log.warn("Authentication failed: {}{}", e.getMessage(), suppressed);
+        }
+
         ApiResponse<Void> response = ApiResponse.<Void>builder()
                 .success(false)
                 .code(401)
@@ -194,9 +220,12 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = AuthorizationDeniedException.class)
     public ResponseEntity<ApiResponse<Void>> handleAuthorizationDeniedException(
             AuthorizationDeniedException e, WebRequest request) {
-        log.warn("Authorization denied: {}", e.getMessage());
-
         ErrorCode errorCode = ErrorCode.INSUFFICIENT_PERMISSIONS;
+        String suppressed = logPermit(errorCode);
+        if (suppressed != null) {
+            log.warn("Authorization denied: {}{}", e.getMessage(), suppressed);
+        }
+
         ApiResponse<Void> response = ApiResponse.<Void>builder()
                 .success(false)
                 .code(403)
@@ -226,4 +255,14 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    /**
+     * Takes a log permit for the error code.
+     *
+     * @return suffix reporting the statements suppressed before this one, or null if this one must be skipped
+     */
+    private String logPermit(ErrorCode errorCode) {
+        long suppressed = errorLogRateLimiter.tryAcquire(errorCode);
+        return suppressed == LogRateLimiter.SUPPRESSED ? null : LogRateLimiter.suppressedSuffix(suppressed);
+    }
 }
@@ -0,0 +1,116 @@
+package duy.personalproject.taskmanagementsystem.core.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
+import duy.personalproject.taskmanagementsystem.core.model.common.PaginationResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Hand-written serializers for the response envelope, which every endpoint writes. They produce the same JSON as
+ * Jackson's reflective serializers for these classes, without the per-property introspection and dispatch.
+ * Keep them in line with the fields of {@link ApiResponse} and {@link PaginationResponse}.
+ */
+public class CoreJacksonModule extends SimpleModule {
+
+    public CoreJacksonModule() {
+        super("CoreJacksonModule");
+        addSerializer(new ApiResponseSerializer());
+        addSerializer(new PaginationResponseSerializer());
+        addSerializer(new PageMetadataSerializer());
+    }
+
+    /**
+     * Same as {@code @JsonInclude(NON_NULL)} on {@link ApiResponse}.
+     */
+    static final class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+
+        ApiResponseSerializer() {
+            super(ApiResponse.class, false);
+        }
+
+        @Override
+        public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeBooleanField("success", value.isSuccess());
+            gen.writeNumberField("code", value.getCode());
+            if (value.getMessage() != null) {
+                gen.writeStringField("message", value.getMessage());
+            }
+            if (value.getData() != null) {
+                provider.defaultSerializeField("data", value.getData(), gen);
+            }
+            if (value.getError() != null) {
+                provider.defaultSerializeField("error", value.getError(), gen);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class PaginationResponseSerializer extends StdSerializer<PaginationResponse<?>> {
+
+        PaginationResponseSerializer() {
+            super(PaginationResponse.class, false);
+        }
+
+        @Override
+        public void serialize(PaginationResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName("items");
+            writeItems(value.items(), gen, provider);
+            provider.defaultSerializeField("metadata", value.metadata(), gen);
+            gen.writeEndObject();
+        }
+
+        /**
+         * Items of a page nearly always share one class, so its serializer is looked up once.
+         */
+        private static void writeItems(List<?> items, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (items == null) {
+                gen.writeNull();
+                return;
+            }
+            gen.writeStartArray(items, items.size());
+            Class<?> itemClass = null;
+            JsonSerializer<Object> serializer = null;
+            for (Object item : items) {
+                if (item == null) {
+                    gen.writeNull();
+                    continue;
+                }
+                if (item.getClass() != itemClass) {
+                    itemClass = item.getClass();
+                    serializer = provider.findValueSerializer(itemClass, null);
+                }
+                serializer.serialize(item, gen, provider);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    static final class PageMetadataSerializer extends StdSerializer<PaginationResponse.PageMetadata> {
+
+        PageMetadataSerializer() {
+            super(PaginationResponse.PageMetadata.class);
+        }
+
+        @Override
+        public void serialize(PaginationResponse.PageMetadata value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeNumberField("pageNumber", value.pageNumber());
+            gen.writeNumberField("pageSize", value.pageSize());
+            gen.writeNumberField("totalItems", value.totalItems());
+            gen.writeNumberField("totalPages", value.totalPages());
+            gen.writeBooleanField("isLastPage", value.isLastPage());
+            gen.writeBooleanField("isFirstPage", value.isFirstPage());
+            gen.writeBooleanField("isEmpty", value.isEmpty());
+            gen.writeNumberField("numberOfElements", value.numberOfElements());
+            gen.writeEndObject();
+        }
+    }
+}
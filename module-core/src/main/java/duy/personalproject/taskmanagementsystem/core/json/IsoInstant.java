@@ -0,0 +1,98 @@
+package duy.personalproject.taskmanagementsystem.core.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes instants exactly like {@link DateTimeFormatter#ISO_INSTANT}, which Jackson uses for {@link Instant} when
+ * dates are not written as timestamps, e.g. {@code 2025-01-01T10:15:30.120Z}. The formatter is the bulk of the
+ * cost of serializing a page of projects; this writes the characters directly for years 0 to 9999 and falls
+ * back to the formatter otherwise.
+ */
+public final class IsoInstant {
+    private static final int SECONDS_PER_DAY = 86_400;
+    // days from 0000-03-01 to 1970-01-01
+    private static final int DAYS_0000_TO_1970 = 719_468;
+    private static final int DAYS_PER_400_YEARS = 146_097;
+    private static final int MAX_LENGTH = 30;
+
+    private IsoInstant() {}
+
+    public static void write(JsonGenerator gen, Instant instant) throws IOException {
+        char[] buffer = new char[MAX_LENGTH];
+        int length = format(instant, buffer);
+        if (length < 0) {
+            gen.writeString(DateTimeFormatter.ISO_INSTANT.format(instant));
+        } else {
+            gen.writeString(buffer, 0, length);
+        }
+    }
+
+    public static String format(Instant instant) {
+        char[] buffer = new char[MAX_LENGTH];
+        int length = format(instant, buffer);
+        return length < 0 ? DateTimeFormatter.ISO_INSTANT.format(instant) : new String(buffer, 0, length);
+    }
+
+    /**
+     * Formats into {@code buffer}, returning the length, or -1 for years outside 0 to 9999.
+     * The civil date is computed with Howard Hinnant's days-from-civil inverse.
+     */
+    private static int format(Instant instant, char[] buffer) {
+        long epochSecond = instant.getEpochSecond();
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        long days = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(days, DAYS_PER_400_YEARS);
+        int dayOfEra = (int) (days - era * DAYS_PER_400_YEARS);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int monthIndex = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * monthIndex + 2) / 5 + 1;
+        int month = monthIndex < 10 ? monthIndex + 3 : monthIndex - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+
+        int pos = 0;
+        pos = digits(buffer, pos, (int) year, 4);
+        buffer[pos++] = '-';
+        pos = digits(buffer, pos, month, 2);
+        buffer[pos++] = '-';
+        pos = digits(buffer, pos, day, 2);
+        buffer[pos++] = 'T';
+        pos = digits(buffer, pos, secondOfDay / 3600, 2);
+        buffer[pos++] = ':';
+        pos = digits(buffer, pos, secondOfDay / 60 % 60, 2);
+        buffer[pos++] = ':';
+        pos = digits(buffer, pos, secondOfDay % 60, 2);
+
+        // fraction in groups of three digits, as many as needed
+        int nano = instant.getNano();
+        if (nano > 0) {
+            buffer[pos++] = '.';
+            if (nano % 1_000_000 == 0) {
+                pos = digits(buffer, pos, nano / 1_000_000, 3);
+            } else if (nano % 1_000 == 0) {
+                pos = digits(buffer, pos, nano / 1_000, 6);
+            } else {
+                pos = digits(buffer, pos, nano, 9);
+            }
+        }
+        buffer[pos++] = 'Z';
+        return pos;
+    }
+
+    private static int digits(char[] buffer, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
@@ -0,0 +1,30 @@
+package duy.personalproject.taskmanagementsystem.core.model.common;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Keyset (cursor) pagination response.
+ * Unlike {@link PaginationResponse} it carries no total count, so fetching a page never scans
+ * past the requested rows regardless of how deep the client has paged.
+ *
+ * @param items      the page content
+ * @param nextCursor opaque cursor to pass back for the next page, null when this is the last page
+ * @param hasNext    whether another page exists
+ * @param <T>        type of content
+ */
+@Builder
+public record CursorPaginationResponse<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorPaginationResponse<T> of(List<T> items, String nextCursor) {
+        return CursorPaginationResponse.<T>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
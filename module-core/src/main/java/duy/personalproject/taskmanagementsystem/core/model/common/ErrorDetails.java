@@ -1,37 +1,57 @@
 package duy.personalproject.taskmanagementsystem.core.model.common;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
-import lombok.AllArgsConstructor;
+import duy.personalproject.taskmanagementsystem.core.exception.ErrorCode;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
 
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Error details in API response.
  * Contains error code, detailed message, and field validation errors.
+ * Instances are immutable, so the ones for recurring errors are built once and shared between responses.
  */
-@Data
+@Getter
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
+@Jacksonized
+@EqualsAndHashCode
+@ToString
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ErrorDetails {
+    /**
+     * Distinct details kept per error code; errors with varying details, such as ids, beyond that are built per call.
+     */
+    private static final int MAX_SHARED_DETAILS_PER_CODE = 64;
+    private static final Map<ErrorCode, Map<String, ErrorDetails>> SHARED = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            Map<String, ErrorDetails> details = new ConcurrentHashMap<>();
+            details.put(errorCode.getMessage(), new ErrorDetails(errorCode.getCode(), errorCode.getMessage(), null));
+            SHARED.put(errorCode, details);
+        }
+    }
+
     /**
      * Error code for programmatic handling.
      */
-    private String code;
+    private final String code;
 
     /**
      * Detailed error message.
      */
-    private String details;
+    private final String details;
 
     /**
      * Field validation errors (key: field name, value: error message).
      */
-    private Map<String, String> fieldErrors;
+    private final Map<String, String> fieldErrors;
 
     /**
      * Create error details with code and message.
@@ -43,6 +63,32 @@ public class ErrorDetails {
                 .build();
     }
 
+    /**
+     * Shared error details with the error code's default message.
+     */
+    public static ErrorDetails of(ErrorCode errorCode) {
+        return SHARED.get(errorCode).get(errorCode.getMessage());
+    }
+
+    /**
+     * Shared error details for the error code and message, built on first use.
+     */
+    public static ErrorDetails of(ErrorCode errorCode, String details) {
+        if (details == null) {
+            return of(errorCode.getCode(), null);
+        }
+        Map<String, ErrorDetails> shared = SHARED.get(errorCode);
+        ErrorDetails errorDetails = shared.get(details);
+        if (errorDetails != null) {
+            return errorDetails;
+        }
+        errorDetails = of(errorCode.getCode(), details);
+        if (shared.size() < MAX_SHARED_DETAILS_PER_CODE) {
+            shared.putIfAbsent(details, errorDetails);
+        }
+        return errorDetails;
+    }
+
     /**
      * Create error details with field errors.
      */
@@ -54,4 +100,3 @@ public class ErrorDetails {
                 .build();
     }
 }
-
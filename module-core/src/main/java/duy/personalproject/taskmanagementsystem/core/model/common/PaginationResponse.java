@@ -2,6 +2,7 @@ package duy.personalproject.taskmanagementsystem.core.model.common;
 
 import lombok.Builder;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.function.Function;
@@ -21,7 +22,32 @@ public record PaginationResponse<T>(
             boolean isFirstPage,
             boolean isEmpty,
             int numberOfElements
-    ) {}
+    ) {
+        /**
+         * Metadata of a page that was not materialized as a {@link Page}, computed the way
+         * {@link org.springframework.data.domain.PageImpl} does.
+         *
+         * @param pageable         requested page
+         * @param numberOfElements number of items on the page
+         * @param totalItems       total number of items across all pages
+         */
+        public static PageMetadata of(Pageable pageable, int numberOfElements, long totalItems) {
+            if (numberOfElements > 0 && pageable.getOffset() + pageable.getPageSize() > totalItems) {
+                totalItems = pageable.getOffset() + numberOfElements;
+            }
+            int totalPages = (int) Math.ceil((double) totalItems / pageable.getPageSize());
+            return PageMetadata.builder()
+                    .pageNumber(pageable.getPageNumber())
+                    .pageSize(pageable.getPageSize())
+                    .totalItems(totalItems)
+                    .totalPages(totalPages)
+                    .isFirstPage(pageable.getPageNumber() == 0)
+                    .isLastPage(pageable.getPageNumber() + 1 >= totalPages)
+                    .isEmpty(numberOfElements == 0)
+                    .numberOfElements(numberOfElements)
+                    .build();
+        }
+    }
 
     /**
      * Factory method to create PaginationResponse from Spring Data Page.
@@ -32,26 +58,16 @@ public record PaginationResponse<T>(
      * @return PaginationResponse with all metadata
      */
     public static <T> PaginationResponse<T> of(Page<T> page) {
-        PageMetadata metadata = PageMetadata.builder()
-                .pageNumber(page.getNumber())
-                .pageSize(page.getSize())
-                .totalItems(page.getTotalElements())
-                .totalPages(page.getTotalPages())
-                .isFirstPage(page.isFirst())
-                .isLastPage(page.isLast())
-                .isEmpty(page.isEmpty())
-                .numberOfElements(page.getNumberOfElements())
-                .build();
-
         return PaginationResponse.<T>builder()
                 .items(page.getContent())
-                .metadata(metadata)
+                .metadata(metadata(page))
                 .build();
     }
 
     /**
      * Factory method to create PaginationResponse from Spring Data Page with mapping.
      * Useful when you need to convert entities to DTOs.
+     * The content is mapped directly instead of through {@link Page#map(Function)}, which copies the page.
      *
      * @param page Spring Data Page object
      * @param mapper Function to map from source type to target type
@@ -60,7 +76,22 @@ public record PaginationResponse<T>(
      * @return PaginationResponse with mapped content
      */
     public static <S, T> PaginationResponse<T> of(Page<S> page, Function<S, T> mapper) {
-        Page<T> mappedPage = page.map(mapper);
-        return of(mappedPage);
+        return PaginationResponse.<T>builder()
+                .items(page.getContent().stream().map(mapper).toList())
+                .metadata(metadata(page))
+                .build();
+    }
+
+    private static PageMetadata metadata(Page<?> page) {
+        return PageMetadata.builder()
+                .pageNumber(page.getNumber())
+                .pageSize(page.getSize())
+                .totalItems(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .isFirstPage(page.isFirst())
+                .isLastPage(page.isLast())
+                .isEmpty(page.isEmpty())
+                .numberOfElements(page.getNumberOfElements())
+                .build();
     }
 }
@@ -0,0 +1,33 @@
+package duy.personalproject.taskmanagementsystem.core.model.constant;
+
+import java.util.List;
+
+/**
+ * Regions of Hibernate's second-level cache. Each one is a cache of its own, sized and expired by
+ * {@code task.management.system.second-level-cache.regions.<name>}.
+ */
+public class CacheRegionConstants {
+    private CacheRegionConstants() {}
+
+    public static final String USERS = "users";
+    public static final String USERS_BY_USERNAME = "users-by-username";
+    public static final String USER_EXISTS = "user-exists";
+
+    public static final String PROJECTS = "projects";
+    public static final String PROJECTS_BY_NAME = "projects-by-name";
+    public static final String PROJECT_EXISTS = "project-exists";
+
+    /**
+     * Cacheable queries without a region of their own.
+     */
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+
+    /**
+     * When each table was last written, which tells whether a cached query result is still valid. Must never
+     * lose an entry before the query results that depend on it, so it is neither bounded nor expired.
+     */
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> ALL = List.of(USERS, USERS_BY_USERNAME, USER_EXISTS, PROJECTS, PROJECTS_BY_NAME,
+            PROJECT_EXISTS, DEFAULT_QUERY_RESULTS, UPDATE_TIMESTAMPS);
+}
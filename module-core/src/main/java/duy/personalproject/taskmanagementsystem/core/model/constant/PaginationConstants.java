@@ -5,6 +5,7 @@ public class PaginationConstants {
 
     public static final int DEFAULT_PAGE = 0;
     public static final int DEFAULT_SIZE = 10;
+    public static final int MAX_SIZE = 100;
 
     public static final String SORT_BY_CREATED_AT = "createdAt";
 }
@@ -0,0 +1,12 @@
+package duy.personalproject.taskmanagementsystem.core.model.enums;
+
+public enum ExportFormat {
+    /**
+     * One JSON object per line.
+     */
+    NDJSON,
+    /**
+     * RFC 4180 comma-separated values with a header row.
+     */
+    CSV
+}
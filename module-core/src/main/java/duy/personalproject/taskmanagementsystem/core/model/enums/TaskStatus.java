@@ -0,0 +1,7 @@
+package duy.personalproject.taskmanagementsystem.core.model.enums;
+
+public enum TaskStatus {
+    TODO,
+    IN_PROGRESS,
+    DONE
+}
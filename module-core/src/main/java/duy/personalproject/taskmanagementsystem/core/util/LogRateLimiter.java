@@ -0,0 +1,67 @@
+package duy.personalproject.taskmanagementsystem.core.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets through at most {@code permits} log statements per key and interval and counts the rest, so that a flood of
+ * identical errors costs a counter increment each instead of a formatted log line. The first statement let through
+ * after a suppressed run reports how many were dropped.
+ *
+ * <p>Keys should come from a small fixed set such as error codes or exception classes; every key keeps its window.
+ */
+public class LogRateLimiter {
+    /**
+     * Returned by {@link #tryAcquire(Object)} when the statement must not be logged.
+     */
+    public static final long SUPPRESSED = -1;
+
+    private final int permits;
+    private final long intervalNanos;
+    private final Map<Object, Window> windows = new ConcurrentHashMap<>();
+
+    public LogRateLimiter(int permits, long interval, TimeUnit unit) {
+        this.permits = permits;
+        this.intervalNanos = unit.toNanos(interval);
+    }
+
+    /**
+     * Takes a permit for {@code key}.
+     *
+     * @return {@link #SUPPRESSED} if the statement must be skipped, otherwise the number of statements suppressed
+     * since the last one that was logged
+     */
+    public long tryAcquire(Object key) {
+        Window window = windows.computeIfAbsent(key, k -> new Window(System.nanoTime()));
+        long now = System.nanoTime();
+        long start = window.start.get();
+        if (now - start >= intervalNanos && window.start.compareAndSet(start, now)) {
+            window.used.set(0);
+        }
+        if (window.used.incrementAndGet() <= permits) {
+            return window.suppressed.getAndSet(0);
+        }
+        window.suppressed.incrementAndGet();
+        return SUPPRESSED;
+    }
+
+    /**
+     * Suffix for a log message reporting the suppressed statements, empty if there were none.
+     */
+    public static String suppressedSuffix(long suppressed) {
+        return suppressed > 0 ? " (" + suppressed + " similar suppressed)" : "";
+    }
+
+    private static final class Window {
+        private final AtomicLong start;
+        private final AtomicInteger used = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Window(long start) {
+            this.start = new AtomicLong(start);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package duy.personalproject.taskmanagementsystem.core.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
+import duy.personalproject.taskmanagementsystem.core.model.common.PaginationResponse;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes a successful {@code ApiResponse<PaginationResponse<T>>} item by item, so that a page is never held in
+ * memory as a whole. The JSON is the same as serializing {@link ApiResponse#ok(Object)} of a
+ * {@link PaginationResponse}: envelope fields, then the items as they are mapped, then the page metadata.
+ *
+ * <p>Items are written before the metadata, so the total is only counted once the page is done, and only when
+ * the page itself does not tell it, the way {@link org.springframework.data.support.PageableExecutionUtils} does.
+ */
+public final class PaginationResponseWriter {
+    private PaginationResponseWriter() {}
+
+    /**
+     * Writes the response to {@code out}. Nothing is written before the first item has been read from
+     * {@code source}, so an error while running the query can still be answered with an error response.
+     *
+     * @param objectMapper mapper used for the items and the metadata
+     * @param out          response body
+     * @param pageable     requested page
+     * @param source       items of the page, read once
+     * @param mapper       maps an item to its response representation
+     * @param afterWrite   called with each source item once it has been written, e.g. to detach it
+     * @param totalCount   counts all items across pages, if needed
+     */
+    public static <S, T> void write(ObjectMapper objectMapper, OutputStream out, Pageable pageable, Stream<S> source,
+                                    Function<S, T> mapper, Consumer<S> afterWrite, LongSupplier totalCount) throws IOException {
+        Iterator<S> items = source.iterator();
+        // runs the query before the first byte is written
+        items.hasNext();
+        // the generator's buffer is flushed when full, not after every item
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeNumberField("code", 200);
+            generator.writeStringField("message", "Success");
+            generator.writeObjectFieldStart("data");
+            generator.writeArrayFieldStart("items");
+
+            int numberOfElements = 0;
+            while (items.hasNext()) {
+                S item = items.next();
+                writer.writeValue(generator, mapper.apply(item));
+                afterWrite.accept(item);
+                numberOfElements++;
+            }
+            generator.writeEndArray();
+
+            generator.writeFieldName("metadata");
+            writer.writeValue(generator, PaginationResponse.PageMetadata.of(pageable, numberOfElements,
+                    totalItems(pageable, numberOfElements, totalCount)));
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Whether the total has to be counted for a page of {@code numberOfElements} items, i.e. whether the page is
+     * full or empty past the first page. Otherwise the total is the page's offset plus its items.
+     */
+    public static boolean isCountRequired(Pageable pageable, int numberOfElements) {
+        if (pageable.getOffset() == 0 && pageable.getPageSize() > numberOfElements) {
+            return false;
+        }
+        return numberOfElements == 0 || pageable.getPageSize() <= numberOfElements;
+    }
+
+    private static long totalItems(Pageable pageable, int numberOfElements, LongSupplier totalCount) {
+        return isCountRequired(pageable, numberOfElements) ? totalCount.getAsLong() : pageable.getOffset() + numberOfElements;
+    }
+}
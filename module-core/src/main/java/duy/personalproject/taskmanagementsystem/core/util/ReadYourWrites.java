@@ -0,0 +1,9 @@
+package duy.personalproject.taskmanagementsystem.core.util;
+
+/**
+ * Tells whether the current client has to read from the primary database, because it wrote recently and the
+ * replicas may not have replayed the write yet. Only present when reads are routed to replicas.
+ */
+public interface ReadYourWrites {
+    boolean requiresPrimary();
+}
@@ -0,0 +1,121 @@
+package duy.personalproject.taskmanagementsystem.core.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical calls: the first caller for a key runs the call on its own thread, and callers
+ * arriving while it runs wait for its result instead of running the call again. The result, or the exception,
+ * is handed to all of them; nothing is kept once the call has returned.
+ *
+ * <p>Waiting is bounded by {@code maxWait}. A caller that has waited that long runs the call itself, so a slow
+ * call never holds up more callers than it would have without coalescing.
+ *
+ * <p>Meters {@code coalescing.calls{name,outcome}}, where the outcome is {@code executed}, {@code collapsed} or
+ * {@code timed_out}, and {@code coalescing.in_flight{name}}.
+ */
+public class SingleFlight<K, V> {
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final String name;
+    private final long maxWaitNanos;
+    private final Counter executed;
+    private final Counter collapsed;
+    private final Counter timedOut;
+
+    public SingleFlight(String name, Duration maxWait, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.executed = counter(meterRegistry, name, "executed");
+        this.collapsed = counter(meterRegistry, name, "collapsed");
+        this.timedOut = counter(meterRegistry, name, "timed_out");
+        Gauge.builder("coalescing.in_flight", inFlight, Map::size)
+                .description("Calls currently running that later identical calls can join")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder("coalescing.calls")
+                .description("Calls by whether they ran, shared the result of an identical call or gave up waiting for it")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code call}, or joins the identical call already running for {@code key}.
+     * Exceptions thrown by the call are rethrown as they are to every caller that shared it.
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running == null) {
+            return lead(key, flight, call);
+        }
+        return follow(running, call);
+    }
+
+    /**
+     * Lets calls for {@code key} from now on run afresh instead of joining the one running, e.g. after a write
+     * that the running call may not see.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    private V lead(K key, CompletableFuture<V> flight, Supplier<V> call) {
+        executed.increment();
+        V value;
+        try {
+            value = call.get();
+        } catch (RuntimeException | Error e) {
+            // removed first, so that no caller joins a flight that has already ended
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(value);
+        return value;
+    }
+
+    private V follow(CompletableFuture<V> running, Supplier<V> call) {
+        try {
+            V value = running.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            collapsed.increment();
+            return value;
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            return call.get();
+        } catch (ExecutionException e) {
+            collapsed.increment();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for " + name);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package duy.personalproject.taskmanagementsystem.datagen;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes rows in the text format of {@code COPY ... FROM STDIN}: tab separated columns, one row per line,
+ * {@code \N} for NULL. Closing the writer closes the underlying stream, which ends the copy.
+ */
+final class CopyRowWriter implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Writer writer;
+    private boolean firstColumn = true;
+    private long rows;
+
+    CopyRowWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    CopyRowWriter value(String value) throws IOException {
+        separate();
+        if (value == null) {
+            writer.write("\\N");
+            return this;
+        }
+        if (!needsEscaping(value)) {
+            writer.write(value);
+            return this;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> writer.write("\\\\");
+                case '\t' -> writer.write("\\t");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                default -> writer.write(c);
+            }
+        }
+        return this;
+    }
+
+    CopyRowWriter value(long value) throws IOException {
+        separate();
+        writer.write(Long.toString(value));
+        return this;
+    }
+
+    CopyRowWriter value(Object value) throws IOException {
+        return value(value == null ? null : value.toString());
+    }
+
+    void endRow() throws IOException {
+        writer.write('\n');
+        firstColumn = true;
+        rows++;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    private static boolean needsEscaping(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '\t' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void separate() throws IOException {
+        if (!firstColumn) {
+            writer.write('\t');
+        }
+        firstColumn = false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
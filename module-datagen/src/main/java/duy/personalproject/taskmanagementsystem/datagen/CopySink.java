@@ -0,0 +1,19 @@
+package duy.personalproject.taskmanagementsystem.datagen;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Destination of the generated rows: one {@code COPY ... FROM STDIN} stream per table.
+ */
+@FunctionalInterface
+public interface CopySink {
+
+    /**
+     * Opens the copy stream of a table; the generator writes text-format rows and closes it when the table is done.
+     *
+     * @param table   table name
+     * @param columns comma-separated column list, in the order the rows are written
+     */
+    OutputStream open(String table, String columns) throws IOException;
+}
@@ -0,0 +1,64 @@
+package duy.personalproject.taskmanagementsystem.datagen;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line entry point of the generator. Loads into a database already migrated by Flyway.
+ *
+ * <pre>
+ * ./mvnw -q -pl module-datagen compile exec:java -Dexec.args="--users=1000000 --projects=500000 --members=5000000 --refresh-tokens=3500000"
+ * </pre>
+ *
+ * <p>Options (all {@code --name=value}): {@code url}, {@code db-user}, {@code db-password} (default to the
+ * {@code DB_URL}, {@code DB_USERNAME} and {@code DB_PASSWORD} environment variables), {@code seed}, {@code prefix},
+ * {@code users}, {@code projects}, {@code members}, {@code refresh-tokens}, {@code project-skew}, {@code token-skew}
+ * and {@code password} (plain password of every generated user, hashed once with BCrypt).
+ */
+public final class DataGeneratorCli {
+
+    private DataGeneratorCli() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String password = options.getOrDefault("password", "Password@123");
+
+        DataGeneratorConfig config = DataGeneratorConfig.builder()
+                .seed(Long.parseLong(options.getOrDefault("seed", "42")))
+                .prefix(options.get("prefix"))
+                .users(Integer.parseInt(options.getOrDefault("users", "100000")))
+                .projects(Integer.parseInt(options.getOrDefault("projects", "50000")))
+                .members(Long.parseLong(options.getOrDefault("members", "500000")))
+                .refreshTokens(Long.parseLong(options.getOrDefault("refresh-tokens", "300000")))
+                .projectSkew(Double.parseDouble(options.getOrDefault("project-skew", "1.1")))
+                .tokenSkew(Double.parseDouble(options.getOrDefault("token-skew", "0.8")))
+                .passwordHash(new BCryptPasswordEncoder(10).encode(password))
+                .build();
+
+        String url = options.getOrDefault("url", System.getenv().getOrDefault("DB_URL", "jdbc:postgresql://localhost:5433/local_db"));
+        String user = options.getOrDefault("db-user", System.getenv().getOrDefault("DB_USERNAME", "local_user"));
+        String dbPassword = options.getOrDefault("db-password", System.getenv().getOrDefault("DB_PASSWORD", "local_password"));
+
+        try (Connection connection = DriverManager.getConnection(url, user, dbPassword)) {
+            GenerationReport report = new SyntheticDataGenerator(config).generate(connection);
+            System.out.println(report);
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,46 @@
+package duy.personalproject.taskmanagementsystem.datagen;
+
+import lombok.Builder;
+
+/**
+ * Cardinalities and distribution of a synthetic data set.
+ * Identical configs produce identical ids, names, memberships and token counts.
+ *
+ * @param seed          seed of every random choice
+ * @param prefix        prefix of generated usernames, emails and project names, also mixed into ids, so several data sets can share a database
+ * @param users         number of users
+ * @param projects      number of projects
+ * @param members       total project memberships including owners; at least one per project, at most {@code users} per project
+ * @param refreshTokens total refresh tokens
+ * @param projectSkew   Zipf exponent of members per project; 0 is uniform, around 1 gives a few huge projects and a long tail of tiny ones
+ * @param tokenSkew     Zipf exponent of refresh tokens per user
+ * @param passwordHash  password hash shared by every generated user
+ */
+@Builder
+public record DataGeneratorConfig(
+        long seed,
+        String prefix,
+        int users,
+        int projects,
+        long members,
+        long refreshTokens,
+        double projectSkew,
+        double tokenSkew,
+        String passwordHash
+) {
+    public DataGeneratorConfig {
+        prefix = (prefix == null || prefix.isBlank()) ? "gen" : prefix;
+        if (users <= 0) {
+            throw new IllegalArgumentException("users must be positive");
+        }
+        if (projects < 0 || members < projects || refreshTokens < 0) {
+            throw new IllegalArgumentException("projects and refreshTokens must not be negative and members must be at least projects");
+        }
+        if (projectSkew < 0 || tokenSkew < 0) {
+            throw new IllegalArgumentException("skew must not be negative");
+        }
+        if (passwordHash == null || passwordHash.isBlank()) {
+            throw new IllegalArgumentException("passwordHash is required");
+        }
+    }
+}
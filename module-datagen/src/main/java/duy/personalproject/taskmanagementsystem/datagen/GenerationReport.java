@@ -0,0 +1,28 @@
+package duy.personalproject.taskmanagementsystem.datagen;
+
+import java.time.Duration;
+
+/**
+ * Rows written per table by one generator run.
+ */
+public record GenerationReport(
+        long users,
+        long projects,
+        long members,
+        long refreshTokens,
+        Duration elapsed
+) {
+    public long totalRows() {
+        return users + projects + members + refreshTokens;
+    }
+
+    public double rowsPerSecond() {
+        return totalRows() / Math.max(elapsed.toNanos() / 1_000_000_000.0, 1e-9);
+    }
+
+    @Override
+    public String toString() {
+        return "users=%d projects=%d members=%d refreshTokens=%d in %.1fs (%.0f rows/s)"
+                .formatted(users, projects, members, refreshTokens, elapsed.toMillis() / 1000.0, rowsPerSecond());
+    }
+}
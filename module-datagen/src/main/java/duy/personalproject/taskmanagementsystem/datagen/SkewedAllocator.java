@@ -0,0 +1,59 @@
+package duy.personalproject.taskmanagementsystem.datagen;
+
+/**
+ * Splits a total over buckets following a Zipf distribution: bucket {@code i} gets a share proportional to
+ * {@code 1 / (i + 1)^exponent}, so bucket 0 is the largest. The split is deterministic and exact.
+ */
+public final class SkewedAllocator {
+
+    private SkewedAllocator() {
+    }
+
+    /**
+     * Allocates {@code total} over {@code buckets}, giving every bucket at least {@code min} and at most {@code max}.
+     * What does not fit under {@code max} is dropped, so the sum is {@code min(total, buckets * max)}.
+     *
+     * @param total    amount to split, at least {@code buckets * min}
+     * @param buckets  number of buckets
+     * @param min      lower bound of every bucket
+     * @param max      upper bound of every bucket
+     * @param exponent Zipf exponent; 0 splits evenly
+     * @return the amount of every bucket
+     */
+    public static int[] allocate(long total, int buckets, int min, int max, double exponent) {
+        if (total < (long) buckets * min || min > max) {
+            throw new IllegalArgumentException("total must be at least buckets * min and min at most max");
+        }
+        int[] counts = new int[buckets];
+        if (buckets == 0) {
+            return counts;
+        }
+
+        double[] weights = new double[buckets];
+        double weightSum = 0;
+        for (int i = 0; i < buckets; i++) {
+            weights[i] = Math.pow(i + 1, -exponent);
+            weightSum += weights[i];
+        }
+
+        long extra = total - (long) buckets * min;
+        long capacity = (long) max - min;
+        long remaining = Math.min(total, (long) buckets * max);
+        for (int i = 0; i < buckets; i++) {
+            long share = Math.min(capacity, (long) Math.floor(extra * weights[i] / weightSum));
+            counts[i] = (int) (min + share);
+            remaining -= counts[i];
+        }
+
+        // Rounding and capping leave a remainder; hand it out one by one from the largest bucket down
+        while (remaining > 0) {
+            for (int i = 0; i < buckets && remaining > 0; i++) {
+                if (counts[i] < max) {
+                    counts[i]++;
+                    remaining--;
+                }
+            }
+        }
+        return counts;
+    }
+}
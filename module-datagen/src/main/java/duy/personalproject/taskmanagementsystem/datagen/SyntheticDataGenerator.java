@@ -0,0 +1,243 @@
+package duy.personalproject.taskmanagementsystem.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Generates users, projects, project members, project stats and refresh tokens and streams them through
+ * {@code COPY}, holding only the per-project and per-user counts in memory.
+ *
+ * <p>Every id and every random choice derives from {@link DataGeneratorConfig#seed()}: user {@code i} and project
+ * {@code i} get the same UUID for the same seed and prefix, so tests can address generated rows by index. Members per project
+ * and refresh tokens per user follow Zipf distributions; project 0 has the most members and user 0 the most tokens.
+ * Only timestamps are relative to the time of the run.
+ */
+public final class SyntheticDataGenerator {
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+    private static final long USER_STREAM = 0x75736572L;
+    private static final long PROJECT_STREAM = 0x70726f6aL;
+    private static final long TOKEN_STREAM = 0x746f6b65L;
+    private static final String[] WORDS = {
+            "alpha", "beta", "gamma", "delta", "omega", "platform", "mobile", "billing", "search", "migration",
+            "analytics", "onboarding", "payments", "reporting", "infra", "design", "api", "release", "support", "growth"
+    };
+
+    private final DataGeneratorConfig config;
+    private final HexFormat hex = HexFormat.of();
+
+    public SyntheticDataGenerator(DataGeneratorConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads the data set over a PostgreSQL connection and analyzes the tables afterwards.
+     * Each table is copied in its own statement, so with auto-commit enabled every table commits on its own.
+     */
+    public GenerationReport generate(Connection connection) throws SQLException, IOException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        GenerationReport report = generate((table, columns) -> {
+            try {
+                return new PGCopyOutputStream(pgConnection, "COPY " + table + " (" + columns + ") FROM STDIN", COPY_BUFFER_SIZE);
+            } catch (SQLException ex) {
+                throw new IOException("Could not start COPY into " + table, ex);
+            }
+        });
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE users, projects, project_members, project_stats, refresh_tokens");
+        }
+        return report;
+    }
+
+    /**
+     * Writes the data set to the given sink, table by table in foreign key order.
+     */
+    public GenerationReport generate(CopySink sink) throws IOException {
+        long start = System.nanoTime();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        int[] membersPerProject = SkewedAllocator.allocate(config.members(), config.projects(), 1, config.users(), config.projectSkew());
+        long users = writeUsers(sink);
+        long projects = writeProjects(sink);
+        long members = writeMembers(sink, membersPerProject);
+        writeProjectStats(sink, membersPerProject);
+
+        int[] tokensPerUser = SkewedAllocator.allocate(config.refreshTokens(), config.users(), 0, Integer.MAX_VALUE, config.tokenSkew());
+        long refreshTokens = writeRefreshTokens(sink, tokensPerUser, now);
+
+        return new GenerationReport(users, projects, members, refreshTokens, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    public UUID userId(int index) {
+        return uuid(USER_STREAM, index);
+    }
+
+    public UUID projectId(int index) {
+        return uuid(PROJECT_STREAM, index);
+    }
+
+    public String username(int index) {
+        return config.prefix() + "_user_" + index;
+    }
+
+    public String projectName(int index) {
+        return config.prefix() + " project " + index;
+    }
+
+    /**
+     * Index of the user owning the given project.
+     */
+    public int ownerOf(int projectIndex) {
+        return projectRandom(projectIndex).nextInt(config.users());
+    }
+
+    private long writeUsers(CopySink sink) throws IOException {
+        SplittableRandom random = new SplittableRandom(mix(config.seed() ^ USER_STREAM));
+        try (CopyRowWriter rows = new CopyRowWriter(sink.open("users", "id, username, email, password, full_name, role, status"))) {
+            for (int i = 0; i < config.users(); i++) {
+                String username = username(i);
+                int statusRoll = random.nextInt(100);
+                rows.value(userId(i))
+                        .value(username)
+                        .value(username + "@example.com")
+                        .value(config.passwordHash())
+                        .value("User " + i)
+                        .value(i % 1000 == 0 ? "ROLE_ADMIN" : "ROLE_USER")
+                        .value(statusRoll < 95 ? "ACTIVE" : statusRoll < 98 ? "INACTIVE" : "PENDING")
+                        .endRow();
+            }
+            return rows.rows();
+        }
+    }
+
+    private long writeProjects(CopySink sink) throws IOException {
+        try (CopyRowWriter rows = new CopyRowWriter(sink.open("projects", "id, name, description, owner_id"))) {
+            for (int p = 0; p < config.projects(); p++) {
+                SplittableRandom random = projectRandom(p);
+                int owner = random.nextInt(config.users());
+                String description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                        + " " + WORDS[random.nextInt(WORDS.length)] + " project";
+                rows.value(projectId(p))
+                        .value(projectName(p))
+                        .value(description)
+                        .value(userId(owner))
+                        .endRow();
+            }
+            return rows.rows();
+        }
+    }
+
+    /**
+     * Members of a project are the owner followed by users at a fixed stride coprime to the user count,
+     * which visits distinct users without remembering which ones were taken.
+     */
+    private long writeMembers(CopySink sink, int[] membersPerProject) throws IOException {
+        int userCount = config.users();
+        try (CopyRowWriter rows = new CopyRowWriter(sink.open("project_members", "project_id, user_id, role"))) {
+            for (int p = 0; p < config.projects(); p++) {
+                SplittableRandom random = projectRandom(p);
+                int owner = random.nextInt(userCount);
+                int stride = coprimeStride(random, userCount);
+                UUID projectId = projectId(p);
+
+                long user = owner;
+                for (int m = 0; m < membersPerProject[p]; m++) {
+                    rows.value(projectId)
+                            .value(userId((int) user))
+                            .value(m == 0 ? "OWNER" : "MEMBER")
+                            .endRow();
+                    user = (user + stride) % userCount;
+                }
+            }
+            return rows.rows();
+        }
+    }
+
+    private void writeProjectStats(CopySink sink, int[] membersPerProject) throws IOException {
+        try (CopyRowWriter rows = new CopyRowWriter(sink.open("project_stats", "project_id, slot, member_count"))) {
+            for (int p = 0; p < config.projects(); p++) {
+                rows.value(projectId(p)).value(0).value(membersPerProject[p]).endRow();
+            }
+        }
+    }
+
+    /**
+     * Tokens are spread over the last 30 days; about a third are revoked and older ones are expired.
+     */
+    private long writeRefreshTokens(CopySink sink, int[] tokensPerUser, Instant now) throws IOException {
+        SplittableRandom random = new SplittableRandom(mix(config.seed() ^ TOKEN_STREAM));
+        try (CopyRowWriter rows = new CopyRowWriter(sink.open("refresh_tokens", "user_id, hashed_token, expires_at, revoked_at"))) {
+            for (int u = 0; u < tokensPerUser.length; u++) {
+                UUID userId = userId(u);
+                for (int t = 0; t < tokensPerUser[u]; t++) {
+                    String hashedToken = hex.toHexDigits(random.nextLong()) + hex.toHexDigits(random.nextLong())
+                            + hex.toHexDigits(random.nextLong()) + hex.toHexDigits(random.nextLong());
+                    Instant issuedAt = now.minusSeconds(random.nextLong(Duration.ofDays(30).toSeconds()));
+                    Instant revokedAt = random.nextInt(3) == 0 ? issuedAt.plusSeconds(random.nextLong(Duration.ofDays(1).toSeconds())) : null;
+                    rows.value(userId)
+                            .value(hashedToken)
+                            .value(issuedAt.plus(7, ChronoUnit.DAYS))
+                            .value(revokedAt)
+                            .endRow();
+                }
+            }
+            return rows.rows();
+        }
+    }
+
+    private SplittableRandom projectRandom(int projectIndex) {
+        return new SplittableRandom(mix(config.seed() ^ PROJECT_STREAM) + projectIndex);
+    }
+
+    private static int coprimeStride(SplittableRandom random, int userCount) {
+        if (userCount <= 2) {
+            return 1;
+        }
+        int stride;
+        do {
+            stride = 1 + random.nextInt(userCount - 1);
+        } while (gcd(stride, userCount) != 1);
+        return stride;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /**
+     * Version 4 shaped UUID derived from the seed, the prefix, a stream constant and the index.
+     */
+    private UUID uuid(long stream, int index) {
+        long base = mix(config.seed() ^ stream ^ ((long) config.prefix().hashCode() << 32));
+        long most = mix(base + index);
+        long least = mix(most ^ index);
+        most = (most & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        least = (least & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
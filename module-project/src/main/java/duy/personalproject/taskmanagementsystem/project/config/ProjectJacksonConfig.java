@@ -0,0 +1,15 @@
+package duy.personalproject.taskmanagementsystem.project.config;
+
+import com.fasterxml.jackson.databind.Module;
+import duy.personalproject.taskmanagementsystem.project.json.ProjectJacksonModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class ProjectJacksonConfig {
+
+    @Bean
+    Module projectJacksonModule() {
+        return new ProjectJacksonModule();
+    }
+}
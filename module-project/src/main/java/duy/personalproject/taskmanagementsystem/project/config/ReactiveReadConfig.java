@@ -0,0 +1,97 @@
+package duy.personalproject.taskmanagementsystem.project.config;
+
+import duy.personalproject.taskmanagementsystem.core.util.LogRateLimiter;
+import duy.personalproject.taskmanagementsystem.project.config.properties.ReactiveReadConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.repository.ReactiveProjectRepository;
+import duy.personalproject.taskmanagementsystem.project.service.ReactiveProjectService;
+import duy.personalproject.taskmanagementsystem.project.service.impl.ReactiveProjectServiceImpl;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.function.ToIntFunction;
+
+/**
+ * Non-blocking project reads over R2DBC, next to the JDBC data source. The connection pool belongs to
+ * {@link ReactiveProjectRepository} rather than being a bean, since a {@code ConnectionFactory} bean would make
+ * Spring Boot back off from the JDBC data source.
+ *
+ * <p>Off unless {@code task.management.system.reactive-read.enabled=true}: its pool opens connections on top of the
+ * JDBC pool's, so the two have to be sized together against the database's {@code max_connections}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "task.management.system.reactive-read", name = "enabled", havingValue = "true")
+@Slf4j(topic = "REACTIVE_READ_CONFIG")
+public class ReactiveReadConfig {
+    private static final String POOL_NAME = "reactive-read";
+
+    @Bean
+    ReactiveProjectRepository reactiveProjectRepository(ReactiveReadConfigProperties properties,
+                                                        ObjectProvider<JdbcConnectionDetails> jdbcConnectionDetails,
+                                                        DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry) {
+        JdbcConnectionDetails jdbc = jdbcConnectionDetails.getIfAvailable();
+        String url = StringUtils.hasText(properties.getUrl()) ? properties.getUrl()
+                : toR2dbcUrl(jdbc != null ? jdbc.getJdbcUrl() : dataSourceProperties.determineUrl());
+        String username = StringUtils.hasText(properties.getUsername()) ? properties.getUsername()
+                : jdbc != null ? jdbc.getUsername() : dataSourceProperties.determineUsername();
+        String password = StringUtils.hasText(properties.getPassword()) ? properties.getPassword()
+                : jdbc != null ? jdbc.getPassword() : dataSourceProperties.determinePassword();
+
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (username != null) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (password != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name(POOL_NAME)
+                .initialSize(properties.getInitialSize())
+                .maxSize(properties.getMaxSize())
+                .maxAcquireTime(Duration.ofMillis(properties.getMaxAcquireTimeMs()))
+                .customizer(builder -> builder.maxPendingAcquire(properties.getMaxPendingAcquires()))
+                .build());
+        registerGauge(meterRegistry, pool, "reactive.read.pool.acquired", "Connections in use", PoolMetrics::acquiredSize);
+        registerGauge(meterRegistry, pool, "reactive.read.pool.pending", "Reads waiting for a connection", PoolMetrics::pendingAcquireSize);
+        log.info("Reactive project reads use up to {} connections", properties.getMaxSize());
+
+        return new ReactiveProjectRepository(pool);
+    }
+
+    @Bean
+    ReactiveProjectService reactiveProjectService(ReactiveProjectRepository reactiveProjectRepository, LogRateLimiter errorLogRateLimiter,
+                                                  ReactiveReadConfigProperties properties) {
+        return new ReactiveProjectServiceImpl(reactiveProjectRepository, errorLogRateLimiter, properties.getMaxPageSize());
+    }
+
+    /**
+     * {@code jdbc:postgresql://host:port/db?params} to {@code r2dbc:postgresql://host:port/db?params}.
+     */
+    static String toR2dbcUrl(String jdbcUrl) {
+        if (jdbcUrl == null || !jdbcUrl.startsWith("jdbc:")) {
+            throw new IllegalStateException("Set task.management.system.reactive-read.url, no R2DBC URL can be derived from " + jdbcUrl);
+        }
+        return "r2dbc:" + jdbcUrl.substring("jdbc:".length());
+    }
+
+    private static void registerGauge(MeterRegistry meterRegistry, ConnectionPool pool, String name, String description,
+                                      ToIntFunction<PoolMetrics> metric) {
+        Gauge.builder(name, pool, p -> p.getMetrics().map(metric::applyAsInt).orElse(0))
+                .description(description)
+                .tag("pool", POOL_NAME)
+                .register(meterRegistry);
+    }
+}
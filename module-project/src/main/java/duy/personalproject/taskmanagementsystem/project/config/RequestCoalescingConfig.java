@@ -0,0 +1,32 @@
+package duy.personalproject.taskmanagementsystem.project.config;
+
+import duy.personalproject.taskmanagementsystem.core.util.ReadYourWrites;
+import duy.personalproject.taskmanagementsystem.project.config.properties.RequestCoalescingConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectService;
+import duy.personalproject.taskmanagementsystem.project.service.impl.CoalescingProjectService;
+import duy.personalproject.taskmanagementsystem.project.service.impl.ProjectServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Coalescing of concurrent identical project reads. The coalescing service wraps the transactional
+ * {@link ProjectServiceImpl}, so waiting callers hold no transaction or connection.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "task.management.system.request-coalescing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestCoalescingConfig {
+
+    @Bean
+    @Primary
+    ProjectService coalescingProjectService(ProjectServiceImpl projectServiceImpl, RequestCoalescingConfigProperties properties,
+                                            ObjectProvider<ReadYourWrites> readYourWrites, MeterRegistry meterRegistry) {
+        return new CoalescingProjectService(projectServiceImpl, readYourWrites.getIfAvailable(), Duration.ofMillis(properties.getMaxWaitMs()),
+                properties.getMaxCoalescedPageSize(), meterRegistry);
+    }
+}
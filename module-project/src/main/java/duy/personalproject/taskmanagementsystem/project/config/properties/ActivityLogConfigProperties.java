@@ -0,0 +1,41 @@
+package duy.personalproject.taskmanagementsystem.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "task.management.system.activity-log")
+public class ActivityLogConfigProperties {
+    /**
+     * Maximum number of activities buffered in memory before the overflow policy applies.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Maximum number of rows written by a single multi-row INSERT.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum time an activity waits in the buffer before a partial batch is flushed.
+     */
+    private long flushIntervalMs = 1_000;
+
+    /**
+     * Maximum time to wait for the buffer to drain on shutdown.
+     */
+    private long shutdownTimeoutMs = 10_000;
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_NEWEST;
+
+    public enum OverflowPolicy {
+        /**
+         * Reject the activity being recorded; the write path never blocks.
+         */
+        DROP_NEWEST,
+        /**
+         * Evict the oldest buffered activity to make room for the new one.
+         */
+        DROP_OLDEST
+    }
+}
@@ -0,0 +1,44 @@
+package duy.personalproject.taskmanagementsystem.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "task.management.system.project-changes")
+public class ProjectChangeStreamConfigProperties {
+    /**
+     * Postgres channel used for NOTIFY/LISTEN of project changes.
+     */
+    private String channel = "project_changes";
+
+    /**
+     * Events buffered per subscriber. A subscriber that falls this far behind is disconnected.
+     */
+    private int subscriberBufferSize = 256;
+
+    /**
+     * Threads shared by all subscribers to write events to their connections.
+     */
+    private int dispatcherThreads = 4;
+
+    /**
+     * Longest a single event may take to be written to a subscriber, e.g. while its TCP window is full, before the
+     * subscriber is disconnected.
+     */
+    private long sendTimeoutMs = 5_000;
+
+    /**
+     * Lifetime of a single SSE connection before the client has to reconnect.
+     */
+    private long emitterTimeoutMs = 1_800_000;
+
+    /**
+     * Maximum time the listener blocks waiting for notifications.
+     */
+    private int pollTimeoutMs = 500;
+
+    /**
+     * Delay before the listener reconnects after losing its database connection.
+     */
+    private long reconnectDelayMs = 5_000;
+}
@@ -0,0 +1,18 @@
+package duy.personalproject.taskmanagementsystem.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "task.management.system.project-export")
+public class ProjectExportConfigProperties {
+    /**
+     * Rows fetched from the server-side cursor per round trip; also the most rows held in memory at once.
+     */
+    private int fetchSize = 1_000;
+
+    /**
+     * Bytes buffered before they are written to the client, or to the gzip stream.
+     */
+    private int bufferSizeBytes = 64 * 1024;
+}
@@ -0,0 +1,14 @@
+package duy.personalproject.taskmanagementsystem.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "task.management.system.project-stats")
+public class ProjectStatsConfigProperties {
+    /**
+     * Number of counter rows (stripes) per project. Concurrent membership changes on the same
+     * project are spread across stripes so they do not serialize on a single row lock.
+     */
+    private int stripes = 8;
+}
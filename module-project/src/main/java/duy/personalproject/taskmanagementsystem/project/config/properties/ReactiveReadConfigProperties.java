@@ -0,0 +1,50 @@
+package duy.personalproject.taskmanagementsystem.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "task.management.system.reactive-read")
+public class ReactiveReadConfigProperties {
+    private boolean enabled = false;
+
+    /**
+     * R2DBC URL, e.g. {@code r2dbc:postgresql://localhost:5433/local_db}. Defaults to {@code spring.datasource.url}
+     * with its {@code jdbc:} prefix replaced.
+     */
+    private String url;
+
+    /**
+     * Defaults to {@code spring.datasource.username}.
+     */
+    private String username;
+
+    /**
+     * Defaults to {@code spring.datasource.password}.
+     */
+    private String password;
+
+    private int initialSize = 2;
+
+    /**
+     * Connections on top of {@code spring.datasource.hikari.maximum-pool-size}; both together, times the instances,
+     * have to stay below the database's {@code max_connections}.
+     */
+    private int maxSize = 10;
+
+    /**
+     * Reads waiting for a connection beyond this are rejected at once with 503 instead of queueing.
+     */
+    private int maxPendingAcquires = 1_000;
+
+    /**
+     * How long a read waits for a connection before it fails with 503.
+     */
+    private long maxAcquireTimeMs = 2_000;
+
+    /**
+     * Largest page the reactive search returns. Its page is collected before it is written; larger pages are
+     * streamed by the servlet endpoint.
+     */
+    private int maxPageSize = 100;
+}
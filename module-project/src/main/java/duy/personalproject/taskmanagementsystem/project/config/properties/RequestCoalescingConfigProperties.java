@@ -0,0 +1,21 @@
+package duy.personalproject.taskmanagementsystem.project.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "task.management.system.request-coalescing")
+public class RequestCoalescingConfigProperties {
+    private boolean enabled = true;
+
+    /**
+     * How long a read waits for an identical one already running before it runs on its own.
+     */
+    private long maxWaitMs = 1_000;
+
+    /**
+     * Largest page of a streamed search that is coalesced. Its response is rendered once into memory and shared;
+     * larger pages are streamed per request.
+     */
+    private int maxCoalescedPageSize = 100;
+}
@@ -2,24 +2,42 @@ package duy.personalproject.taskmanagementsystem.project.controller;
 
 import duy.personalproject.taskmanagementsystem.core.annotation.LogExecutionTime;
 import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
+import duy.personalproject.taskmanagementsystem.core.model.common.CursorPaginationResponse;
 import duy.personalproject.taskmanagementsystem.core.model.common.PaginationResponse;
 import duy.personalproject.taskmanagementsystem.core.model.constant.SecurityConstants;
+import duy.personalproject.taskmanagementsystem.core.model.enums.ExportFormat;
 import duy.personalproject.taskmanagementsystem.auth.security.CustomUserDetails;
 import duy.personalproject.taskmanagementsystem.project.model.request.CreateProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.request.ExportProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.request.SearchProjectActivityRequest;
 import duy.personalproject.taskmanagementsystem.project.model.request.SearchProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.request.SyncProjectRequest;
 import duy.personalproject.taskmanagementsystem.project.model.request.UpdateProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectActivityResponse;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectChangesResponse;
 import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import duy.personalproject.taskmanagementsystem.project.service.ActivityLogService;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectChangeService;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectExportService;
 import duy.personalproject.taskmanagementsystem.project.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.UUID;
 
 @RestController
@@ -27,9 +45,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/projects")
 @Tag(name = "Project Controller", description = "APIs for managing projects")
-@LogExecutionTime
+@LogExecutionTime(slowThresholdMs = 500)
 public class ProjectController {
     private final ProjectService projectService;
+    private final ActivityLogService activityLogService;
+    private final ProjectChangeService projectChangeService;
+    private final ProjectExportService projectExportService;
 
     @Operation(
             summary = "Create Project",
@@ -57,6 +78,55 @@ public class ProjectController {
         return ApiResponse.created(projectResponse);
     }
 
+    @Operation(
+            summary = "Sync project changes",
+            description = "API to fetch projects created, updated or deleted since a sync watermark. "
+                    + "Repeat with the returned watermark while hasMore is true.",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "200",
+                            description = "Changes retrieved successfully"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "400",
+                            description = "Malformed watermark"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "401",
+                            description = "Unauthorized"
+                    )
+            }
+    )
+    @PreAuthorize(SecurityConstants.HAS_ROLE_USER_OR_ADMIN)
+    @GetMapping("/changes")
+    public ApiResponse<ProjectChangesResponse> findChanges(@ParameterObject SyncProjectRequest request) {
+        log.info("Starting sync project changes since: {}", request.since());
+        ProjectChangesResponse changes = projectService.findChanges(request);
+        return ApiResponse.ok(changes);
+    }
+
+    @Operation(
+            summary = "Stream project changes",
+            description = "Server-sent event stream of project create, update and delete events. "
+                    + "The stream is closed when the client falls too far behind; clients should reconnect and reload.",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "200",
+                            description = "Stream opened"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "401",
+                            description = "Unauthorized"
+                    )
+            }
+    )
+    @PreAuthorize(SecurityConstants.HAS_ROLE_USER_OR_ADMIN)
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges() {
+        log.info("Starting project change stream");
+        return projectChangeService.subscribe();
+    }
+
     @Operation(
             summary = "Get Project by ID",
             description = "API to retrieve a project by its ID",
@@ -85,11 +155,13 @@ public class ProjectController {
 
     @Operation(
             summary = "Search projects",
-            description = "API to search projects with pagination and sorting",
+            description = "API to search projects with pagination and sorting. "
+                    + "The page is streamed as it is read, so large page sizes do not need more server memory.",
             responses = {
                     @io.swagger.v3.oas.annotations.responses.ApiResponse(
                             responseCode = "200",
-                            description = "Projects retrieved successfully"
+                            description = "Projects retrieved successfully",
+                            content = @Content(schema = @Schema(implementation = ProjectPageResponse.class))
                     ),
                     @io.swagger.v3.oas.annotations.responses.ApiResponse(
                             responseCode = "401",
@@ -103,10 +175,81 @@ public class ProjectController {
     )
     @PreAuthorize(SecurityConstants.HAS_ROLE_USER_OR_ADMIN)
     @GetMapping
-    public ApiResponse<PaginationResponse<ProjectResponse>> search(@ParameterObject SearchProjectRequest request) {
+    public void search(@ParameterObject SearchProjectRequest request, HttpServletResponse response) throws IOException {
         log.info("Starting search projects with request: {}", request);
-        PaginationResponse<ProjectResponse> projectResponses = projectService.searchProjects(request);
-        return ApiResponse.ok(projectResponses);
+        // written on the request thread, an error before the first item is still handled by GlobalExceptionHandler
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        projectService.streamProjects(request, response.getOutputStream());
+    }
+
+    @Operation(
+            summary = "Export projects",
+            description = "API to download every project matching a search as NDJSON or CSV, optionally gzipped. "
+                    + "Projects are written while they are read from the database, so exports of any size take the same server memory.",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "200",
+                            description = "Export streamed",
+                            content = {
+                                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE),
+                                    @Content(mediaType = "text/csv"),
+                                    @Content(mediaType = "application/gzip")
+                            }
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid request data or unknown sort property"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "401",
+                            description = "Unauthorized"
+                    )
+            }
+    )
+    @PreAuthorize(SecurityConstants.HAS_ROLE_USER_OR_ADMIN)
+    @GetMapping("/export")
+    @LogExecutionTime(slowThresholdMs = 60_000)
+    public void export(@ParameterObject ExportProjectRequest request, HttpServletResponse response) throws IOException {
+        log.info("Starting export projects with request: {}", request);
+        String filename = request.format() == ExportFormat.CSV ? "projects.csv" : "projects.ndjson";
+        if (request.gzip()) {
+            response.setContentType("application/gzip");
+            filename += ".gz";
+        } else {
+            response.setContentType(request.format() == ExportFormat.CSV ? "text/csv;charset=UTF-8" : MediaType.APPLICATION_NDJSON_VALUE);
+        }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        projectExportService.export(request, response.getOutputStream());
+    }
+
+    @Operation(
+            summary = "Get project activities",
+            description = "API to read the activity log of a project, newest first, with cursor pagination",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "200",
+                            description = "Activities retrieved successfully"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid pagination cursor"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "401",
+                            description = "Unauthorized"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "404",
+                            description = "Project not found"
+                    )
+            }
+    )
+    @PreAuthorize(SecurityConstants.HAS_ROLE_USER_OR_ADMIN)
+    @GetMapping("/{projectId}/activities")
+    public ApiResponse<CursorPaginationResponse<ProjectActivityResponse>> findActivities(@PathVariable UUID projectId, @ParameterObject SearchProjectActivityRequest request) {
+        log.info("Starting find activities of project with id: {}", projectId);
+        CursorPaginationResponse<ProjectActivityResponse> activities = activityLogService.findActivities(projectId, request);
+        return ApiResponse.ok(activities);
     }
 
     @Operation(
@@ -146,4 +289,10 @@ public class ProjectController {
         projectService.delete(projectId, currentUser.getUserEntity().getId());
         return ApiResponse.okWithMessage("Project deleted successfully");
     }
+
+    /**
+     * Documents the JSON of the streamed search response.
+     */
+    private static final class ProjectPageResponse extends ApiResponse<PaginationResponse<ProjectResponse>> {
+    }
 }
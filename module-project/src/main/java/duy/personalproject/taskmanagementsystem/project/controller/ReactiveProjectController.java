@@ -0,0 +1,97 @@
+package duy.personalproject.taskmanagementsystem.project.controller;
+
+import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
+import duy.personalproject.taskmanagementsystem.core.model.common.PaginationResponse;
+import duy.personalproject.taskmanagementsystem.core.model.constant.SecurityConstants;
+import duy.personalproject.taskmanagementsystem.project.model.request.SearchProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import duy.personalproject.taskmanagementsystem.project.service.ReactiveProjectService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * The project reads of {@link ProjectController}, answered without holding a servlet thread while the database
+ * works. The request thread returns once the query is sent and the response is written when the rows arrive,
+ * so a few threads serve many concurrent reads. Authentication and authorization are the same as for
+ * {@link ProjectController}.
+ */
+@RestController
+@Slf4j(topic = "REACTIVE_PROJECT_CONTROLLER")
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reactive/projects")
+@Tag(name = "Reactive Project Controller", description = "Non-blocking APIs for reading projects")
+@ConditionalOnProperty(prefix = "task.management.system.reactive-read", name = "enabled", havingValue = "true")
+public class ReactiveProjectController {
+    private final ReactiveProjectService reactiveProjectService;
+
+    @Operation(
+            summary = "Get Project by ID without blocking",
+            description = "API to retrieve a project by its ID, like GET /api/v1/projects/{projectId}",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "200",
+                            description = "Project retrieved successfully"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "401",
+                            description = "Unauthorized"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "404",
+                            description = "Project not found"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "503",
+                            description = "No database connection available in time"
+                    )
+            }
+    )
+    @PreAuthorize(SecurityConstants.HAS_ROLE_USER_OR_ADMIN)
+    @GetMapping("/{projectId}")
+    public Mono<ApiResponse<ProjectResponse>> findById(@PathVariable("projectId") UUID projectId) {
+        log.info("Starting reactive find project by id: {}", projectId);
+        return reactiveProjectService.findById(projectId).map(ApiResponse::ok);
+    }
+
+    @Operation(
+            summary = "Search projects without blocking",
+            description = "API to search projects with pagination and sorting, like GET /api/v1/projects. "
+                    + "The page is collected before it is written, so its size is limited; use GET /api/v1/projects for larger pages.",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "200",
+                            description = "Projects retrieved successfully"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid request data, page too large or unknown sort property"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "401",
+                            description = "Unauthorized"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "503",
+                            description = "No database connection available in time"
+                    )
+            }
+    )
+    @PreAuthorize(SecurityConstants.HAS_ROLE_USER_OR_ADMIN)
+    @GetMapping
+    public Mono<ApiResponse<PaginationResponse<ProjectResponse>>> search(@ParameterObject SearchProjectRequest request) {
+        log.info("Starting reactive search projects with request: {}", request);
+        return reactiveProjectService.searchProjects(request).map(ApiResponse::ok);
+    }
+}
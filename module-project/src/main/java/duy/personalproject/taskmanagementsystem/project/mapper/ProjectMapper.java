@@ -13,6 +13,7 @@ import org.mapstruct.MappingTarget;
 public interface ProjectMapper {
     @Mapping(target = "owner", ignore = true)
     @Mapping(target = "projectMembers", ignore = true)
+    @Mapping(target = "memberCount", ignore = true)
     ProjectEntity mapCreateRequestToEntity(CreateProjectRequest request);
 
     @Mapping(target = "ownerId", source = "owner.id")
@@ -20,5 +21,6 @@ public interface ProjectMapper {
 
     @Mapping(target = "owner", ignore = true)
     @Mapping(target = "projectMembers", ignore = true)
+    @Mapping(target = "memberCount", ignore = true)
     void mapUpdateRequestToEntity(UpdateProjectRequest request, @MappingTarget ProjectEntity existingEntity);
 }
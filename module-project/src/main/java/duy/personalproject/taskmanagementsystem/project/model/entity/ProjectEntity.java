@@ -1,6 +1,7 @@
 package duy.personalproject.taskmanagementsystem.project.model.entity;
 
 import duy.personalproject.taskmanagementsystem.auth.model.entity.UserEntity;
+import duy.personalproject.taskmanagementsystem.core.model.constant.CacheRegionConstants;
 import duy.personalproject.taskmanagementsystem.core.model.entity.BaseEntity;
 import duy.personalproject.taskmanagementsystem.core.model.enums.ProjectMemberRole;
 import jakarta.persistence.*;
@@ -9,6 +10,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.Builder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -20,7 +26,10 @@ import java.util.Set;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegionConstants.PROJECTS)
+@NaturalIdCache(region = CacheRegionConstants.PROJECTS_BY_NAME)
 public class ProjectEntity extends BaseEntity {
+    @NaturalId(mutable = true)
     @Column(name = "name", nullable = false, unique = true)
     private String name;
 
@@ -35,6 +44,14 @@ public class ProjectEntity extends BaseEntity {
     @Builder.Default
     private Set<ProjectMemberEntity> projectMembers = new HashSet<>();
 
+    /**
+     * Number of active members, read from the striped project_stats counters in the same SELECT.
+     * Read-only; maintained by ProjectStatsService whenever membership changes, which also evicts the project
+     * from the second-level cache since Hibernate does not know that this column depends on project_stats.
+     */
+    @Formula("(SELECT COALESCE(SUM(ps.member_count), 0) FROM project_stats ps WHERE ps.project_id = id)")
+    private Long memberCount;
+
     public void addMember(UserEntity userEntity, ProjectMemberRole role) {
         ProjectMemberEntity projectMember = ProjectMemberEntity.builder()
                 .user(userEntity)
@@ -0,0 +1,17 @@
+package duy.personalproject.taskmanagementsystem.project.model.event;
+
+import duy.personalproject.taskmanagementsystem.core.model.enums.ProjectActivityType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ProjectActivityEvent(
+        UUID projectId,
+        UUID actorId,
+        ProjectActivityType type,
+        Instant occurredAt
+) {
+    public static ProjectActivityEvent of(UUID projectId, UUID actorId, ProjectActivityType type) {
+        return new ProjectActivityEvent(projectId, actorId, type, Instant.now());
+    }
+}
@@ -0,0 +1,40 @@
+package duy.personalproject.taskmanagementsystem.project.model.request;
+
+import duy.personalproject.taskmanagementsystem.core.model.constant.PaginationConstants;
+import duy.personalproject.taskmanagementsystem.core.model.enums.ExportFormat;
+import duy.personalproject.taskmanagementsystem.core.model.enums.SortDirection;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * The filters and sort of {@link SearchProjectRequest} without its paging: an export has every matching project.
+ */
+@Schema(description = "Request model for exporting all projects matching a search")
+public record ExportProjectRequest(
+        @Parameter(description = "Field to sort by", example = "createdAt")
+        @Schema(defaultValue = "createdAt")
+        String sortBy,
+
+        @Parameter(description = "Direction of sorting", example = "DESC")
+        @Schema(defaultValue = "DESC")
+        SortDirection sortDirection,
+
+        @Parameter(description = "Search keyword to filter projects by name or description", example = "project")
+        @Schema(defaultValue = "")
+        String search,
+
+        @Parameter(description = "Format of the export", example = "NDJSON")
+        @Schema(defaultValue = "NDJSON")
+        ExportFormat format,
+
+        @Parameter(description = "Whether to gzip the export", example = "false")
+        @Schema(defaultValue = "false")
+        Boolean gzip
+) {
+    public ExportProjectRequest {
+        sortBy = (sortBy == null || sortBy.isBlank()) ? PaginationConstants.SORT_BY_CREATED_AT : sortBy;
+        sortDirection = (sortDirection == null) ? SortDirection.DESC : sortDirection;
+        format = (format == null) ? ExportFormat.NDJSON : format;
+        gzip = gzip != null && gzip;
+    }
+}
@@ -0,0 +1,19 @@
+package duy.personalproject.taskmanagementsystem.project.model.request;
+
+import duy.personalproject.taskmanagementsystem.core.model.constant.PaginationConstants;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Request model for reading the activity log of a project, newest first")
+public record SearchProjectActivityRequest(
+        @Parameter(description = "Number of items per page", example = "10")
+        @Schema(defaultValue = "10", minimum = "1", maximum = "100")
+        Integer size,
+
+        @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+        String cursor
+) {
+    public SearchProjectActivityRequest {
+        size = (size == null || size <= 0) ? PaginationConstants.DEFAULT_SIZE : Math.min(size, PaginationConstants.MAX_SIZE);
+    }
+}
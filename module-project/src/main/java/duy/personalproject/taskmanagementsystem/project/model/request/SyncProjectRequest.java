@@ -0,0 +1,19 @@
+package duy.personalproject.taskmanagementsystem.project.model.request;
+
+import duy.personalproject.taskmanagementsystem.core.model.constant.PaginationConstants;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Request model for fetching project changes since a sync watermark")
+public record SyncProjectRequest(
+        @Parameter(description = "Opaque watermark returned by the previous sync; omit for a full sync")
+        String since,
+
+        @Parameter(description = "Maximum number of changes per response", example = "100")
+        @Schema(defaultValue = "100", minimum = "1", maximum = "100")
+        Integer size
+) {
+    public SyncProjectRequest {
+        size = (size == null || size <= 0) ? PaginationConstants.MAX_SIZE : Math.min(size, PaginationConstants.MAX_SIZE);
+    }
+}
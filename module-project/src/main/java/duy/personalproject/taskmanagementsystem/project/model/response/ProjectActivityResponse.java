@@ -0,0 +1,16 @@
+package duy.personalproject.taskmanagementsystem.project.model.response;
+
+import duy.personalproject.taskmanagementsystem.core.model.enums.ProjectActivityType;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Builder
+public record ProjectActivityResponse(
+        long id,
+        UUID projectId,
+        UUID actorId,
+        ProjectActivityType action,
+        Instant occurredAt
+) {}
@@ -0,0 +1,22 @@
+package duy.personalproject.taskmanagementsystem.project.model.response;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Delta of projects since a sync watermark.
+ *
+ * @param upserts    projects created or updated since the watermark, in their current state
+ * @param tombstones ids of projects deleted since the watermark
+ * @param watermark  value to pass as {@code since} on the next call
+ * @param hasMore    whether more changes are available right away with the returned watermark
+ */
+@Builder
+public record ProjectChangesResponse(
+        List<ProjectResponse> upserts,
+        List<UUID> tombstones,
+        String watermark,
+        boolean hasMore
+) {}
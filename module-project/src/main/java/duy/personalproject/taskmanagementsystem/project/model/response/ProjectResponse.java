@@ -11,6 +11,7 @@ public record ProjectResponse(
   String name,
   String description,
   UUID ownerId,
+  long memberCount,
   Instant createdAt,
   Instant updatedAt
 ) {}
@@ -0,0 +1,72 @@
+package duy.personalproject.taskmanagementsystem.project.repository;
+
+import duy.personalproject.taskmanagementsystem.core.model.enums.ProjectActivityType;
+import duy.personalproject.taskmanagementsystem.project.model.event.ProjectActivityEvent;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectActivityResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC repository for the append-only project activity log.
+ * Plain JDBC is used because writes are multi-row INSERTs of many events at once, which JPA cannot express.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectActivityRepository {
+    private static final String INSERT_PREFIX = "INSERT INTO project_activities(project_id, actor_id, action, occurred_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?)";
+    private static final int COLUMNS = 4;
+
+    private static final RowMapper<ProjectActivityResponse> ROW_MAPPER = (rs, rowNum) -> ProjectActivityResponse.builder()
+            .id(rs.getLong("id"))
+            .projectId(rs.getObject("project_id", UUID.class))
+            .actorId(rs.getObject("actor_id", UUID.class))
+            .action(ProjectActivityType.valueOf(rs.getString("action")))
+            .occurredAt(rs.getTimestamp("occurred_at").toInstant())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Writes all events with a single multi-row INSERT statement.
+     */
+    public int insertBatch(List<ProjectActivityEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + events.size() * (INSERT_ROW.length() + 1));
+        sql.append(INSERT_PREFIX);
+        Object[] args = new Object[events.size() * COLUMNS];
+        for (int i = 0; i < events.size(); i++) {
+            ProjectActivityEvent event = events.get(i);
+            sql.append(i == 0 ? "" : ",").append(INSERT_ROW);
+            args[i * COLUMNS] = event.projectId();
+            args[i * COLUMNS + 1] = event.actorId();
+            args[i * COLUMNS + 2] = event.type().name();
+            args[i * COLUMNS + 3] = Timestamp.from(event.occurredAt());
+        }
+
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /**
+     * Keyset page of a project's activities, newest first.
+     *
+     * @param beforeId only return activities with an id lower than this one
+     */
+    public List<ProjectActivityResponse> findPageBefore(UUID projectId, long beforeId, int limit) {
+        return jdbcTemplate.query("""
+                SELECT id, project_id, actor_id, action, occurred_at FROM project_activities
+                WHERE project_id = ? AND id < ?
+                ORDER BY id DESC
+                LIMIT ?
+                """, ROW_MAPPER, projectId, beforeId, limit);
+    }
+}
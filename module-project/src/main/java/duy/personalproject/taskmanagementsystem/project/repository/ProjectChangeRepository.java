@@ -0,0 +1,22 @@
+package duy.personalproject.taskmanagementsystem.project.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Publishes project change notifications on a Postgres channel.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectChangeRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Queues a NOTIFY on the caller's connection. Postgres only delivers it once the transaction commits
+     * and drops it on rollback, so listeners never see uncommitted changes.
+     */
+    public void notify(String channel, String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, payload);
+    }
+}
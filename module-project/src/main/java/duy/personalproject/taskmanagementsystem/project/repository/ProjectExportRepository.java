@@ -0,0 +1,65 @@
+package duy.personalproject.taskmanagementsystem.project.repository;
+
+import duy.personalproject.taskmanagementsystem.project.config.properties.ProjectExportConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads every project of a search from a server-side cursor, for exports of any size. PostgreSQL only fetches
+ * {@code project-export.fetch-size} rows per round trip when the statement runs inside a transaction; outside of
+ * one the driver reads the whole result into memory.
+ *
+ * <p>Uses its own {@link JdbcTemplate} so that the fetch size does not apply to other queries.
+ */
+@Repository
+public class ProjectExportRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ProjectExportRepository(DataSource dataSource, ProjectExportConfigProperties properties) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(properties.getFetchSize());
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+    }
+
+    public static boolean isSortable(String property) {
+        return ProjectSql.isSortable(property);
+    }
+
+    /**
+     * Passes every project matching {@code search}, like {@link ReactiveProjectRepository#searchProjects} without
+     * the paging, to {@code consumer} as its row is read. An exception thrown by the consumer closes the cursor, so
+     * the rest of the result is never fetched.
+     */
+    public void exportProjects(String search, Sort sort, Consumer<ProjectResponse> consumer) {
+        String pattern = ProjectSql.pattern(search);
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        if (pattern != null) {
+            parameters.addValue("pattern", pattern);
+        }
+        jdbcTemplate.query(ProjectSql.SELECT_PROJECT + ProjectSql.filter(pattern) + ProjectSql.orderBy(sort), parameters,
+                (RowCallbackHandler) rs -> consumer.accept(mapRow(rs)));
+    }
+
+    private static ProjectResponse mapRow(ResultSet rs) throws SQLException {
+        return ProjectResponse.builder()
+                .id(rs.getObject("id", UUID.class))
+                .name(rs.getString("name"))
+                .description(rs.getString("description"))
+                .ownerId(rs.getObject("owner_id", UUID.class))
+                .memberCount(rs.getLong("member_count"))
+                .createdAt(rs.getTimestamp("created_at").toInstant())
+                .updatedAt(rs.getTimestamp("updated_at").toInstant())
+                .build();
+    }
+}
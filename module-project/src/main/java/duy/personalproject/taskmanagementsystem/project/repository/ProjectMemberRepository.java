@@ -0,0 +1,20 @@
+package duy.personalproject.taskmanagementsystem.project.repository;
+
+import duy.personalproject.taskmanagementsystem.project.model.entity.ProjectMemberEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ProjectMemberRepository extends JpaRepository<ProjectMemberEntity, UUID> {
+
+    @Query("""
+        SELECT CASE WHEN COUNT(pm) > 0 THEN true ELSE false END FROM ProjectMemberEntity pm
+        WHERE pm.project.id = :projectId AND pm.user.id = :userId
+        AND pm.deletedAt IS NULL AND pm.project.deletedAt IS NULL
+        """)
+    boolean existsActiveMember(@Param("projectId") UUID projectId, @Param("userId") UUID userId);
+}
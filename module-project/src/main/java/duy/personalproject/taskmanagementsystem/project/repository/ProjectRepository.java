@@ -1,20 +1,31 @@
 package duy.personalproject.taskmanagementsystem.project.repository;
 
+import duy.personalproject.taskmanagementsystem.core.model.constant.CacheRegionConstants;
 import duy.personalproject.taskmanagementsystem.project.model.entity.ProjectEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<ProjectEntity, UUID> {
+    int STREAM_FETCH_SIZE = 256;
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegionConstants.PROJECT_EXISTS)
+    })
     @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END FROM ProjectEntity p WHERE LOWER(p.name) = LOWER(:name) AND p.deletedAt IS NULL ")
     boolean existsByNameIgnoreCase(@Param("name") String name);
 
@@ -30,7 +41,66 @@ public interface ProjectRepository extends JpaRepository<ProjectEntity, UUID> {
     )
     Page<ProjectEntity> searchProjects(@Param("search") String search, Pageable pageable);
 
+    /**
+     * The page of {@link #searchProjects} as a stream read from a server-side cursor, {@value #STREAM_FETCH_SIZE}
+     * rows at a time. Must be consumed and closed inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT p FROM ProjectEntity p
+        WHERE (COALESCE(TRIM(:search), '') = '' OR
+        LOWER(p.name) LIKE LOWER(CONCAT('%', COALESCE(TRIM(:search), ''), '%')) OR
+        LOWER(p.description) LIKE LOWER(CONCAT('%', COALESCE(TRIM(:search), ''), '%'))) AND p.deletedAt IS NULL
+        """
+    )
+    Stream<ProjectEntity> streamProjects(@Param("search") String search, Pageable pageable);
+
+    @Query("""
+        SELECT COUNT(p) FROM ProjectEntity p
+        WHERE (COALESCE(TRIM(:search), '') = '' OR
+        LOWER(p.name) LIKE LOWER(CONCAT('%', COALESCE(TRIM(:search), ''), '%')) OR
+        LOWER(p.description) LIKE LOWER(CONCAT('%', COALESCE(TRIM(:search), ''), '%'))) AND p.deletedAt IS NULL
+        """
+    )
+    long countProjects(@Param("search") String search);
+
+    /**
+     * As a bulk update, bypasses the second-level cache: Hibernate evicts the whole {@code projects} and
+     * {@code projects-by-name} regions and invalidates the cached queries on projects, when this runs and again
+     * when the transaction completes.
+     */
     @Modifying
     @Query("UPDATE ProjectEntity p SET p.deletedAt = CURRENT_TIMESTAMP WHERE p.id = :projectId")
     void softDeleteById(UUID projectId);
+
+    /**
+     * Oldest transaction id that may still be in flight. Every transaction below it has finished, so changes
+     * below this horizon can no longer appear behind a watermark.
+     */
+    @Query(value = "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)", nativeQuery = true)
+    long findChangeHorizon();
+
+    /**
+     * Keyset slice of projects changed after {@code (changeXid, id)} by transactions below {@code horizon},
+     * served by idx_projects_by_change_xid.
+     */
+    @Query(value = """
+        SELECT p.id AS id, CAST(CAST(p.change_xid AS text) AS bigint) AS changeXid, p.deleted_at IS NOT NULL AS deleted
+        FROM projects p
+        WHERE (p.change_xid, p.id) > (CAST(CAST(:changeXid AS text) AS xid8), :id)
+          AND p.change_xid < CAST(CAST(:horizon AS text) AS xid8)
+        ORDER BY p.change_xid, p.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<ProjectChange> findChangesAfter(@Param("changeXid") long changeXid, @Param("id") UUID id,
+                                         @Param("horizon") long horizon, @Param("limit") int limit);
+
+    interface ProjectChange {
+        UUID getId();
+        Long getChangeXid();
+        Boolean getDeleted();
+    }
 }
@@ -0,0 +1,71 @@
+package duy.personalproject.taskmanagementsystem.project.repository;
+
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * SQL of the project reads that bypass JPA, shared by {@link ReactiveProjectRepository} and
+ * {@link ProjectExportRepository}. Parameters are named, {@code :pattern} for the search.
+ */
+final class ProjectSql {
+    static final String SELECT_PROJECT = """
+            SELECT p.id, p.name, p.description, p.owner_id, p.created_at, p.updated_at,
+                   (SELECT COALESCE(SUM(ps.member_count), 0) FROM project_stats ps WHERE ps.project_id = p.id)::bigint AS member_count
+            FROM projects p
+            """;
+    private static final String SEARCH_FILTER = """
+            WHERE p.deleted_at IS NULL
+              AND (LOWER(p.name) LIKE :pattern OR LOWER(p.description) LIKE :pattern)
+            """;
+    private static final String NOT_DELETED = "WHERE p.deleted_at IS NULL\n";
+
+    /**
+     * Properties of {@link ProjectResponse} a search can be sorted by, and their columns.
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "p.id",
+            "name", "p.name",
+            "description", "p.description",
+            "ownerId", "p.owner_id",
+            "memberCount", "member_count",
+            "createdAt", "p.created_at",
+            "updatedAt", "p.updated_at");
+
+    private ProjectSql() {}
+
+    static boolean isSortable(String property) {
+        return SORT_COLUMNS.containsKey(property);
+    }
+
+    /**
+     * The LIKE pattern of a search term, or null when there is nothing to search for.
+     */
+    static String pattern(String search) {
+        String term = search == null ? "" : search.trim();
+        return term.isEmpty() ? null : "%" + term.toLowerCase() + "%";
+    }
+
+    /**
+     * The WHERE clause of the search: projects not deleted, and matching the pattern unless it is null.
+     */
+    static String filter(String pattern) {
+        return pattern == null ? NOT_DELETED : SEARCH_FILTER;
+    }
+
+    static String orderBy(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ", "ORDER BY ", "\n");
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Projects cannot be sorted by " + order.getProperty());
+            }
+            orderBy.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        // ties keep the same order from one page to the next
+        orderBy.add("p.id");
+        return orderBy.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package duy.personalproject.taskmanagementsystem.project.repository;
+
+import duy.personalproject.taskmanagementsystem.project.model.entity.ProjectEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Native access to the striped {@code project_stats} counters.
+ * Each project owns up to {@code stripes} rows; the logical value is the sum over all its slots.
+ * Hibernate invalidates every second-level cache region after a native update unless it is told which tables the
+ * update touches.
+ */
+@Repository
+public interface ProjectStatsRepository extends org.springframework.data.repository.Repository<ProjectEntity, UUID> {
+
+    /**
+     * Touches only project_stats as far as the second-level cache knows; the caller evicts the project, whose
+     * member count is read from these rows.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_stats"))
+    @Query(value = """
+        INSERT INTO project_stats(project_id, slot, member_count)
+        VALUES (:projectId, :slot, :delta)
+        ON CONFLICT (project_id, slot)
+        DO UPDATE SET member_count = project_stats.member_count + EXCLUDED.member_count
+        """, nativeQuery = true)
+    void incrementMemberCount(@Param("projectId") UUID projectId, @Param("slot") int slot, @Param("delta") long delta);
+
+    @Query(value = "SELECT COALESCE(SUM(ps.member_count), 0) FROM project_stats ps WHERE ps.project_id = :projectId", nativeQuery = true)
+    long sumMemberCount(@Param("projectId") UUID projectId);
+
+    /**
+     * Removes the stripes of every project whose counter drifted from the actual number of active members.
+     * Must run in the same transaction as {@link #insertMissingMemberCounts()}.
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM project_stats ps
+        WHERE ps.project_id IN (
+            SELECT p.id FROM projects p
+            WHERE p.deleted_at IS NULL
+            AND (SELECT COALESCE(SUM(s.member_count), 0) FROM project_stats s WHERE s.project_id = p.id)
+                <> (SELECT COUNT(*) FROM project_members pm WHERE pm.project_id = p.id AND pm.deleted_at IS NULL)
+        )
+        """, nativeQuery = true)
+    int deleteDriftedMemberCounts();
+
+    /**
+     * Re-creates a single authoritative stripe for every active project that has no counter rows.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO project_stats(project_id, slot, member_count)
+        SELECT p.id, 0, (SELECT COUNT(*) FROM project_members pm WHERE pm.project_id = p.id AND pm.deleted_at IS NULL)
+        FROM projects p
+        WHERE p.deleted_at IS NULL
+        AND NOT EXISTS (SELECT 1 FROM project_stats s WHERE s.project_id = p.id)
+        """, nativeQuery = true)
+    int insertMissingMemberCounts();
+}
@@ -0,0 +1,89 @@
+package duy.personalproject.taskmanagementsystem.project.repository;
+
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Non-blocking reads of the {@code projects} table over R2DBC, returning the same {@link ProjectResponse} as the
+ * JPA reads of {@link ProjectRepository}, with the member count summed from {@code project_stats} in the same query.
+ *
+ * <p>Owns its connection factory, usually a pool, and disposes of it when the context closes. The factory is
+ * deliberately not a bean, so that it does not replace the JDBC data source or its transaction manager.
+ */
+public class ReactiveProjectRepository implements DisposableBean {
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveProjectRepository(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    public static boolean isSortable(String property) {
+        return ProjectSql.isSortable(property);
+    }
+
+    /**
+     * Like {@link ProjectRepository#findById}, also finds soft-deleted projects.
+     */
+    public Mono<ProjectResponse> findById(UUID projectId) {
+        return databaseClient.sql(ProjectSql.SELECT_PROJECT + "WHERE p.id = :id")
+                .bind("id", projectId)
+                .map(ReactiveProjectRepository::mapRow)
+                .one();
+    }
+
+    /**
+     * The page of {@link ProjectRepository#searchProjects}: projects whose name or description contains
+     * {@code search}, ignoring case, or all of them when it is blank.
+     */
+    public Flux<ProjectResponse> searchProjects(String search, Pageable pageable) {
+        String pattern = ProjectSql.pattern(search);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient
+                .sql(ProjectSql.SELECT_PROJECT + ProjectSql.filter(pattern) + ProjectSql.orderBy(pageable.getSort()) + "LIMIT :limit OFFSET :offset")
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset());
+        if (pattern != null) {
+            spec = spec.bind("pattern", pattern);
+        }
+        return spec.map(ReactiveProjectRepository::mapRow).all();
+    }
+
+    public Mono<Long> countProjects(String search) {
+        String pattern = ProjectSql.pattern(search);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("SELECT COUNT(*) FROM projects p\n" + ProjectSql.filter(pattern));
+        if (pattern != null) {
+            spec = spec.bind("pattern", pattern);
+        }
+        return spec.map(row -> row.get(0, Long.class)).one();
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionFactory instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+
+    private static ProjectResponse mapRow(Readable row) {
+        return ProjectResponse.builder()
+                .id(row.get("id", UUID.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .ownerId(row.get("owner_id", UUID.class))
+                .memberCount(row.get("member_count", Long.class))
+                .createdAt(row.get("created_at", Instant.class))
+                .updatedAt(row.get("updated_at", Instant.class))
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package duy.personalproject.taskmanagementsystem.project.scheduler;
+
+import duy.personalproject.taskmanagementsystem.project.service.ProjectStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j(topic = "PROJECT_STATS_RECONCILIATION_SCHEDULER")
+public class ProjectStatsReconciliationScheduler {
+    private final ProjectStatsService projectStatsService;
+
+    /**
+     * Scheduled task to repair incrementally maintained project counters that drifted from the source tables.
+     * This method is executed based on the cron expression defined in the application properties.
+     */
+    @Scheduled(cron = "${task.management.system.cron.reconcile-project-stats.expression}")
+    public void reconcileProjectStats() {
+        log.info("Reconciling project stats counters");
+        projectStatsService.reconcileMemberCounts();
+    }
+}
@@ -0,0 +1,13 @@
+package duy.personalproject.taskmanagementsystem.project.service;
+
+import duy.personalproject.taskmanagementsystem.core.model.common.CursorPaginationResponse;
+import duy.personalproject.taskmanagementsystem.core.model.enums.ProjectActivityType;
+import duy.personalproject.taskmanagementsystem.project.model.request.SearchProjectActivityRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectActivityResponse;
+
+import java.util.UUID;
+
+public interface ActivityLogService {
+    void record(UUID projectId, UUID actorId, ProjectActivityType type);
+    CursorPaginationResponse<ProjectActivityResponse> findActivities(UUID projectId, SearchProjectActivityRequest request);
+}
@@ -0,0 +1,11 @@
+package duy.personalproject.taskmanagementsystem.project.service;
+
+import duy.personalproject.taskmanagementsystem.core.model.enums.ProjectActivityType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+public interface ProjectChangeService {
+    void publish(UUID projectId, UUID actorId, ProjectActivityType type);
+    SseEmitter subscribe();
+}
@@ -0,0 +1,13 @@
+package duy.personalproject.taskmanagementsystem.project.service;
+
+import duy.personalproject.taskmanagementsystem.project.model.request.ExportProjectRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ProjectExportService {
+    /**
+     * Writes every project matching the request to {@code out}, in the requested format, while it is read.
+     */
+    void export(ExportProjectRequest request, OutputStream out) throws IOException;
+}
@@ -3,9 +3,13 @@ package duy.personalproject.taskmanagementsystem.project.service;
 import duy.personalproject.taskmanagementsystem.core.model.common.PaginationResponse;
 import duy.personalproject.taskmanagementsystem.project.model.request.CreateProjectRequest;
 import duy.personalproject.taskmanagementsystem.project.model.request.SearchProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.request.SyncProjectRequest;
 import duy.personalproject.taskmanagementsystem.project.model.request.UpdateProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectChangesResponse;
 import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.UUID;
 
 public interface ProjectService {
@@ -13,5 +17,7 @@ public interface ProjectService {
     ProjectResponse update(UUID projectId, UpdateProjectRequest request, UUID userId);
     ProjectResponse findById(UUID projectId);
     PaginationResponse<ProjectResponse> searchProjects(SearchProjectRequest request);
+    void streamProjects(SearchProjectRequest request, OutputStream out) throws IOException;
     void delete(UUID projectId, UUID userId);
+    ProjectChangesResponse findChanges(SyncProjectRequest request);
 }
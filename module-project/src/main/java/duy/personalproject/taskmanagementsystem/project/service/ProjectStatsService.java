@@ -0,0 +1,9 @@
+package duy.personalproject.taskmanagementsystem.project.service;
+
+import java.util.UUID;
+
+public interface ProjectStatsService {
+    void incrementMemberCount(UUID projectId, long delta);
+    long getMemberCount(UUID projectId);
+    int reconcileMemberCounts();
+}
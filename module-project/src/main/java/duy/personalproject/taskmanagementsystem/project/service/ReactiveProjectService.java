@@ -0,0 +1,16 @@
+package duy.personalproject.taskmanagementsystem.project.service;
+
+import duy.personalproject.taskmanagementsystem.core.model.common.PaginationResponse;
+import duy.personalproject.taskmanagementsystem.project.model.request.SearchProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * The project reads of {@link ProjectService}, without blocking the calling thread on the database.
+ */
+public interface ReactiveProjectService {
+    Mono<ProjectResponse> findById(UUID projectId);
+    Mono<PaginationResponse<ProjectResponse>> searchProjects(SearchProjectRequest request);
+}
@@ -0,0 +1,257 @@
+package duy.personalproject.taskmanagementsystem.project.service.impl;
+
+import duy.personalproject.taskmanagementsystem.core.exception.ErrorCode;
+import duy.personalproject.taskmanagementsystem.core.exception.InvalidRequestException;
+import duy.personalproject.taskmanagementsystem.core.exception.ResourceNotFoundException;
+import duy.personalproject.taskmanagementsystem.core.model.common.CursorPaginationResponse;
+import duy.personalproject.taskmanagementsystem.core.model.enums.ProjectActivityType;
+import duy.personalproject.taskmanagementsystem.project.config.properties.ActivityLogConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.model.event.ProjectActivityEvent;
+import duy.personalproject.taskmanagementsystem.project.model.request.SearchProjectActivityRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectActivityResponse;
+import duy.personalproject.taskmanagementsystem.project.repository.ProjectActivityRepository;
+import duy.personalproject.taskmanagementsystem.project.repository.ProjectRepository;
+import duy.personalproject.taskmanagementsystem.project.service.ActivityLogService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous, batched project activity log.
+ *
+ * <p>Activities are put into a bounded in-memory ring buffer after the surrounding transaction commits,
+ * so the request path never waits on the database. A single background writer drains the buffer and
+ * writes multi-row INSERTs whenever a batch is full or the oldest buffered activity reaches the flush
+ * interval. When the buffer is full the configured overflow policy decides which activity is dropped.
+ * On shutdown the writer drains the buffer before the datasource is closed.
+ */
+@Service
+@Slf4j(topic = "ACTIVITY_LOG_SERVICE")
+public class ActivityLogServiceImpl implements ActivityLogService, SmartLifecycle {
+    /**
+     * Put into the buffer by {@link #stop()} to wake the writer; never written.
+     */
+    private static final ProjectActivityEvent SHUTDOWN = new ProjectActivityEvent(null, null, null, null);
+
+    /**
+     * Phase in which the web server is stopped, 1024 below its graceful shutdown.
+     */
+    public static final int WEB_SERVER_PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024;
+
+    private final ProjectActivityRepository projectActivityRepository;
+    private final ProjectRepository projectRepository;
+    private final ActivityLogConfigProperties properties;
+    private final BlockingQueue<ProjectActivityEvent> buffer;
+    private final Counter droppedCounter;
+    private final Counter flushFailureCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public ActivityLogServiceImpl(ProjectActivityRepository projectActivityRepository,
+                                  ProjectRepository projectRepository,
+                                  ActivityLogConfigProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.projectActivityRepository = projectActivityRepository;
+        this.projectRepository = projectRepository;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.getCapacity());
+
+        Gauge.builder("project.activity.queue.depth", buffer, BlockingQueue::size)
+                .description("Activities waiting in the in-memory buffer")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("project.activity.dropped")
+                .description("Activities dropped because the buffer was full")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("project.activity.flush.failures")
+                .description("Batches that could not be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("project.activity.flush")
+                .description("Latency of multi-row activity inserts")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records an activity. Inside a transaction the activity is only buffered once the transaction commits.
+     */
+    @Override
+    public void record(UUID projectId, UUID actorId, ProjectActivityType type) {
+        ProjectActivityEvent event = ProjectActivityEvent.of(projectId, actorId, type);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    @Override
+    public CursorPaginationResponse<ProjectActivityResponse> findActivities(UUID projectId, SearchProjectActivityRequest request) {
+        if (!projectRepository.existsById(projectId)) {
+            log.error("Project with id {} not found", projectId);
+            throw new ResourceNotFoundException(ErrorCode.PROJECT_NOT_FOUND.getMessage());
+        }
+
+        long beforeId = decodeCursor(request.cursor());
+        List<ProjectActivityResponse> rows = projectActivityRepository.findPageBefore(projectId, beforeId, request.size() + 1);
+
+        boolean hasNext = rows.size() > request.size();
+        List<ProjectActivityResponse> page = hasNext ? rows.subList(0, request.size()) : rows;
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).id()) : null;
+
+        return CursorPaginationResponse.of(page, nextCursor);
+    }
+
+    private void enqueue(ProjectActivityEvent event) {
+        if (buffer.offer(event)) {
+            return;
+        }
+
+        if (properties.getOverflowPolicy() == ActivityLogConfigProperties.OverflowPolicy.DROP_OLDEST) {
+            buffer.poll();
+            if (buffer.offer(event)) {
+                droppedCounter.increment();
+                return;
+            }
+        }
+
+        droppedCounter.increment();
+        log.warn("Activity buffer full, dropped {} activity of project {}", event.type(), event.projectId());
+    }
+
+    private void runWriter() {
+        int batchSize = properties.getBatchSize();
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs());
+        List<ProjectActivityEvent> batch = new ArrayList<>(batchSize);
+        long deadline = 0;
+        boolean stopping = false;
+
+        while (running && !stopping) {
+            long waitNanos = batch.isEmpty() ? flushIntervalNanos : Math.max(0, deadline - System.nanoTime());
+            ProjectActivityEvent event;
+            try {
+                event = buffer.poll(waitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            if (event == SHUTDOWN) {
+                break;
+            }
+            if (event != null) {
+                if (batch.isEmpty()) {
+                    deadline = System.nanoTime() + flushIntervalNanos;
+                }
+                batch.add(event);
+                stopping = drainTo(batch, batchSize);
+            }
+
+            if (!batch.isEmpty() && (batch.size() >= batchSize || System.nanoTime() - deadline >= 0)) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+
+        // the final drain must still get a connection from the pool, which fails on an interrupted thread
+        Thread.interrupted();
+        do {
+            drainTo(batch, batchSize);
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        } while (!buffer.isEmpty());
+    }
+
+    /**
+     * Moves buffered activities into the batch up to its size, leaving out the shutdown marker.
+     *
+     * @return whether the shutdown marker was among them
+     */
+    private boolean drainTo(List<ProjectActivityEvent> batch, int batchSize) {
+        buffer.drainTo(batch, batchSize - batch.size());
+        return batch.remove(SHUTDOWN);
+    }
+
+    private void flush(List<ProjectActivityEvent> batch) {
+        try {
+            flushTimer.record(() -> projectActivityRepository.insertBatch(batch));
+        } catch (Exception e) {
+            flushFailureCounter.increment();
+            log.error("Failed to write {} activities: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("cursor", "malformed pagination cursor");
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "activity-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Stops accepting new batches and waits for the writer to drain the buffer.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            // wakes the writer without interrupting it; a full buffer has room again once the writer drains it
+            buffer.offer(SHUTDOWN, properties.getShutdownTimeoutMs(), TimeUnit.MILLISECONDS);
+            writerThread.join(properties.getShutdownTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!buffer.isEmpty()) {
+            log.warn("Activity log stopped with {} unwritten activities", buffer.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Lifecycles stop from the highest phase down: below the web server's phase, the writer stops once the web
+     * server has finished its in-flight requests, and drains before the datasource is closed.
+     */
+    @Override
+    public int getPhase() {
+        return WEB_SERVER_PHASE - 1;
+    }
+}
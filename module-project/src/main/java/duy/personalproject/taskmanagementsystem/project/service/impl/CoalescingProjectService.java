@@ -0,0 +1,125 @@
+package duy.personalproject.taskmanagementsystem.project.service.impl;
+
+import duy.personalproject.taskmanagementsystem.core.model.common.PaginationResponse;
+import duy.personalproject.taskmanagementsystem.core.util.ReadYourWrites;
+import duy.personalproject.taskmanagementsystem.core.util.SingleFlight;
+import duy.personalproject.taskmanagementsystem.project.model.request.CreateProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.request.SearchProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.request.SyncProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.request.UpdateProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectChangesResponse;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectService;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Shares one query between concurrent identical reads of projects, see {@link SingleFlight}. Responses do not
+ * depend on the caller, so any caller's result serves all of them.
+ *
+ * <p>Reads never join a call that started before a write made through this service: the write makes later reads
+ * start afresh once it has committed. Clients that must read their own writes from the primary are not coalesced,
+ * since the running call may have gone to a replica.
+ *
+ * <p>Streamed search pages up to {@code maxCoalescedPageSize} are rendered once into memory and the bytes written
+ * to every caller; larger pages are streamed per request as before.
+ */
+public class CoalescingProjectService implements ProjectService {
+    private final ProjectService delegate;
+    private final ReadYourWrites readYourWrites;
+    private final int maxCoalescedPageSize;
+    private final SingleFlight<UUID, ProjectResponse> findById;
+    private final SingleFlight<SearchProjectRequest, PaginationResponse<ProjectResponse>> searchProjects;
+    private final SingleFlight<SearchProjectRequest, byte[]> streamProjects;
+
+    /**
+     * @param readYourWrites null without read replicas
+     */
+    public CoalescingProjectService(ProjectService delegate, ReadYourWrites readYourWrites, Duration maxWait,
+                                    int maxCoalescedPageSize, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.readYourWrites = readYourWrites;
+        this.maxCoalescedPageSize = maxCoalescedPageSize;
+        this.findById = new SingleFlight<>("project.findById", maxWait, meterRegistry);
+        this.searchProjects = new SingleFlight<>("project.searchProjects", maxWait, meterRegistry);
+        this.streamProjects = new SingleFlight<>("project.streamProjects", maxWait, meterRegistry);
+    }
+
+    @Override
+    public ProjectResponse create(CreateProjectRequest request, UUID userId) {
+        ProjectResponse response = delegate.create(request, userId);
+        forgetSearches();
+        return response;
+    }
+
+    @Override
+    public ProjectResponse update(UUID projectId, UpdateProjectRequest request, UUID userId) {
+        ProjectResponse response = delegate.update(projectId, request, userId);
+        findById.forget(projectId);
+        forgetSearches();
+        return response;
+    }
+
+    @Override
+    public ProjectResponse findById(UUID projectId) {
+        if (requiresPrimary()) {
+            return delegate.findById(projectId);
+        }
+        return findById.execute(projectId, () -> delegate.findById(projectId));
+    }
+
+    @Override
+    public PaginationResponse<ProjectResponse> searchProjects(SearchProjectRequest request) {
+        if (requiresPrimary()) {
+            return delegate.searchProjects(request);
+        }
+        return searchProjects.execute(request, () -> delegate.searchProjects(request));
+    }
+
+    @Override
+    public void streamProjects(SearchProjectRequest request, OutputStream out) throws IOException {
+        if (request.size() > maxCoalescedPageSize || requiresPrimary()) {
+            delegate.streamProjects(request, out);
+            return;
+        }
+        out.write(streamProjects.execute(request, () -> render(request)));
+    }
+
+    @Override
+    public void delete(UUID projectId, UUID userId) {
+        delegate.delete(projectId, userId);
+        findById.forget(projectId);
+        forgetSearches();
+    }
+
+    @Override
+    public ProjectChangesResponse findChanges(SyncProjectRequest request) {
+        return delegate.findChanges(request);
+    }
+
+    private byte[] render(SearchProjectRequest request) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try {
+            delegate.streamProjects(request, buffer);
+        } catch (IOException e) {
+            // not thrown by the buffer, only declared
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private boolean requiresPrimary() {
+        return readYourWrites != null && readYourWrites.requiresPrimary();
+    }
+
+    private void forgetSearches() {
+        searchProjects.forgetAll();
+        streamProjects.forgetAll();
+    }
+}
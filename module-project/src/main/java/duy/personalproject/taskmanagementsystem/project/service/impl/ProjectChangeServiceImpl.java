@@ -0,0 +1,48 @@
+package duy.personalproject.taskmanagementsystem.project.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duy.personalproject.taskmanagementsystem.core.model.enums.ProjectActivityType;
+import duy.personalproject.taskmanagementsystem.project.config.properties.ProjectChangeStreamConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.model.event.ProjectActivityEvent;
+import duy.personalproject.taskmanagementsystem.project.repository.ProjectChangeRepository;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectChangeService;
+import duy.personalproject.taskmanagementsystem.project.stream.ProjectChangeBroadcaster;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@Service
+@Slf4j(topic = "PROJECT_CHANGE_SERVICE")
+@RequiredArgsConstructor
+public class ProjectChangeServiceImpl implements ProjectChangeService {
+    private final ProjectChangeRepository projectChangeRepository;
+    private final ProjectChangeBroadcaster projectChangeBroadcaster;
+    private final ProjectChangeStreamConfigProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Sends the change through Postgres so that subscribers on every node receive it, after commit only.
+     */
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void publish(UUID projectId, UUID actorId, ProjectActivityType type) {
+        try {
+            String payload = objectMapper.writeValueAsString(ProjectActivityEvent.of(projectId, actorId, type));
+            projectChangeRepository.notify(properties.getChannel(), payload);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize {} change of project {}: {}", type, projectId, e.getMessage());
+        }
+    }
+
+    @Override
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(properties.getEmitterTimeoutMs());
+        projectChangeBroadcaster.register(emitter);
+        return emitter;
+    }
+}
@@ -0,0 +1,268 @@
+package duy.personalproject.taskmanagementsystem.project.service.impl;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import duy.personalproject.taskmanagementsystem.core.exception.InvalidRequestException;
+import duy.personalproject.taskmanagementsystem.core.model.enums.ExportFormat;
+import duy.personalproject.taskmanagementsystem.core.model.enums.SortDirection;
+import duy.personalproject.taskmanagementsystem.project.config.properties.ProjectExportConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.model.request.ExportProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import duy.personalproject.taskmanagementsystem.project.repository.ProjectExportRepository;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectExportService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams projects from {@link ProjectExportRepository} to the client row by row, so memory use does not depend
+ * on the size of the export: at most one fetch of rows and the output buffers are held at a time.
+ *
+ * <p>A write failing because the client went away ends the export: the cursor is closed and the rest of the result
+ * is never fetched from the database. Only a failed write to the response counts as cancelled; any other failure,
+ * such as a project that cannot be serialized, counts as failed and is passed on.
+ */
+@Service
+@Slf4j(topic = "PROJECT_EXPORT_SERVICE")
+public class ProjectExportServiceImpl implements ProjectExportService {
+    static final String CSV_HEADER = "id,name,description,ownerId,memberCount,createdAt,updatedAt";
+
+    private final ProjectExportRepository projectExportRepository;
+    private final ObjectMapper objectMapper;
+    private final int bufferSizeBytes;
+    private final MeterRegistry meterRegistry;
+
+    public ProjectExportServiceImpl(ProjectExportRepository projectExportRepository, ObjectMapper objectMapper,
+                                    ProjectExportConfigProperties properties, MeterRegistry meterRegistry) {
+        this.projectExportRepository = projectExportRepository;
+        this.objectMapper = objectMapper;
+        this.bufferSizeBytes = properties.getBufferSizeBytes();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs in a read-only transaction, which the cursor needs and which lets the export go to a read replica.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void export(ExportProjectRequest request, OutputStream out) throws IOException {
+        if (!ProjectExportRepository.isSortable(request.sortBy())) {
+            throw new InvalidRequestException("sortBy", "cannot sort by " + request.sortBy());
+        }
+        Sort.Direction direction = request.sortDirection() == SortDirection.ASC ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, request.sortBy());
+        long startNanos = System.nanoTime();
+
+        ResponseStream response = new ResponseStream(out);
+        GZIPOutputStream gzip = request.gzip() ? new GZIPOutputStream(response, bufferSizeBytes) : null;
+        ExportWriter writer = request.format() == ExportFormat.CSV
+                ? new CsvWriter(gzip != null ? gzip : response, bufferSizeBytes)
+                : new NdjsonWriter(objectMapper, gzip != null ? gzip : response, bufferSizeBytes);
+        try {
+            projectExportRepository.exportProjects(request.search(), sort, project -> {
+                try {
+                    writer.write(project);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            if (gzip != null) {
+                gzip.finish();
+            }
+        } catch (IOException | UncheckedIOException e) {
+            if (!response.failed) {
+                record(request, "failed", startNanos, writer.rows);
+                throw e;
+            }
+            // the client disconnected, nothing is left to answer
+            record(request, "cancelled", startNanos, writer.rows);
+            log.info("Export of projects cancelled by the client after {} rows: {}", writer.rows, e.getMessage());
+            return;
+        } catch (RuntimeException e) {
+            record(request, "failed", startNanos, writer.rows);
+            throw e;
+        }
+        record(request, "completed", startNanos, writer.rows);
+        log.info("Exported {} projects as {} in {} ms", writer.rows, request.format(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    private void record(ExportProjectRequest request, String outcome, long startNanos, long rows) {
+        String format = request.format().name();
+        Timer.builder("project.export")
+                .description("Duration of project exports")
+                .tag("format", format)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        Counter.builder("project.export.rows")
+                .description("Projects written by exports")
+                .tag("format", format)
+                .register(meterRegistry)
+                .increment(rows);
+    }
+
+    /**
+     * The response, remembering whether writing to it failed, which tells a client that went away from any other
+     * I/O failure of the export.
+     */
+    private static final class ResponseStream extends FilterOutputStream {
+        private boolean failed;
+
+        ResponseStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            try {
+                out.write(b);
+            } catch (IOException e) {
+                failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                out.write(b, off, len);
+            } catch (IOException e) {
+                failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                failed = true;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Writes one project at a time, into buffers that are only written out when full.
+     */
+    private abstract static class ExportWriter {
+        long rows;
+
+        final void write(ProjectResponse project) throws IOException {
+            writeRow(project);
+            rows++;
+        }
+
+        abstract void writeRow(ProjectResponse project) throws IOException;
+
+        abstract void flush() throws IOException;
+    }
+
+    /**
+     * One JSON object per line, serialized like the API responses.
+     */
+    private static final class NdjsonWriter extends ExportWriter {
+        private final ObjectWriter objectWriter;
+        private final JsonGenerator generator;
+
+        NdjsonWriter(ObjectMapper objectMapper, OutputStream out, int bufferSizeBytes) throws IOException {
+            this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            this.generator = objectMapper.getFactory()
+                    .createGenerator(new BufferedOutputStream(out, bufferSizeBytes), JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+        }
+
+        @Override
+        void writeRow(ProjectResponse project) throws IOException {
+            objectWriter.writeValue(generator, project);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    /**
+     * RFC 4180: CRLF line endings, fields with a comma, quote or line break quoted, quotes doubled. Text that a
+     * spreadsheet would run as a formula, starting with {@code = + - @}, a tab or a carriage return, is prefixed with
+     * {@code '} and quoted, so it opens as text.
+     */
+    private static final class CsvWriter extends ExportWriter {
+        private final Writer writer;
+
+        CsvWriter(OutputStream out, int bufferSizeBytes) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferSizeBytes);
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        @Override
+        void writeRow(ProjectResponse project) throws IOException {
+            writer.write(project.id().toString());
+            writer.write(',');
+            writeField(project.name());
+            writer.write(',');
+            writeField(project.description());
+            writer.write(',');
+            writer.write(project.ownerId().toString());
+            writer.write(',');
+            writer.write(Long.toString(project.memberCount()));
+            writer.write(',');
+            writer.write(project.createdAt().toString());
+            writer.write(',');
+            writer.write(project.updatedAt().toString());
+            writer.write("\r\n");
+        }
+
+        @Override
+        void flush() throws IOException {
+            writer.flush();
+        }
+
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean formula = !value.isEmpty() && isFormulaStart(value.charAt(0));
+            if (!formula && value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            if (formula) {
+                writer.write('\'');
+            }
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        private static boolean isFormulaStart(char c) {
+            return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+        }
+    }
+}
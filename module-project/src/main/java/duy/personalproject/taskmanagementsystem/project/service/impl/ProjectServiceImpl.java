@@ -3,20 +3,30 @@ package duy.personalproject.taskmanagementsystem.project.service.impl;
 import duy.personalproject.taskmanagementsystem.core.exception.DuplicateResourceException;
 import duy.personalproject.taskmanagementsystem.core.exception.ErrorCode;
 import duy.personalproject.taskmanagementsystem.core.exception.ResourceNotFoundException;
+import duy.personalproject.taskmanagementsystem.core.util.LogRateLimiter;
+import duy.personalproject.taskmanagementsystem.core.util.PaginationResponseWriter;
 import duy.personalproject.taskmanagementsystem.project.mapper.ProjectMapper;
 import duy.personalproject.taskmanagementsystem.core.model.common.PaginationResponse;
 import duy.personalproject.taskmanagementsystem.project.model.entity.ProjectEntity;
 import duy.personalproject.taskmanagementsystem.auth.model.entity.UserEntity;
+import duy.personalproject.taskmanagementsystem.core.model.enums.ProjectActivityType;
 import duy.personalproject.taskmanagementsystem.core.model.enums.ProjectMemberRole;
 import duy.personalproject.taskmanagementsystem.core.model.enums.SortDirection;
 import duy.personalproject.taskmanagementsystem.project.model.request.CreateProjectRequest;
 import duy.personalproject.taskmanagementsystem.project.model.request.SearchProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.request.SyncProjectRequest;
 import duy.personalproject.taskmanagementsystem.project.model.request.UpdateProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectChangesResponse;
 import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
 import duy.personalproject.taskmanagementsystem.project.repository.ProjectRepository;
 import duy.personalproject.taskmanagementsystem.auth.repository.UserRepository;
+import duy.personalproject.taskmanagementsystem.project.service.ActivityLogService;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectChangeService;
 import duy.personalproject.taskmanagementsystem.project.service.ProjectService;
-import jakarta.transaction.Transactional;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectStatsService;
+import duy.personalproject.taskmanagementsystem.project.util.ProjectWatermarkUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -24,8 +34,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j(topic = "PROJECT_SERVICE")
@@ -34,6 +50,12 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final ProjectMapper projectMapper;
+    private final ProjectStatsService projectStatsService;
+    private final ActivityLogService activityLogService;
+    private final ProjectChangeService projectChangeService;
+    private final LogRateLimiter errorLogRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
@@ -52,6 +74,13 @@ public class ProjectServiceImpl implements ProjectService {
         projectEntity.addMember(user, ProjectMemberRole.OWNER);
         projectEntity = projectRepository.save(projectEntity);
 
+        long memberCount = projectEntity.getProjectMembers().size();
+        projectStatsService.incrementMemberCount(projectEntity.getId(), memberCount);
+        projectEntity.setMemberCount(memberCount);
+
+        activityLogService.record(projectEntity.getId(), userId, ProjectActivityType.CREATED);
+        projectChangeService.publish(projectEntity.getId(), userId, ProjectActivityType.CREATED);
+
         return projectMapper.mapEntityToResponse(projectEntity);
     }
 
@@ -68,13 +97,21 @@ public class ProjectServiceImpl implements ProjectService {
 
         projectEntity = projectRepository.save(projectEntity);
 
+        activityLogService.record(projectId, userId, ProjectActivityType.UPDATED);
+        projectChangeService.publish(projectId, userId, ProjectActivityType.UPDATED);
+
         return projectMapper.mapEntityToResponse(projectEntity);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ProjectResponse findById(UUID projectId) {
         ProjectEntity projectEntity = projectRepository.findById(projectId).orElseThrow(() -> {
-            log.error("Project with id {} not found", projectId);
+            // unknown ids are requested in bulk by scrapers; keep their log volume bounded
+            long suppressed = errorLogRateLimiter.tryAcquire(ErrorCode.PROJECT_NOT_FOUND);
+            if (suppressed != LogRateLimiter.SUPPRESSED) {
+                log.error("Project with id {} not found{}", projectId, LogRateLimiter.suppressedSuffix(suppressed));
+            }
             return new ResourceNotFoundException(ErrorCode.PROJECT_NOT_FOUND.getMessage());
         });
 
@@ -82,23 +119,90 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PaginationResponse<ProjectResponse> searchProjects(SearchProjectRequest request) {
-        Sort.Direction direction = request.sortDirection() == SortDirection.ASC ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Sort sort = Sort.by(direction, request.sortBy());
-
-        Pageable pageable = PageRequest.of(request.page(), request.size(), sort);
+        Pageable pageable = toPageable(request);
 
         Page<ProjectEntity> projectEntityPage = projectRepository.searchProjects(request.search(), pageable);
 
         return PaginationResponse.of(projectEntityPage, projectMapper::mapEntityToResponse);
     }
 
+    /**
+     * Same response as {@link #searchProjects}, written to {@code out} while the rows are read from the cursor.
+     * Every project is detached once written, so memory does not grow with the page size.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamProjects(SearchProjectRequest request, OutputStream out) throws IOException {
+        Pageable pageable = toPageable(request);
+
+        try (Stream<ProjectEntity> projects = projectRepository.streamProjects(request.search(), pageable)) {
+            PaginationResponseWriter.write(objectMapper, out, pageable, projects, projectMapper::mapEntityToResponse,
+                    entityManager::detach, () -> projectRepository.countProjects(request.search()));
+        }
+    }
+
+    private static Pageable toPageable(SearchProjectRequest request) {
+        Sort.Direction direction = request.sortDirection() == SortDirection.ASC ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, request.sortBy());
+
+        return PageRequest.of(request.page(), request.size(), sort);
+    }
+
     @Transactional
     @Override
     public void delete(UUID projectId, UUID userId) {
         validateProjectIdAndOwner(projectId, userId);
 
         projectRepository.softDeleteById(projectId);
+
+        activityLogService.record(projectId, userId, ProjectActivityType.DELETED);
+        projectChangeService.publish(projectId, userId, ProjectActivityType.DELETED);
+    }
+
+    /**
+     * Returns changes after the watermark, bounded by the oldest in-flight transaction so that a transaction
+     * committing late is picked up by the next sync instead of being skipped.
+     *
+     * <p>Runs in one repeatable-read transaction, so the horizon, the changes and the projects all come from the
+     * same snapshot. Under read committed every statement would take its own snapshot. The transaction is not
+     * marked read-only, because that would route it to a replica, and the horizon has to be the primary's.
+     */
+    @Override
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public ProjectChangesResponse findChanges(SyncProjectRequest request) {
+        ProjectWatermarkUtil.Watermark since = ProjectWatermarkUtil.decode(request.since());
+        long horizon = projectRepository.findChangeHorizon();
+
+        List<ProjectRepository.ProjectChange> changes = projectRepository.findChangesAfter(
+                since.changeXid(), since.id(), horizon, request.size() + 1);
+
+        boolean hasMore = changes.size() > request.size();
+        if (hasMore) {
+            changes = changes.subList(0, request.size());
+        }
+
+        List<UUID> upsertIds = changes.stream().filter(change -> !change.getDeleted()).map(ProjectRepository.ProjectChange::getId).toList();
+        List<UUID> tombstones = changes.stream().filter(ProjectRepository.ProjectChange::getDeleted).map(ProjectRepository.ProjectChange::getId).toList();
+        List<ProjectResponse> upserts = upsertIds.isEmpty()
+                ? List.of()
+                : projectRepository.findAllById(upsertIds).stream().map(projectMapper::mapEntityToResponse).toList();
+
+        ProjectWatermarkUtil.Watermark next;
+        if (hasMore) {
+            ProjectRepository.ProjectChange last = changes.get(changes.size() - 1);
+            next = new ProjectWatermarkUtil.Watermark(last.getChangeXid(), last.getId());
+        } else {
+            next = horizon > since.changeXid() ? ProjectWatermarkUtil.Watermark.before(horizon) : since;
+        }
+
+        return ProjectChangesResponse.builder()
+                .upserts(upserts)
+                .tombstones(tombstones)
+                .watermark(ProjectWatermarkUtil.encode(next))
+                .hasMore(hasMore)
+                .build();
     }
 
 
@@ -0,0 +1,75 @@
+package duy.personalproject.taskmanagementsystem.project.service.impl;
+
+import duy.personalproject.taskmanagementsystem.project.config.properties.ProjectStatsConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.model.entity.ProjectEntity;
+import duy.personalproject.taskmanagementsystem.project.repository.ProjectStatsRepository;
+import duy.personalproject.taskmanagementsystem.project.service.ProjectStatsService;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j(topic = "PROJECT_STATS_SERVICE")
+public class ProjectStatsServiceImpl implements ProjectStatsService {
+    private final ProjectStatsRepository projectStatsRepository;
+    private final ProjectStatsConfigProperties projectStatsConfigProperties;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Applies a membership delta to one randomly chosen stripe of the project counter.
+     * Joins the caller's transaction so the counter commits or rolls back together with the membership change.
+     */
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void incrementMemberCount(UUID projectId, long delta) {
+        int stripes = Math.max(1, projectStatsConfigProperties.getStripes());
+        int slot = ThreadLocalRandom.current().nextInt(stripes);
+        projectStatsRepository.incrementMemberCount(projectId, slot, delta);
+        evictCachedProject(projectId);
+    }
+
+    /**
+     * The cached project carries the member count of before this change. Evicted now and again once the
+     * transaction completes, so that a project read by another transaction in between does not stay cached.
+     */
+    private void evictCachedProject(UUID projectId) {
+        Cache cache = entityManagerFactory.getCache();
+        cache.evict(ProjectEntity.class, projectId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.evict(ProjectEntity.class, projectId);
+            }
+        });
+    }
+
+    @Override
+    public long getMemberCount(UUID projectId) {
+        return projectStatsRepository.sumMemberCount(projectId);
+    }
+
+    /**
+     * Repairs counters that drifted from the authoritative project_members table.
+     * Drifted projects have their stripes collapsed into a single recomputed row. The native statements do not
+     * name their tables, so Hibernate invalidates the whole second-level cache afterwards.
+     *
+     * @return number of projects whose counters were repaired
+     */
+    @Override
+    @Transactional
+    public int reconcileMemberCounts() {
+        int deletedStripes = projectStatsRepository.deleteDriftedMemberCounts();
+        int repaired = projectStatsRepository.insertMissingMemberCounts();
+        log.info("Reconciled member counters: removed {} drifted stripes, rebuilt {} projects", deletedStripes, repaired);
+        return repaired;
+    }
+}
@@ -0,0 +1,88 @@
+package duy.personalproject.taskmanagementsystem.project.service.impl;
+
+import duy.personalproject.taskmanagementsystem.core.exception.BusinessException;
+import duy.personalproject.taskmanagementsystem.core.exception.ErrorCode;
+import duy.personalproject.taskmanagementsystem.core.exception.InvalidRequestException;
+import duy.personalproject.taskmanagementsystem.core.exception.ResourceNotFoundException;
+import duy.personalproject.taskmanagementsystem.core.model.common.PaginationResponse;
+import duy.personalproject.taskmanagementsystem.core.model.enums.SortDirection;
+import duy.personalproject.taskmanagementsystem.core.util.LogRateLimiter;
+import duy.personalproject.taskmanagementsystem.core.util.PaginationResponseWriter;
+import duy.personalproject.taskmanagementsystem.project.model.request.SearchProjectRequest;
+import duy.personalproject.taskmanagementsystem.project.model.response.ProjectResponse;
+import duy.personalproject.taskmanagementsystem.project.repository.ReactiveProjectRepository;
+import duy.personalproject.taskmanagementsystem.project.service.ReactiveProjectService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Answers like {@link ProjectServiceImpl}, from {@link ReactiveProjectRepository}. Pages are collected before they
+ * are returned, so their size is bounded by {@code maxPageSize}.
+ */
+@Slf4j(topic = "REACTIVE_PROJECT_SERVICE")
+@RequiredArgsConstructor
+public class ReactiveProjectServiceImpl implements ReactiveProjectService {
+    private final ReactiveProjectRepository reactiveProjectRepository;
+    private final LogRateLimiter errorLogRateLimiter;
+    private final int maxPageSize;
+
+    @Override
+    public Mono<ProjectResponse> findById(UUID projectId) {
+        return reactiveProjectRepository.findById(projectId)
+                .switchIfEmpty(Mono.error(() -> {
+                    long suppressed = errorLogRateLimiter.tryAcquire(ErrorCode.PROJECT_NOT_FOUND);
+                    if (suppressed != LogRateLimiter.SUPPRESSED) {
+                        log.error("Project with id {} not found{}", projectId, LogRateLimiter.suppressedSuffix(suppressed));
+                    }
+                    return new ResourceNotFoundException(ErrorCode.PROJECT_NOT_FOUND.getMessage());
+                }))
+                .onErrorMap(DataAccessResourceFailureException.class, ReactiveProjectServiceImpl::unavailable);
+    }
+
+    @Override
+    public Mono<PaginationResponse<ProjectResponse>> searchProjects(SearchProjectRequest request) {
+        if (request.size() > maxPageSize) {
+            return Mono.error(new InvalidRequestException("size", "must be at most " + maxPageSize));
+        }
+        if (!ReactiveProjectRepository.isSortable(request.sortBy())) {
+            return Mono.error(new InvalidRequestException("sortBy", "cannot sort by " + request.sortBy()));
+        }
+        Pageable pageable = toPageable(request);
+
+        return reactiveProjectRepository.searchProjects(request.search(), pageable)
+                .collectList()
+                .flatMap(items -> totalItems(request, pageable, items)
+                        .map(totalItems -> PaginationResponse.<ProjectResponse>builder()
+                                .items(items)
+                                .metadata(PaginationResponse.PageMetadata.of(pageable, items.size(), totalItems))
+                                .build()))
+                .onErrorMap(DataAccessResourceFailureException.class, ReactiveProjectServiceImpl::unavailable);
+    }
+
+    private Mono<Long> totalItems(SearchProjectRequest request, Pageable pageable, List<ProjectResponse> items) {
+        if (PaginationResponseWriter.isCountRequired(pageable, items.size())) {
+            return reactiveProjectRepository.countProjects(request.search());
+        }
+        return Mono.just(pageable.getOffset() + items.size());
+    }
+
+    private static Pageable toPageable(SearchProjectRequest request) {
+        Sort.Direction direction = request.sortDirection() == SortDirection.ASC ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return PageRequest.of(request.page(), request.size(), Sort.by(direction, request.sortBy()));
+    }
+
+    /**
+     * No connection could be had in time, or there were too many reads waiting for one already.
+     */
+    private static BusinessException unavailable(DataAccessResourceFailureException e) {
+        return new BusinessException(ErrorCode.SERVICE_UNAVAILABLE.getMessage(), ErrorCode.SERVICE_UNAVAILABLE, e);
+    }
+}
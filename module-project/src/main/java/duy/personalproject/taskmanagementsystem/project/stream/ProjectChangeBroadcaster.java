@@ -0,0 +1,194 @@
+package duy.personalproject.taskmanagementsystem.project.stream;
+
+import duy.personalproject.taskmanagementsystem.project.config.properties.ProjectChangeStreamConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.model.event.ProjectActivityEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans project change events out to SSE subscribers.
+ *
+ * <p>Connections are held by the servlet container's async support, not by threads. Every subscriber owns a
+ * bounded queue; a small shared dispatcher pool drains a queue whenever it has pending events, so at most one
+ * dispatcher works on a given subscriber at a time. A subscriber whose queue overflows is disconnected rather
+ * than slowing down everyone else; browsers reconnect on their own and should reload the project list.
+ *
+ * <p>{@link SseEmitter#send} blocks while the client's TCP window is full, so the dispatcher does not write itself:
+ * it hands every write to a writer thread and waits at most {@code send-timeout-ms} for it. A subscriber whose write
+ * takes longer is disconnected and its writer thread is left to the container's write timeout, so stalled clients
+ * never hold the dispatchers, and at most one writer thread is stuck per stalled subscriber. Emitters are completed
+ * on a writer thread too, since completing waits for a send in progress.
+ */
+@Component
+@Slf4j(topic = "PROJECT_CHANGE_BROADCASTER")
+public class ProjectChangeBroadcaster {
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher;
+    private final ExecutorService writer;
+    private final int bufferSize;
+    private final long sendTimeoutMs;
+    private final Counter deliveredCounter;
+    private final Counter evictedCounter;
+
+    public ProjectChangeBroadcaster(ProjectChangeStreamConfigProperties properties, MeterRegistry meterRegistry) {
+        this.bufferSize = properties.getSubscriberBufferSize();
+        this.sendTimeoutMs = properties.getSendTimeoutMs();
+        this.dispatcher = Executors.newFixedThreadPool(properties.getDispatcherThreads(), daemonThreads("project-change-dispatcher-"));
+        this.writer = Executors.newCachedThreadPool(daemonThreads("project-change-writer-"));
+
+        Gauge.builder("project.changes.subscribers", subscribers, Set::size)
+                .description("Open project change streams")
+                .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("project.changes.delivered")
+                .description("Project change events written to subscribers")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("project.changes.evicted")
+                .description("Subscribers disconnected for falling behind or for a write exceeding the send timeout")
+                .register(meterRegistry);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Registers an emitter; it is removed again once it completes, times out or fails.
+     */
+    public void register(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+    }
+
+    public void broadcast(ProjectActivityEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.queue.offer(event)) {
+                evict(subscriber);
+            } else if (subscriber.scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Completes every open stream and stops the dispatcher and writers.
+     */
+    public void close() {
+        subscribers.forEach(subscriber -> complete(subscriber.emitter));
+        subscribers.clear();
+        dispatcher.shutdown();
+        writer.shutdown();
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            ProjectActivityEvent event;
+            while ((event = subscriber.queue.poll()) != null && subscribers.contains(subscriber)) {
+                send(subscriber.emitter, event);
+                deliveredCounter.increment();
+            }
+        } catch (TimeoutException e) {
+            if (subscribers.remove(subscriber)) {
+                evictedCounter.increment();
+                log.warn("Project change subscriber did not take an event within {} ms, disconnecting", sendTimeoutMs);
+                subscriber.queue.clear();
+                complete(subscriber.emitter);
+            }
+        } catch (Exception e) {
+            log.debug("Dropping project change subscriber: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+
+        // an event may have been queued after the loop ended but before the flag was cleared
+        if (!subscriber.queue.isEmpty() && subscribers.contains(subscriber) && subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Writes the event on a writer thread, waiting at most the send timeout for it.
+     */
+    private void send(SseEmitter emitter, ProjectActivityEvent event) throws Exception {
+        Future<?> write = writer.submit(() -> {
+            emitter.send(SseEmitter.event()
+                    .name(event.type().name())
+                    .data(event, MediaType.APPLICATION_JSON));
+            return null;
+        });
+        try {
+            write.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (TimeoutException e) {
+            write.cancel(true);
+            throw e;
+        }
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            evictedCounter.increment();
+            log.warn("Project change subscriber fell {} events behind, disconnecting", bufferSize);
+            subscriber.queue.clear();
+            complete(subscriber.emitter);
+        }
+    }
+
+    private void complete(SseEmitter emitter) {
+        try {
+            writer.execute(emitter::complete);
+        } catch (RejectedExecutionException e) {
+            // closed already
+        }
+    }
+
+    private record Subscriber(SseEmitter emitter, BlockingQueue<ProjectActivityEvent> queue, AtomicBoolean scheduled) {
+        private Subscriber(SseEmitter emitter, BlockingQueue<ProjectActivityEvent> queue) {
+            this(emitter, queue, new AtomicBoolean());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package duy.personalproject.taskmanagementsystem.project.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import duy.personalproject.taskmanagementsystem.project.config.properties.ProjectChangeStreamConfigProperties;
+import duy.personalproject.taskmanagementsystem.project.model.event.ProjectActivityEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Holds one dedicated database connection that LISTENs on the project change channel and hands every
+ * notification to the {@link ProjectChangeBroadcaster}. This costs one pooled connection per node,
+ * independent of the number of subscribers.
+ */
+@Component
+@Slf4j(topic = "PROJECT_CHANGE_LISTENER")
+@RequiredArgsConstructor
+public class ProjectChangeListener implements SmartLifecycle {
+    private final DataSource dataSource;
+    private final ProjectChangeBroadcaster projectChangeBroadcaster;
+    private final ProjectChangeStreamConfigProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::run, "project-change-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        listenerThread.interrupt();
+        projectChangeBroadcaster.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                listen(connection);
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.error("Project change listener lost its connection, retrying in {} ms: {}", properties.getReconnectDelayMs(), e.getMessage());
+                try {
+                    Thread.sleep(properties.getReconnectDelayMs());
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        // the channel name is an identifier, not a bind parameter
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN \"" + properties.getChannel().replace("\"", "") + "\"");
+        }
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        log.info("Listening for project changes on channel {}", properties.getChannel());
+
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(properties.getPollTimeoutMs());
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                dispatch(notification.getParameter());
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            projectChangeBroadcaster.broadcast(objectMapper.readValue(payload, ProjectActivityEvent.class));
+        } catch (Exception e) {
+            log.error("Ignoring malformed project change notification: {}", e.getMessage());
+        }
+    }
+}
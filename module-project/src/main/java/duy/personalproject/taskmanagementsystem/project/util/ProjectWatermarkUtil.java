@@ -0,0 +1,50 @@
+package duy.personalproject.taskmanagementsystem.project.util;
+
+import duy.personalproject.taskmanagementsystem.core.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes and decodes the opaque watermark used by project delta sync.
+ * A watermark is the (change_xid, id) keyset position up to which a client has seen all changes.
+ */
+public class ProjectWatermarkUtil {
+    private static final String SEPARATOR = "|";
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    /**
+     * Watermark of a client that has never synced: precedes every row.
+     */
+    public static final Watermark INITIAL = new Watermark(0L, MIN_UUID);
+
+    private ProjectWatermarkUtil() {}
+
+    public record Watermark(long changeXid, UUID id) {
+        /**
+         * Position just before every row written by transaction {@code changeXid} or later.
+         */
+        public static Watermark before(long changeXid) {
+            return new Watermark(changeXid, MIN_UUID);
+        }
+    }
+
+    public static String encode(Watermark watermark) {
+        String raw = watermark.changeXid() + SEPARATOR + watermark.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Watermark decode(String watermark) {
+        if (watermark == null || watermark.isBlank()) {
+            return INITIAL;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(watermark), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 2);
+            return new Watermark(Long.parseLong(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidRequestException("since", "malformed sync watermark");
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package duy.personalproject.taskmanagementsystem.task.controller;
+
+import duy.personalproject.taskmanagementsystem.auth.security.CustomUserDetails;
+import duy.personalproject.taskmanagementsystem.core.annotation.LogExecutionTime;
+import duy.personalproject.taskmanagementsystem.core.model.common.ApiResponse;
+import duy.personalproject.taskmanagementsystem.core.model.common.CursorPaginationResponse;
+import duy.personalproject.taskmanagementsystem.core.model.constant.SecurityConstants;
+import duy.personalproject.taskmanagementsystem.task.model.request.BulkUpdateTaskStatusRequest;
+import duy.personalproject.taskmanagementsystem.task.model.request.CreateTaskRequest;
+import duy.personalproject.taskmanagementsystem.task.model.request.ListTaskRequest;
+import duy.personalproject.taskmanagementsystem.task.model.request.ReorderTasksRequest;
+import duy.personalproject.taskmanagementsystem.task.model.request.UpdateTaskRequest;
+import duy.personalproject.taskmanagementsystem.task.model.response.TaskResponse;
+import duy.personalproject.taskmanagementsystem.task.service.TaskService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@Slf4j(topic = "TASK_CONTROLLER")
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/projects/{projectId}/tasks")
+@Tag(name = "Task Controller", description = "APIs for managing tasks within a project")
+@LogExecutionTime(slowThresholdMs = 500)
+public class TaskController {
+    private final TaskService taskService;
+
+    @Operation(
+            summary = "Create Task",
+            description = "API to create a new task at the end of its status column",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "201",
+                            description = "Task created successfully"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid request data"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "404",
+                            description = "Project not found"
+                    )
+            }
+    )
+    @PreAuthorize(SecurityConstants.HAS_ROLE_USER_OR_ADMIN)
+    @PostMapping
+    public ApiResponse<TaskResponse> create(@PathVariable UUID projectId, @Valid @RequestBody CreateTaskRequest request, @AuthenticationPrincipal CustomUserDetails currentUser) {
+        log.info("Starting create task in project: {}", projectId);
+        TaskResponse taskResponse = taskService.create(projectId, request, currentUser.getUserEntity().getId());
+        return ApiResponse.created(taskResponse);
+    }
+
+    @Operation(
+            summary = "List Tasks",
+            description = "API to list tasks of a project ordered by status and position using keyset pagination",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "200",
+                            description = "Tasks retrieved successfully"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "400",
+                            description = "Malformed cursor"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "404",
+                            description = "Project not found"
+                    )
+            }
+    )
+    @PreAuthorize(SecurityConstants.HAS_ROLE_USER_OR_ADMIN)
+    @GetMapping
+    public ApiResponse<CursorPaginationResponse<TaskResponse>> list(@PathVariable UUID projectId, @ParameterObject ListTaskRequest request, @AuthenticationPrincipal CustomUserDetails currentUser) {
+        log.info("Starting list tasks of project {} with request: {}", projectId, request);
+        return ApiResponse.ok(taskService.listTasks(projectId, request, currentUser.getUserEntity().getId()));
+    }
+
+    @Operation(
+            summary = "Get Task by ID",
+            description = "API to retrieve a task by its ID",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "200",
+                            description = "Task retrieved successfully"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "404",
+                            description = "Project or task not found"
+                    )
+            }
+    )
+    @PreAuthorize(SecurityConstants.HAS_ROLE_USER_OR_ADMIN)
+    @GetMapping("/{taskId}")
+    public ApiResponse<TaskResponse> findById(@PathVariable UUID projectId, @PathVariable UUID taskId, @AuthenticationPrincipal CustomUserDetails currentUser) {
+        log.info("Starting find task {} in project {}", taskId, projectId);
+        return ApiResponse.ok(taskService.findById(projectId, taskId, currentUser.getUserEntity().getId()));
+    }
+
+    @Operation(
+            summary = "Update Task",
+            description = "API to update the title and description of a task",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "200",
+                            description = "Task updated successfully"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid request data"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "404",
+                            description = "Project or task not found"
+                    )
+            }
+    )
+    @PreAuthorize(SecurityConstants.HAS_ROLE_USER_OR_ADMIN)
+    @PutMapping("/{taskId}")
+    public ApiResponse<TaskResponse> update(@PathVariable UUID projectId, @PathVariable UUID taskId, @Valid @RequestBody UpdateTaskRequest request, @AuthenticationPrincipal CustomUserDetails currentUser) {
+        log.info("Starting update task {} in project {}", taskId, projectId);
+        return ApiResponse.ok(taskService.update(projectId, taskId, request, currentUser.getUserEntity().getId()));
+    }
+
+    @Operation(
+            summary = "Bulk update task status",
+            description = "API to move many tasks to another status in a single statement",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "200",
+                            description = "Number of tasks moved"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid request data"
+                    )
+            }
+    )
+    @PreAuthorize(SecurityConstants.HAS_ROLE_USER_OR_ADMIN)
+    @PatchMapping("/status")
+    public ApiResponse<Integer> bulkUpdateStatus(@PathVariable UUID projectId, @Valid @RequestBody BulkUpdateTaskStatusRequest request, @AuthenticationPrincipal CustomUserDetails currentUser) {
+        log.info("Starting bulk status update of {} tasks in project {}", request.taskIds().size(), projectId);
+        return ApiResponse.ok(taskService.bulkUpdateStatus(projectId, request, currentUser.getUserEntity().getId()));
+    }
+
+    @Operation(
+            summary = "Reorder tasks",
+            description = "API to set the order of tasks within a status column in a single statement. The listed tasks come first, "
+                    + "the others of the column follow in their current order",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "200",
+                            description = "Number of tasks in the column"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid request data"
+                    )
+            }
+    )
+    @PreAuthorize(SecurityConstants.HAS_ROLE_USER_OR_ADMIN)
+    @PutMapping("/order")
+    public ApiResponse<Integer> reorder(@PathVariable UUID projectId, @Valid @RequestBody ReorderTasksRequest request, @AuthenticationPrincipal CustomUserDetails currentUser) {
+        log.info("Starting reorder of {} tasks in project {}", request.taskIds().size(), projectId);
+        return ApiResponse.ok(taskService.reorder(projectId, request, currentUser.getUserEntity().getId()));
+    }
+
+    @Operation(
+            summary = "Delete Task",
+            description = "API to soft delete a task",
+            responses = {
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "200",
+                            description = "Task deleted successfully"
+                    ),
+                    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                            responseCode = "404",
+                            description = "Project or task not found"
+                    )
+            }
+    )
+    @PreAuthorize(SecurityConstants.HAS_ROLE_USER_OR_ADMIN)
+    @DeleteMapping("/{taskId}")
+    public ApiResponse<Void> delete(@PathVariable UUID projectId, @PathVariable UUID taskId, @AuthenticationPrincipal CustomUserDetails currentUser) {
+        log.info("Starting delete task {} in project {}", taskId, projectId);
+        taskService.delete(projectId, taskId, currentUser.getUserEntity().getId());
+        return ApiResponse.okWithMessage("Task deleted successfully");
+    }
+}
@@ -0,0 +1,18 @@
+package duy.personalproject.taskmanagementsystem.task.mapper;
+
+import duy.personalproject.taskmanagementsystem.task.model.entity.TaskEntity;
+import duy.personalproject.taskmanagementsystem.task.model.request.CreateTaskRequest;
+import duy.personalproject.taskmanagementsystem.task.model.response.TaskResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface TaskMapper {
+    @Mapping(target = "projectId", ignore = true)
+    @Mapping(target = "project", ignore = true)
+    @Mapping(target = "position", ignore = true)
+    TaskEntity mapCreateRequestToEntity(CreateTaskRequest request);
+
+    TaskResponse mapEntityToResponse(TaskEntity taskEntity);
+}
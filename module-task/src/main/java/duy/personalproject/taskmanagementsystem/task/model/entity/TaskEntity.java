@@ -0,0 +1,43 @@
+package duy.personalproject.taskmanagementsystem.task.model.entity;
+
+import duy.personalproject.taskmanagementsystem.core.model.entity.BaseEntity;
+import duy.personalproject.taskmanagementsystem.core.model.enums.TaskStatus;
+import duy.personalproject.taskmanagementsystem.project.model.entity.ProjectEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Task belonging to a project.
+ * The tasks table is hash-partitioned by project_id, so every statement issued for a task must filter
+ * on {@link #projectId}; mutations therefore go through repository update statements instead of dirty checking.
+ */
+@Table(name = "tasks")
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskEntity extends BaseEntity {
+    @Column(name = "project_id", nullable = false, updatable = false)
+    private UUID projectId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", referencedColumnName = "id", insertable = false, updatable = false)
+    private ProjectEntity project;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Column(name = "position", nullable = false)
+    private Long position;
+}
@@ -0,0 +1,19 @@
+package duy.personalproject.taskmanagementsystem.task.model.request;
+
+import duy.personalproject.taskmanagementsystem.core.model.enums.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record BulkUpdateTaskStatusRequest(
+        @NotEmpty
+        @Size(max = 1000)
+        List<@NotNull UUID> taskIds,
+        @NotNull
+        TaskStatus status
+) {}
@@ -0,0 +1,19 @@
+package duy.personalproject.taskmanagementsystem.task.model.request;
+
+import duy.personalproject.taskmanagementsystem.core.model.enums.TaskStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+@Builder
+public record CreateTaskRequest(
+        @NotNull
+        @NotBlank
+        String title,
+        String description,
+        TaskStatus status
+) {
+    public CreateTaskRequest {
+        status = (status == null) ? TaskStatus.TODO : status;
+    }
+}
@@ -0,0 +1,23 @@
+package duy.personalproject.taskmanagementsystem.task.model.request;
+
+import duy.personalproject.taskmanagementsystem.core.model.constant.PaginationConstants;
+import duy.personalproject.taskmanagementsystem.core.model.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Request model for listing tasks of a project with keyset pagination")
+public record ListTaskRequest(
+        @Parameter(description = "Only return tasks in this status", example = "TODO")
+        TaskStatus status,
+
+        @Parameter(description = "Number of items per page", example = "10")
+        @Schema(defaultValue = "10", minimum = "1", maximum = "100")
+        Integer size,
+
+        @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+        String cursor
+) {
+    public ListTaskRequest {
+        size = (size == null || size <= 0) ? PaginationConstants.DEFAULT_SIZE : Math.min(size, PaginationConstants.MAX_SIZE);
+    }
+}
@@ -0,0 +1,23 @@
+package duy.personalproject.taskmanagementsystem.task.model.request;
+
+import duy.personalproject.taskmanagementsystem.core.model.enums.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * New order of the tasks in one status column. Listed tasks come first, in the given order; tasks of the column
+ * that are not listed follow in their current order.
+ */
+@Builder
+public record ReorderTasksRequest(
+        @NotNull
+        TaskStatus status,
+        @NotEmpty
+        @Size(max = 1000)
+        List<@NotNull UUID> taskIds
+) {}
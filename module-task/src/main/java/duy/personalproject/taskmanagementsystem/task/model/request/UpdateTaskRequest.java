@@ -0,0 +1,13 @@
+package duy.personalproject.taskmanagementsystem.task.model.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+@Builder
+public record UpdateTaskRequest(
+        @NotNull
+        @NotBlank
+        String title,
+        String description
+) {}
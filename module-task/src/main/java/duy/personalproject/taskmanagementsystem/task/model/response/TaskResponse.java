@@ -0,0 +1,19 @@
+package duy.personalproject.taskmanagementsystem.task.model.response;
+
+import duy.personalproject.taskmanagementsystem.core.model.enums.TaskStatus;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Builder
+public record TaskResponse(
+        UUID id,
+        UUID projectId,
+        String title,
+        String description,
+        TaskStatus status,
+        Long position,
+        Instant createdAt,
+        Instant updatedAt
+) {}
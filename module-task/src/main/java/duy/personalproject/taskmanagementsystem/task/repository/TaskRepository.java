@@ -0,0 +1,130 @@
+package duy.personalproject.taskmanagementsystem.task.repository;
+
+import duy.personalproject.taskmanagementsystem.core.model.enums.TaskStatus;
+import duy.personalproject.taskmanagementsystem.task.model.entity.TaskEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for tasks. Every statement filters on project_id so Postgres prunes to a single hash partition.
+ * Native updates name the tasks table as their query space, so that they do not invalidate the second-level
+ * cache regions of other tables.
+ */
+@Repository
+public interface TaskRepository extends JpaRepository<TaskEntity, UUID> {
+
+    @Query("SELECT t FROM TaskEntity t WHERE t.projectId = :projectId AND t.id = :taskId AND t.deletedAt IS NULL")
+    Optional<TaskEntity> findByIdAndProjectId(@Param("projectId") UUID projectId, @Param("taskId") UUID taskId);
+
+    @Query(value = """
+        SELECT COALESCE(MAX(t.position), 0) FROM tasks t
+        WHERE t.project_id = :projectId AND t.status = :status AND t.deleted_at IS NULL
+        """, nativeQuery = true)
+    long findMaxPosition(@Param("projectId") UUID projectId, @Param("status") String status);
+
+    /**
+     * Keyset page over all tasks of a project ordered by (status, position, id).
+     */
+    @Query(value = """
+        SELECT * FROM tasks t
+        WHERE t.project_id = :projectId AND t.deleted_at IS NULL
+        AND (t.status, t.position, t.id) > (:status, :position, :id)
+        ORDER BY t.status, t.position, t.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<TaskEntity> findPageAfter(@Param("projectId") UUID projectId,
+                                   @Param("status") String status,
+                                   @Param("position") long position,
+                                   @Param("id") UUID id,
+                                   @Param("limit") int limit);
+
+    /**
+     * Keyset page over the tasks of a single status column ordered by (position, id).
+     */
+    @Query(value = """
+        SELECT * FROM tasks t
+        WHERE t.project_id = :projectId AND t.status = :status AND t.deleted_at IS NULL
+        AND (t.position, t.id) > (:position, :id)
+        ORDER BY t.position, t.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<TaskEntity> findPageByStatusAfter(@Param("projectId") UUID projectId,
+                                           @Param("status") String status,
+                                           @Param("position") long position,
+                                           @Param("id") UUID id,
+                                           @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE TaskEntity t SET t.title = :title, t.description = :description
+        WHERE t.projectId = :projectId AND t.id = :taskId AND t.deletedAt IS NULL
+        """)
+    int updateContent(@Param("projectId") UUID projectId,
+                      @Param("taskId") UUID taskId,
+                      @Param("title") String title,
+                      @Param("description") String description);
+
+    /**
+     * Moves the given tasks to another status in one statement, appending them to the end of the
+     * target column in the order they were listed.
+     *
+     * @param taskIds comma separated task ids
+     */
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = """
+        UPDATE tasks t
+        SET status = :status, position = base.max_position + v.ord * :gap
+        FROM (
+            SELECT COALESCE(MAX(position), 0) AS max_position FROM tasks
+            WHERE project_id = :projectId AND status = :status AND deleted_at IS NULL
+        ) base,
+        unnest(string_to_array(:taskIds, ',')::uuid[]) WITH ORDINALITY AS v(id, ord)
+        WHERE t.project_id = :projectId AND t.id = v.id AND t.deleted_at IS NULL AND t.status <> :status
+        """, nativeQuery = true)
+    int bulkUpdateStatus(@Param("projectId") UUID projectId,
+                         @Param("taskIds") String taskIds,
+                         @Param("status") String status,
+                         @Param("gap") long gap);
+
+    /**
+     * Renumbers the whole status column in one statement: the given tasks first, in their new order, then the tasks
+     * not given in their current order. Numbering the whole column keeps the given tasks from landing on the
+     * positions of the others. Ids not in the column are ignored. Both sides are keyed on {@code (project_id, id)}
+     * so the update only touches the project's partition.
+     *
+     * @param taskIds comma separated task ids in their new order
+     * @return the number of tasks in the column
+     */
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = """
+        UPDATE tasks t
+        SET position = o.new_order * :gap
+        FROM (
+            SELECT c.project_id, c.id, ROW_NUMBER() OVER (ORDER BY v.ord NULLS LAST, c.position, c.id) AS new_order
+            FROM tasks c
+            LEFT JOIN unnest(string_to_array(:taskIds, ',')::uuid[]) WITH ORDINALITY AS v(id, ord) ON v.id = c.id
+            WHERE c.project_id = :projectId AND c.status = :status AND c.deleted_at IS NULL
+        ) o
+        WHERE t.project_id = :projectId AND t.project_id = o.project_id AND t.id = o.id
+        """, nativeQuery = true)
+    int reorder(@Param("projectId") UUID projectId,
+                @Param("status") String status,
+                @Param("taskIds") String taskIds,
+                @Param("gap") long gap);
+
+    @Modifying
+    @Query("UPDATE TaskEntity t SET t.deletedAt = CURRENT_TIMESTAMP WHERE t.projectId = :projectId AND t.id = :taskId AND t.deletedAt IS NULL")
+    int softDeleteById(@Param("projectId") UUID projectId, @Param("taskId") UUID taskId);
+}
@@ -0,0 +1,21 @@
+package duy.personalproject.taskmanagementsystem.task.service;
+
+import duy.personalproject.taskmanagementsystem.core.model.common.CursorPaginationResponse;
+import duy.personalproject.taskmanagementsystem.task.model.request.BulkUpdateTaskStatusRequest;
+import duy.personalproject.taskmanagementsystem.task.model.request.CreateTaskRequest;
+import duy.personalproject.taskmanagementsystem.task.model.request.ListTaskRequest;
+import duy.personalproject.taskmanagementsystem.task.model.request.ReorderTasksRequest;
+import duy.personalproject.taskmanagementsystem.task.model.request.UpdateTaskRequest;
+import duy.personalproject.taskmanagementsystem.task.model.response.TaskResponse;
+
+import java.util.UUID;
+
+public interface TaskService {
+    TaskResponse create(UUID projectId, CreateTaskRequest request, UUID userId);
+    TaskResponse update(UUID projectId, UUID taskId, UpdateTaskRequest request, UUID userId);
+    TaskResponse findById(UUID projectId, UUID taskId, UUID userId);
+    CursorPaginationResponse<TaskResponse> listTasks(UUID projectId, ListTaskRequest request, UUID userId);
+    int bulkUpdateStatus(UUID projectId, BulkUpdateTaskStatusRequest request, UUID userId);
+    int reorder(UUID projectId, ReorderTasksRequest request, UUID userId);
+    void delete(UUID projectId, UUID taskId, UUID userId);
+}
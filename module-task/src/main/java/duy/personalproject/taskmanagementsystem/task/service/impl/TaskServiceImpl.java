@@ -0,0 +1,141 @@
+package duy.personalproject.taskmanagementsystem.task.service.impl;
+
+import duy.personalproject.taskmanagementsystem.core.exception.ErrorCode;
+import duy.personalproject.taskmanagementsystem.core.exception.ResourceNotFoundException;
+import duy.personalproject.taskmanagementsystem.core.model.common.CursorPaginationResponse;
+import duy.personalproject.taskmanagementsystem.project.repository.ProjectMemberRepository;
+import duy.personalproject.taskmanagementsystem.task.mapper.TaskMapper;
+import duy.personalproject.taskmanagementsystem.task.model.entity.TaskEntity;
+import duy.personalproject.taskmanagementsystem.task.model.request.BulkUpdateTaskStatusRequest;
+import duy.personalproject.taskmanagementsystem.task.model.request.CreateTaskRequest;
+import duy.personalproject.taskmanagementsystem.task.model.request.ListTaskRequest;
+import duy.personalproject.taskmanagementsystem.task.model.request.ReorderTasksRequest;
+import duy.personalproject.taskmanagementsystem.task.model.request.UpdateTaskRequest;
+import duy.personalproject.taskmanagementsystem.task.model.response.TaskResponse;
+import duy.personalproject.taskmanagementsystem.task.repository.TaskRepository;
+import duy.personalproject.taskmanagementsystem.task.service.TaskService;
+import duy.personalproject.taskmanagementsystem.task.util.TaskCursorUtil;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j(topic = "TASK_SERVICE")
+@RequiredArgsConstructor
+public class TaskServiceImpl implements TaskService {
+    /**
+     * Gap left between consecutive positions so a single task can be moved between two others without renumbering.
+     */
+    private static final long POSITION_GAP = 1024L;
+
+    private final TaskRepository taskRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskMapper taskMapper;
+
+    @Override
+    @Transactional
+    public TaskResponse create(UUID projectId, CreateTaskRequest request, UUID userId) {
+        validateProjectMember(projectId, userId);
+
+        TaskEntity taskEntity = taskMapper.mapCreateRequestToEntity(request);
+        taskEntity.setProjectId(projectId);
+        taskEntity.setPosition(taskRepository.findMaxPosition(projectId, request.status().name()) + POSITION_GAP);
+        taskEntity = taskRepository.save(taskEntity);
+
+        return taskMapper.mapEntityToResponse(taskEntity);
+    }
+
+    @Override
+    @Transactional
+    public TaskResponse update(UUID projectId, UUID taskId, UpdateTaskRequest request, UUID userId) {
+        validateProjectMember(projectId, userId);
+
+        int updated = taskRepository.updateContent(projectId, taskId, request.title(), request.description());
+        if (updated == 0) {
+            throw taskNotFound(projectId, taskId);
+        }
+
+        return taskMapper.mapEntityToResponse(findTask(projectId, taskId));
+    }
+
+    @Override
+    public TaskResponse findById(UUID projectId, UUID taskId, UUID userId) {
+        validateProjectMember(projectId, userId);
+
+        return taskMapper.mapEntityToResponse(findTask(projectId, taskId));
+    }
+
+    /**
+     * Lists tasks with keyset pagination on (status, position, id).
+     * Fetches one extra row to detect whether a next page exists, so no COUNT query is issued and the
+     * cost of a page depends only on its size, never on how deep the cursor is.
+     */
+    @Override
+    public CursorPaginationResponse<TaskResponse> listTasks(UUID projectId, ListTaskRequest request, UUID userId) {
+        validateProjectMember(projectId, userId);
+
+        TaskCursorUtil.Cursor cursor = TaskCursorUtil.decode(request.cursor());
+        int limit = request.size() + 1;
+
+        List<TaskEntity> rows = request.status() == null
+                ? taskRepository.findPageAfter(projectId, cursor.status(), cursor.position(), cursor.id(), limit)
+                : taskRepository.findPageByStatusAfter(projectId, request.status().name(), cursor.position(), cursor.id(), limit);
+
+        boolean hasNext = rows.size() > request.size();
+        List<TaskEntity> page = hasNext ? rows.subList(0, request.size()) : rows;
+        String nextCursor = hasNext ? TaskCursorUtil.encode(page.get(page.size() - 1)) : null;
+
+        return CursorPaginationResponse.of(page.stream().map(taskMapper::mapEntityToResponse).toList(), nextCursor);
+    }
+
+    @Override
+    @Transactional
+    public int bulkUpdateStatus(UUID projectId, BulkUpdateTaskStatusRequest request, UUID userId) {
+        validateProjectMember(projectId, userId);
+
+        return taskRepository.bulkUpdateStatus(projectId, joinIds(request.taskIds()), request.status().name(), POSITION_GAP);
+    }
+
+    @Override
+    @Transactional
+    public int reorder(UUID projectId, ReorderTasksRequest request, UUID userId) {
+        validateProjectMember(projectId, userId);
+
+        return taskRepository.reorder(projectId, request.status().name(), joinIds(request.taskIds()), POSITION_GAP);
+    }
+
+    @Override
+    @Transactional
+    public void delete(UUID projectId, UUID taskId, UUID userId) {
+        validateProjectMember(projectId, userId);
+
+        if (taskRepository.softDeleteById(projectId, taskId) == 0) {
+            throw taskNotFound(projectId, taskId);
+        }
+    }
+
+    private void validateProjectMember(UUID projectId, UUID userId) {
+        if (!projectMemberRepository.existsActiveMember(projectId, userId)) {
+            log.error("Project with id {} not found for member with id {}", projectId, userId);
+            throw new ResourceNotFoundException(ErrorCode.PROJECT_NOT_FOUND.getMessage());
+        }
+    }
+
+    private TaskEntity findTask(UUID projectId, UUID taskId) {
+        return taskRepository.findByIdAndProjectId(projectId, taskId).orElseThrow(() -> taskNotFound(projectId, taskId));
+    }
+
+    private ResourceNotFoundException taskNotFound(UUID projectId, UUID taskId) {
+        log.error("Task with id {} not found in project with id {}", taskId, projectId);
+        return new ResourceNotFoundException(ErrorCode.TASK_NOT_FOUND.getMessage());
+    }
+
+    private String joinIds(List<UUID> ids) {
+        return ids.stream().map(UUID::toString).collect(Collectors.joining(","));
+    }
+}
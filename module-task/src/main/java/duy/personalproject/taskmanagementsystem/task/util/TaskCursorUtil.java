@@ -0,0 +1,44 @@
+package duy.personalproject.taskmanagementsystem.task.util;
+
+import duy.personalproject.taskmanagementsystem.core.exception.InvalidRequestException;
+import duy.personalproject.taskmanagementsystem.task.model.entity.TaskEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes and decodes the opaque keyset cursor used by task listing.
+ * A cursor is the (status, position, id) of the last row of the previous page.
+ */
+public class TaskCursorUtil {
+    private static final String SEPARATOR = "|";
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    /**
+     * Position of the first page: compares lower than every real row.
+     */
+    public static final Cursor FIRST = new Cursor("", Long.MIN_VALUE, MIN_UUID);
+
+    private TaskCursorUtil() {}
+
+    public record Cursor(String status, long position, UUID id) {}
+
+    public static String encode(TaskEntity task) {
+        String raw = task.getStatus().name() + SEPARATOR + task.getPosition() + SEPARATOR + task.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 3);
+            return new Cursor(parts[0], Long.parseLong(parts[1]), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidRequestException("cursor", "malformed pagination cursor");
+        }
+    }
+}